@@ -0,0 +1,146 @@
+package calculator.benchmark;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.AdaptiveCalculator;
+import calculator.CalculationResult;
+import calculator.Calculator;
+
+/**
+ * Benchmarks comparing a plain {@link Calculator}, an
+ * {@link AdaptiveCalculator} and calculation made in {@link BigDecimal} only, on
+ * a workload of money amounts: cents are added and subtracted, and the value is
+ * multiplied and divided by small whole numbers. Every run of 64 operations
+ * starts from a new value. Number of operations made on each path by the
+ * adaptive calculator is printed after every iteration.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AdaptiveCalculatorBenchmark {
+	/**
+	 * Number of operations of the workload.
+	 */
+	private static final int SIZE = 1 << 16;
+
+	/**
+	 * Number of operations made on a value before a new one is set.
+	 */
+	private static final int RUN = 64;
+
+	@Param({ "12", "16" })
+	public int precision;
+
+	private double[] values;
+	private BigDecimal[] decimals;
+	private char[] operators;
+	private MathContext mathContext;
+	private Calculator plain;
+	private AdaptiveCalculator adaptive;
+	private CalculationResult result;
+	private BigDecimal decimal;
+	private int index;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		char[] kinds = { '+', '-', '*', '/' };
+		values = new double[SIZE];
+		decimals = new BigDecimal[SIZE];
+		operators = new char[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			operators[i] = kinds[random.nextInt(kinds.length)];
+			values[i] = operators[i] == '+' || operators[i] == '-' ? random.nextInt(100_000) / 100.0d
+					: 1 + random.nextInt(9);
+			decimals[i] = BigDecimal.valueOf(values[i]);
+		}
+
+		mathContext = new MathContext(precision);
+		plain = new Calculator();
+		adaptive = new AdaptiveCalculator(mathContext);
+		result = new CalculationResult();
+	}
+
+	@TearDown
+	public void tearDown() {
+		System.out.println(adaptive.getDoubleOperations() + " double and " + adaptive.getBigDecimalOperations()
+				+ " BigDecimal operations, " + adaptive.getEscalations() + " escalations");
+	}
+
+	@Benchmark
+	public double plain() {
+		int i = next();
+		if (i % RUN == 0) {
+			plain.setCurrentValue(100.0d);
+		}
+		plain.tryCalculate(values[i], operators[i], result);
+		return plain.getCurrentValue();
+	}
+
+	@Benchmark
+	public double adaptive() {
+		int i = next();
+		if (i % RUN == 0) {
+			adaptive.setCurrentValue(100.0d);
+		}
+		adaptive.tryCalculate(values[i], operators[i], result);
+		return adaptive.getCurrentValue();
+	}
+
+	@Benchmark
+	public BigDecimal bigDecimal() {
+		int i = next();
+		if (i % RUN == 0) {
+			decimal = BigDecimal.valueOf(100L);
+		}
+		switch (operators[i]) {
+		case '+':
+			decimal = decimal.add(decimals[i], mathContext);
+			break;
+		case '-':
+			decimal = decimal.subtract(decimals[i], mathContext);
+			break;
+		case '*':
+			decimal = decimal.multiply(decimals[i], mathContext);
+			break;
+		default:
+			decimal = decimal.divide(decimals[i], mathContext);
+			break;
+		}
+		return decimal;
+	}
+
+	/**
+	 * Takes the index of the next operation of the workload.
+	 *
+	 * @return index of the operation.
+	 */
+	private int next() {
+		int i = index;
+		index = (i + 1) & (SIZE - 1);
+		return i;
+	}
+}
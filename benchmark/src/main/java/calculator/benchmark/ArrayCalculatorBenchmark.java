@@ -0,0 +1,107 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.ArrayCalculator;
+import calculator.Calculator;
+import calculator.CompiledSequence;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Benchmarks of the {@link ArrayCalculator} class against the same work done
+ * one element at a time. The array variants are expected to run on SIMD
+ * instructions; the vector width used by the JIT compiler can be limited by
+ * running with {@code -jvmArgsAppend -XX:UseAVX=0} (SSE only), {@code 2}
+ * (AVX2) or {@code 3} (AVX-512), and the array variants become scalar again
+ * with {@code -jvmArgsAppend -XX:-UseSuperWord}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ArrayCalculatorBenchmark {
+	/**
+	 * Operand shared by all elements, a power of two so that repeated
+	 * multiplication and division keep the values in range.
+	 */
+	private static final double OPERAND = 0.5d;
+
+	@Param({ "+", "*", "/" })
+	public char operator;
+
+	@Param({ "64", "4096", "262144" })
+	public int size;
+
+	private double[] values;
+	private double[] operands;
+	private Calculator calculator;
+	private CompiledSequence sequence;
+
+	@Setup
+	public void setup() throws NotSupportedOperationException, DivisionByZeroException {
+		values = Distribution.RANDOM.operands(size);
+		operands = Distribution.SMALL_INT.operands(size);
+		calculator = new Calculator();
+		sequence = CompiledSequence.compile("+3 *0.5 -1 /4 *2", false);
+	}
+
+	@Benchmark
+	public double[] scalar() throws NotSupportedOperationException, DivisionByZeroException {
+		double[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			calculator.setCurrentValue(values[i]);
+			calculator.calculate(OPERAND, operator);
+			values[i] = calculator.getCurrentValue();
+		}
+		return values;
+	}
+
+	@Benchmark
+	public double[] array() throws NotSupportedOperationException, DivisionByZeroException {
+		ArrayCalculator.calculate(values, OPERAND, operator);
+		return values;
+	}
+
+	@Benchmark
+	public double[] arrayOwnOperands() throws NotSupportedOperationException {
+		ArrayCalculator.calculate(values, operands, operator, null);
+		// Undo the operation so that the values don't drift out of range.
+		ArrayCalculator.calculate(values, operands, operator == '+' ? '-' : operator == '*' ? '/' : '*', null);
+		return values;
+	}
+
+	@Benchmark
+	public double[] sequenceScalar() throws NumberNotInAreaException {
+		double[] values = this.values;
+		for (int i = 0; i < values.length; i++) {
+			values[i] = sequence.evaluate(values[i]);
+		}
+		return values;
+	}
+
+	@Benchmark
+	public double[] sequenceArray() {
+		sequence.evaluate(values, null);
+		return values;
+	}
+}
@@ -0,0 +1,113 @@
+package calculator.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.async.AsyncCalculator;
+import calculator.async.WaitStrategy;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks comparing calculators shared behind a lock with an
+ * {@link AsyncCalculator} for every {@link WaitStrategy}. Every invocation
+ * submits a burst of operations to a calculator and waits only for the last
+ * one, so the time per operation includes handing it over to the consumer and
+ * completing its future. Run with {@code -t} to add producer threads; the
+ * busy-spinning consumer needs a core of its own to be meaningful.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncCalculatorBenchmark {
+	/**
+	 * Number of operations submitted by an invocation.
+	 */
+	private static final int BURST = 64;
+
+	/**
+	 * Number of shared calculators.
+	 */
+	private static final int CALCULATORS = 16;
+
+	@Param({ "BLOCKING", "YIELDING", "BUSY_SPIN" })
+	public WaitStrategy strategy;
+
+	private AsyncCalculator async;
+	private CalculatorAdvanced[] locked;
+
+	@Setup
+	public void setup() {
+		async = new AsyncCalculator(CALCULATORS, 1, AsyncCalculator.DEFAULT_BUFFER_SIZE, strategy);
+		locked = new CalculatorAdvanced[CALCULATORS];
+		for (int i = 0; i < CALCULATORS; i++) {
+			locked[i] = new CalculatorAdvanced();
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		async.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public double locked(ThreadIndex index) throws NotSupportedOperationException, DivisionByZeroException {
+		CalculatorAdvanced calculator = locked[index.next()];
+		double value = 0.0d;
+		for (int i = 0; i < BURST; i++) {
+			synchronized (calculator) {
+				calculator.calculate(1.0d, i % 2 == 0 ? '+' : '-');
+				value = calculator.getCurrentValue();
+			}
+		}
+		return value;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BURST)
+	public double async(ThreadIndex index) throws Exception {
+		int calculator = index.next();
+		CompletableFuture<Double> last = null;
+		for (int i = 0; i < BURST; i++) {
+			last = async.calculate(calculator, 1.0d, i % 2 == 0 ? '+' : '-');
+		}
+		return last.get();
+	}
+
+	/**
+	 * Calculator used by a producer thread, a different one on every
+	 * invocation.
+	 */
+	@State(Scope.Thread)
+	public static class ThreadIndex {
+		private int next;
+
+		int next() {
+			next = (next + 1) % CALCULATORS;
+			return next;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package calculator.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark JAR. It accepts the usual JMH command line, but
+ * unless told otherwise it attaches the GC profiler, so that allocation per
+ * operation is reported next to the timings, and writes the results as JSON
+ * to {@code jmh-result.json}, so that results of two releases can be diffed.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class BenchmarkRunner {
+	/**
+	 * File that receives the results when no other file is given.
+	 */
+	private static final String DEFAULT_RESULT = "jmh-result.json";
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+				|| options.shouldListProfilers() || options.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if (!options.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!options.getResult().hasValue()) {
+			builder.result(DEFAULT_RESULT);
+		}
+		if (options.getProfilers().isEmpty()) {
+			builder.addProfiler(GCProfiler.class);
+		}
+
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,83 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Benchmarks of the exponentiation, factorial and characteristic checks of the
+ * {@link CalculatorAdvanced} class, for every action and operand distribution.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculatorAdvancedBenchmark {
+	/**
+	 * Number of pregenerated operands.
+	 */
+	private static final int SIZE = 1024;
+
+	@Param({ "0", "1", "2", "5", "9", "!" })
+	public char action;
+
+	@Param({ "A", "P" })
+	public char characteristic;
+
+	@Param({ "SMALL_INT", "RANDOM" })
+	public Distribution distribution;
+
+	private double[] operands;
+	private double[] factorialOperands;
+	private CalculatorAdvanced calculator;
+	private int index;
+
+	@Setup
+	public void setup() {
+		operands = distribution.operands(SIZE);
+		factorialOperands = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			// Characteristic checks need values of at least 1, factorial at most 10.
+			operands[i] = Math.abs(operands[i]) + 1.0d;
+			factorialOperands[i] = operands[i] % 11.0d;
+		}
+		calculator = new CalculatorAdvanced();
+	}
+
+	@Benchmark
+	public double calculateAdvanced() throws NumberNotInAreaException, NotSupportedOperationException {
+		int i = index;
+		index = (i + 1) & (SIZE - 1);
+		calculator.setCurrentValue(action == '!' ? factorialOperands[i] : operands[i]);
+		calculator.calculateAdvanced(action);
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	public Boolean hasCharacteristic() throws NumberNotInAreaException, NotSupportedOperationException {
+		int i = index;
+		index = (i + 1) & (SIZE - 1);
+		calculator.setCurrentValue(operands[i]);
+		return calculator.hasCharacteristic(characteristic);
+	}
+}
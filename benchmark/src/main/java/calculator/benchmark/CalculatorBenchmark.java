@@ -0,0 +1,94 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculationResult;
+import calculator.Calculator;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks of the four arithmetic operations of the {@link Calculator} class,
+ * for every operator and operand distribution.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CalculatorBenchmark {
+	/**
+	 * Number of pregenerated operands.
+	 */
+	private static final int SIZE = 1024;
+
+	@Param({ "+", "-", "*", "/" })
+	public char operator;
+
+	@Param({ "SMALL_INT", "RANDOM" })
+	public Distribution distribution;
+
+	private double[] operands;
+	private Calculator calculator;
+	private CalculationResult result;
+	private int index;
+
+	@Setup
+	public void setup() {
+		operands = distribution.operands(SIZE);
+		calculator = new Calculator();
+		result = new CalculationResult();
+	}
+
+	/**
+	 * Helper method that returns the next operand. The calculator is reset to the
+	 * previous operand so that repeated multiplication or division doesn't drift
+	 * into infinity or subnormal numbers.
+	 *
+	 * @return next operand.
+	 */
+	private double next() {
+		int i = index;
+		index = (i + 1) & (SIZE - 1);
+		calculator.setCurrentValue(operands[index]);
+		return operands[i];
+	}
+
+	@Benchmark
+	public double calculate() throws NotSupportedOperationException, DivisionByZeroException {
+		calculator.calculate(next(), operator);
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	public double tryCalculate() {
+		calculator.tryCalculate(next(), operator, result);
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SIZE)
+	public double calculateBatch() {
+		calculator.setCurrentValue(1.0d);
+		calculator.calculate(operands, operator);
+		return calculator.getCurrentValue();
+	}
+}
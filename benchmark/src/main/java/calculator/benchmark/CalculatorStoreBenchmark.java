@@ -0,0 +1,127 @@
+package calculator.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.CalculatorStore;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks of a {@link CalculatorStore} filled with many sessions, accessed
+ * at random by all benchmark threads. The {@code objects} variants keep a
+ * {@link CalculatorAdvanced} object per session in a map instead, and need a
+ * far larger heap for the same number of sessions; they're skipped unless
+ * there are at most a million sessions. Memory per session of both is printed
+ * when a trial starts.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class CalculatorStoreBenchmark {
+	/**
+	 * Largest number of sessions for which the map of objects is filled.
+	 */
+	private static final int MAX_OBJECT_SESSIONS = 1_000_000;
+
+	@Param({ "1000000", "50000000" })
+	public int sessions;
+
+	private CalculatorStore store;
+	private ConcurrentHashMap<Long, CalculatorAdvanced> objects;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long before = runtime.totalMemory() - runtime.freeMemory();
+
+		store = new CalculatorStore();
+		for (int i = 0; i < sessions; i++) {
+			store.setCurrentValue(i, i);
+		}
+		System.out.printf("%nstore: %.1f bytes per session%n", (double) store.memoryUsage() / sessions);
+
+		if (sessions <= MAX_OBJECT_SESSIONS) {
+			System.gc();
+			before = runtime.totalMemory() - runtime.freeMemory();
+			objects = new ConcurrentHashMap<>();
+			for (int i = 0; i < sessions; i++) {
+				CalculatorAdvanced calculator = new CalculatorAdvanced();
+				calculator.setCurrentValue((double) i);
+				objects.put((long) i, calculator);
+			}
+			System.gc();
+			System.out.printf("objects: %.1f bytes per session%n",
+					(double) (runtime.totalMemory() - runtime.freeMemory() - before) / sessions);
+		}
+	}
+
+	/**
+	 * Source of random session ids, one per benchmark thread.
+	 */
+	@State(Scope.Thread)
+	public static class Sessions {
+		private final SplittableRandom random = new SplittableRandom();
+
+		long next(int sessions) {
+			return random.nextInt(sessions);
+		}
+	}
+
+	@Benchmark
+	public void calculate(Sessions ids) throws NotSupportedOperationException, DivisionByZeroException {
+		store.calculate(ids.next(sessions), 1.0d, '+');
+	}
+
+	@Benchmark
+	public double getCurrentValue(Sessions ids) {
+		return store.getCurrentValue(ids.next(sessions));
+	}
+
+	@Benchmark
+	public void calculateObjects(Sessions ids) throws NotSupportedOperationException, DivisionByZeroException {
+		if (objects == null) {
+			return;
+		}
+		CalculatorAdvanced calculator = objects.get(ids.next(sessions));
+		synchronized (calculator) {
+			calculator.calculate(1.0d, '+');
+		}
+	}
+
+	@Benchmark
+	public double getCurrentValueObjects(Sessions ids) {
+		if (objects == null) {
+			return 0.0d;
+		}
+		CalculatorAdvanced calculator = objects.get(ids.next(sessions));
+		synchronized (calculator) {
+			return calculator.getCurrentValue();
+		}
+	}
+}
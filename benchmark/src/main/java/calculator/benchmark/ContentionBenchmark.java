@@ -0,0 +1,74 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.Calculator;
+import calculator.ConcurrentCalculator;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks of a single calculator shared by all benchmark threads. By default
+ * every available core runs a thread; the single-threaded baseline is obtained
+ * with {@code -t 1}, and scaling with {@code -t 2}, {@code -t 4} and so on.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(Threads.MAX)
+@State(Scope.Benchmark)
+public class ContentionBenchmark {
+	@Param({ "false", "true" })
+	public boolean striped;
+
+	private ConcurrentCalculator calculator;
+	private Calculator lockedCalculator;
+
+	@Setup
+	public void setup() {
+		calculator = new ConcurrentCalculator(striped);
+		calculator.setCurrentValue(1.0d);
+		lockedCalculator = new Calculator();
+	}
+
+	@Benchmark
+	public void add() throws NotSupportedOperationException, DivisionByZeroException {
+		calculator.calculate(1.0d, '+');
+	}
+
+	@Benchmark
+	public void multiply() throws NotSupportedOperationException, DivisionByZeroException {
+		calculator.calculate(1.0d, '*');
+	}
+
+	@Benchmark
+	public double read() {
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	public void addSynchronized() throws NotSupportedOperationException, DivisionByZeroException {
+		synchronized (lockedCalculator) {
+			lockedCalculator.calculate(1.0d, '+');
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package calculator.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Distributions of the operands used in benchmarks. Operands are generated
+ * ahead of time from a fixed seed, so every run sees the same values.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public enum Distribution {
+	/**
+	 * Whole numbers in range [1, 100].
+	 */
+	SMALL_INT {
+		@Override
+		double next(SplittableRandom random) {
+			return 1 + random.nextInt(100);
+		}
+	},
+	/**
+	 * Arbitrary non-zero numbers in range (-10^6, 10^6).
+	 */
+	RANDOM {
+		@Override
+		double next(SplittableRandom random) {
+			double value;
+			do {
+				value = (random.nextDouble() - 0.5d) * 2.0e6d;
+			} while (value == 0.0d);
+			return value;
+		}
+	};
+
+	/**
+	 * Seed used for every generated array.
+	 */
+	private static final long SEED = 0x5EED_CA1CL;
+
+	/**
+	 * Generates a single operand.
+	 *
+	 * @param random is the source of randomness.
+	 * @return generated operand.
+	 */
+	abstract double next(SplittableRandom random);
+
+	/**
+	 * Generates an array of non-zero operands.
+	 *
+	 * @param size is the number of operands.
+	 * @return generated operands.
+	 */
+	public double[] operands(int size) {
+		SplittableRandom random = new SplittableRandom(SEED);
+		double[] operands = new double[size];
+		for (int i = 0; i < size; i++) {
+			operands[i] = next(random);
+		}
+		return operands;
+	}
+}
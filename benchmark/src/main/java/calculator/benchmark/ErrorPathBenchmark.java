@@ -0,0 +1,119 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+
+/**
+ * Benchmarks of the failing operations, comparing the exceptions thrown by the
+ * calculator classes with the exception-free status codes and with the
+ * lightweight exceptions.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+	private CalculatorAdvanced calculator;
+	private CalculationResult result;
+
+	@Setup
+	public void setup() {
+		calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(42.5d);
+		result = new CalculationResult();
+	}
+
+	@Benchmark
+	public Object divisionByZeroException() {
+		try {
+			calculator.calculate(0.0d, '/');
+			return null;
+		} catch (Exception e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int divisionByZeroStatus() {
+		return calculator.tryCalculate(0.0d, '/', result);
+	}
+
+	@Benchmark
+	public Object unknownOperatorException() {
+		try {
+			calculator.calculate(1.0d, '^');
+			return null;
+		} catch (Exception e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int unknownOperatorStatus() {
+		return calculator.tryCalculate(1.0d, '^', result);
+	}
+
+	@Benchmark
+	public Object unknownOperatorLightweight() {
+		calculator.tryCalculate(1.0d, '^', result);
+		return result.toException();
+	}
+
+	@Benchmark
+	public Object factorialNotInAreaException() {
+		try {
+			calculator.calculateAdvanced('!');
+			return null;
+		} catch (Exception e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public Object factorialNotInAreaExceptionMessage() {
+		try {
+			calculator.calculateAdvanced('!');
+			return null;
+		} catch (Exception e) {
+			return e.getMessage();
+		}
+	}
+
+	@Benchmark
+	public int factorialNotInAreaStatus() {
+		return calculator.tryCalculateAdvanced('!', result);
+	}
+
+	@Benchmark
+	public Object unknownParameterException() {
+		try {
+			return calculator.hasCharacteristic('|');
+		} catch (Exception e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int unknownParameterStatus() {
+		return calculator.tryHasCharacteristic('|', result);
+	}
+}
@@ -0,0 +1,58 @@
+package calculator.benchmark;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.ExactArithmetic;
+
+/**
+ * Benchmarks of the power and factorial calculations used by
+ * {@link calculator.CalculatorAdvanced}, on the {@code long} fast path and on
+ * the {@link BigInteger} fallback.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactArithmeticBenchmark {
+	@Param({ "7", "100000", "3037000500" })
+	public long base;
+
+	@Param({ "2", "9" })
+	public int exponent;
+
+	@Param({ "10", "20", "100", "1000" })
+	public int factorial;
+
+	@Benchmark
+	public double powerAsDouble() {
+		return ExactArithmetic.powerAsDouble(base, exponent);
+	}
+
+	@Benchmark
+	public BigInteger power() {
+		return ExactArithmetic.power(base, exponent);
+	}
+
+	@Benchmark
+	public BigInteger factorial() {
+		return ExactArithmetic.factorial(factorial);
+	}
+}
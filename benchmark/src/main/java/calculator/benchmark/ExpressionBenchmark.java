@@ -0,0 +1,79 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.Expression;
+import calculator.ExpressionCache;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Benchmarks comparing an expression parsed on every evaluation with one taken
+ * from an {@link ExpressionCache}, for an expression that is calculated when
+ * it's parsed and for one that uses the value of the calculator. The text is a
+ * new string every time, as it would be when read from a client, so even a
+ * cache hit hashes and compares it.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionBenchmark {
+	@Param({ "(12.5 + 3) * 4 / 2 - 7!", "(x + 3) * 4 / 2 - (x / 1000)! + x ^ 2" })
+	public String expression;
+
+	private char[] text;
+	private ExpressionCache cache;
+	private CalculatorAdvanced calculator;
+
+	@Setup
+	public void setup() {
+		text = expression.toCharArray();
+		cache = new ExpressionCache(1024);
+		calculator = new CalculatorAdvanced();
+	}
+
+	@Benchmark
+	public double parsed()
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		calculator.setCurrentValue(7.0d);
+		calculator.evaluate(Expression.parse(new String(text)));
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	public double cached()
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		calculator.setCurrentValue(7.0d);
+		calculator.evaluate(cache.get(new String(text)));
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	public double cachedSameText()
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		calculator.setCurrentValue(7.0d);
+		calculator.evaluate(cache.get(expression));
+		return calculator.getCurrentValue();
+	}
+}
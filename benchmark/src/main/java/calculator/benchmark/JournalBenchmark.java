@@ -0,0 +1,136 @@
+package calculator.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.journal.JournaledCalculator;
+import calculator.journal.OperationJournal;
+import calculator.journal.SyncPolicy;
+
+/**
+ * Benchmarks of the {@link OperationJournal} class: appending records through a
+ * {@link JournaledCalculator} with every sync policy, and recovering a journal
+ * of many records without a snapshot, which checks every one of them. The
+ * journals are written to the default temporary directory, which should be on
+ * the device being measured.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@Fork(1)
+public class JournalBenchmark {
+
+	/**
+	 * Journal that receives appended records.
+	 */
+	@State(Scope.Thread)
+	public static class Appending {
+		@Param({ "NONE", "GROUP", "EVERY_RECORD" })
+		public String policy;
+
+		private Path directory;
+		private OperationJournal journal;
+		private JournaledCalculator calculator;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			directory = Files.createTempDirectory("journal");
+			SyncPolicy sync = policy.equals("NONE") ? SyncPolicy.none()
+					: policy.equals("GROUP") ? SyncPolicy.groupCommit(1024, 10, TimeUnit.MILLISECONDS)
+							: SyncPolicy.everyRecord();
+			journal = OperationJournal.open(directory, sync, OperationJournal.DEFAULT_SEGMENT_RECORDS,
+					OperationJournal.DEFAULT_SNAPSHOT_INTERVAL);
+			calculator = new JournaledCalculator(journal);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			journal.close();
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Journal of many records, written once and recovered repeatedly.
+	 */
+	@State(Scope.Benchmark)
+	public static class Recovering {
+		@Param({ "100000000" })
+		public long records;
+
+		private Path directory;
+
+		@Setup(Level.Trial)
+		public void setup() throws IOException {
+			directory = Files.createTempDirectory("journal");
+			try (OperationJournal journal = OperationJournal.open(directory, SyncPolicy.none(),
+					OperationJournal.DEFAULT_SEGMENT_RECORDS, 0)) {
+				for (long i = 0; i < records; i++) {
+					journal.append('+', 1.0d, i + 1.0d);
+				}
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() throws IOException {
+			delete(directory);
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	@OutputTimeUnit(TimeUnit.NANOSECONDS)
+	@Warmup(iterations = 3, time = 1)
+	@Measurement(iterations = 5, time = 1)
+	public double append(Appending state) throws NotSupportedOperationException, DivisionByZeroException {
+		state.calculator.calculate(1.0d, '+');
+		return state.calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MILLISECONDS)
+	@Warmup(iterations = 1)
+	@Measurement(iterations = 3)
+	public double recover(Recovering state) throws IOException {
+		try (OperationJournal journal = OperationJournal.open(state.directory, SyncPolicy.none(),
+				OperationJournal.DEFAULT_SEGMENT_RECORDS, 0)) {
+			return journal.getValue();
+		}
+	}
+
+	/**
+	 * Helper method that deletes a directory with its files.
+	 *
+	 * @param directory is the deleted directory.
+	 * @throws IOException
+	 */
+	private static void delete(Path directory) throws IOException {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+				Files.delete(path);
+			}
+		}
+	}
+}
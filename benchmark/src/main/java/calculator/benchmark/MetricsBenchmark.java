@@ -0,0 +1,90 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+import calculator.metrics.CalculatorMetrics;
+import calculator.metrics.InstrumentedCalculator;
+
+/**
+ * Benchmarks comparing a plain {@link CalculatorAdvanced} with an
+ * {@link InstrumentedCalculator}, both with the instrumentation enabled and
+ * disabled through the system property. The disabled variant runs in its own
+ * fork, because the property is read only once per JVM.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MetricsBenchmark {
+	private CalculatorAdvanced plain;
+	private InstrumentedCalculator instrumented;
+
+	@Setup
+	public void setup() {
+		plain = new CalculatorAdvanced();
+		instrumented = new InstrumentedCalculator(new CalculatorMetrics());
+	}
+
+	@Benchmark
+	public double calculatePlain() throws NotSupportedOperationException, DivisionByZeroException {
+		plain.setCurrentValue(3.0d);
+		plain.calculate(1.5d, '*');
+		return plain.getCurrentValue();
+	}
+
+	@Benchmark
+	public double calculateInstrumented() throws NotSupportedOperationException, DivisionByZeroException {
+		instrumented.setCurrentValue(3.0d);
+		instrumented.calculate(1.5d, '*');
+		return instrumented.getCurrentValue();
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = "-D" + InstrumentedCalculator.DISABLED_PROPERTY + "=true")
+	public double calculateInstrumentedDisabled() throws NotSupportedOperationException, DivisionByZeroException {
+		instrumented.setCurrentValue(3.0d);
+		instrumented.calculate(1.5d, '*');
+		return instrumented.getCurrentValue();
+	}
+
+	@Benchmark
+	public Boolean hasCharacteristicPlain() throws NumberNotInAreaException, NotSupportedOperationException {
+		plain.setCurrentValue(9_926_315.0d);
+		return plain.hasCharacteristic('A');
+	}
+
+	@Benchmark
+	public Boolean hasCharacteristicInstrumented() throws NumberNotInAreaException, NotSupportedOperationException {
+		instrumented.setCurrentValue(9_926_315.0d);
+		return instrumented.hasCharacteristic('A');
+	}
+
+	@Benchmark
+	@Fork(jvmArgsAppend = "-D" + InstrumentedCalculator.DISABLED_PROPERTY + "=true")
+	public Boolean hasCharacteristicInstrumentedDisabled()
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		instrumented.setCurrentValue(9_926_315.0d);
+		return instrumented.hasCharacteristic('A');
+	}
+}
@@ -0,0 +1,128 @@
+package calculator.benchmark;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculatorAdvanced;
+import calculator.io.OperationFileProcessor;
+
+/**
+ * Benchmarks of processing a file of operations with the
+ * {@link OperationFileProcessor} class, against reading every line as a string
+ * with a {@link BufferedReader}. Scores are in lines per second; every output
+ * is discarded, so only the cost of reading, parsing and calculating is
+ * measured.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OperationFileBenchmark {
+	/**
+	 * Number of lines in the generated file.
+	 */
+	private static final int LINES = 1_000_000;
+
+	private Path file;
+	private CalculatorAdvanced calculator;
+	private OperationFileProcessor processor;
+	private WritableByteChannel discard;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		file = Files.createTempFile("operations", ".txt");
+		SplittableRandom random = new SplittableRandom(0x5EED_CA1CL);
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+			for (int i = 0; i < LINES; i++) {
+				// Multiplication and division stay close to one to keep the value in range.
+				switch (random.nextInt(4)) {
+				case 0:
+					writer.write("+ " + random.nextInt(1000));
+					break;
+				case 1:
+					writer.write("- " + (random.nextInt(100_000) / 100.0));
+					break;
+				case 2:
+					writer.write("* " + (1.0 + random.nextInt(100) / 10_000.0));
+					break;
+				default:
+					// One division in a thousand is a division by zero.
+					writer.write(random.nextInt(1000) == 0 ? "/ 0" : "/ 1.0025");
+					break;
+				}
+				writer.write('\n');
+			}
+		}
+
+		calculator = new CalculatorAdvanced();
+		processor = new OperationFileProcessor(calculator, false);
+		discard = Channels.newChannel(OutputStream.nullOutputStream());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.delete(file);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public double processor() throws IOException {
+		calculator.setCurrentValue(0.0d);
+		try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+			processor.process(in, discard);
+		}
+		return calculator.getCurrentValue();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LINES)
+	public double bufferedReader() throws IOException {
+		calculator.setCurrentValue(0.0d);
+		try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII);
+				Writer writer = new BufferedWriter(Writer.nullWriter())) {
+			int number = 0;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				number++;
+				String[] parts = line.trim().split(" ");
+				try {
+					calculator.calculate(Double.valueOf(parts[1]), parts[0].charAt(0));
+				} catch (Exception e) {
+					writer.write(number + ": " + e.getMessage() + "\n");
+				}
+			}
+		}
+		return calculator.getCurrentValue();
+	}
+}
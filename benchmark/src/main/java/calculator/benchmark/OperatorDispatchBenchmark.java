@@ -0,0 +1,132 @@
+package calculator.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculationResult;
+import calculator.Calculator;
+import calculator.Operator;
+import calculator.OperatorRegistry;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks showing how the cost of picking an operator changes as more
+ * operators are registered. The built-in operator and the operators of an
+ * {@link OperatorRegistry} should cost the same with one registered operator
+ * and with 64 of them, while a chain of operators that each check their own
+ * character, which is what stacking subclasses with a switch of their own
+ * each amounts to, grows with the number of operators.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OperatorDispatchBenchmark {
+	/**
+	 * Characters the registered operators use, in the order of registration.
+	 */
+	private static final String SYMBOLS = "%^&|<>~@#$?:;_=abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123";
+
+	/**
+	 * Number of operators in {@link #sequence}.
+	 */
+	private static final int SEQUENCE = 1024;
+
+	@Param({ "1", "8", "64" })
+	public int registered;
+
+	private Calculator calculator;
+	private Link chain;
+	private char[] sequence;
+	private CalculationResult result;
+	private double value;
+	private int index;
+
+	@Setup
+	public void setup() {
+		OperatorRegistry registry = new OperatorRegistry();
+		chain = new Link((char) 0, null, null);
+		for (int i = 0; i < registered; i++) {
+			double weight = 1.0d / (i + 2);
+			Operator operator = (currentValue, value) -> currentValue * weight + value;
+			registry.register(SYMBOLS.charAt(i), operator);
+			chain = new Link(SYMBOLS.charAt(i), operator, chain);
+		}
+
+		// Every registered operator is used equally often.
+		sequence = new char[SEQUENCE];
+		for (int i = 0; i < SEQUENCE; i++) {
+			sequence[i] = SYMBOLS.charAt((i * 7) % registered);
+		}
+		calculator = new Calculator();
+		calculator.setOperatorRegistry(registry);
+		result = new CalculationResult();
+	}
+
+	@Benchmark
+	public int builtIn() {
+		calculator.setCurrentValue(0.0d);
+		return calculator.tryCalculate(1.0d, '+', result);
+	}
+
+	@Benchmark
+	public int registry() {
+		char operator = sequence[index];
+		index = (index + 1) & (SEQUENCE - 1);
+		return calculator.tryCalculate(1.0d, operator, result);
+	}
+
+	@Benchmark
+	public double chained() throws DivisionByZeroException, NotSupportedOperationException {
+		char operator = sequence[index];
+		index = (index + 1) & (SEQUENCE - 1);
+		value = chain.apply(value, 1.0d, operator);
+		return value;
+	}
+
+	/**
+	 * Operator that handles its own character and hands any other one to the
+	 * next link.
+	 */
+	private static final class Link {
+		private final char symbol;
+		private final Operator operator;
+		private final Link next;
+
+		Link(char symbol, Operator operator, Link next) {
+			this.symbol = symbol;
+			this.operator = operator;
+			this.next = next;
+		}
+
+		double apply(double currentValue, double value, char operator)
+				throws DivisionByZeroException, NotSupportedOperationException {
+			Link link = this;
+			while (link.symbol != operator) {
+				link = link.next;
+				if (link == null) {
+					throw new NotSupportedOperationException("Operator '" + operator + "' is not supported.");
+				}
+			}
+			return link.operator.apply(currentValue, value);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package calculator.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CachedCalculator;
+import calculator.CalculatorAdvanced;
+import calculator.ResultCache;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Benchmarks comparing a plain {@link CalculatorAdvanced} with a
+ * {@link CachedCalculator} on a workload that keeps coming back to the same
+ * few thousand values, with a cache that holds all of them and with one that
+ * holds a quarter of them. Hit rate of the cache is printed after every
+ * iteration.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultCacheBenchmark {
+	/**
+	 * Number of values the workload uses, drawn from 2^20 values.
+	 */
+	private static final int SIZE = 1 << 20;
+
+	@Param({ "4096" })
+	public int distinctValues;
+
+	@Param({ "16384", "1024" })
+	public int capacity;
+
+	@Param({ "A", "P", "3" })
+	public char action;
+
+	private double[] values;
+	private CalculatorAdvanced plain;
+	private CachedCalculator cached;
+	private int index;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(42);
+		double[] distinct = new double[distinctValues];
+		for (int i = 0; i < distinctValues; i++) {
+			// Whole numbers with up to 15 digits, all exactly representable.
+			distinct[i] = 1 + random.nextLong(1_000_000_000_000_000L);
+		}
+
+		values = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = distinct[random.nextInt(distinctValues)];
+		}
+		plain = new CalculatorAdvanced();
+		cached = new CachedCalculator(new ResultCache(capacity));
+	}
+
+	@TearDown
+	public void tearDown() {
+		System.out.println(cached.getCache());
+	}
+
+	@Benchmark
+	public Object plain() throws NumberNotInAreaException, NotSupportedOperationException {
+		return run(plain);
+	}
+
+	@Benchmark
+	public Object cached() throws NumberNotInAreaException, NotSupportedOperationException {
+		return run(cached);
+	}
+
+	/**
+	 * Runs the benchmarked action on the next value of the workload.
+	 *
+	 * @param calculator is the calculator that runs the action.
+	 * @return result of the action.
+	 * @throws NumberNotInAreaException       never, all values are positive.
+	 * @throws NotSupportedOperationException never, all actions are valid.
+	 */
+	private Object run(CalculatorAdvanced calculator) throws NumberNotInAreaException, NotSupportedOperationException {
+		calculator.setCurrentValue(values[index]);
+		index = (index + 1) & (SIZE - 1);
+		if (action == 'A' || action == 'P') {
+			return calculator.hasCharacteristic(action);
+		}
+		calculator.calculateAdvanced(action);
+		return calculator.getCurrentValue();
+	}
+}
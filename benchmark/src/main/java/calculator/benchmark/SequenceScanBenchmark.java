@@ -0,0 +1,80 @@
+package calculator.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.SequenceScan;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Benchmarks of the {@link SequenceScan} class, evaluating every intermediate
+ * value of a long sequence with a parallel prefix scan and strictly one step
+ * after another. The parallel scan uses the common fork-join pool, whose size
+ * can be set with
+ * {@code -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=N}.
+ * The divergence of the parallel results is printed when a trial starts.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class SequenceScanBenchmark {
+	/**
+	 * Operators used in the sequence.
+	 */
+	private static final char[] OPERATORS = { '+', '-', '*', '/' };
+
+	@Param({ "1000000", "100000000" })
+	public int steps;
+
+	private SequenceScan scan;
+	private double[] values;
+
+	@Setup
+	public void setup() throws NotSupportedOperationException, DivisionByZeroException {
+		SplittableRandom random = new SplittableRandom(0x5EED_CA1CL);
+		char[] operators = new char[steps];
+		double[] operands = new double[steps];
+		for (int i = 0; i < steps; i++) {
+			operators[i] = OPERATORS[random.nextInt(4)];
+			// Multiplication and division stay close to one to keep the value in range.
+			operands[i] = operators[i] == '*' || operators[i] == '/' ? 1.0d + random.nextDouble() / 1000.0d
+					: random.nextDouble() * 100.0d;
+		}
+		scan = SequenceScan.of(operators, operands);
+		values = new double[steps];
+		scan.evaluateStrict(1.0d, values);
+		System.out.printf("%nparallel: %s%n", SequenceScan.compare(values, scan.evaluate(1.0d)));
+	}
+
+	@Benchmark
+	public double[] parallel() {
+		scan.evaluate(1.0d, values);
+		return values;
+	}
+
+	@Benchmark
+	public double[] strict() {
+		scan.evaluateStrict(1.0d, values);
+		return values;
+	}
+}
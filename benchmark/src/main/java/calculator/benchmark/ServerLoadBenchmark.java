@@ -0,0 +1,76 @@
+package calculator.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import calculator.server.CalculatorServer;
+import calculator.server.LoadGenerator;
+
+/**
+ * Load test of the {@link CalculatorServer}, run outside of JMH because it
+ * measures a whole system rather than a single method. It starts the server in
+ * a JVM of its own, so that the connections of the server and of the
+ * {@link LoadGenerator} don't share a limit of open files and the two don't
+ * share a heap, then opens the connections, keeps a fixed number of requests
+ * in flight on each of them, and prints how many connections have been served,
+ * the throughput and the latency percentiles.
+ * <p>
+ * Arguments are the number of connections, the number of requests in flight
+ * on every connection and the number of seconds to run, with defaults 10000,
+ * 16 and 10. Run it with
+ * {@code java -cp target/benchmarks.jar calculator.benchmark.ServerLoadBenchmark}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ServerLoadBenchmark {
+	/**
+	 * Line printed by the server once it listens.
+	 */
+	private static final Pattern LISTENING = Pattern.compile("listening on port (\\d+)");
+
+	private ServerLoadBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int connections = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+		int pipeline = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+		int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		Process server = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				CalculatorServer.class.getName(), "0").redirectErrorStream(true).start();
+		try {
+			BufferedReader output = new BufferedReader(
+					new InputStreamReader(server.getInputStream(), StandardCharsets.UTF_8));
+			int port = -1;
+			String line;
+			while (port < 0 && (line = output.readLine()) != null) {
+				Matcher matcher = LISTENING.matcher(line);
+				if (matcher.find()) {
+					port = Integer.parseInt(matcher.group(1));
+				}
+			}
+			if (port < 0) {
+				throw new IOException("Server hasn't started.");
+			}
+
+			InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+			// Short warm-up run, so that the measured run sees compiled code.
+			new LoadGenerator(address, Math.min(connections, 100), pipeline).run(Math.min(seconds, 3), TimeUnit.SECONDS);
+			System.out.println(new LoadGenerator(address, connections, pipeline).run(seconds, TimeUnit.SECONDS));
+		} finally {
+			server.destroy();
+			server.waitFor();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package calculator.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import calculator.cli.CommandLineCalculator;
+
+/**
+ * Start-up test of the {@link CommandLineCalculator}, run outside of JMH because
+ * it measures whole JVMs. It starts the calculator with a single operation over
+ * and over, and measures the time from starting the process to reading the
+ * first byte of its result, which is what a shell script calling the
+ * calculator waits for. Three configurations are run in turns, so that all of
+ * them see the same noise of the machine: the default JVM, the JVM with the
+ * options of the {@code bin/calculator} launcher, and the same with a class
+ * data sharing archive of the calculator, which is created first in a
+ * temporary directory.
+ * <p>
+ * The argument is the number of runs of every configuration, 30 by default.
+ * The median is compared against the target of {@value #TARGET_MILLIS} ms. Run
+ * it with
+ * {@code java -cp target/benchmarks.jar calculator.benchmark.StartupBenchmark}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class StartupBenchmark {
+	/**
+	 * Target time from start to first result, in milliseconds.
+	 */
+	private static final int TARGET_MILLIS = 50;
+
+	/**
+	 * Options the {@code bin/calculator} launcher starts the JVM with.
+	 */
+	private static final List<String> LAUNCHER_OPTIONS = Arrays.asList("-XX:TieredStopAtLevel=1",
+			"-XX:+UseSerialGC", "-XX:-UsePerfData");
+
+	private StartupBenchmark() {
+	}
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		int runs = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		String classPath = System.getProperty("java.class.path");
+		Path directory = Files.createTempDirectory("calculator-startup");
+		Path archive = directory.resolve("calculator.jsa");
+		try {
+			List<String> training = new ArrayList<>(Arrays.asList(java, "-XX:ArchiveClassesAtExit=" + archive));
+			training.addAll(LAUNCHER_OPTIONS);
+			training.addAll(Arrays.asList("-cp", classPath, CommandLineCalculator.class.getName(), "+ 3", "/ 0", "!"));
+			new ProcessBuilder(training).redirectErrorStream(true).redirectOutput(directory.resolve("training.log")
+					.toFile()).start().waitFor();
+
+			List<List<String>> commands = new ArrayList<>();
+			commands.add(new ArrayList<>(Arrays.asList(java)));
+			List<String> launcher = new ArrayList<>(Arrays.asList(java));
+			launcher.addAll(LAUNCHER_OPTIONS);
+			commands.add(launcher);
+			List<String> shared = new ArrayList<>(launcher);
+			shared.addAll(Arrays.asList("-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off",
+					"-Xlog:cds+dynamic=off"));
+			commands.add(shared);
+			String[] names = { "default JVM", "launcher options", "launcher options + AppCDS" };
+
+			long[][] firstResult = new long[commands.size()][runs];
+			long[][] exit = new long[commands.size()][runs];
+			for (List<String> command : commands) {
+				command.addAll(Arrays.asList("-cp", classPath, CommandLineCalculator.class.getName(), "+ 3"));
+				// Warm-up run, so that the files are in the page cache.
+				time(command);
+			}
+			for (int run = 0; run < runs; run++) {
+				for (int i = 0; i < commands.size(); i++) {
+					long[] times = time(commands.get(i));
+					firstResult[i][run] = times[0];
+					exit[i][run] = times[1];
+				}
+			}
+
+			System.out.printf("%s, %d runs, archive %s (%d KB)%n", System.getProperty("java.vm.version"), runs,
+					Files.exists(archive) ? "created" : "not created",
+					Files.exists(archive) ? Files.size(archive) / 1024 : 0);
+			for (int i = 0; i < commands.size(); i++) {
+				Arrays.sort(firstResult[i]);
+				Arrays.sort(exit[i]);
+				double median = firstResult[i][runs / 2] / 1.0e6d;
+				System.out.printf(Locale.ROOT,
+						"%-26s first result median %6.1f ms, p90 %6.1f ms, min %6.1f ms; exit median %6.1f ms; %s%n",
+						names[i], median, firstResult[i][runs * 9 / 10] / 1.0e6d, firstResult[i][0] / 1.0e6d,
+						exit[i][runs / 2] / 1.0e6d, median < TARGET_MILLIS ? "within target" : "over target");
+			}
+		} finally {
+			Files.deleteIfExists(archive);
+			Files.deleteIfExists(directory.resolve("training.log"));
+			Files.deleteIfExists(directory);
+		}
+	}
+
+	/**
+	 * Helper method that runs a command and measures it.
+	 *
+	 * @param command is the command.
+	 * @return nanoseconds until the first byte of output, and until the process
+	 *         has exited.
+	 * @throws IOException          when the process can't be started or doesn't
+	 *                              print anything.
+	 * @throws InterruptedException when the thread is interrupted while waiting.
+	 */
+	private static long[] time(List<String> command) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+		try (InputStream output = process.getInputStream()) {
+			if (output.read() < 0) {
+				throw new IOException("Calculator hasn't printed anything.");
+			}
+			long first = System.nanoTime() - start;
+			output.transferTo(OutputStream.nullOutputStream());
+			process.waitFor();
+			return new long[] { first, System.nanoTime() - start };
+		}
+	}
+}
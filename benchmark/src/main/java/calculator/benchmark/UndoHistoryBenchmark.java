@@ -0,0 +1,86 @@
+package calculator.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import calculator.CalculationResult;
+import calculator.Calculator;
+import calculator.UndoableCalculator;
+
+/**
+ * Benchmarks comparing the cost of an operation on a plain {@link Calculator},
+ * on an {@link UndoableCalculator}, and on a plain calculator whose values are
+ * kept in a list of {@code Double} objects that grows without a bound. Every
+ * sixteenth operation is followed by an undo.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UndoHistoryBenchmark {
+	@Param({ "1024" })
+	public int depth;
+
+	private Calculator plain;
+	private UndoableCalculator undoable;
+	private Calculator listed;
+	private List<Double> list;
+	private CalculationResult result;
+	private int count;
+
+	@Setup
+	public void setup() {
+		plain = new Calculator();
+		undoable = new UndoableCalculator(depth);
+		listed = new Calculator();
+		list = new ArrayList<>();
+		list.add(listed.getCurrentValue());
+		result = new CalculationResult();
+	}
+
+	@Benchmark
+	public double plain() {
+		plain.tryCalculate(1.5d, '+', result);
+		return plain.getCurrentValue();
+	}
+
+	@Benchmark
+	public double undoable() {
+		undoable.tryCalculate(1.5d, '+', result);
+		if ((++count & 15) == 0) {
+			undoable.undo();
+		}
+		return undoable.getCurrentValue();
+	}
+
+	@Benchmark
+	public double list() {
+		if (listed.tryCalculate(1.5d, '+', result) == CalculationResult.OK) {
+			list.add(listed.getCurrentValue());
+		}
+		if ((++count & 15) == 0) {
+			list.remove(list.size() - 1);
+			listed.setCurrentValue(list.get(list.size() - 1));
+		}
+		return listed.getCurrentValue();
+	}
+}
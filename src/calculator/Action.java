@@ -0,0 +1,29 @@
+package calculator;
+
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Interface used to add an action to the
+ * {@link CalculatorAdvanced#calculateAdvanced(char) calculateAdvanced} method
+ * through an {@link ActionRegistry}. An action computes a new calculator value
+ * from the current one, the same way factorial and exponentiation do.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface Action {
+	/**
+	 * Method performs the action.
+	 *
+	 * @param currentValue is the value of the calculator.
+	 * @return result of the action.
+	 * @throws NumberNotInAreaException       when the action isn't defined for
+	 *                                        the value.
+	 * @throws NotSupportedOperationException when the action can't be performed
+	 *                                        for another reason.
+	 */
+	double apply(double currentValue) throws NumberNotInAreaException, NotSupportedOperationException;
+}
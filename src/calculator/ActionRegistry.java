@@ -0,0 +1,212 @@
+package calculator;
+
+import java.util.Arrays;
+
+/**
+ * Class used to add actions to the
+ * {@link CalculatorAdvanced#calculateAdvanced(char) calculateAdvanced} methods
+ * and characteristics to the
+ * {@link CalculatorAdvanced#hasCharacteristic(char) hasCharacteristic} methods
+ * of calculators that use it. It works the same way as an
+ * {@link OperatorRegistry}: actions and characteristics are kept in two tables
+ * indexed by their character, so finding one costs a single array load.
+ * <p>
+ * The built-in actions, '0' to '9' and '!', and the built-in characteristics,
+ * 'A' and 'P', are always handled by the calculator itself, so they keep their
+ * fast path and can't be replaced. Any other ASCII character can be
+ * registered, and entries can be registered, replaced and removed at any time,
+ * also while calculators use the registry from other threads. Changes copy a
+ * table and publish the copy with a single volatile write, so lookups never
+ * lock and always see a whole table.
+ * <p>
+ * Registered actions give a {@code double}, so
+ * {@link CalculatorAdvanced#calculateAdvancedExact(char)} performs only the
+ * built-in ones.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ActionRegistry {
+	/**
+	 * Number of characters that can be registered, which are the ASCII ones.
+	 */
+	public static final int SIZE = OperatorRegistry.SIZE;
+
+	/**
+	 * Registered actions indexed by their character, {@code null} where nothing
+	 * is registered. The array is never changed once published.
+	 */
+	private volatile Action[] actions = new Action[SIZE];
+
+	/**
+	 * Registered characteristics indexed by their character, {@code null} where
+	 * nothing is registered. The array is never changed once published.
+	 */
+	private volatile Characteristic[] characteristics = new Characteristic[SIZE];
+
+	/**
+	 * Method registers an action, replacing the one registered for the same
+	 * character.
+	 *
+	 * @param symbol is the character of the action.
+	 * @param action is the action.
+	 * @return replaced action, or {@code null} if there wasn't any.
+	 * @throws IllegalArgumentException when the character isn't ASCII or is one
+	 *                                  of the built-in actions, or the action is
+	 *                                  {@code null}.
+	 */
+	public synchronized Action registerAction(char symbol, Action action) {
+		if (symbol >= SIZE || isBuiltInAction(symbol) || action == null) {
+			throw new IllegalArgumentException("Action '" + symbol + "' can't be registered.");
+		}
+		return replaceAction(symbol, action);
+	}
+
+	/**
+	 * Method removes an action.
+	 *
+	 * @param symbol is the character of the action.
+	 * @return removed action, or {@code null} if there wasn't any.
+	 */
+	public synchronized Action unregisterAction(char symbol) {
+		return symbol < SIZE ? replaceAction(symbol, null) : null;
+	}
+
+	/**
+	 * Getter for the action of a character.
+	 *
+	 * @param symbol is the character of the action.
+	 * @return registered action, or {@code null} if there isn't any.
+	 */
+	public Action getAction(char symbol) {
+		Action[] actions = this.actions;
+		return symbol < SIZE ? actions[symbol] : null;
+	}
+
+	/**
+	 * Getter for the characters of the registered actions.
+	 *
+	 * @return characters in ascending order.
+	 */
+	public char[] actionSymbols() {
+		return symbols(actions);
+	}
+
+	/**
+	 * Method registers a characteristic, replacing the one registered for the
+	 * same character.
+	 *
+	 * @param symbol         is the character of the characteristic.
+	 * @param characteristic is the characteristic.
+	 * @return replaced characteristic, or {@code null} if there wasn't any.
+	 * @throws IllegalArgumentException when the character isn't ASCII or is one
+	 *                                  of the built-in characteristics, or the
+	 *                                  characteristic is {@code null}.
+	 */
+	public synchronized Characteristic registerCharacteristic(char symbol, Characteristic characteristic) {
+		if (symbol >= SIZE || isBuiltInCharacteristic(symbol) || characteristic == null) {
+			throw new IllegalArgumentException("Characteristic '" + symbol + "' can't be registered.");
+		}
+		return replaceCharacteristic(symbol, characteristic);
+	}
+
+	/**
+	 * Method removes a characteristic.
+	 *
+	 * @param symbol is the character of the characteristic.
+	 * @return removed characteristic, or {@code null} if there wasn't any.
+	 */
+	public synchronized Characteristic unregisterCharacteristic(char symbol) {
+		return symbol < SIZE ? replaceCharacteristic(symbol, null) : null;
+	}
+
+	/**
+	 * Getter for the characteristic of a character.
+	 *
+	 * @param symbol is the character of the characteristic.
+	 * @return registered characteristic, or {@code null} if there isn't any.
+	 */
+	public Characteristic getCharacteristic(char symbol) {
+		Characteristic[] characteristics = this.characteristics;
+		return symbol < SIZE ? characteristics[symbol] : null;
+	}
+
+	/**
+	 * Getter for the characters of the registered characteristics.
+	 *
+	 * @return characters in ascending order.
+	 */
+	public char[] characteristicSymbols() {
+		return symbols(characteristics);
+	}
+
+	/**
+	 * Method checks if a character is one of the built-in actions.
+	 *
+	 * @param symbol is the character.
+	 * @return true if the action is built in.
+	 */
+	public static boolean isBuiltInAction(char symbol) {
+		return (symbol >= '0' && symbol <= '9') || symbol == '!';
+	}
+
+	/**
+	 * Method checks if a character is one of the built-in characteristics.
+	 *
+	 * @param symbol is the character.
+	 * @return true if the characteristic is built in.
+	 */
+	public static boolean isBuiltInCharacteristic(char symbol) {
+		return symbol == 'A' || symbol == 'P';
+	}
+
+	/**
+	 * Helper method that publishes a copy of the action table with one entry
+	 * replaced.
+	 *
+	 * @param symbol is the character of the entry.
+	 * @param action is the new entry.
+	 * @return previous entry.
+	 */
+	private Action replaceAction(char symbol, Action action) {
+		Action[] copy = actions.clone();
+		Action previous = copy[symbol];
+		copy[symbol] = action;
+		actions = copy;
+		return previous;
+	}
+
+	/**
+	 * Helper method that publishes a copy of the characteristic table with one
+	 * entry replaced.
+	 *
+	 * @param symbol         is the character of the entry.
+	 * @param characteristic is the new entry.
+	 * @return previous entry.
+	 */
+	private Characteristic replaceCharacteristic(char symbol, Characteristic characteristic) {
+		Characteristic[] copy = characteristics.clone();
+		Characteristic previous = copy[symbol];
+		copy[symbol] = characteristic;
+		characteristics = copy;
+		return previous;
+	}
+
+	/**
+	 * Helper method that lists the characters of the entries of a table.
+	 *
+	 * @param table is a published table.
+	 * @return characters in ascending order.
+	 */
+	private static char[] symbols(Object[] table) {
+		char[] symbols = new char[SIZE];
+		int count = 0;
+		for (char symbol = 0; symbol < SIZE; symbol++) {
+			if (table[symbol] != null) {
+				symbols[count++] = symbol;
+			}
+		}
+		return Arrays.copyOf(symbols, count);
+	}
+}
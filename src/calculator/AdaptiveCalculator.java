@@ -0,0 +1,401 @@
+package calculator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Class used to calculate in decimal arithmetic with a given precision while
+ * paying for {@link BigDecimal} only when {@code double} isn't good enough. The
+ * four built-in operations run in {@code double} next to a bound of the error
+ * the value has gathered so far, counting both the error of the operands,
+ * which are taken as the decimals they print as, and the rounding of every
+ * operation. Rounding is found exactly with a fused multiply-add or a two-sum,
+ * so exact operations add no error at all.
+ * <p>
+ * As long as the bound shows that the value is still right to the precision of
+ * the {@link MathContext}, nothing else is done. Once an operation would go
+ * over the bound, because of results out of range of {@code double},
+ * cancellation, or rounding that piled up, the calculator switches to a
+ * {@code BigDecimal} value and makes every following operation in it, until a
+ * new value is set. With a precision of 16 digits or more, which a
+ * {@code double} can't always hold, the first inexact operation switches. The
+ * {@code double} value of the calculator is kept up to date in both cases, so
+ * it can be used as a {@link CalculatorAdvanced} everywhere, and
+ * {@link #getExactValue()} returns the decimal value.
+ * <p>
+ * Operators of an {@link OperatorRegistry} and the advanced operations have no
+ * decimal form, so they run on the {@code double} value, and their result is
+ * taken as a new value. The same goes for infinite and NaN values.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class AdaptiveCalculator extends CalculatorAdvanced {
+	/**
+	 * Precision used when none is given. Twelve digits leave four digits of a
+	 * {@code double} for the rounding error to pile up in.
+	 */
+	public static final MathContext DEFAULT_MATH_CONTEXT = new MathContext(12, RoundingMode.HALF_EVEN);
+
+	/**
+	 * Largest magnitude up to which every whole number is a {@code double}.
+	 */
+	private static final double EXACT_INTEGERS = 0x1p53;
+
+	/**
+	 * Powers of ten that are exact as a {@code double}, used to turn short
+	 * decimals into {@code double} and back without printing them.
+	 */
+	private static final double[] POWERS_OF_TEN = { 1.0e0d, 1.0e1d, 1.0e2d, 1.0e3d, 1.0e4d, 1.0e5d, 1.0e6d, 1.0e7d,
+			1.0e8d, 1.0e9d, 1.0e10d, 1.0e11d, 1.0e12d, 1.0e13d, 1.0e14d, 1.0e15d, 1.0e16d, 1.0e17d, 1.0e18d, 1.0e19d,
+			1.0e20d, 1.0e21d, 1.0e22d };
+
+	/**
+	 * Precision and rounding of the decimal value.
+	 */
+	private final MathContext mathContext;
+
+	/**
+	 * Largest error bound, relative to the value, that still leaves the value
+	 * right to the precision of {@link #mathContext}.
+	 */
+	private final double tolerance;
+
+	/**
+	 * Bound of the absolute error of the {@code double} value, while there's no
+	 * decimal value.
+	 */
+	private double error;
+
+	/**
+	 * Decimal value, or {@code null} while the calculator runs in
+	 * {@code double}.
+	 */
+	private BigDecimal exact;
+
+	private long doubleOperations;
+	private long bigDecimalOperations;
+	private long escalations;
+
+	/**
+	 * Outcome of the operations that {@link #apply(double, char)} leaves to
+	 * {@link Calculator}.
+	 */
+	private final CalculationResult doubleResult = new CalculationResult();
+
+	/**
+	 * Creates a calculator with {@link #DEFAULT_MATH_CONTEXT}.
+	 */
+	public AdaptiveCalculator() {
+		this(DEFAULT_MATH_CONTEXT);
+	}
+
+	/**
+	 * Creates a calculator.
+	 *
+	 * @param mathContext is the precision and rounding of the decimal value.
+	 * @throws IllegalArgumentException when the precision is unlimited, which
+	 *                                  can't hold the result of every division.
+	 */
+	public AdaptiveCalculator(MathContext mathContext) {
+		if (mathContext.getPrecision() == 0) {
+			throw new IllegalArgumentException("Precision of the calculator has to be limited.");
+		}
+
+		this.mathContext = mathContext;
+		// |value| < 10^(e + 1) for the exponent e of its first digit, so half a
+		// unit of its last digit, 0.5 * 10^(e - precision + 1), is more than this.
+		tolerance = 0.5d * Math.pow(10.0d, -mathContext.getPrecision());
+	}
+
+	/**
+	 * Getter for the precision and rounding of the decimal value.
+	 *
+	 * @return math context of the calculator.
+	 */
+	public MathContext getMathContext() {
+		return mathContext;
+	}
+
+	/**
+	 * Setter for the value of the calculator. The value is taken as the decimal
+	 * it prints as, so setting {@code 0.1} sets one tenth, and the calculator
+	 * goes back to {@code double}.
+	 *
+	 * @param currentValue is the new value.
+	 */
+	@Override
+	public void setCurrentValue(double currentValue) {
+		super.setCurrentValue(currentValue);
+		exact = null;
+		error = representationError(currentValue);
+	}
+
+	/**
+	 * Setter for the decimal value of the calculator. The value is rounded to the
+	 * precision of the calculator, and the calculator goes on in {@code double}
+	 * only if the {@code double} value is the same decimal.
+	 *
+	 * @param currentValue is the new value.
+	 */
+	public void setExactValue(BigDecimal currentValue) {
+		BigDecimal rounded = currentValue.round(mathContext);
+		double value = toDouble(rounded);
+		if (Double.isFinite(value) && BigDecimal.valueOf(value).compareTo(rounded) == 0) {
+			setCurrentValue(value);
+		} else {
+			super.setCurrentValue(value);
+			exact = rounded;
+		}
+	}
+
+	/**
+	 * Getter for the decimal value of the calculator, with the precision of the
+	 * calculator.
+	 *
+	 * @return decimal value.
+	 * @throws NumberFormatException when the value is infinite or NaN.
+	 */
+	public BigDecimal getExactValue() {
+		return exact != null ? exact : decimal(getCurrentValue(), error).round(mathContext);
+	}
+
+	/**
+	 * Method checks if the calculator has switched to {@code BigDecimal}.
+	 *
+	 * @return true if the operations run in {@code BigDecimal}.
+	 */
+	public boolean isEscalated() {
+		return exact != null;
+	}
+
+	/**
+	 * Getter for the number of operations made in {@code double}.
+	 *
+	 * @return number of operations.
+	 */
+	public long getDoubleOperations() {
+		return doubleOperations;
+	}
+
+	/**
+	 * Getter for the number of operations made in {@code BigDecimal}.
+	 *
+	 * @return number of operations.
+	 */
+	public long getBigDecimalOperations() {
+		return bigDecimalOperations;
+	}
+
+	/**
+	 * Getter for the number of times the calculator has switched from
+	 * {@code double} to {@code BigDecimal}.
+	 *
+	 * @return number of switches.
+	 */
+	public long getEscalations() {
+		return escalations;
+	}
+
+	@Override
+	public void calculate(Double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		if (!OperatorRegistry.isBuiltIn(operator)) {
+			super.calculate(value, operator);
+			afterDoubleOperation();
+			return;
+		}
+		if (value == 0.0d && operator == '/') {
+			throw new DivisionByZeroException();
+		}
+		apply(value, operator);
+	}
+
+	@Override
+	public int tryCalculate(double value, char operator, CalculationResult result) {
+		if (!OperatorRegistry.isBuiltIn(operator)) {
+			int status = super.tryCalculate(value, operator, result);
+			if (status == CalculationResult.OK) {
+				afterDoubleOperation();
+			}
+			return status;
+		}
+		if (value == 0.0d && operator == '/') {
+			return result.set(CalculationResult.DIVISION_BY_ZERO, operator, getCurrentValue());
+		}
+		apply(value, operator);
+		return result.set(CalculationResult.OK, operator, getCurrentValue());
+	}
+
+	/**
+	 * Batch operations go through
+	 * {@link #tryCalculate(double, char, CalculationResult)}, so that the error
+	 * bound of every operation is checked.
+	 */
+	@Override
+	protected boolean isBatchStepwise() {
+		return true;
+	}
+
+	/**
+	 * Helper method that performs one of the four built-in operations, other than
+	 * a division by zero, in {@code double} if the error bound allows it and in
+	 * {@code BigDecimal} otherwise.
+	 *
+	 * @param value    is a number used as a second operand.
+	 * @param operator denotes operation being performed.
+	 */
+	private void apply(double value, char operator) {
+		double currentValue = getCurrentValue();
+		if ((exact == null && !Double.isFinite(currentValue)) || !Double.isFinite(value)) {
+			super.tryCalculate(value, operator, doubleResult);
+			afterDoubleOperation();
+			return;
+		}
+
+		if (exact == null) {
+			double valueError = representationError(value);
+			double result;
+			double bound;
+			switch (operator) {
+			case '+':
+				result = currentValue + value;
+				bound = error + valueError + sumError(currentValue, value, result);
+				break;
+			case '-':
+				result = currentValue - value;
+				bound = error + valueError + sumError(currentValue, -value, result);
+				break;
+			case '*':
+				result = currentValue * value;
+				bound = error * Math.abs(value) + valueError * Math.abs(currentValue) + error * valueError
+						+ (Math.fma(currentValue, value, -result) == 0.0d ? 0.0d : 0.5d * Math.ulp(result));
+				break;
+			default:
+				result = currentValue / value;
+				bound = (error + valueError * Math.abs(result)) / (Math.abs(value) - valueError)
+						+ (Math.fma(result, value, -currentValue) == 0.0d ? 0.0d : 0.5d * Math.ulp(result));
+				break;
+			}
+
+			// A bound that isn't a number, or is negative because the divisor might
+			// be zero, is never under the tolerance.
+			if (bound >= 0.0d && bound <= tolerance * Math.abs(result) && Double.isFinite(result)) {
+				super.setCurrentValue(result);
+				error = bound;
+				doubleOperations++;
+				return;
+			}
+			exact = decimal(currentValue, error);
+			escalations++;
+		}
+
+		BigDecimal operand = decimal(value, representationError(value));
+		switch (operator) {
+		case '+':
+			exact = exact.add(operand, mathContext);
+			break;
+		case '-':
+			exact = exact.subtract(operand, mathContext);
+			break;
+		case '*':
+			exact = exact.multiply(operand, mathContext);
+			break;
+		default:
+			exact = exact.divide(operand, mathContext);
+			break;
+		}
+		super.setCurrentValue(toDouble(exact));
+		bigDecimalOperations++;
+	}
+
+	/**
+	 * Helper method that takes the result of an operation made on the
+	 * {@code double} value as a new value.
+	 */
+	private void afterDoubleOperation() {
+		exact = null;
+		error = representationError(getCurrentValue());
+		doubleOperations++;
+	}
+
+	/**
+	 * Helper method that finds the error of a rounded {@code double} sum with the
+	 * two-sum algorithm.
+	 *
+	 * @param a   is the first addend.
+	 * @param b   is the second addend.
+	 * @param sum is the rounded sum.
+	 * @return zero if the sum is exact, and half of its ulp otherwise.
+	 */
+	private static double sumError(double a, double b, double sum) {
+		double bVirtual = sum - a;
+		double aVirtual = sum - bVirtual;
+		return (a - aVirtual) + (b - bVirtual) == 0.0d ? 0.0d : 0.5d * Math.ulp(sum);
+	}
+
+	/**
+	 * Helper method that bounds the difference between a {@code double} and the
+	 * decimal it prints as.
+	 *
+	 * @param value is the {@code double}.
+	 * @return zero for whole numbers that are exact, and half an ulp otherwise.
+	 */
+	private static double representationError(double value) {
+		return value == Math.rint(value) && Math.abs(value) <= EXACT_INTEGERS ? 0.0d : 0.5d * Math.ulp(value);
+	}
+
+	/**
+	 * Helper method that rounds a decimal to the nearest {@code double}.
+	 * {@link BigDecimal#doubleValue()} prints the decimal and parses it back, so
+	 * decimals whose digits and power of ten are both exact as a {@code double}
+	 * are divided instead, which rounds the same.
+	 *
+	 * @param value is the decimal.
+	 * @return nearest {@code double}.
+	 */
+	private static double toDouble(BigDecimal value) {
+		int scale = value.scale();
+		if (scale > -POWERS_OF_TEN.length && scale < POWERS_OF_TEN.length) {
+			BigInteger unscaled = value.unscaledValue();
+			if (unscaled.bitLength() <= 53) {
+				double digits = unscaled.longValue();
+				return scale >= 0 ? digits / POWERS_OF_TEN[scale] : digits * POWERS_OF_TEN[-scale];
+			}
+		}
+		return value.doubleValue();
+	}
+
+	/**
+	 * Helper method that turns a {@code double} into the decimal it stands for.
+	 *
+	 * @param value is the {@code double}.
+	 * @param error is the error bound of the value.
+	 * @return exact value of the {@code double} when it has no error, and the
+	 *         shortest decimal that prints as it otherwise.
+	 */
+	private static BigDecimal decimal(double value, double error) {
+		if (error == 0.0d) {
+			return value == Math.rint(value) && Math.abs(value) <= EXACT_INTEGERS ? BigDecimal.valueOf((long) value)
+					: new BigDecimal(value);
+		}
+
+		// Amounts with a few decimal places are by far the most common, and
+		// BigDecimal.valueOf(double) prints the value to find them.
+		for (int scale = 0; scale < POWERS_OF_TEN.length; scale++) {
+			double unscaled = Math.rint(value * POWERS_OF_TEN[scale]);
+			if (Math.abs(unscaled) >= EXACT_INTEGERS) {
+				break;
+			}
+			if (unscaled / POWERS_OF_TEN[scale] == value) {
+				return BigDecimal.valueOf((long) unscaled, scale);
+			}
+		}
+		return BigDecimal.valueOf(value);
+	}
+}
@@ -0,0 +1,204 @@
+package calculator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Class used to perform the four arithmetic operations of
+ * {@link Calculator#calculate(Double, char)} on whole arrays of values, where
+ * every element plays the role of a separate calculator value.
+ * <p>
+ * Every operation is a plain counted loop without branches or calls, which is
+ * the shape the JIT compiler turns into SIMD instructions for whatever vector
+ * width the processor supports (SSE, AVX2 or AVX-512). Each element goes
+ * through the same IEEE 754 operation as in
+ * {@link Calculator#calculate(Double, char)}, so results are bit-for-bit the
+ * same as the ones from the scalar path.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ArrayCalculator {
+
+	private ArrayCalculator() {
+	}
+
+	/**
+	 * Method performs the same operation with the same operand on every element.
+	 *
+	 * @param values   are values being updated in place.
+	 * @param operand  is a number used as a second operand for every element. It
+	 *                 cannot be zero if division is being performed.
+	 * @param operator denotes operation being performed.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted;
+	 *                                        no element is changed in that case
+	 */
+	public static void calculate(double[] values, double operand, char operator)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		switch (operator) {
+		case '+':
+			add(values, operand);
+			break;
+		case '-':
+			subtract(values, operand);
+			break;
+		case '*':
+			multiply(values, operand);
+			break;
+		case '/':
+			if (operand == 0.0d) {
+				throw new DivisionByZeroException();
+			}
+			divide(values, operand);
+			break;
+		default:
+			throw new NotSupportedOperationException(
+					CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operator, 0.0d));
+		}
+	}
+
+	/**
+	 * Method performs the same operation on every element, each with its own
+	 * operand. Elements whose division would be a division by zero are left
+	 * unchanged and reported, while all other elements are updated.
+	 *
+	 * @param values   are values being updated in place.
+	 * @param operands are numbers used as second operands, one per element.
+	 * @param operator denotes operation being performed.
+	 * @param failed   receives {@code true} at the position of every element that
+	 *                 has been left unchanged and {@code false} elsewhere; can be
+	 *                 {@code null}.
+	 * @return number of elements left unchanged due to division by zero.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws IllegalArgumentException       when the arrays differ in length.
+	 */
+	public static int calculate(double[] values, double[] operands, char operator, boolean[] failed)
+			throws NotSupportedOperationException {
+		if (values.length != operands.length || (failed != null && failed.length != values.length)) {
+			throw new IllegalArgumentException("Arrays of values (" + values.length + "), operands ("
+					+ operands.length + ") and failures (" + (failed != null ? failed.length : values.length)
+					+ ") differ in length.");
+		}
+
+		int zeros = 0;
+		switch (operator) {
+		case '+':
+			for (int i = 0; i < values.length; i++) {
+				values[i] += operands[i];
+			}
+			break;
+		case '-':
+			for (int i = 0; i < values.length; i++) {
+				values[i] -= operands[i];
+			}
+			break;
+		case '*':
+			for (int i = 0; i < values.length; i++) {
+				values[i] *= operands[i];
+			}
+			break;
+		case '/':
+			zeros = countZeros(operands);
+			if (zeros == 0) {
+				for (int i = 0; i < values.length; i++) {
+					values[i] /= operands[i];
+				}
+			} else {
+				for (int i = 0; i < values.length; i++) {
+					if (operands[i] != 0.0d) {
+						values[i] /= operands[i];
+					}
+				}
+			}
+			break;
+		default:
+			throw new NotSupportedOperationException(
+					CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operator, 0.0d));
+		}
+
+		if (failed != null) {
+			for (int i = 0; i < failed.length; i++) {
+				failed[i] = operator == '/' && operands[i] == 0.0d;
+			}
+		}
+		return zeros;
+	}
+
+	/**
+	 * Helper method that adds an operand to every element.
+	 *
+	 * @param values  are values being updated in place.
+	 * @param operand is the added number.
+	 */
+	static void add(double[] values, double operand) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] += operand;
+		}
+	}
+
+	/**
+	 * Helper method that subtracts an operand from every element.
+	 *
+	 * @param values  are values being updated in place.
+	 * @param operand is the subtracted number.
+	 */
+	static void subtract(double[] values, double operand) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] -= operand;
+		}
+	}
+
+	/**
+	 * Helper method that multiplies every element by an operand.
+	 *
+	 * @param values  are values being updated in place.
+	 * @param operand is the multiplier.
+	 */
+	static void multiply(double[] values, double operand) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] *= operand;
+		}
+	}
+
+	/**
+	 * Helper method that divides every element by a non-zero operand.
+	 *
+	 * @param values  are values being updated in place.
+	 * @param operand is the divisor.
+	 */
+	static void divide(double[] values, double operand) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] /= operand;
+		}
+	}
+
+	/**
+	 * Helper method that replaces every element {@code x} with
+	 * {@code a * x + b}, rounded once.
+	 *
+	 * @param values are values being updated in place.
+	 * @param a      is the multiplier.
+	 * @param b      is the addend.
+	 */
+	static void fma(double[] values, double a, double b) {
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Math.fma(a, values[i], b);
+		}
+	}
+
+	/**
+	 * Helper method that counts zero elements without branching.
+	 *
+	 * @param operands are checked numbers.
+	 * @return number of elements equal to zero.
+	 */
+	private static int countZeros(double[] operands) {
+		int zeros = 0;
+		for (int i = 0; i < operands.length; i++) {
+			zeros += operands[i] == 0.0d ? 1 : 0;
+		}
+		return zeros;
+	}
+}
@@ -0,0 +1,97 @@
+package calculator;
+
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to take the results of {@link #calculateAdvanced(char)} and
+ * {@link #hasCharacteristic(char)} from a {@link ResultCache}. It behaves
+ * exactly like {@link CalculatorAdvanced}: operations that fail aren't cached
+ * at all and throw the same exceptions, and only results of the operations
+ * that succeed are taken from the cache.
+ * <p>
+ * Caching is opt-in: plain {@link CalculatorAdvanced} objects don't pay for it
+ * at all. It pays off when the same floor values come up over and over, and a
+ * single cache is meant to be shared by many calculators.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class CachedCalculator extends CalculatorAdvanced {
+	/**
+	 * Cache of the results.
+	 */
+	private final ResultCache cache;
+
+	/**
+	 * Creates a calculator that uses a cache.
+	 *
+	 * @param cache holds the results; can be shared between calculators.
+	 */
+	public CachedCalculator(ResultCache cache) {
+		this.cache = cache;
+	}
+
+	/**
+	 * Getter for the cache of this calculator.
+	 *
+	 * @return cache of the results.
+	 */
+	public ResultCache getCache() {
+		return cache;
+	}
+
+	@Override
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		double currentValue = getCurrentValue();
+		if (isCacheable(currentValue, action)) {
+			setCurrentValue(cache.calculateAdvanced(mathFloor(currentValue), action));
+		} else {
+			super.calculateAdvanced(action);
+		}
+	}
+
+	@Override
+	public int tryCalculateAdvanced(char action, CalculationResult result) {
+		double currentValue = getCurrentValue();
+		if (isCacheable(currentValue, action)) {
+			setCurrentValue(cache.calculateAdvanced(mathFloor(currentValue), action));
+			return result.set(CalculationResult.OK, action, getCurrentValue());
+		}
+		return super.tryCalculateAdvanced(action, result);
+	}
+
+	@Override
+	public Boolean hasCharacteristic(char value) throws NumberNotInAreaException, NotSupportedOperationException {
+		long integerValue = mathFloor(getCurrentValue());
+		if (integerValue >= 1 && (value == 'A' || value == 'P')) {
+			return cache.hasCharacteristic(integerValue, value);
+		}
+		return super.hasCharacteristic(value);
+	}
+
+	@Override
+	public int tryHasCharacteristic(char value, CalculationResult result) {
+		double currentValue = getCurrentValue();
+		long integerValue = mathFloor(currentValue);
+		if (integerValue >= 1 && (value == 'A' || value == 'P')) {
+			return result.setCharacteristic(value, currentValue, cache.hasCharacteristic(integerValue, value));
+		}
+		return super.tryHasCharacteristic(value, result);
+	}
+
+	/**
+	 * Helper method that checks if an advanced calculation succeeds, so that its
+	 * result can be taken from the cache. Factorial depends on the value itself
+	 * and not only on its floor value, because the value has to be in range
+	 * [0, 10].
+	 *
+	 * @param currentValue is the value of the calculator.
+	 * @param action       is the action of the calculation.
+	 * @return true if the calculation succeeds.
+	 */
+	private static boolean isCacheable(double currentValue, char action) {
+		return (action >= '0' && action <= '9') || (action == '!' && currentValue >= 0.0d && currentValue <= 10.0d);
+	}
+}
@@ -0,0 +1,229 @@
+package calculator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to report an outcome of a calculator operation without throwing an
+ * exception. An instance is meant to be reused by the caller across many
+ * operations, so the failure message isn't built until it's requested with
+ * {@link #getMessage()}.
+ * 
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class CalculationResult {
+	/**
+	 * Operation has been performed successfully.
+	 */
+	public static final int OK = 0;
+	/**
+	 * Division by zero has been attempted.
+	 */
+	public static final int DIVISION_BY_ZERO = 1;
+	/**
+	 * Unknown operator has been passed to {@link Calculator#calculate(Double, char)
+	 * calculate(Double, char)}.
+	 */
+	public static final int UNKNOWN_OPERATOR = 2;
+	/**
+	 * Unknown action has been passed to
+	 * {@link CalculatorAdvanced#calculateAdvanced(char) calculateAdvanced(char)}.
+	 */
+	public static final int UNKNOWN_ACTION = 3;
+	/**
+	 * Unknown parameter has been passed to
+	 * {@link CalculatorAdvanced#hasCharacteristic(char) hasCharacteristic(char)}.
+	 */
+	public static final int UNKNOWN_PARAMETER = 4;
+	/**
+	 * Calculator value is out of range for a factorial calculation.
+	 */
+	public static final int FACTORIAL_NOT_IN_AREA = 5;
+	/**
+	 * Calculator value is out of range for an Armstrong or Perfect number check.
+	 */
+	public static final int CHARACTERISTIC_NOT_IN_AREA = 6;
+	/**
+	 * Calculator value is out of range for an exact factorial calculation by
+	 * {@link CalculatorAdvanced#calculateAdvancedExact(char)
+	 * calculateAdvancedExact(char)}.
+	 */
+	public static final int EXACT_FACTORIAL_NOT_IN_AREA = 7;
+	/**
+	 * Calculator value is out of range for an action or characteristic of an
+	 * {@link ActionRegistry}.
+	 */
+	public static final int REGISTERED_NOT_IN_AREA = 8;
+
+	/**
+	 * Status code of the last recorded operation.
+	 */
+	private int status = OK;
+	/**
+	 * Operator, action or parameter used in the last recorded operation.
+	 */
+	private char symbol;
+	/**
+	 * Calculator value at the moment the last operation has been recorded.
+	 */
+	private double value;
+	/**
+	 * Result of the last successful characteristic check.
+	 */
+	private boolean characteristic;
+
+	/**
+	 * Records an outcome of an operation.
+	 * 
+	 * @param status is a status code of the operation.
+	 * @param symbol is the operator, action or parameter used in the operation.
+	 * @param value  is the calculator value when the operation finished.
+	 * @return given status code.
+	 */
+	int set(int status, char symbol, double value) {
+		this.status = status;
+		this.symbol = symbol;
+		this.value = value;
+		this.characteristic = false;
+		return status;
+	}
+
+	/**
+	 * Records an outcome of a successful characteristic check.
+	 * 
+	 * @param symbol         is the parameter used in the check.
+	 * @param value          is the calculator value used in the check.
+	 * @param characteristic is the result of the check.
+	 * @return {@link #OK}.
+	 */
+	int setCharacteristic(char symbol, double value, boolean characteristic) {
+		set(OK, symbol, value);
+		this.characteristic = characteristic;
+		return OK;
+	}
+
+	/**
+	 * Getter for the status code of the last recorded operation.
+	 * 
+	 * @return one of the status codes defined in this class.
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Checks if the last recorded operation has been performed successfully.
+	 * 
+	 * @return true if the status is {@link #OK}, otherwise false.
+	 */
+	public boolean isOk() {
+		return status == OK;
+	}
+
+	/**
+	 * Getter for the operator, action or parameter used in the last recorded
+	 * operation.
+	 * 
+	 * @return symbol of the last recorded operation.
+	 */
+	public char getSymbol() {
+		return symbol;
+	}
+
+	/**
+	 * Getter for the calculator value at the moment the last operation has been
+	 * recorded.
+	 * 
+	 * @return calculator value.
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	/**
+	 * Getter for the result of the last characteristic check. Meaningful only when
+	 * the status is {@link #OK}.
+	 * 
+	 * @return true if the checked value has the requested property, otherwise
+	 *         false.
+	 */
+	public boolean hasCharacteristic() {
+		return characteristic;
+	}
+
+	/**
+	 * Builds the message that the matching exception would carry.
+	 * 
+	 * @return error message or {@code null} if the operation was successful.
+	 */
+	public String getMessage() {
+		return message(status, symbol, value);
+	}
+
+	/**
+	 * Creates a lightweight exception matching the recorded failure. Exception
+	 * doesn't capture a stack trace and its message is built on the first call of
+	 * {@link Exception#getMessage()}.
+	 * 
+	 * @return exception matching the status or {@code null} if the operation was
+	 *         successful.
+	 */
+	public Exception toException() {
+		final int status = this.status;
+		final char symbol = this.symbol;
+		final double value = this.value;
+
+		switch (status) {
+		case OK:
+			return null;
+		case DIVISION_BY_ZERO:
+			return DivisionByZeroException.lightweight();
+		case UNKNOWN_OPERATOR:
+		case UNKNOWN_ACTION:
+		case UNKNOWN_PARAMETER:
+			return NotSupportedOperationException.lightweight(() -> message(status, symbol, value));
+		default:
+			return NumberNotInAreaException.lightweight(() -> message(status, symbol, value));
+		}
+	}
+
+	/**
+	 * Builds an error message for the given status. Every exception thrown by the
+	 * calculator classes uses a message built here.
+	 * 
+	 * @param status is a status code of the operation.
+	 * @param symbol is the operator, action or parameter used in the operation.
+	 * @param value  is the calculator value used in the operation.
+	 * @return error message or {@code null} if the status is {@link #OK}.
+	 */
+	static String message(int status, char symbol, double value) {
+		switch (status) {
+		case DIVISION_BY_ZERO:
+			return DivisionByZeroException.MESSAGE;
+		case UNKNOWN_OPERATOR:
+			return "Operator '" + symbol + "' isn't defined.";
+		case UNKNOWN_ACTION:
+			return "Action '" + symbol + "' isn't supported.";
+		case UNKNOWN_PARAMETER:
+			return "Parameter '" + symbol + "' isn't supported.";
+		case FACTORIAL_NOT_IN_AREA:
+			return "Number '" + String.format("%.2f", value)
+					+ "' can't be used to calculate a factorial beacause it's not in a range [0, 10].";
+		case EXACT_FACTORIAL_NOT_IN_AREA:
+			return "Number '" + String.format("%.2f", value)
+					+ "' can't be used to calculate an exact factorial because it's not in a range [0, "
+					+ ExactArithmetic.MAX_FACTORIAL + "].";
+		case CHARACTERISTIC_NOT_IN_AREA:
+			return "Integer part of current value (" + String.format("%.2f", value)
+					+ ") can't be smaller than 1 when calculating Armstrong or Perfect number.";
+		case REGISTERED_NOT_IN_AREA:
+			return "Number '" + String.format("%.2f", value) + "' can't be used with '" + symbol
+					+ "' because it's not in its range.";
+		default:
+			return null;
+		}
+	}
+}
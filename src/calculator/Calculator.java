@@ -5,7 +5,8 @@ import calculator.exception.NotSupportedOperationException;
 
 /**
  * Class used to simulate simple calculator that allows four basic arithmetic
- * operations : addition, subtraction, division and multiplication.
+ * operations : addition, subtraction, division and multiplication. Other
+ * operators can be added with an {@link OperatorRegistry}.
  * 
  * @author Aleksa Majkic
  * @version 1.0.1
@@ -21,6 +22,25 @@ public class Calculator {
 	 */
 	private double currentValue = 0.0d;
 
+	/**
+	 * Value returned by the batch {@code calculate} methods when every operation
+	 * has been performed successfully.
+	 */
+	public static final int BATCH_OK = -1;
+
+	/**
+	 * Registry of the operators other than the four built-in ones, or
+	 * {@code null} if there are none.
+	 */
+	private OperatorRegistry operatorRegistry;
+
+	/**
+	 * Outcome of the operations of the batch methods when they go through
+	 * {@link #tryCalculate(double, char, CalculationResult)}, created on first
+	 * use.
+	 */
+	private CalculationResult batchResult;
+
 	/**
 	 * Getter for the private property {@link #currentValue}.
 	 * 
@@ -39,10 +59,33 @@ public class Calculator {
 		this.currentValue = currentValue;
 	}
 
+	/**
+	 * Getter for the registry of the operators other than the four built-in
+	 * ones.
+	 * 
+	 * @return registry used by the calculator, or {@code null}.
+	 */
+	public OperatorRegistry getOperatorRegistry() {
+		return operatorRegistry;
+	}
+
+	/**
+	 * Setter for the registry of the operators other than the four built-in
+	 * ones. A registry can be shared by many calculators, and operators
+	 * registered into it later are available right away.
+	 * 
+	 * @param operatorRegistry is a registry used by the calculator, or
+	 *                         {@code null} for the built-in operators only.
+	 */
+	public void setOperatorRegistry(OperatorRegistry operatorRegistry) {
+		this.operatorRegistry = operatorRegistry;
+	}
+
 	/**
 	 * Main method in calculator used to perform simple operation on the stored
 	 * value. It allows execution of four available arithmetic operations on the
-	 * current value of the calculator.
+	 * current value of the calculator, and of the operators of its
+	 * {@link OperatorRegistry}.
 	 * 
 	 * @param value    is a number used to calculate a new value inside of the.
 	 *                 calculator by using it as a second operand. It cannot be zero
@@ -53,11 +96,82 @@ public class Calculator {
 	 * @throws DivisionByZeroException        when a division by zero is attempted
 	 */
 	public void calculate(Double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		currentValue = calculate(currentValue, value, operator, operatorRegistry);
+	}
+
+	/**
+	 * Helper method that performs one of the four arithmetic operations without
+	 * touching any calculator state, so it can be shared by other calculator
+	 * implementations.
+	 * 
+	 * @param currentValue is a value used as a first operand.
+	 * @param value        is a number used as a second operand. It cannot be zero
+	 *                     if division is being performed.
+	 * @param operator     denotes operation being performed.
+	 * @return result of the operation.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 */
+	static double calculate(double currentValue, double value, char operator)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		return calculate(currentValue, value, operator, null);
+	}
+
+	/**
+	 * Helper method that performs one of the four arithmetic operations, or an
+	 * operator of a registry, without touching any calculator state. Built-in
+	 * operators are handled first, so the registry is looked at only for other
+	 * characters.
+	 * 
+	 * @param currentValue is a value used as a first operand.
+	 * @param value        is a number used as a second operand.
+	 * @param operator     denotes operation being performed.
+	 * @param registry     holds the other operators, or is {@code null}.
+	 * @return result of the operation.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 */
+	static double calculate(double currentValue, double value, char operator, OperatorRegistry registry)
+			throws NotSupportedOperationException, DivisionByZeroException {
 		// Check for the devision by zero.
 		if (value == 0.0d && operator == '/') {
 			throw new DivisionByZeroException();
 		}
 
+		switch (operator) {
+		case '+':
+			return currentValue + value;
+		case '-':
+			return currentValue - value;
+		case '*':
+			return currentValue * value;
+		case '/':
+			return currentValue / value;
+		default:
+			Operator registered = registry == null ? null : registry.get(operator);
+			if (registered == null) {
+				throw new NotSupportedOperationException(
+						CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operator, currentValue));
+			}
+			return registered.apply(currentValue, value);
+		}
+	}
+
+	/**
+	 * Exception-free variant of {@link #calculate(Double, char)}. Instead of
+	 * throwing, it records the outcome into the given {@code result} object and
+	 * returns its status code.
+	 * 
+	 * @param value    is a number used as a second operand.
+	 * @param operator denotes operation being performed on the value inside of the
+	 *                 calculator.
+	 * @param result   is a reusable object that receives the outcome.
+	 * @return {@link CalculationResult#OK},
+	 *         {@link CalculationResult#DIVISION_BY_ZERO} or
+	 *         {@link CalculationResult#UNKNOWN_OPERATOR}, which is also reported
+	 *         when a registered operator isn't defined for the operands.
+	 */
+	public int tryCalculate(double value, char operator, CalculationResult result) {
 		switch (operator) {
 		case '+':
 			currentValue += value;
@@ -69,11 +183,231 @@ public class Calculator {
 			currentValue *= value;
 			break;
 		case '/':
+			if (value == 0.0d) {
+				return result.set(CalculationResult.DIVISION_BY_ZERO, operator, currentValue);
+			}
 			currentValue /= value;
 			break;
 		default:
-			throw new NotSupportedOperationException("Operator '" + operator + "' isn't defined.");
+			return tryRegistered(value, operator, result);
+		}
+
+		return result.set(CalculationResult.OK, operator, currentValue);
+	}
+
+	/**
+	 * Helper method that performs an operator of the registry in the same way as
+	 * {@link #tryCalculate(double, char, CalculationResult)}.
+	 * 
+	 * @param value    is a number used as a second operand.
+	 * @param operator denotes operation being performed.
+	 * @param result   is a reusable object that receives the outcome.
+	 * @return status code of the operation.
+	 */
+	private int tryRegistered(double value, char operator, CalculationResult result) {
+		Operator registered = registered(operator);
+		if (registered == null) {
+			return result.set(CalculationResult.UNKNOWN_OPERATOR, operator, currentValue);
 		}
 
+		try {
+			currentValue = registered.apply(currentValue, value);
+		} catch (DivisionByZeroException e) {
+			return result.set(CalculationResult.DIVISION_BY_ZERO, operator, currentValue);
+		} catch (NotSupportedOperationException e) {
+			return result.set(CalculationResult.UNKNOWN_OPERATOR, operator, currentValue);
+		}
+		return result.set(CalculationResult.OK, operator, currentValue);
+	}
+
+	/**
+	 * Helper method that looks up an operator in the registry.
+	 * 
+	 * @param operator is the character of the operator.
+	 * @return registered operator, or {@code null} if there isn't any.
+	 */
+	private Operator registered(char operator) {
+		return operatorRegistry == null ? null : operatorRegistry.get(operator);
+	}
+
+	/**
+	 * Batch variant of {@link #calculate(Double, char)} that applies
+	 * {@code operators[i]} with the operand {@code values[i]} to the stored value,
+	 * one element after another. Operands are taken as primitives so no boxing
+	 * takes place, and errors are reported through the return value instead of an
+	 * exception.
+	 * 
+	 * @param values    are numbers used as second operands, one per operation.
+	 * @param operators denote operations performed on the value inside of the
+	 *                  calculator, one per operand.
+	 * @return {@link #BATCH_OK} if every operation succeeded, otherwise index of
+	 *         the first element that uses an unknown operator or attempts a
+	 *         division by zero. In that case the calculator holds the value
+	 *         computed by the elements preceding the failing one.
+	 * @throws IllegalArgumentException when the arrays differ in length.
+	 * @see #isBatchStepwise()
+	 */
+	public int calculate(double[] values, char[] operators) {
+		checkBatchLength(values.length, operators.length);
+		if (isBatchStepwise()) {
+			CalculationResult result = batchResult();
+			for (int i = 0; i < values.length; i++) {
+				if (tryCalculate(values[i], operators[i], result) != CalculationResult.OK) {
+					return i;
+				}
+			}
+			return BATCH_OK;
+		}
+
+		double result = currentValue;
+		for (int i = 0; i < values.length; i++) {
+			double value = values[i];
+			switch (operators[i]) {
+			case '+':
+				result += value;
+				break;
+			case '-':
+				result -= value;
+				break;
+			case '*':
+				result *= value;
+				break;
+			case '/':
+				if (value == 0.0d) {
+					currentValue = result;
+					return i;
+				}
+				result /= value;
+				break;
+			default:
+				Operator registered = registered(operators[i]);
+				try {
+					if (registered == null) {
+						currentValue = result;
+						return i;
+					}
+					result = registered.apply(result, value);
+				} catch (DivisionByZeroException | NotSupportedOperationException e) {
+					currentValue = result;
+					return i;
+				}
+			}
+		}
+
+		currentValue = result;
+		return BATCH_OK;
+	}
+
+	/**
+	 * Batch variant of {@link #calculate(Double, char)} that applies the same
+	 * {@code operator} with every operand from {@code values} to the stored value.
+	 * 
+	 * @param values   are numbers used as second operands.
+	 * @param operator denotes operation performed on the value inside of the
+	 *                 calculator for every operand.
+	 * @return {@link #BATCH_OK} if every operation succeeded, otherwise index of
+	 *         the first element that failed. An unknown operator fails on the
+	 *         first element and leaves the calculator value unchanged.
+	 * @see #isBatchStepwise()
+	 */
+	public int calculate(double[] values, char operator) {
+		if (isBatchStepwise()) {
+			CalculationResult result = batchResult();
+			for (int i = 0; i < values.length; i++) {
+				if (tryCalculate(values[i], operator, result) != CalculationResult.OK) {
+					return i;
+				}
+			}
+			return BATCH_OK;
+		}
+
+		double result = currentValue;
+		int i = 0;
+
+		switch (operator) {
+		case '+':
+			for (; i < values.length; i++) {
+				result += values[i];
+			}
+			break;
+		case '-':
+			for (; i < values.length; i++) {
+				result -= values[i];
+			}
+			break;
+		case '*':
+			for (; i < values.length; i++) {
+				result *= values[i];
+			}
+			break;
+		case '/':
+			for (; i < values.length; i++) {
+				if (values[i] == 0.0d) {
+					currentValue = result;
+					return i;
+				}
+				result /= values[i];
+			}
+			break;
+		default:
+			Operator registered = registered(operator);
+			if (registered == null) {
+				return values.length == 0 ? BATCH_OK : 0;
+			}
+			for (; i < values.length; i++) {
+				try {
+					result = registered.apply(result, values[i]);
+				} catch (DivisionByZeroException | NotSupportedOperationException e) {
+					currentValue = result;
+					return i;
+				}
+			}
+			break;
+		}
+
+		currentValue = result;
+		return BATCH_OK;
+	}
+
+	/**
+	 * Method tells if the batch {@code calculate} methods perform every element
+	 * through {@link #tryCalculate(double, char, CalculationResult)}. By default
+	 * they don't: they keep the value in a local variable and dispatch on the
+	 * operator themselves, which is much faster. Subclasses that do work for
+	 * every operation in {@code tryCalculate}, such as recording it, override
+	 * this method to return true, so that batches get the same treatment as
+	 * single operations.
+	 * 
+	 * @return true if batches go through {@code tryCalculate} one element at a
+	 *         time.
+	 */
+	protected boolean isBatchStepwise() {
+		return false;
+	}
+
+	/**
+	 * Helper method that returns the reusable outcome of the batch operations.
+	 * 
+	 * @return outcome object of this calculator.
+	 */
+	private CalculationResult batchResult() {
+		if (batchResult == null) {
+			batchResult = new CalculationResult();
+		}
+		return batchResult;
+	}
+
+	/**
+	 * Helper method that checks that every operand of a batch has its operator.
+	 * 
+	 * @param operands  is the number of operands.
+	 * @param operators is the number of operators.
+	 * @throws IllegalArgumentException when the numbers differ.
+	 */
+	static void checkBatchLength(int operands, int operators) {
+		if (operands != operators) {
+			throw new IllegalArgumentException(
+					"Number of operands (" + operands + ") doesn't match number of operators (" + operators + ").");
+		}
 	}
 }
\ No newline at end of file
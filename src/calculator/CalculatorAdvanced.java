@@ -1,5 +1,14 @@
 package calculator;
 
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.LongStream;
+
+import calculator.exception.DivisionByZeroException;
 import calculator.exception.NotSupportedOperationException;
 import calculator.exception.NumberNotInAreaException;
 
@@ -7,12 +16,78 @@ import calculator.exception.NumberNotInAreaException;
  * Class used to simulate simple calculator that allows exponentiation and
  * factorial operations, Armstrong and Perfect number inquiry in addition to the
  * four basic arithmetic operations inherited from the class {@link Calculator}.
+ * Other actions and characteristics can be added with an
+ * {@link ActionRegistry}.
  * 
  * @author Aleksa Majkic
  * @version 1.0.1
  * @since 2021-03-30
  */
 public class CalculatorAdvanced extends Calculator {
+	/**
+	 * All perfect numbers that fit in {@code long}, in ascending order. Every one
+	 * of them is even; an odd perfect number, if it exists at all, is known to be
+	 * larger than 10^1500, so this table is exact for the whole {@code long}
+	 * range.
+	 */
+	private static final long[] PERFECT_NUMBERS = { 6L, 28L, 496L, 8_128L, 33_550_336L, 8_589_869_056L,
+			137_438_691_328L, 2_305_843_008_139_952_128L };
+
+	/**
+	 * Powers of ten that fit in {@code long}, used to count digits.
+	 */
+	private static final long[] POWERS_OF_TEN = new long[19];
+
+	/**
+	 * Table where {@code DIGIT_POWERS[k][d]} holds {@code d} to the power of
+	 * {@code k} for every digit {@code d} and every digit count {@code k} of a
+	 * {@code long}.
+	 */
+	private static final long[][] DIGIT_POWERS = new long[20][10];
+
+	static {
+		POWERS_OF_TEN[0] = 1L;
+		for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+		}
+
+		for (int digit = 0; digit < 10; digit++) {
+			DIGIT_POWERS[0][digit] = 1L;
+			for (int k = 1; k < DIGIT_POWERS.length; k++) {
+				DIGIT_POWERS[k][digit] = DIGIT_POWERS[k - 1][digit] * digit;
+			}
+		}
+	}
+
+	/**
+	 * Registry of the actions and characteristics other than the built-in ones,
+	 * or {@code null} if there are none.
+	 */
+	private ActionRegistry actionRegistry;
+
+	/**
+	 * Getter for the registry of the actions and characteristics other than the
+	 * built-in ones.
+	 * 
+	 * @return registry used by the calculator, or {@code null}.
+	 */
+	public ActionRegistry getActionRegistry() {
+		return actionRegistry;
+	}
+
+	/**
+	 * Setter for the registry of the actions and characteristics other than the
+	 * built-in ones. A registry can be shared by many calculators, and entries
+	 * registered into it later are available right away.
+	 * 
+	 * @param actionRegistry is a registry used by the calculator, or
+	 *                       {@code null} for the built-in actions and
+	 *                       characteristics only.
+	 */
+	public void setActionRegistry(ActionRegistry actionRegistry) {
+		this.actionRegistry = actionRegistry;
+	}
+
 	/***
 	 * Method allows user to calculate the factorial for the floor value of the
 	 * current calculator value or to calculate exponentiation of the current
@@ -23,12 +98,16 @@ public class CalculatorAdvanced extends Calculator {
 	 *               conducted. If the value is '!' then the numbers factorial is
 	 *               going to be calculated; for this calculation the current
 	 *               calculator value has to be in range [0, 9] otherwise
-	 *               {@link NumberNotInAreaException} will be thrown. If the value
+	 *               {@link NumberNotInAreaException} will be thrown; larger
+	 *               factorials are calculated by
+	 *               {@link #calculateAdvancedExact(char)}. If the value
 	 *               is numerical character in the range [0, 9] then the
 	 *               exponentiation of the calculator value will be calculated and
-	 *               stored as a new value for the calculator. Other values will
-	 *               cause the method to throw an
-	 *               {@link NotSupportedOperationException}.
+	 *               stored as a new value for the calculator. Other values are
+	 *               looked up in the {@link ActionRegistry} of the calculator,
+	 *               and cause the method to throw an
+	 *               {@link NotSupportedOperationException} when they aren't
+	 *               registered.
 	 * @throws NumberNotInAreaException       when an action isn't a valid operator,
 	 *                                        '!' or a numerical charter in range
 	 *                                        [0, 9].
@@ -37,28 +116,199 @@ public class CalculatorAdvanced extends Calculator {
 	 *                                        calculator is not in range [0, 9].
 	 */
 	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		setCurrentValue(calculateAdvanced(getCurrentValue(), action, actionRegistry));
+	}
+
+	/**
+	 * Method sets the value of the calculator to the value of an expression, in
+	 * which {@value Expression#VARIABLE} stands for the current value. The value
+	 * is left unchanged when the evaluation fails.
+	 * 
+	 * @param expression is a parsed expression, usually taken from an
+	 *                   {@link ExpressionCache}.
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 * @throws NotSupportedOperationException when an exponent isn't a whole
+	 *                                        number in range [0, 9]
+	 * @throws NumberNotInAreaException       when a factorial is taken of a
+	 *                                        number that's not in range [0, 10]
+	 */
+	public void evaluate(Expression expression)
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		setCurrentValue(expression.evaluate(getCurrentValue()));
+	}
+
+	/**
+	 * Helper method that performs the factorial or exponentiation calculation
+	 * without touching any calculator state, so it can be shared by other
+	 * calculator implementations.
+	 * 
+	 * @param currentValue is a value whose floor value is used in the calculation.
+	 * @param action       is used to determine which calculation is going to be
+	 *                     conducted, same as in {@link #calculateAdvanced(char)}.
+	 * @return result of the calculation.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0, 10].
+	 * @throws NotSupportedOperationException when an action isn't '!' or a
+	 *                                        numerical charter in range [0, 9].
+	 */
+	static double calculateAdvanced(double currentValue, char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		return calculateAdvanced(currentValue, action, null);
+	}
+
+	/**
+	 * Helper method that performs the factorial or exponentiation calculation,
+	 * or an action of a registry, without touching any calculator state.
+	 * Built-in actions are handled first, so the registry is looked at only for
+	 * other characters.
+	 * 
+	 * @param currentValue is a value whose floor value is used in the calculation.
+	 * @param action       is used to determine which calculation is going to be
+	 *                     conducted, same as in {@link #calculateAdvanced(char)}.
+	 * @param registry     holds the other actions, or is {@code null}.
+	 * @return result of the calculation.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0, 10], or a registered
+	 *                                        action isn't defined for the value.
+	 * @throws NotSupportedOperationException when an action isn't built in or
+	 *                                        registered.
+	 */
+	static double calculateAdvanced(double currentValue, char action, ActionRegistry registry)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		long integerValue = mathFloor(currentValue);
+
+		if (action >= '0' && action <= '9') {
+			return ExactArithmetic.powerAsDouble(integerValue, action - '0');
+		} else if (action == '!') {
+			if (currentValue >= 0.0d && currentValue <= 10.0d) {
+				return ExactArithmetic.factorialExact((int) integerValue);
+			} else {
+				throw new NumberNotInAreaException(
+						CalculationResult.message(CalculationResult.FACTORIAL_NOT_IN_AREA, action, currentValue));
+			}
+		} else {
+			Action registered = registry == null ? null : registry.getAction(action);
+			if (registered == null) {
+				throw new NotSupportedOperationException(
+						CalculationResult.message(CalculationResult.UNKNOWN_ACTION, action, currentValue));
+			}
+			return registered.apply(currentValue);
+		}
+	}
+
+	/**
+	 * Variant of {@link #calculateAdvanced(char)} that also returns the exact
+	 * result of the calculation. The calculator stores the result rounded to the
+	 * nearest {@code double}, which loses precision once the result exceeds
+	 * 2^53, and becomes infinite once it exceeds {@link Double#MAX_VALUE}.
+	 * <p>
+	 * Unlike {@link #calculateAdvanced(char)}, a factorial isn't limited to
+	 * values up to 10: it's calculated for the floor value of any number in range
+	 * [0, {@value ExactArithmetic#MAX_FACTORIAL}], with the large factorials of
+	 * {@link ExactArithmetic#factorial(int)}. The time it takes grows with the
+	 * value, up to about half a second for the largest one.
+	 * 
+	 * @param action is used to determine which calculation is going to be
+	 *               conducted, same as in {@link #calculateAdvanced(char)}.
+	 * @return exact result of the calculation.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0,
+	 *                                        {@value ExactArithmetic#MAX_FACTORIAL}].
+	 * @throws NotSupportedOperationException when an action isn't '!' or a
+	 *                                        numerical charter in range [0, 9].
+	 */
+	public BigInteger calculateAdvancedExact(char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		double currentValue = getCurrentValue();
+		long integerValue = mathFloor(currentValue);
+		BigInteger result;
+
+		if (action >= '0' && action <= '9') {
+			result = ExactArithmetic.power(integerValue, action - '0');
+		} else if (action == '!') {
+			if (currentValue >= 0.0d && integerValue <= ExactArithmetic.MAX_FACTORIAL) {
+				result = ExactArithmetic.factorial((int) integerValue);
+			} else {
+				throw new NumberNotInAreaException(CalculationResult
+						.message(CalculationResult.EXACT_FACTORIAL_NOT_IN_AREA, action, currentValue));
+			}
+		} else {
+			throw new NotSupportedOperationException(
+					CalculationResult.message(CalculationResult.UNKNOWN_ACTION, action, currentValue));
+		}
+
+		setCurrentValue(result.doubleValue());
+		return result;
+	}
+
+	/**
+	 * Exception-free variant of {@link #calculateAdvanced(char)}. Instead of
+	 * throwing, it records the outcome into the given {@code result} object and
+	 * returns its status code.
+	 * 
+	 * @param action is used to determine which calculation is going to be
+	 *               conducted, same as in {@link #calculateAdvanced(char)}.
+	 * @param result is a reusable object that receives the outcome.
+	 * @return {@link CalculationResult#OK},
+	 *         {@link CalculationResult#FACTORIAL_NOT_IN_AREA},
+	 *         {@link CalculationResult#REGISTERED_NOT_IN_AREA} or
+	 *         {@link CalculationResult#UNKNOWN_ACTION}, which is also reported
+	 *         when a registered action fails for another reason.
+	 */
+	public int tryCalculateAdvanced(char action, CalculationResult result) {
 		double currentValue = getCurrentValue();
-		int integerValue = mathFloor(currentValue);
+		long integerValue = mathFloor(currentValue);
 
 		if (action >= '0' && action <= '9') {
-			setCurrentValue(mathPower(integerValue, action - '0'));
+			setCurrentValue(ExactArithmetic.powerAsDouble(integerValue, action - '0'));
 		} else if (action == '!') {
 			if (currentValue >= 0.0d && currentValue <= 10.0d) {
-				setCurrentValue(factorial(integerValue));
+				setCurrentValue(ExactArithmetic.factorialExact((int) integerValue));
 			} else {
-				throw new NumberNotInAreaException("Number '" + String.format("%.2f", getCurrentValue())
-						+ "' can't be used to calculate a factorial beacause it's not in a range [0, 10].");
+				return result.set(CalculationResult.FACTORIAL_NOT_IN_AREA, action, currentValue);
 			}
 		} else {
-			throw new NotSupportedOperationException("Action '" + action + "' isn't supported.");
+			return tryRegisteredAction(action, result);
+		}
+
+		return result.set(CalculationResult.OK, action, getCurrentValue());
+	}
+
+	/**
+	 * Helper method that performs an action of the registry in the same way as
+	 * {@link #tryCalculateAdvanced(char, CalculationResult)}.
+	 * 
+	 * @param action is the character of the action.
+	 * @param result is a reusable object that receives the outcome.
+	 * @return status code of the action.
+	 */
+	private int tryRegisteredAction(char action, CalculationResult result) {
+		double currentValue = getCurrentValue();
+		Action registered = actionRegistry == null ? null : actionRegistry.getAction(action);
+		if (registered == null) {
+			return result.set(CalculationResult.UNKNOWN_ACTION, action, currentValue);
 		}
+
+		try {
+			setCurrentValue(registered.apply(currentValue));
+		} catch (NumberNotInAreaException e) {
+			return result.set(CalculationResult.REGISTERED_NOT_IN_AREA, action, currentValue);
+		} catch (NotSupportedOperationException e) {
+			return result.set(CalculationResult.UNKNOWN_ACTION, action, currentValue);
+		}
+		return result.set(CalculationResult.OK, action, getCurrentValue());
 	}
 
 	/**
 	 * Method checks if the stored value inside of the calculator is Armstrong or
 	 * Perfect number. For both calculations floor value of the calculator value has
 	 * to be equal to or greater than 1, otherwise {@link NumberNotInAreaException}
-	 * will be thrown.
+	 * will be thrown. Other parameters are looked up in the
+	 * {@link ActionRegistry} of the calculator, and their characteristics decide
+	 * on their own which values they accept.
 	 * 
 	 * @param value is parameter used to distinguish between Armstrong or Perfect
 	 *              number check.
@@ -71,12 +321,53 @@ public class CalculatorAdvanced extends Calculator {
 	 *                                        {@code value} is used
 	 */
 	public Boolean hasCharacteristic(char value) throws NumberNotInAreaException, NotSupportedOperationException {
-		int integerValue = mathFloor(getCurrentValue());
+		return hasCharacteristic(getCurrentValue(), value, actionRegistry);
+	}
 
-		if (integerValue < 1) {
+	/**
+	 * Helper method that checks if the floor value of a given number is Armstrong
+	 * or Perfect number without touching any calculator state, so it can be shared
+	 * by other calculator implementations.
+	 * 
+	 * @param currentValue is a value whose floor value is checked.
+	 * @param value        is parameter used to distinguish between Armstrong or
+	 *                     Perfect number check.
+	 * @return true if the value has the requested property, otherwise false.
+	 * @throws NumberNotInAreaException       when a floor value of
+	 *                                        {@code currentValue} is smaller than 1
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	static boolean hasCharacteristic(double currentValue, char value)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		return hasCharacteristic(currentValue, value, null);
+	}
+
+	/**
+	 * Helper method that checks if the floor value of a given number is Armstrong
+	 * or Perfect number, or checks a characteristic of a registry, without
+	 * touching any calculator state. Built-in characteristics are handled first,
+	 * so the registry is looked at only for other characters.
+	 * 
+	 * @param currentValue is a value whose floor value is checked.
+	 * @param value        is parameter used to distinguish between the checks.
+	 * @param registry     holds the other characteristics, or is {@code null}.
+	 * @return true if the value has the requested property, otherwise false.
+	 * @throws NumberNotInAreaException       when a floor value of
+	 *                                        {@code currentValue} is smaller than 1
+	 *                                        for a built-in check, or a registered
+	 *                                        characteristic isn't defined for the
+	 *                                        value
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	static boolean hasCharacteristic(double currentValue, char value, ActionRegistry registry)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		long integerValue = mathFloor(currentValue);
+
+		if (integerValue < 1 && registeredCharacteristic(registry, value) == null) {
 			throw new NumberNotInAreaException(
-					"Integer part of current value (" + String.format("%.2f", getCurrentValue())
-							+ ") can't be smaller than 1 when calculating Armstrong or Perfect number.");
+					CalculationResult.message(CalculationResult.CHARACTERISTIC_NOT_IN_AREA, value, currentValue));
 		}
 
 		switch (value) {
@@ -85,56 +376,238 @@ public class CalculatorAdvanced extends Calculator {
 		case 'P':
 			return perfectNumber(integerValue);
 		default:
-			throw new NotSupportedOperationException("Parameter '" + value + "' isn't supported.");
+			Characteristic registered = registeredCharacteristic(registry, value);
+			if (registered == null) {
+				throw new NotSupportedOperationException(
+						CalculationResult.message(CalculationResult.UNKNOWN_PARAMETER, value, currentValue));
+			}
+			return registered.test(currentValue);
 		}
 	}
 
 	/**
-	 * Helper method that checks if a number is perfect.
+	 * Helper method that looks up a characteristic in a registry.
+	 * 
+	 * @param registry holds the characteristics, or is {@code null}.
+	 * @param value    is the character of the characteristic.
+	 * @return registered characteristic, or {@code null} if there isn't any.
+	 */
+	private static Characteristic registeredCharacteristic(ActionRegistry registry, char value) {
+		return registry == null ? null : registry.getCharacteristic(value);
+	}
+
+	/**
+	 * Method checks if a number is an <i>Armstrong</i> number.
+	 * 
+	 * @param number is a value for which the property <i>Armstrong</i> is checked.
+	 * @return true if the number is equal to or greater than 1 and is
+	 *         <i>Armstrong</i>, otherwise false.
+	 */
+	public static boolean isArmstrongNumber(long number) {
+		return number >= 1 && armstrongNumber(number);
+	}
+
+	/**
+	 * Method checks if a number is perfect.
 	 * 
 	 * @param number is a value for which the property <i>perfect</i> is checked.
 	 * @return true if the number is perfect, otherwise false.
 	 */
-	private Boolean perfectNumber(int number) {
-		int sum = 0;
-		for (int i = 1; i < number; i++) {
-			if (number % i == 0) {
-				sum += i;
-			}
+	public static boolean isPerfectNumber(long number) {
+		return perfectNumber(number);
+	}
+
+	/**
+	 * Method counts numbers in range [{@code from}, {@code to}] that have the
+	 * requested characteristic. Only numbers equal to or greater than 1 are
+	 * considered, same as in {@link #hasCharacteristic(char)}.
+	 * 
+	 * @param from  is the lower bound of the range, inclusive.
+	 * @param to    is the upper bound of the range, inclusive.
+	 * @param value is parameter used to distinguish between Armstrong or Perfect
+	 *              number check.
+	 * @return number of values in the range that have the requested property.
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	public static long countCharacteristic(long from, long to, char value) throws NotSupportedOperationException {
+		long[] numbers = characteristicNumbers(value);
+		return Math.max(0, rangeEnd(numbers, to) - rangeStart(numbers, from));
+	}
+
+	/**
+	 * Method streams numbers in range [{@code from}, {@code to}] that have the
+	 * requested characteristic, in ascending order. Only numbers equal to or
+	 * greater than 1 are considered, same as in {@link #hasCharacteristic(char)}.
+	 * 
+	 * @param from  is the lower bound of the range, inclusive.
+	 * @param to    is the upper bound of the range, inclusive.
+	 * @param value is parameter used to distinguish between Armstrong or Perfect
+	 *              number check.
+	 * @return stream of values in the range that have the requested property.
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	public static LongStream streamCharacteristic(long from, long to, char value)
+			throws NotSupportedOperationException {
+		long[] numbers = characteristicNumbers(value);
+		int start = rangeStart(numbers, from);
+		int end = rangeEnd(numbers, to);
+		return start < end ? Arrays.stream(numbers, start, end) : LongStream.empty();
+	}
+
+	/**
+	 * Helper method that returns every positive {@code long} value with the
+	 * requested characteristic, in ascending order.
+	 * 
+	 * @param value is parameter used to distinguish between Armstrong or Perfect
+	 *              number check.
+	 * @return sorted array of numbers, shared between callers.
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	private static long[] characteristicNumbers(char value) throws NotSupportedOperationException {
+		switch (value) {
+		case 'A':
+			return ArmstrongNumbers.NUMBERS;
+		case 'P':
+			return PERFECT_NUMBERS;
+		default:
+			throw new NotSupportedOperationException(
+					CalculationResult.message(CalculationResult.UNKNOWN_PARAMETER, value, 0.0d));
 		}
-		return sum == number;
 	}
 
 	/**
-	 * Helper method that checks if a number is an <i>Armstrong</i> number.
+	 * Helper method that finds the index of the first number that isn't smaller
+	 * than {@code from}.
+	 * 
+	 * @param numbers is a sorted array of numbers.
+	 * @param from    is the lower bound of the range, inclusive.
+	 * @return index of the first number in range.
+	 */
+	private static int rangeStart(long[] numbers, long from) {
+		int index = Arrays.binarySearch(numbers, from);
+		return index >= 0 ? index : -index - 1;
+	}
+
+	/**
+	 * Helper method that finds the index right after the last number that isn't
+	 * greater than {@code to}.
+	 * 
+	 * @param numbers is a sorted array of numbers.
+	 * @param to      is the upper bound of the range, inclusive.
+	 * @return index after the last number in range.
+	 */
+	private static int rangeEnd(long[] numbers, long to) {
+		int index = Arrays.binarySearch(numbers, to);
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	/**
+	 * Exception-free variant of {@link #hasCharacteristic(char)}. Instead of
+	 * throwing, it records the outcome into the given {@code result} object and
+	 * returns its status code. Result of the check is available through
+	 * {@link CalculationResult#hasCharacteristic()}.
+	 * 
+	 * @param value  is parameter used to distinguish between Armstrong or Perfect
+	 *               number check.
+	 * @param result is a reusable object that receives the outcome.
+	 * @return {@link CalculationResult#OK},
+	 *         {@link CalculationResult#CHARACTERISTIC_NOT_IN_AREA},
+	 *         {@link CalculationResult#REGISTERED_NOT_IN_AREA} or
+	 *         {@link CalculationResult#UNKNOWN_PARAMETER}, which is also
+	 *         reported when a registered characteristic fails for another
+	 *         reason.
+	 */
+	public int tryHasCharacteristic(char value, CalculationResult result) {
+		double currentValue = getCurrentValue();
+		long integerValue = mathFloor(currentValue);
+
+		if (integerValue < 1 && registeredCharacteristic(actionRegistry, value) == null) {
+			return result.set(CalculationResult.CHARACTERISTIC_NOT_IN_AREA, value, currentValue);
+		}
+
+		switch (value) {
+		case 'A':
+			return result.setCharacteristic(value, currentValue, armstrongNumber(integerValue));
+		case 'P':
+			return result.setCharacteristic(value, currentValue, perfectNumber(integerValue));
+		default:
+			return tryRegisteredCharacteristic(value, result);
+		}
+	}
+
+	/**
+	 * Helper method that checks a characteristic of the registry in the same way
+	 * as {@link #tryHasCharacteristic(char, CalculationResult)}.
+	 * 
+	 * @param value  is the character of the characteristic.
+	 * @param result is a reusable object that receives the outcome.
+	 * @return status code of the check.
+	 */
+	private int tryRegisteredCharacteristic(char value, CalculationResult result) {
+		double currentValue = getCurrentValue();
+		Characteristic registered = registeredCharacteristic(actionRegistry, value);
+		if (registered == null) {
+			return result.set(CalculationResult.UNKNOWN_PARAMETER, value, currentValue);
+		}
+
+		try {
+			return result.setCharacteristic(value, currentValue, registered.test(currentValue));
+		} catch (NumberNotInAreaException e) {
+			return result.set(CalculationResult.REGISTERED_NOT_IN_AREA, value, currentValue);
+		} catch (NotSupportedOperationException e) {
+			return result.set(CalculationResult.UNKNOWN_PARAMETER, value, currentValue);
+		}
+	}
+
+	/**
+	 * Helper method that checks if a number is perfect by looking it up in the
+	 * table of known perfect numbers.
+	 * 
+	 * @param number is a value for which the property <i>perfect</i> is checked.
+	 * @return true if the number is perfect, otherwise false.
+	 */
+	private static boolean perfectNumber(long number) {
+		return Arrays.binarySearch(PERFECT_NUMBERS, number) >= 0;
+	}
+
+	/**
+	 * Helper method that checks if a positive number is an <i>Armstrong</i>
+	 * number. Digit powers are taken from a precomputed table, and the summation
+	 * stops as soon as the sum exceeds the number.
 	 * 
 	 * @param number is a value for which the property <i>Armstrong</i> is checked.
 	 * @return true if the number is <i>Armstrong</i>, otherwise false.
 	 */
-	private Boolean armstrongNumber(int number) {
-		int result = 0;
-		int remainder = 0;
-		int numOfDigits = numberOfDigits(number);
+	private static boolean armstrongNumber(long number) {
+		long[] powers = DIGIT_POWERS[numberOfDigits(number)];
+		long result = 0;
 
-		for (int originalNum = number; originalNum != 0; originalNum /= 10) {
-			remainder = originalNum % 10;
-			result += mathPower(remainder, numOfDigits);
+		for (long originalNum = number; originalNum != 0; originalNum /= 10) {
+			result += powers[(int) (originalNum % 10)];
+			// Negative result means that the sum has overflowed.
+			if (result > number || result < 0) {
+				return false;
+			}
 		}
 
 		return number == result;
 	}
 
 	/**
-	 * Helper method used to calculate number of digits of a given number.
+	 * Helper method used to calculate number of digits of a given positive number.
 	 * 
 	 * @param number is a value used to calculate number of digits.
 	 * @return number of digits of the given value.
 	 */
-	private int numberOfDigits(int number) {
-		int numOfDigits = 0;
+	private static int numberOfDigits(long number) {
+		int numOfDigits = 1;
 
-		for (; number != 0; numOfDigits++, number /= 10)
-			;
+		while (numOfDigits < POWERS_OF_TEN.length && number >= POWERS_OF_TEN[numOfDigits]) {
+			numOfDigits++;
+		}
 
 		return numOfDigits;
 	}
@@ -146,54 +619,151 @@ public class CalculatorAdvanced extends Calculator {
 	 * @param number is the value whose floor value is calculated.
 	 * @return greatest integer less than or equal to input number.
 	 */
-	private int mathFloor(double number) {
-		return (int) number;
+	static long mathFloor(double number) {
+		return (long) number;
 	}
 
 	/**
-	 * Helper method that computes power of base to the exponent by <i>Binary
-	 * Decomposition</i> of exponent.
-	 * 
-	 * @param base     is a number whose power is calculated.
-	 * @param exponent is a number that corresponds to the number of times the base
-	 *                 is used as a factor.
-	 * @return calculated power of a given base value.
+	 * Holder of all <i>Armstrong</i> numbers that fit in {@code long}. They are
+	 * found once, on first use, by {@link ArmstrongSearch} tasks running in the
+	 * common fork-join pool.
 	 */
-	private int mathPower(int base, int exponent) {
-		/*
-		 * if (base == 0 && exponent == 0) { return 1; }
+	private static final class ArmstrongNumbers {
+		/**
+		 * All positive <i>Armstrong</i> numbers that fit in {@code long}, in
+		 * ascending order.
 		 */
+		private static final long[] NUMBERS = find();
 
-		// This operation is optimal for all exponent < 15 according to Henry
-		// Warren in his book "Hacker's Delight".
-		int result = 1;
-
-		while (true) {
-			// If exponent is odd, multiply by base.
-			if ((exponent & 1) != 0) {
-				result = base * result;
-			}
-
-			// Position next bit of n.
-			exponent = exponent >> 1;
-
-			// If there are no more bits in exponent.
-			if (exponent == 0) {
-				return result;
+		/**
+		 * Helper method that runs a search task for every number of digits a
+		 * {@code long} can have and merges their results.
+		 * 
+		 * @return sorted array of <i>Armstrong</i> numbers.
+		 */
+		private static long[] find() {
+			List<ArmstrongSearch> tasks = new ArrayList<>();
+			for (int digits = 1; digits < DIGIT_POWERS.length; digits++) {
+				// Split every search by the count of the largest digit.
+				for (int nines = 0; nines <= digits; nines++) {
+					tasks.add(new ArmstrongSearch(digits, nines));
+				}
 			}
 
-			// Power for the next bit of n.
-			base *= base;
+			return ForkJoinTask.invokeAll(tasks).stream().flatMapToLong(task -> Arrays.stream(task.join())).sorted()
+					.toArray();
 		}
 	}
 
 	/**
-	 * Helper method that recursively calculates a factorial.
-	 * 
-	 * @param number is a value whose factorial is calculated.
-	 * @return factorial of the given number.
+	 * Task that finds all <i>Armstrong</i> numbers with a given number of digits
+	 * and a given count of the digit 9. Instead of checking every number in
+	 * range, it goes through the multisets of digits: the digit power sum of a
+	 * multiset is the only candidate with those digits, so it's enough to check
+	 * that the sum is made of the same digits.
 	 */
-	private int factorial(int number) {
-		return (number == 0 || number == 1) ? 1 : number * factorial(number - 1);
+	@SuppressWarnings("serial")
+	private static final class ArmstrongSearch extends RecursiveTask<long[]> {
+		/**
+		 * Number of digits of the numbers being searched for.
+		 */
+		private final int digits;
+		/**
+		 * Count of the digit 9 in the numbers being searched for.
+		 */
+		private final int nines;
+		/**
+		 * Digit powers for {@link #digits}.
+		 */
+		private final long[] powers;
+		/**
+		 * Largest number with {@link #digits} digits that fits in {@code long}.
+		 */
+		private final long upperBound;
+		/**
+		 * Count of every digit in the multiset being checked.
+		 */
+		private final int[] counts = new int[10];
+		/**
+		 * Count of every digit in the candidate being checked.
+		 */
+		private final int[] candidateCounts = new int[10];
+		/**
+		 * Numbers found so far.
+		 */
+		private long[] found = new long[4];
+		/**
+		 * Number of elements used in {@link #found}.
+		 */
+		private int size;
+
+		ArmstrongSearch(int digits, int nines) {
+			this.digits = digits;
+			this.nines = nines;
+			this.powers = DIGIT_POWERS[digits];
+			this.upperBound = digits < POWERS_OF_TEN.length ? POWERS_OF_TEN[digits] - 1 : Long.MAX_VALUE;
+		}
+
+		@Override
+		protected long[] compute() {
+			if (nines == 0 || powers[9] <= upperBound / nines) {
+				counts[9] = nines;
+				search(8, digits - nines, powers[9] * nines);
+			}
+			return Arrays.copyOf(found, size);
+		}
+
+		/**
+		 * Helper method that recursively assigns counts to the digits from
+		 * {@code digit} down to 0.
+		 * 
+		 * @param digit     is the digit whose count is being assigned.
+		 * @param remaining is the number of digits that still have to be assigned.
+		 * @param sum       is the digit power sum of the digits assigned so far.
+		 */
+		private void search(int digit, int remaining, long sum) {
+			if (digit == 0) {
+				counts[0] = remaining;
+				check(sum);
+				return;
+			}
+
+			long power = powers[digit];
+			for (int count = 0; count <= remaining; count++) {
+				counts[digit] = count;
+				search(digit - 1, remaining - count, sum);
+
+				// Sums only grow from here, so stop once they leave the range.
+				if (sum > upperBound - power) {
+					break;
+				}
+				sum += power;
+			}
+			counts[digit] = 0;
+		}
+
+		/**
+		 * Helper method that checks if the digit power sum of the current multiset
+		 * is made of the digits from the multiset.
+		 * 
+		 * @param sum is the digit power sum of the current multiset.
+		 */
+		private void check(long sum) {
+			if (sum < POWERS_OF_TEN[digits - 1]) {
+				return;
+			}
+
+			Arrays.fill(candidateCounts, 0);
+			for (long rest = sum; rest != 0; rest /= 10) {
+				candidateCounts[(int) (rest % 10)]++;
+			}
+
+			if (Arrays.equals(counts, candidateCounts)) {
+				if (size == found.length) {
+					found = Arrays.copyOf(found, size * 2);
+				}
+				found[size++] = sum;
+			}
+		}
 	}
 }
\ No newline at end of file
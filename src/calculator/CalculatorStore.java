@@ -0,0 +1,493 @@
+package calculator;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.DoubleUnaryOperator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to keep the values of many calculator sessions, each identified by
+ * a {@code long} id, without creating a {@link CalculatorAdvanced} object for
+ * every session. A session that has never been used behaves like a new
+ * calculator with the value {@code 0.0}, and every operation has the same
+ * semantics and throws the same exceptions as in {@link CalculatorAdvanced}.
+ * <p>
+ * Sessions are spread over a fixed number of segments, and every segment is an
+ * open-addressing hash table with linear probing that stores ids and raw bits
+ * of values next to each other in a single {@code long[]} array. A session
+ * therefore costs 16 bytes divided by the load factor, which stays between
+ * 0.375 and 0.75, and the garbage collector sees only a few large arrays
+ * without references.
+ * <p>
+ * Every segment is guarded by its own {@link StampedLock}. Operations hold the
+ * write lock of one segment only, and reads of a value are optimistic and
+ * don't lock at all unless they race with a write. A segment grows on its own
+ * when it gets full, so growing blocks only the sessions of that segment.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class CalculatorStore {
+	/**
+	 * Number of sessions a segment is created for, unless more are expected.
+	 */
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+
+	/**
+	 * Segments that hold the sessions, their number being a power of two.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Shift that takes the segment index from the top bits of a hash.
+	 */
+	private final int segmentShift;
+
+	/**
+	 * Creates an empty store.
+	 */
+	public CalculatorStore() {
+		this(0);
+	}
+
+	/**
+	 * Creates an empty store sized for a number of sessions, so that it doesn't
+	 * have to grow until that many sessions are stored.
+	 *
+	 * @param expectedSessions is the expected number of sessions.
+	 * @throws IllegalArgumentException when the number is negative.
+	 */
+	public CalculatorStore(long expectedSessions) {
+		if (expectedSessions < 0) {
+			throw new IllegalArgumentException("Expected number of sessions (" + expectedSessions
+					+ ") can't be negative.");
+		}
+
+		int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 16 - 1) << 1;
+		long perSegment = Math.max(MIN_SEGMENT_CAPACITY, (expectedSessions + count - 1) / count);
+		// Smallest power of two that keeps the load factor at or below 0.75.
+		long capacity = Long.highestOneBit(Math.max(1, (perSegment * 4 + 2) / 3 - 1)) << 1;
+		if (capacity > Segment.MAX_CAPACITY) {
+			throw new IllegalArgumentException("Expected number of sessions (" + expectedSessions
+					+ ") is too large.");
+		}
+
+		segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment((int) capacity);
+		}
+		segmentShift = 64 - Integer.numberOfTrailingZeros(count);
+	}
+
+	/**
+	 * Getter for the value of a session.
+	 *
+	 * @param session is the id of the session.
+	 * @return current value of the session.
+	 */
+	public double getCurrentValue(long session) {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.tryOptimisticRead();
+		long bits = segment.get(session, hash);
+		if (!segment.validate(stamp)) {
+			stamp = segment.readLock();
+			try {
+				bits = segment.get(session, hash);
+			} finally {
+				segment.unlockRead(stamp);
+			}
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Setter for the value of a session.
+	 *
+	 * @param session      is the id of the session.
+	 * @param currentValue is a value used to set session's new value.
+	 */
+	public void setCurrentValue(long session, double currentValue) {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			segment.put(session, hash, Double.doubleToRawLongBits(currentValue));
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method performs one of the four arithmetic operations on the value of a
+	 * session, same as {@link Calculator#calculate(Double, char)}.
+	 *
+	 * @param session  is the id of the session.
+	 * @param value    is a number used as a second operand. It cannot be zero if
+	 *                 division is being performed.
+	 * @param operator denotes operation being performed on the value of the
+	 *                 session.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 */
+	public void calculate(long session, double value, char operator)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			double currentValue = Double.longBitsToDouble(segment.get(session, hash));
+			double result = Calculator.calculate(currentValue, value, operator);
+			segment.put(session, hash, Double.doubleToRawLongBits(result));
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Method performs the factorial or exponentiation calculation on the value of
+	 * a session, same as {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param session is the id of the session.
+	 * @param action  is used to determine which calculation is going to be
+	 *                conducted.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0, 10].
+	 * @throws NotSupportedOperationException when an action isn't '!' or a
+	 *                                        numerical charter in range [0, 9].
+	 */
+	public void calculateAdvanced(long session, char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			double currentValue = Double.longBitsToDouble(segment.get(session, hash));
+			double result = CalculatorAdvanced.calculateAdvanced(currentValue, action);
+			segment.put(session, hash, Double.doubleToRawLongBits(result));
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Checks if the value of a session is Armstrong or Perfect number, same as
+	 * {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 *
+	 * @param session is the id of the session.
+	 * @param value   is parameter used to distinguish between Armstrong or Perfect
+	 *                number check.
+	 * @return true if the value of the session has the requested property,
+	 *         otherwise false.
+	 * @throws NumberNotInAreaException       when a floor value of the session's
+	 *                                        value is smaller than 1
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	public boolean hasCharacteristic(long session, char value)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		return CalculatorAdvanced.hasCharacteristic(getCurrentValue(session), value);
+	}
+
+	/**
+	 * Method replaces the value of a session with the result of a function of
+	 * it, holding the lock of the session only once. It lets a caller apply many
+	 * operations to a session with a single lookup and a single store, for
+	 * example with a reused {@link CalculatorAdvanced} object and its
+	 * exception-free operations. The function runs while the lock is held, so it
+	 * has to be short and must not touch the store.
+	 *
+	 * @param session is the id of the session.
+	 * @param update  computes the new value from the current one. If it throws,
+	 *                the value is left unchanged.
+	 * @return new value of the session.
+	 */
+	public double update(long session, DoubleUnaryOperator update) {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			double result = update.applyAsDouble(Double.longBitsToDouble(segment.get(session, hash)));
+			segment.put(session, hash, Double.doubleToRawLongBits(result));
+			return result;
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Removes a session, so that it behaves like a new calculator again.
+	 *
+	 * @param session is the id of the session.
+	 * @return true if the session has been stored.
+	 */
+	public boolean remove(long session) {
+		long hash = hash(session);
+		Segment segment = segmentFor(hash);
+
+		long stamp = segment.writeLock();
+		try {
+			return segment.remove(session, hash);
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Getter for the number of stored sessions. Sessions are stored once they're
+	 * given a value, and stay stored until removed.
+	 *
+	 * @return number of stored sessions.
+	 */
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			long stamp = segment.readLock();
+			try {
+				size += segment.size;
+			} finally {
+				segment.unlockRead(stamp);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Getter for the memory taken by the tables of the store, not counting the
+	 * small fixed overhead of the segment objects.
+	 *
+	 * @return size of the tables in bytes.
+	 */
+	public long memoryUsage() {
+		long bytes = 0;
+		for (Segment segment : segments) {
+			long stamp = segment.readLock();
+			try {
+				bytes += (long) segment.table.length * Long.BYTES;
+			} finally {
+				segment.unlockRead(stamp);
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Helper method that picks the segment of a session.
+	 *
+	 * @param hash is the hash of the session id.
+	 * @return segment holding the session.
+	 */
+	private Segment segmentFor(long hash) {
+		return segments[(int) (hash >>> segmentShift)];
+	}
+
+	/**
+	 * Helper method that spreads the bits of a session id, so that consecutive
+	 * ids don't end up in consecutive slots. The top bits select a segment and
+	 * the bottom bits a slot within it.
+	 *
+	 * @param session is the id of the session.
+	 * @return hash of the session id.
+	 */
+	static long hash(long session) {
+		long hash = session * 0x9E3779B97F4A7C15L;
+		return hash ^ (hash >>> 29);
+	}
+
+	/**
+	 * Open-addressing hash table of a segment. Every slot takes two elements of
+	 * {@link #table}, the session id followed by the raw bits of its value. A slot
+	 * with id {@code 0} is empty, so the session with id {@code 0} is kept apart
+	 * from the table.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Segment extends StampedLock {
+		/**
+		 * Largest number of slots, limited by the length of a Java array.
+		 */
+		static final int MAX_CAPACITY = 1 << 29;
+
+		/**
+		 * Ids and values of the sessions.
+		 */
+		long[] table;
+
+		/**
+		 * Number of sessions in the segment.
+		 */
+		int size;
+
+		/**
+		 * Denotes if the session with id {@code 0} is stored.
+		 */
+		boolean hasZero;
+
+		/**
+		 * Value of the session with id {@code 0}.
+		 */
+		long zeroBits;
+
+		Segment(int capacity) {
+			table = new long[capacity * 2];
+		}
+
+		/**
+		 * Method looks up the value of a session. It's also called without a lock
+		 * by optimistic readers, so it must not fail or loop forever when the table
+		 * is being changed at the same time.
+		 *
+		 * @param session is the id of the session.
+		 * @param hash    is the hash of the session id.
+		 * @return raw bits of the value, or {@code 0} which are the bits of
+		 *         {@code 0.0} when the session isn't stored.
+		 */
+		long get(long session, long hash) {
+			if (session == 0) {
+				return zeroBits;
+			}
+
+			long[] table = this.table;
+			int mask = (table.length >>> 1) - 1;
+			int slot = (int) hash & mask;
+			for (int probes = 0; probes <= mask; probes++) {
+				long id = table[slot << 1];
+				if (id == session) {
+					return table[(slot << 1) + 1];
+				}
+				if (id == 0) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+			return 0L;
+		}
+
+		/**
+		 * Method stores the value of a session, growing the table if needed.
+		 *
+		 * @param session is the id of the session.
+		 * @param hash    is the hash of the session id.
+		 * @param bits    are raw bits of the value.
+		 */
+		void put(long session, long hash, long bits) {
+			if (session == 0) {
+				if (!hasZero) {
+					hasZero = true;
+					size++;
+				}
+				zeroBits = bits;
+				return;
+			}
+
+			int mask = (table.length >>> 1) - 1;
+			int slot = (int) hash & mask;
+			for (;;) {
+				long id = table[slot << 1];
+				if (id == session) {
+					table[(slot << 1) + 1] = bits;
+					return;
+				}
+				if (id == 0) {
+					table[(slot << 1) + 1] = bits;
+					table[slot << 1] = session;
+					if (++size > (mask + 1) - ((mask + 1) >>> 2)) {
+						grow();
+					}
+					return;
+				}
+				slot = (slot + 1) & mask;
+			}
+		}
+
+		/**
+		 * Method removes a session. Sessions placed after it in the same probe
+		 * sequence are moved back, so that no deletion markers are needed.
+		 *
+		 * @param session is the id of the session.
+		 * @param hash    is the hash of the session id.
+		 * @return true if the session has been stored.
+		 */
+		boolean remove(long session, long hash) {
+			if (session == 0) {
+				boolean removed = hasZero;
+				if (removed) {
+					hasZero = false;
+					zeroBits = 0L;
+					size--;
+				}
+				return removed;
+			}
+
+			int mask = (table.length >>> 1) - 1;
+			int slot = (int) hash & mask;
+			for (;;) {
+				long id = table[slot << 1];
+				if (id == 0) {
+					return false;
+				}
+				if (id == session) {
+					break;
+				}
+				slot = (slot + 1) & mask;
+			}
+
+			int next = slot;
+			for (;;) {
+				next = (next + 1) & mask;
+				long id = table[next << 1];
+				if (id == 0) {
+					break;
+				}
+				// Session stays if its home slot lies cyclically in (slot, next].
+				int home = (int) CalculatorStore.hash(id) & mask;
+				if (slot <= next ? slot < home && home <= next : slot < home || home <= next) {
+					continue;
+				}
+				table[slot << 1] = id;
+				table[(slot << 1) + 1] = table[(next << 1) + 1];
+				slot = next;
+			}
+
+			table[slot << 1] = 0L;
+			table[(slot << 1) + 1] = 0L;
+			size--;
+			return true;
+		}
+
+		/**
+		 * Method doubles the number of slots and moves every session to the new
+		 * table.
+		 */
+		private void grow() {
+			long[] old = table;
+			int capacity = old.length;
+			if (capacity > MAX_CAPACITY) {
+				throw new IllegalStateException("Segment can't hold more than " + MAX_CAPACITY + " sessions.");
+			}
+
+			long[] grown = new long[capacity * 2];
+			int mask = capacity - 1;
+			for (int i = 0; i < old.length; i += 2) {
+				long id = old[i];
+				if (id != 0) {
+					int slot = (int) CalculatorStore.hash(id) & mask;
+					while (grown[slot << 1] != 0) {
+						slot = (slot + 1) & mask;
+					}
+					grown[slot << 1] = id;
+					grown[(slot << 1) + 1] = old[i + 1];
+				}
+			}
+			table = grown;
+		}
+	}
+}
@@ -0,0 +1,29 @@
+package calculator;
+
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Interface used to add a characteristic to the
+ * {@link CalculatorAdvanced#hasCharacteristic(char) hasCharacteristic} method
+ * through an {@link ActionRegistry}. A characteristic checks a property of the
+ * calculator value, the same way the Armstrong and Perfect number checks do.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface Characteristic {
+	/**
+	 * Method checks the characteristic.
+	 *
+	 * @param currentValue is the value of the calculator.
+	 * @return true if the value has the characteristic, otherwise false.
+	 * @throws NumberNotInAreaException       when the characteristic isn't
+	 *                                        defined for the value.
+	 * @throws NotSupportedOperationException when the characteristic can't be
+	 *                                        checked for another reason.
+	 */
+	boolean test(double currentValue) throws NumberNotInAreaException, NotSupportedOperationException;
+}
@@ -0,0 +1,406 @@
+package calculator;
+
+import java.util.Arrays;
+import java.util.function.DoubleUnaryOperator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to evaluate a fixed sequence of calculator operations against many
+ * starting values. Operators and divisors are validated once, when the sequence
+ * is compiled, so evaluation doesn't repeat any of the checks performed by
+ * {@link Calculator#calculate(Double, char)}.
+ * <p>
+ * A sequence consists of steps written as in {@code "+3 *1.07 -5 /2 2 !"}: a
+ * basic step is one of the four arithmetic operators followed by its operand,
+ * and an advanced step is a single action accepted by
+ * {@link CalculatorAdvanced#calculateAdvanced(char)}.
+ * <p>
+ * When fusion is enabled, consecutive arithmetic steps are folded into a single
+ * multiply-add {@code a * x + b}. This is faster for long chains, but division
+ * becomes a multiplication by the reciprocal and rounding happens once per
+ * chain instead of once per step, so the results may differ in the last bits.
+ * Without fusion, results are bit-for-bit the same as the ones from the
+ * calculator classes.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class CompiledSequence implements DoubleUnaryOperator {
+	/**
+	 * Step that adds its operand.
+	 */
+	private static final byte ADD = 0;
+	/**
+	 * Step that subtracts its operand.
+	 */
+	private static final byte SUBTRACT = 1;
+	/**
+	 * Step that multiplies by its operand.
+	 */
+	private static final byte MULTIPLY = 2;
+	/**
+	 * Step that divides by its operand.
+	 */
+	private static final byte DIVIDE = 3;
+	/**
+	 * Step that multiplies by its first operand and adds its second operand.
+	 */
+	private static final byte AFFINE = 4;
+	/**
+	 * Step that performs an advanced calculation.
+	 */
+	private static final byte ADVANCED = 5;
+
+	/**
+	 * Identity element of the floating-point addition, used as the addend of
+	 * steps that only multiply so that the sign of a zero result is preserved.
+	 */
+	private static final double NEGATIVE_ZERO = -0.0d;
+
+	/**
+	 * Kind of every step.
+	 */
+	private final byte[] kinds;
+	/**
+	 * Operand of every arithmetic step, or the multiplier of an affine step.
+	 */
+	private final double[] multipliers;
+	/**
+	 * Addend of every affine step.
+	 */
+	private final double[] addends;
+	/**
+	 * Action of every advanced step.
+	 */
+	private final char[] actions;
+
+	private CompiledSequence(byte[] kinds, double[] multipliers, double[] addends, char[] actions) {
+		this.kinds = kinds;
+		this.multipliers = multipliers;
+		this.addends = addends;
+		this.actions = actions;
+	}
+
+	/**
+	 * Method parses and compiles a sequence of operations.
+	 *
+	 * @param sequence is a whitespace separated list of steps, such as
+	 *                 {@code "+3 *1.07 -5 /2"}.
+	 * @param fuse     denotes if consecutive arithmetic steps are fused.
+	 * @return compiled sequence.
+	 * @throws NotSupportedOperationException when an unknown operator or action is
+	 *                                        used
+	 * @throws DivisionByZeroException        when a division by zero is part of
+	 *                                        the sequence
+	 * @throws NumberFormatException          when an operand isn't a number
+	 */
+	public static CompiledSequence compile(String sequence, boolean fuse)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		String trimmed = sequence.trim();
+		String[] tokens = trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+		char[] operators = new char[tokens.length];
+		double[] operands = new double[tokens.length];
+
+		for (int i = 0; i < tokens.length; i++) {
+			String token = tokens[i];
+			operators[i] = token.charAt(0);
+			if (token.length() > 1) {
+				if (!isArithmetic(operators[i])) {
+					throw new NotSupportedOperationException(
+							CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operators[i], 0.0d));
+				}
+				operands[i] = Double.parseDouble(token.substring(1));
+			} else if (isArithmetic(operators[i])) {
+				throw new NumberFormatException("Operator '" + operators[i] + "' is missing its operand.");
+			}
+		}
+
+		return compile(operators, operands, fuse);
+	}
+
+	/**
+	 * Method compiles a parsed sequence of operations.
+	 *
+	 * @param operators are operators of the arithmetic steps, as accepted by
+	 *                  {@link Calculator#calculate(Double, char)}, or actions of
+	 *                  the advanced steps, as accepted by
+	 *                  {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 * @param operands  are operands of the arithmetic steps; values at the
+	 *                  positions of the advanced steps are ignored.
+	 * @param fuse      denotes if consecutive arithmetic steps are fused.
+	 * @return compiled sequence.
+	 * @throws NotSupportedOperationException when an unknown operator or action is
+	 *                                        used
+	 * @throws DivisionByZeroException        when a division by zero is part of
+	 *                                        the sequence
+	 */
+	public static CompiledSequence compile(char[] operators, double[] operands, boolean fuse)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		Calculator.checkBatchLength(operands.length, operators.length);
+
+		int length = operators.length;
+		byte[] kinds = new byte[length];
+		double[] multipliers = new double[length];
+		double[] addends = new double[length];
+		char[] actions = new char[length];
+		int size = 0;
+
+		for (int i = 0; i < length; i++) {
+			char operator = operators[i];
+			double operand = operands[i];
+
+			if (isAdvanced(operator)) {
+				kinds[size] = ADVANCED;
+				actions[size++] = operator;
+				continue;
+			}
+			if (!isArithmetic(operator)) {
+				throw new NotSupportedOperationException(
+						CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operator, 0.0d));
+			}
+			if (operator == '/' && operand == 0.0d) {
+				throw new DivisionByZeroException();
+			}
+
+			if (!fuse) {
+				kinds[size] = kind(operator);
+				multipliers[size++] = operand;
+				continue;
+			}
+
+			// Step as a map x -> a * x + b.
+			double a = 1.0d;
+			double b = NEGATIVE_ZERO;
+			switch (operator) {
+			case '+':
+				b = operand;
+				break;
+			case '-':
+				b = -operand;
+				break;
+			case '*':
+				a = operand;
+				break;
+			default:
+				a = 1.0d / operand;
+				break;
+			}
+
+			if (size > 0 && kinds[size - 1] == AFFINE) {
+				// Compose with the previous step: a * (a' * x + b') + b.
+				addends[size - 1] = Math.fma(a, addends[size - 1], b);
+				multipliers[size - 1] *= a;
+			} else {
+				kinds[size] = AFFINE;
+				multipliers[size] = a;
+				addends[size++] = b;
+			}
+		}
+
+		return new CompiledSequence(Arrays.copyOf(kinds, size), Arrays.copyOf(multipliers, size),
+				Arrays.copyOf(addends, size), Arrays.copyOf(actions, size));
+	}
+
+	/**
+	 * Method evaluates the sequence for a starting value.
+	 *
+	 * @param value is the starting value.
+	 * @return value after all of the steps.
+	 * @throws NumberNotInAreaException when a factorial step is reached with a
+	 *                                  value outside of range [0, 10]
+	 */
+	public double evaluate(double value) throws NumberNotInAreaException {
+		byte[] kinds = this.kinds;
+		double[] multipliers = this.multipliers;
+
+		for (int i = 0; i < kinds.length; i++) {
+			switch (kinds[i]) {
+			case ADD:
+				value += multipliers[i];
+				break;
+			case SUBTRACT:
+				value -= multipliers[i];
+				break;
+			case MULTIPLY:
+				value *= multipliers[i];
+				break;
+			case DIVIDE:
+				value /= multipliers[i];
+				break;
+			case AFFINE:
+				value = Math.fma(multipliers[i], value, addends[i]);
+				break;
+			default:
+				try {
+					value = CalculatorAdvanced.calculateAdvanced(value, actions[i]);
+				} catch (NotSupportedOperationException e) {
+					// Actions are validated when the sequence is compiled.
+					throw new IllegalStateException(e);
+				}
+				break;
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method evaluates the sequence for every element of an array, producing
+	 * exactly the same values as {@link #evaluate(double)} called for every
+	 * element. The array is processed one step at a time, so that every
+	 * arithmetic step runs as a single loop over all of the elements that the JIT
+	 * compiler can vectorize.
+	 * <p>
+	 * An element that reaches a factorial step with a value outside of range
+	 * [0, 10] keeps the value it had before that step and isn't affected by the
+	 * remaining steps.
+	 *
+	 * @param values are starting values, replaced in place by the results.
+	 * @param failed receives {@code true} at the position of every element that
+	 *               has failed a factorial step and {@code false} elsewhere; can
+	 *               be {@code null}.
+	 * @return number of elements that have failed a factorial step.
+	 * @throws IllegalArgumentException when the arrays differ in length.
+	 */
+	public int evaluate(double[] values, boolean[] failed) {
+		if (failed != null && failed.length != values.length) {
+			throw new IllegalArgumentException("Arrays of values (" + values.length + ") and failures ("
+					+ failed.length + ") differ in length.");
+		}
+		if (failed != null) {
+			Arrays.fill(failed, false);
+		}
+
+		byte[] kinds = this.kinds;
+		double[] multipliers = this.multipliers;
+		// Values of the failed elements, allocated on the first failure.
+		double[] saved = null;
+		boolean[] stopped = failed;
+		int failures = 0;
+
+		for (int i = 0; i < kinds.length; i++) {
+			switch (kinds[i]) {
+			case ADD:
+				ArrayCalculator.add(values, multipliers[i]);
+				break;
+			case SUBTRACT:
+				ArrayCalculator.subtract(values, multipliers[i]);
+				break;
+			case MULTIPLY:
+				ArrayCalculator.multiply(values, multipliers[i]);
+				break;
+			case DIVIDE:
+				ArrayCalculator.divide(values, multipliers[i]);
+				break;
+			case AFFINE:
+				ArrayCalculator.fma(values, multipliers[i], addends[i]);
+				break;
+			default:
+				for (int j = 0; j < values.length; j++) {
+					if (saved != null && stopped[j]) {
+						continue;
+					}
+					try {
+						values[j] = CalculatorAdvanced.calculateAdvanced(values[j], actions[i]);
+					} catch (NumberNotInAreaException e) {
+						if (saved == null) {
+							saved = new double[values.length];
+							if (stopped == null) {
+								stopped = new boolean[values.length];
+							}
+						}
+						saved[j] = values[j];
+						stopped[j] = true;
+						failures++;
+					} catch (NotSupportedOperationException e) {
+						// Actions are validated when the sequence is compiled.
+						throw new IllegalStateException(e);
+					}
+				}
+				break;
+			}
+		}
+
+		if (saved != null) {
+			for (int j = 0; j < values.length; j++) {
+				if (stopped[j]) {
+					values[j] = saved[j];
+				}
+			}
+		}
+		return failures;
+	}
+
+	/**
+	 * Method evaluates the sequence for a starting value, same as
+	 * {@link #evaluate(double)}.
+	 *
+	 * @param value is the starting value.
+	 * @return value after all of the steps.
+	 * @throws IllegalArgumentException when a factorial step is reached with a
+	 *                                  value outside of range [0, 10]; the cause
+	 *                                  is the {@link NumberNotInAreaException}.
+	 */
+	@Override
+	public double applyAsDouble(double value) {
+		try {
+			return evaluate(value);
+		} catch (NumberNotInAreaException e) {
+			throw new IllegalArgumentException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Getter for the number of steps left after compilation.
+	 *
+	 * @return number of steps.
+	 */
+	public int size() {
+		return kinds.length;
+	}
+
+	/**
+	 * Helper method that checks if a character is one of the four arithmetic
+	 * operators.
+	 *
+	 * @param operator is a checked character.
+	 * @return true if the character is an arithmetic operator.
+	 */
+	private static boolean isArithmetic(char operator) {
+		return operator == '+' || operator == '-' || operator == '*' || operator == '/';
+	}
+
+	/**
+	 * Helper method that checks if a character is an action accepted by
+	 * {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param action is a checked character.
+	 * @return true if the character is an advanced action.
+	 */
+	private static boolean isAdvanced(char action) {
+		return (action >= '0' && action <= '9') || action == '!';
+	}
+
+	/**
+	 * Helper method that maps an arithmetic operator to a step kind.
+	 *
+	 * @param operator is one of the four arithmetic operators.
+	 * @return kind of the step.
+	 */
+	private static byte kind(char operator) {
+		switch (operator) {
+		case '+':
+			return ADD;
+		case '-':
+			return SUBTRACT;
+		case '*':
+			return MULTIPLY;
+		default:
+			return DIVIDE;
+		}
+	}
+}
@@ -0,0 +1,364 @@
+package calculator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to simulate a calculator that can be shared between many threads.
+ * It offers the same operations as {@link CalculatorAdvanced}, but the value is
+ * stored as raw {@code long} bits and updated with compare-and-swap, so no
+ * update is ever lost. A calculator that isn't striped never takes a lock; a
+ * striped one takes a short lock for every read and every operation other than
+ * addition and subtraction, as described below.
+ * <p>
+ * A calculator created as <i>striped</i> additionally spreads addition and
+ * subtraction over a number of padded cells, in the same way
+ * {@link java.util.concurrent.atomic.DoubleAdder} does, so that threads adding
+ * to the same calculator don't fight over a single memory location. Every other
+ * operation and every read first folds the cells into the stored value while
+ * holding them locked, which keeps reads linearizable but makes them
+ * considerably more expensive. Only one thread folds at a time; the others
+ * wait by spinning briefly, then yielding and then parking, so that a folding
+ * thread that has been preempted doesn't keep the cores of the waiting threads
+ * busy. Because the additions are summed per cell, the
+ * last bits of the result may differ from a sequential replay of the same
+ * additions whenever the intermediate sums aren't exactly representable.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class ConcurrentCalculator {
+	/**
+	 * Bits of {@code -0.0}, which is the identity element of the floating-point
+	 * addition.
+	 */
+	private static final long ZERO = Double.doubleToRawLongBits(-0.0d);
+
+	/**
+	 * Bits stored into a cell while it's being folded. It's a NaN with a payload
+	 * that is never produced by an addition, since NaN sums are stored in their
+	 * canonical form.
+	 */
+	private static final long LOCKED = 0x7ff0_dead_beef_0001L;
+
+	/**
+	 * Distance between two cells in the cell array, so that every cell sits on its
+	 * own cache line.
+	 */
+	private static final int STRIDE = 8;
+
+	/**
+	 * Number of failed attempts to lock the cells after which a waiting thread
+	 * yields instead of spinning.
+	 */
+	private static final int LOCK_SPINS = 64;
+
+	/**
+	 * Number of failed attempts to lock the cells after which a waiting thread
+	 * parks instead of yielding.
+	 */
+	private static final int LOCK_YIELDS = 128;
+
+	/**
+	 * Longest pause of a thread parked while waiting for the cells, in
+	 * nanoseconds.
+	 */
+	private static final long MAX_LOCK_PARK_NANOS = 1_000_000L;
+
+	/**
+	 * Bits of the value stored inside of the calculator.
+	 */
+	private final AtomicLong value = new AtomicLong(Double.doubleToRawLongBits(0.0d));
+
+	/**
+	 * Cells used to accumulate additions, {@code null} if the calculator isn't
+	 * striped.
+	 */
+	private final AtomicLongArray cells;
+
+	/**
+	 * Number of cells reduced by one.
+	 */
+	private final int mask;
+
+	/**
+	 * Flag set while the cells are being folded into {@link #value}.
+	 */
+	private final AtomicInteger folding = new AtomicInteger();
+
+	/**
+	 * Creates a calculator that updates its value with compare-and-swap only.
+	 */
+	public ConcurrentCalculator() {
+		this(false);
+	}
+
+	/**
+	 * Creates a calculator.
+	 *
+	 * @param striped if true, addition and subtraction are accumulated in striped
+	 *                cells, which suits workloads that are mostly additive.
+	 */
+	public ConcurrentCalculator(boolean striped) {
+		if (striped) {
+			int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+			cells = new AtomicLongArray(size * STRIDE);
+			for (int i = 0; i < size; i++) {
+				cells.set(i * STRIDE, ZERO);
+			}
+			mask = size - 1;
+		} else {
+			cells = null;
+			mask = 0;
+		}
+	}
+
+	/**
+	 * Getter for the value stored inside of the calculator.
+	 *
+	 * @return current value of the calculator.
+	 */
+	public double getCurrentValue() {
+		if (cells == null) {
+			return Double.longBitsToDouble(value.get());
+		}
+
+		lockCells();
+		try {
+			return Double.longBitsToDouble(value.get());
+		} finally {
+			unlockCells();
+		}
+	}
+
+	/**
+	 * Setter for the value stored inside of the calculator.
+	 *
+	 * @param currentValue is a value used to set calculator's new value.
+	 */
+	public void setCurrentValue(double currentValue) {
+		if (cells == null) {
+			value.set(Double.doubleToRawLongBits(currentValue));
+			return;
+		}
+
+		lockCells();
+		try {
+			value.set(Double.doubleToRawLongBits(currentValue));
+		} finally {
+			unlockCells();
+		}
+	}
+
+	/**
+	 * Atomically performs one of the four arithmetic operations on the stored
+	 * value, same as {@link Calculator#calculate(Double, char)}.
+	 *
+	 * @param value    is a number used as a second operand. It cannot be zero if
+	 *                 division is being performed.
+	 * @param operator denotes operation being performed on the value inside of the
+	 *                 calculator.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 */
+	public void calculate(double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		if (cells != null && (operator == '+' || operator == '-')) {
+			// Subtraction is the same as the addition of the negated value.
+			add(operator == '+' ? value : -value);
+			return;
+		}
+
+		if (cells == null) {
+			update(value, operator);
+			return;
+		}
+
+		lockCells();
+		try {
+			update(value, operator);
+		} finally {
+			unlockCells();
+		}
+	}
+
+	/**
+	 * Atomically performs the factorial or exponentiation calculation on the stored
+	 * value, same as {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param action is used to determine which calculation is going to be
+	 *               conducted.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0, 10].
+	 * @throws NotSupportedOperationException when an action isn't '!' or a
+	 *                                        numerical charter in range [0, 9].
+	 */
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		if (cells == null) {
+			updateAdvanced(action);
+			return;
+		}
+
+		lockCells();
+		try {
+			updateAdvanced(action);
+		} finally {
+			unlockCells();
+		}
+	}
+
+	/**
+	 * Checks if the stored value is Armstrong or Perfect number, same as
+	 * {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 *
+	 * @param value is parameter used to distinguish between Armstrong or Perfect
+	 *              number check.
+	 * @return true if the current calculator value has the requested property,
+	 *         otherwise false.
+	 * @throws NumberNotInAreaException       when a floor value of the stored value
+	 *                                        is smaller than 1
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 */
+	public boolean hasCharacteristic(char value) throws NumberNotInAreaException, NotSupportedOperationException {
+		return CalculatorAdvanced.hasCharacteristic(getCurrentValue(), value);
+	}
+
+	/**
+	 * Helper method that applies an arithmetic operation on {@link #value} in a
+	 * compare-and-swap loop.
+	 *
+	 * @param operand  is a number used as a second operand.
+	 * @param operator denotes operation being performed.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 */
+	private void update(double operand, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		for (;;) {
+			long bits = value.get();
+			double result = Calculator.calculate(Double.longBitsToDouble(bits), operand, operator);
+			if (value.compareAndSet(bits, Double.doubleToRawLongBits(result))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Helper method that applies an advanced operation on {@link #value} in a
+	 * compare-and-swap loop.
+	 *
+	 * @param action is used to determine which calculation is going to be
+	 *               conducted.
+	 * @throws NumberNotInAreaException       when the value is out of range
+	 * @throws NotSupportedOperationException when an unknown action is used
+	 */
+	private void updateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		for (;;) {
+			long bits = value.get();
+			double result = CalculatorAdvanced.calculateAdvanced(Double.longBitsToDouble(bits), action);
+			if (value.compareAndSet(bits, Double.doubleToRawLongBits(result))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Helper method that adds a number to the cell assigned to the current thread.
+	 * If the cells are being folded, the number is added straight to
+	 * {@link #value}.
+	 *
+	 * @param operand is a number being added.
+	 */
+	private void add(double operand) {
+		int index = probe();
+
+		for (;;) {
+			int offset = (index & mask) * STRIDE;
+			long bits = cells.get(offset);
+			if (bits == LOCKED) {
+				addToValue(operand);
+				return;
+			}
+
+			long sum = Double.doubleToLongBits(Double.longBitsToDouble(bits) + operand);
+			if (cells.compareAndSet(offset, bits, sum)) {
+				return;
+			}
+
+			// Cell is contended, move on to another one.
+			index = index * 0x9E3779B1 + 1;
+		}
+	}
+
+	/**
+	 * Helper method that adds a number to {@link #value} in a compare-and-swap
+	 * loop.
+	 *
+	 * @param operand is a number being added.
+	 */
+	private void addToValue(double operand) {
+		for (;;) {
+			long bits = value.get();
+			if (value.compareAndSet(bits, Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + operand))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Helper method that locks every cell and adds their content to
+	 * {@link #value}. Only one thread can hold the cells at a time; additions
+	 * performed meanwhile go straight to {@link #value}. A thread waiting for the
+	 * cells spins, then yields, then parks for a pause that doubles up to
+	 * {@value #MAX_LOCK_PARK_NANOS} ns.
+	 */
+	private void lockCells() {
+		int attempts = 0;
+		long park = 1_000L;
+		while (!folding.compareAndSet(0, 1)) {
+			if (++attempts < LOCK_SPINS) {
+				Thread.onSpinWait();
+			} else if (attempts < LOCK_YIELDS) {
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(park);
+				park = Math.min(park * 2, MAX_LOCK_PARK_NANOS);
+			}
+		}
+
+		double sum = Double.longBitsToDouble(ZERO);
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			sum += Double.longBitsToDouble(cells.getAndSet(offset, LOCKED));
+		}
+		addToValue(sum);
+	}
+
+	/**
+	 * Helper method that empties and unlocks every cell locked by
+	 * {@link #lockCells()}.
+	 */
+	private void unlockCells() {
+		for (int offset = 0; offset < cells.length(); offset += STRIDE) {
+			cells.set(offset, ZERO);
+		}
+		folding.set(0);
+	}
+
+	/**
+	 * Helper method that picks a starting cell for the current thread.
+	 *
+	 * @return hash of the current thread.
+	 */
+	private static int probe() {
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B1;
+		return hash ^ (hash >>> 16);
+	}
+}
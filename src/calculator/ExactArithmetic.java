@@ -0,0 +1,288 @@
+package calculator;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Class used to calculate factorials and powers without overflow. Results that
+ * fit in {@code long} are computed with plain {@code long} arithmetic, and only
+ * results that don't fit are promoted to {@link BigInteger}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ExactArithmetic {
+	/**
+	 * Factorials of all numbers whose factorial fits in {@code long}.
+	 */
+	private static final long[] FACTORIALS = new long[21];
+
+	/**
+	 * Marker returned by {@link #longPower(long, int)} when the power doesn't fit
+	 * in {@code long}. The few powers that really are equal to it are simply
+	 * recalculated with {@link BigInteger}.
+	 */
+	private static final long OVERFLOW = Long.MIN_VALUE;
+
+	/**
+	 * Largest number whose factorial is calculated. Its factorial has about 1.5
+	 * million bits and takes about half a second; the time and size grow faster
+	 * than the number, so that factorials of numbers a hundred times larger
+	 * take hours, and factorials of numbers above about 8.5e7 don't fit in a
+	 * {@link BigInteger} at all.
+	 */
+	public static final int MAX_FACTORIAL = 100_000;
+
+	/**
+	 * Largest total number of bits of the factorials kept in
+	 * {@link FactorialCache}, which is 4 MB.
+	 */
+	static final long FACTORIAL_CACHE_BITS = 1L << 25;
+
+	/**
+	 * Range of numbers below which the product is calculated directly instead of
+	 * being split in halves.
+	 */
+	private static final int PRODUCT_THRESHOLD = 16;
+
+	static {
+		FACTORIALS[0] = 1L;
+		for (int i = 1; i < FACTORIALS.length; i++) {
+			FACTORIALS[i] = FACTORIALS[i - 1] * i;
+		}
+	}
+
+	private ExactArithmetic() {
+	}
+
+	/**
+	 * Method calculates a factorial as a {@code long}.
+	 *
+	 * @param number is a value whose factorial is calculated.
+	 * @return factorial of the given number.
+	 * @throws ArithmeticException when the factorial doesn't fit in {@code long}
+	 *                             or the number is negative.
+	 */
+	public static long factorialExact(int number) {
+		if (number < 0 || number >= FACTORIALS.length) {
+			throw new ArithmeticException("Factorial of " + number + " doesn't fit in long.");
+		}
+		return FACTORIALS[number];
+	}
+
+	/**
+	 * Method calculates an exact factorial. Factorials that fit in {@code long}
+	 * are taken from a table, larger ones are calculated by splitting the product
+	 * in halves and the most recently used of them are cached.
+	 *
+	 * @param number is a value whose factorial is calculated.
+	 * @return factorial of the given number.
+	 * @throws ArithmeticException when the number is negative or greater than
+	 *                             {@value #MAX_FACTORIAL}.
+	 */
+	public static BigInteger factorial(int number) {
+		if (number < 0) {
+			throw new ArithmeticException("Factorial of " + number + " isn't defined.");
+		}
+		if (number > MAX_FACTORIAL) {
+			throw new ArithmeticException("Factorial of " + number + " is larger than factorials of up to "
+					+ MAX_FACTORIAL + " that are calculated.");
+		}
+		if (number < FACTORIALS.length) {
+			return BigInteger.valueOf(FACTORIALS[number]);
+		}
+
+		BigInteger cached = FactorialCache.get(number);
+		if (cached != null) {
+			return cached;
+		}
+
+		BigInteger result = product(FACTORIALS.length, number)
+				.multiply(BigInteger.valueOf(FACTORIALS[FACTORIALS.length - 1]));
+
+		FactorialCache.put(number, result);
+		return result;
+	}
+
+	/**
+	 * Method calculates a power as a {@code long} by <i>Binary Decomposition</i>
+	 * of exponent.
+	 *
+	 * @param base     is a number whose power is calculated.
+	 * @param exponent is a non-negative number that corresponds to the number of
+	 *                 times the base is used as a factor.
+	 * @return calculated power of a given base value.
+	 * @throws ArithmeticException when the power doesn't fit in {@code long} or
+	 *                             the exponent is negative.
+	 */
+	public static long powerExact(long base, int exponent) {
+		long result = longPower(base, exponent);
+		if (result == OVERFLOW && !BigInteger.valueOf(base).pow(exponent).equals(BigInteger.valueOf(OVERFLOW))) {
+			throw new ArithmeticException(base + " to the power of " + exponent + " doesn't fit in long.");
+		}
+		return result;
+	}
+
+	/**
+	 * Method calculates an exact power. It's calculated with {@code long}
+	 * arithmetic and repeated with {@link BigInteger} only if it overflows.
+	 *
+	 * @param base     is a number whose power is calculated.
+	 * @param exponent is a non-negative number that corresponds to the number of
+	 *                 times the base is used as a factor.
+	 * @return calculated power of a given base value.
+	 * @throws ArithmeticException when the exponent is negative.
+	 */
+	public static BigInteger power(long base, int exponent) {
+		long result = longPower(base, exponent);
+		return result != OVERFLOW ? BigInteger.valueOf(result) : BigInteger.valueOf(base).pow(exponent);
+	}
+
+	/**
+	 * Method calculates a power and rounds it to the nearest {@code double}.
+	 *
+	 * @param base     is a number whose power is calculated.
+	 * @param exponent is a non-negative number that corresponds to the number of
+	 *                 times the base is used as a factor.
+	 * @return calculated power of a given base value.
+	 * @throws ArithmeticException when the exponent is negative.
+	 */
+	public static double powerAsDouble(long base, int exponent) {
+		long result = longPower(base, exponent);
+		return result != OVERFLOW ? result : BigInteger.valueOf(base).pow(exponent).doubleValue();
+	}
+
+	/**
+	 * Helper method that computes power of base to the exponent by <i>Binary
+	 * Decomposition</i> of exponent, checking every multiplication for overflow.
+	 *
+	 * @param base     is a number whose power is calculated.
+	 * @param exponent is a number that corresponds to the number of times the base
+	 *                 is used as a factor.
+	 * @return calculated power or {@link #OVERFLOW}.
+	 * @throws ArithmeticException when the exponent is negative.
+	 */
+	private static long longPower(long base, int exponent) {
+		if (exponent < 0) {
+			throw new ArithmeticException("Exponent " + exponent + " can't be negative.");
+		}
+
+		long result = 1;
+
+		while (true) {
+			// If exponent is odd, multiply by base.
+			if ((exponent & 1) != 0) {
+				long product = result * base;
+				if (Math.multiplyHigh(result, base) != (product >> 63)) {
+					return OVERFLOW;
+				}
+				result = product;
+			}
+
+			// Position next bit of n.
+			exponent >>= 1;
+
+			// If there are no more bits in exponent.
+			if (exponent == 0) {
+				return result;
+			}
+
+			// Power for the next bit of n.
+			long square = base * base;
+			if (Math.multiplyHigh(base, base) != (square >> 63)) {
+				return OVERFLOW;
+			}
+			base = square;
+		}
+	}
+
+	/**
+	 * Helper method that multiplies all numbers in range [{@code from},
+	 * {@code to}] by recursively splitting the range in halves, so that the
+	 * factors being multiplied stay balanced in size.
+	 *
+	 * @param from is the first factor.
+	 * @param to   is the last factor.
+	 * @return product of all numbers in the range.
+	 */
+	private static BigInteger product(long from, long to) {
+		if (to - from < PRODUCT_THRESHOLD) {
+			BigInteger result = BigInteger.ONE;
+			long partial = 1;
+			for (long i = from; i <= to; i++) {
+				if (Math.multiplyHigh(partial, i) != 0 || partial * i < 0) {
+					result = result.multiply(BigInteger.valueOf(partial));
+					partial = i;
+				} else {
+					partial *= i;
+				}
+			}
+			return result.multiply(BigInteger.valueOf(partial));
+		}
+
+		long middle = (from + to) >>> 1;
+		return product(from, middle).multiply(product(middle + 1, to));
+	}
+
+	/**
+	 * Holder of the recently used factorials that don't fit in {@code long},
+	 * created on first use, so that programs that never calculate such a
+	 * factorial don't pay for it when they start. Factorials are evicted in the
+	 * least recently used order once their bits together exceed
+	 * {@link #FACTORIAL_CACHE_BITS}, since a single large factorial can take as
+	 * much memory as thousands of small ones.
+	 */
+	static final class FactorialCache {
+		/**
+		 * Recently used factorials, in the least recently used order.
+		 */
+		private static final LinkedHashMap<Integer, BigInteger> ENTRIES = new LinkedHashMap<>(16, 0.75f, true);
+
+		/**
+		 * Total number of bits of the cached factorials.
+		 */
+		private static long bits;
+
+		/**
+		 * Method finds a cached factorial.
+		 *
+		 * @param number is a value whose factorial is looked for.
+		 * @return factorial of the given number, or {@code null} if it isn't cached.
+		 */
+		static synchronized BigInteger get(int number) {
+			return ENTRIES.get(number);
+		}
+
+		/**
+		 * Method caches a factorial and evicts the least recently used factorials
+		 * that don't fit any more.
+		 *
+		 * @param number    is a value whose factorial is cached.
+		 * @param factorial is the factorial of the value.
+		 */
+		static synchronized void put(int number, BigInteger factorial) {
+			if (factorial.bitLength() > FACTORIAL_CACHE_BITS || ENTRIES.containsKey(number)) {
+				return;
+			}
+			ENTRIES.put(number, factorial);
+			bits += factorial.bitLength();
+			Iterator<BigInteger> eldest = ENTRIES.values().iterator();
+			while (bits > FACTORIAL_CACHE_BITS) {
+				bits -= eldest.next().bitLength();
+				eldest.remove();
+			}
+		}
+
+		/**
+		 * Getter for the total number of bits of the cached factorials.
+		 *
+		 * @return number of bits.
+		 */
+		static synchronized long bits() {
+			return bits;
+		}
+	}
+
+}
@@ -0,0 +1,524 @@
+package calculator;
+
+import java.util.Arrays;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to evaluate an infix expression such as
+ * {@code "(12.5 + 3) * 4 / 2 - 7!"} with the operations of the calculator
+ * classes. An expression is parsed once, into postfix form kept in two
+ * primitive arrays, and can then be evaluated any number of times, from any
+ * number of threads, without allocating. Parsed expressions are meant to be
+ * kept in an {@link ExpressionCache}.
+ * <p>
+ * Expressions use numbers, parentheses, the four arithmetic operators, power
+ * {@code ^} and factorial {@code !}, and the letter {@code x}, which stands for
+ * the value of the calculator the expression is evaluated on. Factorial binds
+ * tighter than power, power tighter than a sign, and a sign tighter than
+ * multiplication and division; power is right-associative and the other
+ * operators are left-associative, so {@code -2^3^2} is {@code -(2^(3^2))}.
+ * <p>
+ * Operations behave exactly as in {@link Calculator} and
+ * {@link CalculatorAdvanced}: division by zero throws a
+ * {@link DivisionByZeroException}, {@code a^n} raises the floor value of
+ * {@code a} to {@code n}, which has to be a whole number in range [0, 9], and
+ * factorial throws a {@link NumberNotInAreaException} outside of range
+ * [0, 10]. Parts of an expression without {@code x} are calculated when it's
+ * parsed, unless they fail, in which case they fail when it's evaluated.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class Expression {
+	/**
+	 * Letter that stands for the value of the calculator.
+	 */
+	public static final char VARIABLE = 'x';
+
+	/**
+	 * Deepest nesting of parentheses and signs the parser accepts.
+	 */
+	static final int MAX_NESTING = 256;
+
+	/**
+	 * Longest part of an expression quoted in the message of a syntax error.
+	 */
+	static final int MAX_QUOTED = 40;
+
+	/**
+	 * Instruction that pushes its constant.
+	 */
+	private static final byte CONSTANT = 0;
+	/**
+	 * Instruction that pushes the value of the calculator.
+	 */
+	private static final byte LOAD = 1;
+	/**
+	 * Instruction that adds the top value to the one below.
+	 */
+	private static final byte ADD = 2;
+	/**
+	 * Instruction that subtracts the top value from the one below.
+	 */
+	private static final byte SUBTRACT = 3;
+	/**
+	 * Instruction that multiplies the value below by the top value.
+	 */
+	private static final byte MULTIPLY = 4;
+	/**
+	 * Instruction that divides the value below by the top value.
+	 */
+	private static final byte DIVIDE = 5;
+	/**
+	 * Instruction that raises the value below to the top value.
+	 */
+	private static final byte POWER = 6;
+	/**
+	 * Instruction that negates the top value.
+	 */
+	private static final byte NEGATE = 7;
+	/**
+	 * Instruction that takes the factorial of the top value.
+	 */
+	private static final byte FACTORIAL = 8;
+
+	/**
+	 * Stack of every thread that evaluates expressions, grown to the deepest
+	 * expression it has evaluated.
+	 */
+	private static final ThreadLocal<double[]> STACKS = ThreadLocal.withInitial(() -> new double[16]);
+
+	/**
+	 * Text the expression has been parsed from.
+	 */
+	private final String text;
+
+	/**
+	 * Instructions in postfix order.
+	 */
+	private final byte[] instructions;
+
+	/**
+	 * Constant of every {@link #CONSTANT} instruction.
+	 */
+	private final double[] constants;
+
+	/**
+	 * Largest number of values on the stack during an evaluation.
+	 */
+	private final int depth;
+
+	private Expression(String text, byte[] instructions, double[] constants, int depth) {
+		this.text = text;
+		this.instructions = instructions;
+		this.constants = constants;
+		this.depth = depth;
+	}
+
+	/**
+	 * Method parses an expression.
+	 *
+	 * @param text is the expression, such as {@code "(12.5 + 3) * 4 / 2 - 7!"}.
+	 * @return parsed expression.
+	 * @throws NotSupportedOperationException when the expression uses an unknown
+	 *                                        operator or isn't well formed.
+	 */
+	public static Expression parse(String text) throws NotSupportedOperationException {
+		return new Parser(text).parse();
+	}
+
+	/**
+	 * Getter for the text the expression has been parsed from.
+	 *
+	 * @return text of the expression.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Method checks if the whole expression has been calculated when it was
+	 * parsed, which is the case when it doesn't use {@value #VARIABLE} and
+	 * doesn't fail.
+	 *
+	 * @return true if evaluation just returns a constant.
+	 */
+	public boolean isConstant() {
+		return instructions.length == 1 && instructions[0] == CONSTANT;
+	}
+
+	/**
+	 * Getter for the number of instructions left after parsing.
+	 *
+	 * @return number of instructions.
+	 */
+	public int size() {
+		return instructions.length;
+	}
+
+	/**
+	 * Method evaluates the expression.
+	 *
+	 * @param value is the value of the calculator, used for {@value #VARIABLE}.
+	 * @return value of the expression.
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 * @throws NotSupportedOperationException when an exponent isn't a whole
+	 *                                        number in range [0, 9]
+	 * @throws NumberNotInAreaException       when a factorial is taken of a
+	 *                                        number that's not in range [0, 10]
+	 */
+	public double evaluate(double value)
+			throws DivisionByZeroException, NotSupportedOperationException, NumberNotInAreaException {
+		byte[] instructions = this.instructions;
+		if (instructions.length == 1 && instructions[0] == CONSTANT) {
+			return constants[0];
+		}
+
+		double[] stack = STACKS.get();
+		if (stack.length < depth) {
+			stack = new double[depth];
+			STACKS.set(stack);
+		}
+
+		int top = -1;
+		for (int i = 0; i < instructions.length; i++) {
+			switch (instructions[i]) {
+			case CONSTANT:
+				stack[++top] = constants[i];
+				break;
+			case LOAD:
+				stack[++top] = value;
+				break;
+			case NEGATE:
+				stack[top] = -stack[top];
+				break;
+			case FACTORIAL:
+				stack[top] = CalculatorAdvanced.calculateAdvanced(stack[top], '!');
+				break;
+			default:
+				top--;
+				stack[top] = apply(instructions[i], stack[top], stack[top + 1]);
+				break;
+			}
+		}
+		return stack[0];
+	}
+
+	@Override
+	public String toString() {
+		return text;
+	}
+
+	/**
+	 * Helper method that performs a binary instruction.
+	 *
+	 * @param instruction is the instruction.
+	 * @param left        is the value below the top of the stack.
+	 * @param right       is the top value of the stack.
+	 * @return result of the instruction.
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 * @throws NotSupportedOperationException when an exponent isn't a whole
+	 *                                        number in range [0, 9]
+	 */
+	private static double apply(byte instruction, double left, double right)
+			throws DivisionByZeroException, NotSupportedOperationException {
+		switch (instruction) {
+		case ADD:
+			return left + right;
+		case SUBTRACT:
+			return left - right;
+		case MULTIPLY:
+			return left * right;
+		case DIVIDE:
+			if (right == 0.0d) {
+				throw new DivisionByZeroException();
+			}
+			return left / right;
+		default:
+			if (!(right >= 0.0d && right <= 9.0d && right == Math.rint(right))) {
+				throw new NotSupportedOperationException(
+						"Exponent " + right + " isn't a whole number in range [0, 9].");
+			}
+			try {
+				return CalculatorAdvanced.calculateAdvanced(left, (char) ('0' + (int) right));
+			} catch (NumberNotInAreaException e) {
+				// Only factorial checks the range of its number.
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Recursive descent parser that emits the instructions in postfix order.
+	 */
+	private static final class Parser {
+		private final String text;
+		private byte[] instructions = new byte[16];
+		private double[] constants = new double[16];
+		private int size;
+		private int position;
+		private int nesting;
+
+		/**
+		 * Number of values on the stack after the emitted instructions, and the
+		 * largest one so far.
+		 */
+		private int stack;
+		private int depth;
+
+		Parser(String text) {
+			this.text = text;
+		}
+
+		Expression parse() throws NotSupportedOperationException {
+			expression();
+			skipWhitespace();
+			if (position < text.length()) {
+				char next = text.charAt(position);
+				if (next == ')') {
+					throw invalid("unmatched ')'");
+				}
+				throw startsOperand(next) ? invalid("missing operator") : unexpected(next);
+			}
+			return new Expression(text, Arrays.copyOf(instructions, size), Arrays.copyOf(constants, size), depth);
+		}
+
+		/**
+		 * Parses a sum: {@code term (('+' | '-') term)*}.
+		 */
+		private void expression() throws NotSupportedOperationException {
+			term();
+			for (char next = peek(); next == '+' || next == '-'; next = peek()) {
+				position++;
+				term();
+				emitBinary(next == '+' ? ADD : SUBTRACT);
+			}
+		}
+
+		/**
+		 * Parses a product: {@code unary (('*' | '/') unary)*}.
+		 */
+		private void term() throws NotSupportedOperationException {
+			unary();
+			for (char next = peek(); next == '*' || next == '/'; next = peek()) {
+				position++;
+				unary();
+				emitBinary(next == '*' ? MULTIPLY : DIVIDE);
+			}
+		}
+
+		/**
+		 * Parses a signed power: {@code ('+' | '-') unary | power}.
+		 */
+		private void unary() throws NotSupportedOperationException {
+			char next = peek();
+			if (next == '+' || next == '-') {
+				position++;
+				enter();
+				unary();
+				nesting--;
+				if (next == '-') {
+					emitUnary(NEGATE);
+				}
+			} else {
+				power();
+			}
+		}
+
+		/**
+		 * Parses a power: {@code factorial ('^' unary)?}.
+		 */
+		private void power() throws NotSupportedOperationException {
+			factorial();
+			if (peek() == '^') {
+				position++;
+				enter();
+				unary();
+				nesting--;
+				emitBinary(POWER);
+			}
+		}
+
+		/**
+		 * Parses a factorial: {@code primary '!'*}.
+		 */
+		private void factorial() throws NotSupportedOperationException {
+			primary();
+			while (peek() == '!') {
+				position++;
+				emitUnary(FACTORIAL);
+			}
+		}
+
+		/**
+		 * Parses a number, the variable or an expression in parentheses.
+		 */
+		private void primary() throws NotSupportedOperationException {
+			char next = peek();
+			if (next == '(') {
+				position++;
+				enter();
+				expression();
+				nesting--;
+				if (peek() != ')') {
+					throw invalid("missing ')'");
+				}
+				position++;
+			} else if (next == VARIABLE) {
+				position++;
+				emit(LOAD, 0.0d, 1);
+			} else if ((next >= '0' && next <= '9') || next == '.') {
+				number();
+			} else if (next == 0) {
+				throw invalid("missing operand");
+			} else if (next == ')' || next == '*' || next == '/' || next == '^' || next == '!') {
+				throw invalid("missing operand before '" + next + "'");
+			} else {
+				throw unexpected(next);
+			}
+		}
+
+		/**
+		 * Parses a number of digits with an optional decimal point.
+		 */
+		private void number() throws NotSupportedOperationException {
+			int start = position;
+			boolean point = false;
+			while (position < text.length()) {
+				char c = text.charAt(position);
+				if (c == '.' && !point) {
+					point = true;
+				} else if (c < '0' || c > '9') {
+					break;
+				}
+				position++;
+			}
+			if (position - start == 1 && point) {
+				throw invalid("'.' isn't a number");
+			}
+			emit(CONSTANT, Double.parseDouble(text.substring(start, position)), 1);
+		}
+
+		/**
+		 * Emits a unary instruction, calculating it right away when its operand is
+		 * a constant.
+		 */
+		private void emitUnary(byte instruction) {
+			if (instructions[size - 1] == CONSTANT) {
+				double operand = constants[size - 1];
+				try {
+					double result = instruction == NEGATE ? -operand
+							: CalculatorAdvanced.calculateAdvanced(operand, '!');
+					constants[size - 1] = result;
+					return;
+				} catch (NumberNotInAreaException | NotSupportedOperationException e) {
+					// Left to fail when the expression is evaluated.
+				}
+			}
+			emit(instruction, 0.0d, 0);
+		}
+
+		/**
+		 * Emits a binary instruction, calculating it right away when both of its
+		 * operands are constants. An operand is a constant only if its last
+		 * instruction is, as every other operand ends with an operator.
+		 */
+		private void emitBinary(byte instruction) {
+			if (size >= 2 && instructions[size - 1] == CONSTANT && instructions[size - 2] == CONSTANT) {
+				try {
+					double result = apply(instruction, constants[size - 2], constants[size - 1]);
+					size--;
+					stack--;
+					constants[size - 1] = result;
+					return;
+				} catch (DivisionByZeroException | NotSupportedOperationException e) {
+					// Left to fail when the expression is evaluated.
+				}
+			}
+			emit(instruction, 0.0d, -1);
+		}
+
+		/**
+		 * Emits an instruction.
+		 *
+		 * @param instruction is the instruction.
+		 * @param constant    is its constant.
+		 * @param change      is the change of the number of values on the stack.
+		 */
+		private void emit(byte instruction, double constant, int change) {
+			if (size == instructions.length) {
+				instructions = Arrays.copyOf(instructions, 2 * size);
+				constants = Arrays.copyOf(constants, 2 * size);
+			}
+			instructions[size] = instruction;
+			constants[size++] = constant;
+			stack += change;
+			depth = Math.max(depth, stack);
+		}
+
+		/**
+		 * Takes the next character other than whitespace without consuming it.
+		 *
+		 * @return next character, or 0 at the end of the text.
+		 */
+		private char peek() {
+			skipWhitespace();
+			return position < text.length() ? text.charAt(position) : 0;
+		}
+
+		private void skipWhitespace() {
+			while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+				position++;
+			}
+		}
+
+		/**
+		 * Goes one level deeper, so that no text can overflow the stack of the
+		 * parser.
+		 */
+		private void enter() throws NotSupportedOperationException {
+			if (++nesting > MAX_NESTING) {
+				throw invalid("nested deeper than " + MAX_NESTING + " levels");
+			}
+		}
+
+		private NotSupportedOperationException unexpected(char symbol) {
+			return new NotSupportedOperationException(
+					CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, symbol, 0.0d));
+		}
+
+		/**
+		 * Checks if a character can only start an operand, so that finding it
+		 * where an operator is expected means the operator is missing.
+		 */
+		private static boolean startsOperand(char next) {
+			return (next >= '0' && next <= '9') || next == '.' || next == '(' || next == VARIABLE;
+		}
+
+		private NotSupportedOperationException invalid(String reason) {
+			return new NotSupportedOperationException(
+					"Expression \"" + quote() + "\" isn't valid: " + reason + " at position " + position + ".");
+		}
+
+		/**
+		 * Takes the part of the text around the current position, at most
+		 * {@value Expression#MAX_QUOTED} characters long, so that a long text
+		 * doesn't end up in the message as a whole.
+		 *
+		 * @return the whole text if it's short enough, otherwise a part of it with
+		 *         "..." where it has been cut.
+		 */
+		private String quote() {
+			if (text.length() <= MAX_QUOTED) {
+				return text;
+			}
+			int start = Math.max(0, Math.min(position - MAX_QUOTED / 2, text.length() - MAX_QUOTED));
+			int end = start + MAX_QUOTED;
+			return (start > 0 ? "..." : "") + text.substring(start, end) + (end < text.length() ? "..." : "");
+		}
+	}
+}
@@ -0,0 +1,222 @@
+package calculator;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Class used to keep parsed {@link Expression} objects, so that an expression
+ * sent over and over is parsed only once. Expressions are keyed by their text,
+ * and only the ones that parse are stored, so a cache never changes a result
+ * or an error. A single cache can be shared by any number of threads.
+ * <p>
+ * The cache holds a fixed number of expressions and is two-way
+ * set-associative: a text can be stored only in the two slots of the set
+ * picked by its hash, and when both are taken the one used less recently is
+ * replaced. Slots are read and written with single atomic accesses and
+ * nothing is ever locked, so a lookup that finds its expression doesn't
+ * allocate and doesn't wait. Two threads that miss the same text at the same
+ * time both parse it, and one of the results is kept.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ExpressionCache {
+	/**
+	 * Number of slots in a set.
+	 */
+	static final int WAYS = 2;
+
+	/**
+	 * Stored expressions, the two slots of a set next to each other.
+	 */
+	private final AtomicReferenceArray<Expression> slots;
+
+	/**
+	 * Slot of every set to replace next, written only when it changes so that
+	 * lookups of a hot set don't keep invalidating its cache line.
+	 */
+	private final byte[] victims;
+
+	/**
+	 * Mask that takes the set from a hash.
+	 */
+	private final int mask;
+
+	/**
+	 * Number of lookups that have found their text.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of lookups that haven't found their text.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Number of expressions removed to make room for new ones.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates an empty cache.
+	 *
+	 * @param capacity is the smallest number of expressions the cache holds. It's
+	 *                 rounded up to a power of two of at least {@value #WAYS}.
+	 * @throws IllegalArgumentException when the capacity isn't positive or is
+	 *                                  larger than 2^30.
+	 */
+	public ExpressionCache(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity of the cache (" + capacity + ") isn't valid.");
+		}
+
+		int size = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+		slots = new AtomicReferenceArray<>(size);
+		victims = new byte[size / WAYS];
+		mask = size / WAYS - 1;
+	}
+
+	/**
+	 * Method takes the parsed form of an expression, parsing it only if it isn't
+	 * in the cache.
+	 *
+	 * @param text is the expression.
+	 * @return parsed expression.
+	 * @throws NotSupportedOperationException when the expression uses an unknown
+	 *                                        operator or isn't well formed.
+	 */
+	public Expression get(String text) throws NotSupportedOperationException {
+		int set = hash(text) & mask;
+		int first = set * WAYS;
+
+		Expression expression = slots.get(first);
+		if (expression != null && expression.getText().equals(text)) {
+			hit(set, 1);
+			return expression;
+		}
+		expression = slots.get(first + 1);
+		if (expression != null && expression.getText().equals(text)) {
+			hit(set, 0);
+			return expression;
+		}
+
+		misses.increment();
+		expression = Expression.parse(text);
+		int way = slots.get(first) == null ? 0 : slots.get(first + 1) == null ? 1 : victims[set];
+		if (slots.getAndSet(first + way, expression) != null) {
+			evictions.increment();
+		}
+		victims[set] = (byte) (1 - way);
+		return expression;
+	}
+
+	/**
+	 * Getter for the number of expressions the cache holds.
+	 *
+	 * @return capacity of the cache.
+	 */
+	public int capacity() {
+		return slots.length();
+	}
+
+	/**
+	 * Getter for the number of stored expressions.
+	 *
+	 * @return number of stored expressions.
+	 */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if (slots.get(i) != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Getter for the number of lookups that have found their text.
+	 *
+	 * @return number of hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Getter for the number of lookups that haven't found their text, each
+	 * followed by parsing.
+	 *
+	 * @return number of misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Getter for the number of expressions removed to make room for new ones.
+	 *
+	 * @return number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Getter for the share of lookups that have found their text.
+	 *
+	 * @return hit rate in range [0, 1], or {@code 0.0} before the first lookup.
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long total = hits + getMisses();
+		return total == 0 ? 0.0d : (double) hits / total;
+	}
+
+	/**
+	 * Removes every expression and resets the counters.
+	 */
+	public void clear() {
+		for (int i = 0; i < slots.length(); i++) {
+			slots.set(i, null);
+		}
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "ExpressionCache[capacity=" + capacity() + ", size=" + size() + ", hits=" + getHits() + ", misses="
+				+ getMisses() + ", evictions=" + getEvictions() + "]";
+	}
+
+	/**
+	 * Helper method that records a hit and makes the other slot of the set the
+	 * next one to replace.
+	 *
+	 * @param set    is the set of the hit.
+	 * @param victim is the slot of the set that hasn't been hit.
+	 */
+	private void hit(int set, int victim) {
+		hits.increment();
+		if (victims[set] != victim) {
+			victims[set] = (byte) victim;
+		}
+	}
+
+	/**
+	 * Helper method that spreads the hash of a text, so that texts that differ
+	 * only in their last characters fall into different sets.
+	 *
+	 * @param text is the text.
+	 * @return spread hash.
+	 */
+	private static int hash(String text) {
+		int hash = text.hashCode() * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+}
@@ -0,0 +1,30 @@
+package calculator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Interface used to add an arithmetic operation to a {@link Calculator}
+ * through an {@link OperatorRegistry}. An operator computes a new calculator
+ * value from the current one and an operand, the same way the four built-in
+ * operations do.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@FunctionalInterface
+public interface Operator {
+	/**
+	 * Method performs the operation.
+	 *
+	 * @param currentValue is the value of the calculator, used as a first
+	 *                     operand.
+	 * @param value        is a number used as a second operand.
+	 * @return result of the operation.
+	 * @throws DivisionByZeroException        when the operation divides by zero.
+	 * @throws NotSupportedOperationException when the operation isn't defined for
+	 *                                        the operands.
+	 */
+	double apply(double currentValue, double value) throws DivisionByZeroException, NotSupportedOperationException;
+}
@@ -0,0 +1,115 @@
+package calculator;
+
+import java.util.Arrays;
+
+/**
+ * Class used to add operators to the {@link Calculator#calculate(Double, char)
+ * calculate} methods of calculators that use it. Operators are kept in a
+ * table indexed by their character, so finding one costs a single array load
+ * no matter how many operators are registered.
+ * <p>
+ * The four built-in operators are always handled by the calculator itself,
+ * before the registry is looked at, so they keep their fast path and can't be
+ * replaced. Any other ASCII character can be registered, and operators can be
+ * registered, replaced and removed at any time, also while calculators use
+ * the registry from other threads. Changes copy the table and publish the copy
+ * with a single volatile write, so lookups never lock and always see a whole
+ * table.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class OperatorRegistry {
+	/**
+	 * Number of characters that can be registered, which are the ASCII ones.
+	 */
+	public static final int SIZE = 128;
+
+	/**
+	 * Registered operators indexed by their character, {@code null} where
+	 * nothing is registered. The array is never changed once published.
+	 */
+	private volatile Operator[] operators = new Operator[SIZE];
+
+	/**
+	 * Method registers an operator, replacing the one registered for the same
+	 * character.
+	 *
+	 * @param symbol   is the character of the operator.
+	 * @param operator is the operator.
+	 * @return replaced operator, or {@code null} if there wasn't any.
+	 * @throws IllegalArgumentException when the character isn't ASCII or is one
+	 *                                  of the built-in operators, or the
+	 *                                  operator is {@code null}.
+	 */
+	public synchronized Operator register(char symbol, Operator operator) {
+		if (symbol >= SIZE || isBuiltIn(symbol) || operator == null) {
+			throw new IllegalArgumentException("Operator '" + symbol + "' can't be registered.");
+		}
+		return replace(symbol, operator);
+	}
+
+	/**
+	 * Method removes an operator.
+	 *
+	 * @param symbol is the character of the operator.
+	 * @return removed operator, or {@code null} if there wasn't any.
+	 */
+	public synchronized Operator unregister(char symbol) {
+		return symbol < SIZE ? replace(symbol, null) : null;
+	}
+
+	/**
+	 * Getter for the operator of a character.
+	 *
+	 * @param symbol is the character of the operator.
+	 * @return registered operator, or {@code null} if there isn't any.
+	 */
+	public Operator get(char symbol) {
+		Operator[] operators = this.operators;
+		return symbol < SIZE ? operators[symbol] : null;
+	}
+
+	/**
+	 * Getter for the characters of the registered operators.
+	 *
+	 * @return characters in ascending order.
+	 */
+	public char[] symbols() {
+		Operator[] operators = this.operators;
+		char[] symbols = new char[SIZE];
+		int count = 0;
+		for (char symbol = 0; symbol < SIZE; symbol++) {
+			if (operators[symbol] != null) {
+				symbols[count++] = symbol;
+			}
+		}
+		return Arrays.copyOf(symbols, count);
+	}
+
+	/**
+	 * Method checks if a character is one of the four built-in operators.
+	 *
+	 * @param symbol is the character.
+	 * @return true if the operator is built in.
+	 */
+	public static boolean isBuiltIn(char symbol) {
+		return symbol == '+' || symbol == '-' || symbol == '*' || symbol == '/';
+	}
+
+	/**
+	 * Helper method that publishes a copy of the table with one entry replaced.
+	 *
+	 * @param symbol   is the character of the entry.
+	 * @param operator is the new entry.
+	 * @return previous entry.
+	 */
+	private Operator replace(char symbol, Operator operator) {
+		Operator[] copy = operators.clone();
+		Operator previous = copy[symbol];
+		copy[symbol] = operator;
+		operators = copy;
+		return previous;
+	}
+}
@@ -0,0 +1,418 @@
+package calculator;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Class used to remember the results of {@link CalculatorAdvanced} operations
+ * that depend only on the floor value of the calculator, that is exponentiation,
+ * factorial and the Armstrong and Perfect number checks. Results are keyed by
+ * the operation character and the floor value, and only the results of
+ * successful operations are stored, so a cache never changes a result or
+ * causes an exception. The cache is used through {@link CachedCalculator}, and
+ * a single cache can be shared by any number of calculators and threads.
+ * <p>
+ * The cache holds a fixed number of entries and is set-associative: a key can
+ * be stored only in one set of {@value #WAYS} slots picked by its hash, and
+ * when the set is full the CLOCK algorithm picks the entry to evict. Every
+ * entry has a reference bit that is set when it's read, and a hand of the set
+ * moves over the slots, clearing the bits, until it finds an entry that hasn't
+ * been read since the hand has last passed it. New entries start without the
+ * bit, so values that are seen only once are evicted before the ones that
+ * repeat.
+ * <p>
+ * Keys and results are kept in primitive arrays, so neither lookups nor
+ * insertions allocate. Sets are spread over segments, each guarded by its own
+ * {@link StampedLock}; lookups are optimistic and don't lock at all unless
+ * they race with an insertion.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class ResultCache {
+	/**
+	 * Number of slots in a set.
+	 */
+	static final int WAYS = 8;
+
+	/**
+	 * Returned by a lookup when the key isn't stored. It's a {@code NaN} with a
+	 * payload, and neither exponentiation nor factorial of a whole number ever
+	 * results in {@code NaN}.
+	 */
+	static final long MISSING = 0x7FF8_0000_0000_0BADL;
+
+	/**
+	 * Segments that hold the sets, their number being a power of two.
+	 */
+	private final Segment[] segments;
+
+	/**
+	 * Mask that takes the segment index from the top bits of a hash.
+	 */
+	private final int segmentMask;
+
+	/**
+	 * Number of lookups that have found their key.
+	 */
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * Number of lookups that haven't found their key.
+	 */
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Number of entries removed to make room for new ones.
+	 */
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Creates an empty cache.
+	 *
+	 * @param capacity is the smallest number of entries the cache holds. It's
+	 *                 rounded up to a power of two of at least {@value #WAYS}.
+	 * @throws IllegalArgumentException when the capacity isn't positive or is
+	 *                                  larger than 2^30.
+	 */
+	public ResultCache(int capacity) {
+		if (capacity <= 0 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity of the cache (" + capacity + ") isn't valid.");
+		}
+
+		int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+		int sets = slots / WAYS;
+		int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 4 - 1) << 1;
+		count = Math.min(count, sets);
+
+		segments = new Segment[count];
+		for (int i = 0; i < count; i++) {
+			segments[i] = new Segment(sets / count);
+		}
+		segmentMask = count - 1;
+	}
+
+	/**
+	 * Getter for the number of entries the cache holds.
+	 *
+	 * @return capacity of the cache.
+	 */
+	public int capacity() {
+		return segments.length * segments[0].operations.length;
+	}
+
+	/**
+	 * Getter for the number of stored entries.
+	 *
+	 * @return number of stored entries.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : segments) {
+			long stamp = segment.readLock();
+			try {
+				size += segment.size;
+			} finally {
+				segment.unlockRead(stamp);
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Getter for the number of lookups that have found their key.
+	 *
+	 * @return number of hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Getter for the number of lookups that haven't found their key, each
+	 * followed by a calculation.
+	 *
+	 * @return number of misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Getter for the number of entries removed to make room for new ones.
+	 *
+	 * @return number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Getter for the share of lookups that have found their key.
+	 *
+	 * @return hit rate in range [0, 1], or {@code 0.0} before the first lookup.
+	 */
+	public double getHitRate() {
+		long hits = getHits();
+		long total = hits + getMisses();
+		return total == 0 ? 0.0d : (double) hits / total;
+	}
+
+	/**
+	 * Removes every entry and resets the counters.
+	 */
+	public void clear() {
+		for (Segment segment : segments) {
+			long stamp = segment.writeLock();
+			try {
+				segment.clear();
+			} finally {
+				segment.unlockWrite(stamp);
+			}
+		}
+		hits.reset();
+		misses.reset();
+		evictions.reset();
+	}
+
+	@Override
+	public String toString() {
+		return "ResultCache[capacity=" + capacity() + ", size=" + size() + ", hits=" + getHits() + ", misses="
+				+ getMisses() + ", evictions=" + getEvictions() + "]";
+	}
+
+	/**
+	 * Method calculates exponentiation or factorial of a whole number, same as
+	 * {@link CalculatorAdvanced#calculateAdvanced(char)}, taking the result from
+	 * the cache when it's there.
+	 *
+	 * @param number is the floor value of the calculator.
+	 * @param action is a numerical character in range [0, 9], or '!' if the
+	 *               number is in range [0, 10]; checking that is up to the
+	 *               caller.
+	 * @return result of the calculation.
+	 */
+	double calculateAdvanced(long number, char action) {
+		long bits = get(number, action);
+		if (bits == MISSING) {
+			double result = action == '!' ? ExactArithmetic.factorialExact((int) number)
+					: ExactArithmetic.powerAsDouble(number, action - '0');
+			bits = Double.doubleToRawLongBits(result);
+			put(number, action, bits);
+		}
+		return Double.longBitsToDouble(bits);
+	}
+
+	/**
+	 * Method checks if a whole number is Armstrong or Perfect number, same as
+	 * {@link CalculatorAdvanced#hasCharacteristic(char)}, taking the result from
+	 * the cache when it's there.
+	 *
+	 * @param number is the floor value of the calculator, equal to or greater
+	 *               than 1.
+	 * @param value  is 'A' or 'P'; checking that is up to the caller.
+	 * @return true if the number has the requested property, otherwise false.
+	 */
+	boolean hasCharacteristic(long number, char value) {
+		long bits = get(number, value);
+		if (bits == MISSING) {
+			bits = (value == 'A' ? CalculatorAdvanced.isArmstrongNumber(number)
+					: CalculatorAdvanced.isPerfectNumber(number)) ? 1L : 0L;
+			put(number, value, bits);
+		}
+		return bits != 0L;
+	}
+
+	/**
+	 * Helper method that looks up a result and counts the lookup.
+	 *
+	 * @param number    is the whole number of the key.
+	 * @param operation is the operation character of the key.
+	 * @return stored result bits, or {@link #MISSING}.
+	 */
+	private long get(long number, char operation) {
+		long hash = hash(number, operation);
+		Segment segment = segments[(int) (hash >>> 40) & segmentMask];
+		int set = (int) hash & segment.setMask;
+
+		long stamp = segment.tryOptimisticRead();
+		int slot = segment.find(number, operation, set);
+		long bits = slot < 0 ? MISSING : segment.table[(slot << 1) + 1];
+		if (!segment.validate(stamp)) {
+			stamp = segment.readLock();
+			try {
+				slot = segment.find(number, operation, set);
+				bits = slot < 0 ? MISSING : segment.table[(slot << 1) + 1];
+			} finally {
+				segment.unlockRead(stamp);
+			}
+		}
+
+		if (slot < 0) {
+			misses.increment();
+		} else {
+			// Reference bit is only a hint, so a racy write is good enough. It's
+			// written only when it changes, to keep the cache line shared.
+			if (!segment.referenced[slot]) {
+				segment.referenced[slot] = true;
+			}
+			hits.increment();
+		}
+		return bits;
+	}
+
+	/**
+	 * Helper method that stores a result, evicting an entry of the set if it's
+	 * full.
+	 *
+	 * @param number    is the whole number of the key.
+	 * @param operation is the operation character of the key.
+	 * @param bits      are the result bits.
+	 */
+	private void put(long number, char operation, long bits) {
+		long hash = hash(number, operation);
+		Segment segment = segments[(int) (hash >>> 40) & segmentMask];
+		int set = (int) hash & segment.setMask;
+
+		long stamp = segment.writeLock();
+		try {
+			// Another thread could have stored the same result in the meantime.
+			if (segment.find(number, operation, set) < 0 && segment.put(number, operation, bits, set)) {
+				evictions.increment();
+			}
+		} finally {
+			segment.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Helper method that spreads the bits of a key. The top bits select a
+	 * segment and the bottom bits a set within it.
+	 *
+	 * @param number    is the whole number of the key.
+	 * @param operation is the operation character of the key.
+	 * @return hash of the key.
+	 */
+	private static long hash(long number, char operation) {
+		return CalculatorStore.hash(number + operation * 0xC2B2AE3D27D4EB4FL);
+	}
+
+	/**
+	 * Sets of a segment. Slots of set {@code s} are the slots
+	 * [{@code s * WAYS}, {@code (s + 1) * WAYS}), and a slot with the operation
+	 * {@code 0} is empty.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Segment extends StampedLock {
+		/**
+		 * Mask that takes the set index from the bottom bits of a hash.
+		 */
+		final int setMask;
+
+		/**
+		 * Whole numbers of the keys, each followed by the result bits of its
+		 * entry, so that a lookup touches as few cache lines as possible.
+		 */
+		final long[] table;
+
+		/**
+		 * Operation characters of the keys.
+		 */
+		final char[] operations;
+
+		/**
+		 * Reference bits of the entries.
+		 */
+		final boolean[] referenced;
+
+		/**
+		 * Position of the CLOCK hand of every set, relative to its first slot.
+		 */
+		final byte[] hands;
+
+		/**
+		 * Number of stored entries.
+		 */
+		int size;
+
+		Segment(int sets) {
+			setMask = sets - 1;
+			table = new long[sets * WAYS * 2];
+			operations = new char[sets * WAYS];
+			referenced = new boolean[sets * WAYS];
+			hands = new byte[sets];
+		}
+
+		/**
+		 * Method looks up a key in a set. It's also called without a lock by
+		 * optimistic readers, so it must not fail when the set is being changed at
+		 * the same time.
+		 *
+		 * @param number    is the whole number of the key.
+		 * @param operation is the operation character of the key.
+		 * @param set       is the index of the set.
+		 * @return index of the slot holding the key, or {@code -1}.
+		 */
+		int find(long number, char operation, int set) {
+			int first = set * WAYS;
+			for (int slot = first; slot < first + WAYS; slot++) {
+				if (operations[slot] == operation && table[slot << 1] == number) {
+					return slot;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Method stores a key that isn't in the set, in an empty slot if there is
+		 * one, and otherwise in the slot of the entry picked by the CLOCK hand.
+		 *
+		 * @param number    is the whole number of the key.
+		 * @param operation is the operation character of the key.
+		 * @param bits      are the result bits.
+		 * @param set       is the index of the set.
+		 * @return true if an entry has been evicted.
+		 */
+		boolean put(long number, char operation, long bits, int set) {
+			int first = set * WAYS;
+			int slot = -1;
+			for (int i = first; i < first + WAYS; i++) {
+				if (operations[i] == 0) {
+					slot = i;
+					break;
+				}
+			}
+
+			boolean evicted = slot < 0;
+			if (evicted) {
+				int hand = hands[set];
+				while (referenced[first + hand]) {
+					referenced[first + hand] = false;
+					hand = (hand + 1) & (WAYS - 1);
+				}
+				slot = first + hand;
+				hands[set] = (byte) ((hand + 1) & (WAYS - 1));
+			} else {
+				size++;
+			}
+
+			table[slot << 1] = number;
+			table[(slot << 1) + 1] = bits;
+			operations[slot] = operation;
+			referenced[slot] = false;
+			return evicted;
+		}
+
+		/**
+		 * Method empties every set.
+		 */
+		void clear() {
+			Arrays.fill(operations, (char) 0);
+			Arrays.fill(referenced, false);
+			Arrays.fill(hands, (byte) 0);
+			size = 0;
+		}
+	}
+}
@@ -0,0 +1,444 @@
+package calculator;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Class used to calculate every intermediate value of a long sequence of the
+ * four arithmetic operations, as if they were applied one after another with
+ * {@link Calculator#calculate(Double, char)}.
+ * <p>
+ * Every arithmetic step is an affine map {@code x -> a * x + b}, and since
+ * affine maps compose associatively, the sequence can be evaluated as a
+ * parallel prefix scan. The sequence is split into blocks, and the scan runs
+ * on the common {@link ForkJoinPool} in three passes:
+ * <ol>
+ * <li>the steps of every block are composed into a single map, in
+ * parallel,</li>
+ * <li>the composed maps are applied one after another to find the value at the
+ * start of every block,</li>
+ * <li>every block is evaluated step by step from its starting value, in
+ * parallel.</li>
+ * </ol>
+ * Within a block, values are calculated exactly as in the calculator, but the
+ * starting value of every block after the first one comes from composed maps,
+ * which round differently. Results may therefore diverge from sequential
+ * evaluation in the last bits, and the difference is carried on to the rest of
+ * the sequence. The strict mode evaluates the whole sequence sequentially and
+ * gives bit-for-bit the same results as the calculator, and
+ * {@link #compare(double[], double[])} shows where two results diverge.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class SequenceScan {
+	/**
+	 * Smallest number of steps in a block.
+	 */
+	private static final int MIN_BLOCK = 4096;
+
+	/**
+	 * Number of blocks per thread of the pool, so that threads that finish early
+	 * can take over blocks of the others.
+	 */
+	private static final int BLOCKS_PER_THREAD = 8;
+
+	/**
+	 * Identity element of the floating-point addition, used as the addend of
+	 * steps that only multiply or divide so that the sign of a zero result is
+	 * preserved.
+	 */
+	private static final double NEGATIVE_ZERO = -0.0d;
+
+	/**
+	 * Operators of the steps.
+	 */
+	private final char[] operators;
+
+	/**
+	 * Operands of the steps.
+	 */
+	private final double[] operands;
+
+	private SequenceScan(char[] operators, double[] operands) {
+		this.operators = operators;
+		this.operands = operands;
+	}
+
+	/**
+	 * Method validates a sequence of operations. The arrays aren't copied, so
+	 * they must not be changed while the sequence is in use.
+	 *
+	 * @param operators are the operators of the steps, as accepted by
+	 *                  {@link Calculator#calculate(Double, char)}.
+	 * @param operands  are the operands of the steps.
+	 * @return sequence ready to be evaluated.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is part of
+	 *                                        the sequence
+	 * @throws IllegalArgumentException       when the arrays differ in length.
+	 */
+	public static SequenceScan of(char[] operators, double[] operands)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		Calculator.checkBatchLength(operands.length, operators.length);
+
+		for (int i = 0; i < operators.length; i++) {
+			char operator = operators[i];
+			if (operator == '/') {
+				if (operands[i] == 0.0d) {
+					throw new DivisionByZeroException();
+				}
+			} else if (operator != '+' && operator != '-' && operator != '*') {
+				throw new NotSupportedOperationException(
+						CalculationResult.message(CalculationResult.UNKNOWN_OPERATOR, operator, 0.0d));
+			}
+		}
+		return new SequenceScan(operators, operands);
+	}
+
+	/**
+	 * Getter for the number of steps.
+	 *
+	 * @return number of steps.
+	 */
+	public int size() {
+		return operators.length;
+	}
+
+	/**
+	 * Method calculates every intermediate value with a parallel prefix scan.
+	 *
+	 * @param start is the value before the first step.
+	 * @return value after every step.
+	 */
+	public double[] evaluate(double start) {
+		double[] values = new double[operators.length];
+		evaluate(start, values);
+		return values;
+	}
+
+	/**
+	 * Method calculates every intermediate value with a parallel prefix scan.
+	 *
+	 * @param start  is the value before the first step.
+	 * @param values receive the value after every step.
+	 * @throws IllegalArgumentException when the array of values differs in length
+	 *                                  from the sequence.
+	 */
+	public void evaluate(double start, double[] values) {
+		checkLength(values);
+		int length = operators.length;
+		int parallelism = ForkJoinPool.getCommonPoolParallelism();
+		int blockSize = (int) Math.max(MIN_BLOCK,
+				((long) length + (long) parallelism * BLOCKS_PER_THREAD - 1) / ((long) parallelism * BLOCKS_PER_THREAD));
+		int blocks = (int) (((long) length + blockSize - 1) / blockSize);
+		if (blocks <= 1) {
+			evaluateStrict(start, values);
+			return;
+		}
+
+		// Composed map of every block, x -> multipliers[k] * x + addends[k].
+		double[] multipliers = new double[blocks];
+		double[] addends = new double[blocks];
+		new BlockTask(this, null, multipliers, addends, blockSize, 0, blocks).invoke();
+
+		// Value at the start of every block, stored in place of its multiplier.
+		double value = start;
+		for (int k = 0; k < blocks; k++) {
+			double next = Math.fma(multipliers[k], value, addends[k]);
+			multipliers[k] = value;
+			value = next;
+		}
+
+		new BlockTask(this, values, multipliers, null, blockSize, 0, blocks).invoke();
+	}
+
+	/**
+	 * Method calculates every intermediate value one step after another, giving
+	 * bit-for-bit the same values as the calculator.
+	 *
+	 * @param start is the value before the first step.
+	 * @return value after every step.
+	 */
+	public double[] evaluateStrict(double start) {
+		double[] values = new double[operators.length];
+		evaluateStrict(start, values);
+		return values;
+	}
+
+	/**
+	 * Method calculates every intermediate value one step after another, giving
+	 * bit-for-bit the same values as the calculator.
+	 *
+	 * @param start  is the value before the first step.
+	 * @param values receive the value after every step.
+	 * @throws IllegalArgumentException when the array of values differs in length
+	 *                                  from the sequence.
+	 */
+	public void evaluateStrict(double start, double[] values) {
+		checkLength(values);
+		evaluateRange(start, values, 0, operators.length);
+	}
+
+	/**
+	 * Method finds where two results of the same sequence diverge, typically a
+	 * parallel and a strict one.
+	 *
+	 * @param expected are the values taken as correct.
+	 * @param actual   are the compared values.
+	 * @return description of the divergence.
+	 * @throws IllegalArgumentException when the arrays differ in length.
+	 */
+	public static Divergence compare(double[] expected, double[] actual) {
+		if (expected.length != actual.length) {
+			throw new IllegalArgumentException("Arrays of values differ in length (" + expected.length + " and "
+					+ actual.length + ").");
+		}
+
+		int first = -1;
+		long count = 0;
+		double maxUlps = 0.0d;
+		int maxIndex = -1;
+		for (int i = 0; i < expected.length; i++) {
+			if (Double.doubleToLongBits(expected[i]) == Double.doubleToLongBits(actual[i])) {
+				continue;
+			}
+			if (first < 0) {
+				first = i;
+			}
+			count++;
+			double ulps = Math.abs(expected[i] - actual[i]) / Math.ulp(expected[i]);
+			// Differences involving NaN or infinity are infinitely large.
+			if (!(ulps <= maxUlps)) {
+				maxUlps = Double.isNaN(ulps) ? Double.POSITIVE_INFINITY : ulps;
+				maxIndex = i;
+			}
+		}
+		return new Divergence(first, count, maxUlps, maxIndex);
+	}
+
+	/**
+	 * Class used to describe where the values of two results diverge.
+	 */
+	public static final class Divergence {
+		/**
+		 * Index of the first different value, or -1.
+		 */
+		private final int firstIndex;
+		/**
+		 * Number of different values.
+		 */
+		private final long count;
+		/**
+		 * Largest difference in units in the last place of the expected value.
+		 */
+		private final double maxUlps;
+		/**
+		 * Index of the largest difference, or -1.
+		 */
+		private final int maxIndex;
+
+		private Divergence(int firstIndex, long count, double maxUlps, int maxIndex) {
+			this.firstIndex = firstIndex;
+			this.count = count;
+			this.maxUlps = maxUlps;
+			this.maxIndex = maxIndex;
+		}
+
+		/**
+		 * Getter for the index of the first value that differs.
+		 *
+		 * @return index of the first different value, or -1 if all are the same.
+		 */
+		public int getFirstIndex() {
+			return firstIndex;
+		}
+
+		/**
+		 * Getter for the number of values that differ.
+		 *
+		 * @return number of different values.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Getter for the largest difference, measured in units in the last place of
+		 * the expected value.
+		 *
+		 * @return largest difference, infinite if a value is NaN or infinite in only
+		 *         one of the results.
+		 */
+		public double getMaxUlps() {
+			return maxUlps;
+		}
+
+		/**
+		 * Getter for the index of the largest difference.
+		 *
+		 * @return index of the largest difference, or -1 if all values are the same.
+		 */
+		public int getMaxIndex() {
+			return maxIndex;
+		}
+
+		@Override
+		public String toString() {
+			return firstIndex < 0 ? "no divergence"
+					: count + " values diverge from index " + firstIndex + ", at most " + maxUlps + " ulps at index "
+							+ maxIndex;
+		}
+	}
+
+	/**
+	 * Helper method that evaluates a range of steps one after another.
+	 *
+	 * @param value  is the value before the first step of the range.
+	 * @param values receive the value after every step.
+	 * @param from   is the first step.
+	 * @param to     is the step after the last one.
+	 */
+	private void evaluateRange(double value, double[] values, int from, int to) {
+		char[] operators = this.operators;
+		double[] operands = this.operands;
+		for (int i = from; i < to; i++) {
+			switch (operators[i]) {
+			case '+':
+				value += operands[i];
+				break;
+			case '-':
+				value -= operands[i];
+				break;
+			case '*':
+				value *= operands[i];
+				break;
+			default:
+				value /= operands[i];
+				break;
+			}
+			values[i] = value;
+		}
+	}
+
+	/**
+	 * Helper method that composes a range of steps into a single affine map.
+	 *
+	 * @param multipliers receive the multiplier of the composed map.
+	 * @param addends     receive the addend of the composed map.
+	 * @param index       is the index of the map in the arrays.
+	 * @param from        is the first step.
+	 * @param to          is the step after the last one.
+	 */
+	private void composeRange(double[] multipliers, double[] addends, int index, int from, int to) {
+		char[] operators = this.operators;
+		double[] operands = this.operands;
+		double a = 1.0d;
+		double b = NEGATIVE_ZERO;
+		for (int i = from; i < to; i++) {
+			double operand = operands[i];
+			switch (operators[i]) {
+			case '+':
+				b += operand;
+				break;
+			case '-':
+				b -= operand;
+				break;
+			case '*':
+				a *= operand;
+				b *= operand;
+				break;
+			default:
+				a /= operand;
+				b /= operand;
+				break;
+			}
+		}
+		multipliers[index] = a;
+		addends[index] = b;
+	}
+
+	/**
+	 * Helper method that checks the length of an array of values.
+	 *
+	 * @param values are the checked values.
+	 * @throws IllegalArgumentException when the array differs in length from the
+	 *                                  sequence.
+	 */
+	private void checkLength(double[] values) {
+		if (values.length != operators.length) {
+			throw new IllegalArgumentException("Number of values (" + values.length
+					+ ") doesn't match number of steps (" + operators.length + ").");
+		}
+	}
+
+	/**
+	 * Task that processes a range of blocks, splitting it in halves until a
+	 * single block is left. Without an array of values, it composes the steps of
+	 * every block; otherwise it evaluates every block from its starting value.
+	 */
+	@SuppressWarnings("serial")
+	private static final class BlockTask extends RecursiveAction {
+		/**
+		 * Sequence being evaluated.
+		 */
+		private final SequenceScan scan;
+		/**
+		 * Values receiving the results, or {@code null} when composing.
+		 */
+		private final double[] values;
+		/**
+		 * Multipliers of the composed maps, or starting values of the blocks.
+		 */
+		private final double[] multipliers;
+		/**
+		 * Addends of the composed maps, or {@code null} when evaluating.
+		 */
+		private final double[] addends;
+		/**
+		 * Number of steps in a block.
+		 */
+		private final int blockSize;
+		/**
+		 * First block of the range.
+		 */
+		private final int from;
+		/**
+		 * Block after the last one of the range.
+		 */
+		private final int to;
+
+		BlockTask(SequenceScan scan, double[] values, double[] multipliers, double[] addends, int blockSize, int from,
+				int to) {
+			this.scan = scan;
+			this.values = values;
+			this.multipliers = multipliers;
+			this.addends = addends;
+			this.blockSize = blockSize;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > 1) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new BlockTask(scan, values, multipliers, addends, blockSize, from, middle),
+						new BlockTask(scan, values, multipliers, addends, blockSize, middle, to));
+				return;
+			}
+
+			int start = from * blockSize;
+			int end = (int) Math.min((long) start + blockSize, scan.operators.length);
+			if (values == null) {
+				scan.composeRange(multipliers, addends, from, start, end);
+			} else {
+				scan.evaluateRange(multipliers[from], values, start, end);
+			}
+		}
+	}
+}
@@ -0,0 +1,494 @@
+package calculator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleUnaryOperator;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to keep the values of a fixed number of calculators in a
+ * memory-mapped file, so that every process on the host that opens the same
+ * file reads and updates the same calculators without going through a
+ * network. Calculators are identified by their slot, and a new file starts
+ * with every value at {@code 0.0}. Every operation has the same semantics and
+ * throws the same exceptions as in {@link CalculatorAdvanced}; an operation
+ * that fails leaves the value unchanged.
+ * <p>
+ * The file starts with a header, followed by a slot of {@value #SLOT_SIZE}
+ * bytes per calculator, so that processes working on different calculators
+ * don't share cache lines:
+ *
+ * <pre>
+ * offset  size  content
+ *      0     4  magic number
+ *      4     4  layout version
+ *      8     4  state: 0 new, 1 being initialized, 2 ready
+ *     12     4  number of slots
+ *     16     4  size of a slot
+ *     20    44  reserved, zero
+ *     64     8  raw bits of the value of slot 0
+ *     72    56  padding of slot 0
+ *    128        slot 1, and so on
+ * </pre>
+ *
+ * Numbers are stored in the native byte order of the host.
+ * <p>
+ * A value is updated in a compare-and-swap loop on its slot in the mapping, the
+ * same way {@link ConcurrentCalculator} updates its value, and read with a
+ * single volatile read, so neither readers nor writers ever lock. Because a
+ * value is a single aligned word that is replaced at once, a process that
+ * crashes in the middle of an operation leaves its slot with either the old
+ * or the new value, never a mix of the two. The only state that can be left
+ * half-written is the file itself while it's being created: the header is
+ * initialized while an exclusive lock is held on the file, and marked ready
+ * only once every slot is zeroed, so a file left unfinished by a crashed
+ * process is detected and initialized again by the next process that opens
+ * it.
+ * <p>
+ * All methods are thread-safe. The file stays mapped until the object is
+ * garbage collected, but an object must not be used once it's closed.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class SharedCalculatorFile implements Closeable {
+	/**
+	 * Version of the layout of the file.
+	 */
+	public static final int LAYOUT_VERSION = 1;
+
+	/**
+	 * Size of the header in bytes.
+	 */
+	public static final int HEADER_SIZE = 64;
+
+	/**
+	 * Size of a slot in bytes, which is the size of a cache line.
+	 */
+	public static final int SLOT_SIZE = 64;
+
+	/**
+	 * Largest number of slots, limited by the size of a single mapping.
+	 */
+	public static final int MAX_SLOTS = (Integer.MAX_VALUE - HEADER_SIZE) / SLOT_SIZE;
+
+	/**
+	 * Magic number at the start of the file, {@code "CSHF"}.
+	 */
+	static final int MAGIC = 0x43534846;
+
+	static final int STATE_NEW = 0;
+	static final int STATE_INITIALIZING = 1;
+	static final int STATE_READY = 2;
+
+	/**
+	 * Accessor of the values in the mapping.
+	 */
+	private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+			ByteOrder.nativeOrder());
+
+	/**
+	 * Path of the file.
+	 */
+	private final Path path;
+
+	/**
+	 * Number of slots.
+	 */
+	private final int slots;
+
+	/**
+	 * Denotes if the file has been left unfinished by another process and
+	 * initialized again.
+	 */
+	private final boolean recovered;
+
+	/**
+	 * Mapping of the whole file, {@code null} once closed.
+	 */
+	private MappedByteBuffer mapping;
+
+	/**
+	 * Creates an object over a mapped file.
+	 *
+	 * @param path      is the path of the file.
+	 * @param slots     is the number of slots.
+	 * @param recovered denotes if the file has been initialized again.
+	 * @param mapping   is the mapping of the whole file.
+	 */
+	private SharedCalculatorFile(Path path, int slots, boolean recovered, MappedByteBuffer mapping) {
+		this.path = path;
+		this.slots = slots;
+		this.recovered = recovered;
+		this.mapping = mapping;
+	}
+
+	/**
+	 * Method opens a file, creating it with every value at {@code 0.0} if it
+	 * doesn't exist yet, is empty or has been left unfinished. Any other file
+	 * that isn't a file of this layout is left as it is. Files are opened one at a
+	 * time within a process, since a process can't lock the same file twice.
+	 *
+	 * @param path  is the path of the file.
+	 * @param slots is the number of slots. A file that already exists has to have
+	 *              the same number of slots.
+	 * @return opened file.
+	 * @throws IOException              when the file can't be read or created,
+	 *                                  or isn't a file of this layout version.
+	 * @throws IllegalArgumentException when the number of slots isn't in range
+	 *                                  [1, {@value #MAX_SLOTS}], or doesn't
+	 *                                  match the file.
+	 */
+	public static synchronized SharedCalculatorFile open(Path path, int slots) throws IOException {
+		if (slots <= 0 || slots > MAX_SLOTS) {
+			throw new IllegalArgumentException("Number of slots (" + slots + ") isn't in range [1, " + MAX_SLOTS
+					+ "].");
+		}
+
+		long size = HEADER_SIZE + (long) slots * SLOT_SIZE;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			FileLock lock = channel.lock();
+			try {
+				ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+				int state = STATE_NEW;
+				if (channel.size() > 0L) {
+					// Only an empty file, or one of this layout that isn't ready, is
+					// initialized, so that no other file is ever overwritten.
+					if (channel.size() < HEADER_SIZE) {
+						throw new IOException("File " + path + " isn't a shared calculator file.");
+					}
+					channel.read(header, 0L);
+					checkLayout(path, header);
+					state = header.getInt(8);
+				}
+
+				boolean recovered = state == STATE_INITIALIZING;
+				if (state == STATE_NEW || state == STATE_INITIALIZING) {
+					initialize(channel, slots, size);
+				} else if (state == STATE_READY) {
+					check(path, header, slots, channel.size());
+				} else {
+					throw new IOException("File " + path + " has an unknown state " + state + ".");
+				}
+				return new SharedCalculatorFile(path, slots, recovered,
+						channel.map(FileChannel.MapMode.READ_WRITE, 0L, size));
+			} finally {
+				lock.release();
+			}
+		}
+	}
+
+	/**
+	 * Getter for the number of slots.
+	 *
+	 * @return number of calculators in the file.
+	 */
+	public int getSlots() {
+		return slots;
+	}
+
+	/**
+	 * Getter for the state the file has been found in when opened.
+	 *
+	 * @return true if the file has been left unfinished by a crashed process and
+	 *         initialized again.
+	 */
+	public boolean isRecovered() {
+		return recovered;
+	}
+
+	/**
+	 * Getter for the value of a calculator.
+	 *
+	 * @param slot is the slot of the calculator.
+	 * @return current value of the calculator.
+	 * @throws IndexOutOfBoundsException when the slot doesn't exist.
+	 * @throws IllegalStateException     when the file has been closed.
+	 */
+	public double getCurrentValue(int slot) {
+		ByteBuffer mapping = mapping();
+		return Double.longBitsToDouble((long) LONGS.getVolatile(mapping, offset(slot)));
+	}
+
+	/**
+	 * Setter for the value of a calculator.
+	 *
+	 * @param slot         is the slot of the calculator.
+	 * @param currentValue is a value used to set calculator's new value.
+	 * @throws IndexOutOfBoundsException when the slot doesn't exist.
+	 * @throws IllegalStateException     when the file has been closed.
+	 */
+	public void setCurrentValue(int slot, double currentValue) {
+		ByteBuffer mapping = mapping();
+		LONGS.setVolatile(mapping, offset(slot), Double.doubleToRawLongBits(currentValue));
+	}
+
+	/**
+	 * Atomically performs one of the four arithmetic operations on the value of a
+	 * calculator, same as {@link Calculator#calculate(Double, char)}.
+	 *
+	 * @param slot     is the slot of the calculator.
+	 * @param value    is a number used as a second operand. It cannot be zero if
+	 *                 division is being performed.
+	 * @param operator denotes operation being performed on the value of the
+	 *                 calculator.
+	 * @throws NotSupportedOperationException when an unknown operator is used
+	 * @throws DivisionByZeroException        when a division by zero is attempted
+	 * @throws IndexOutOfBoundsException      when the slot doesn't exist.
+	 * @throws IllegalStateException          when the file has been closed.
+	 */
+	public void calculate(int slot, double value, char operator)
+			throws NotSupportedOperationException, DivisionByZeroException {
+		ByteBuffer mapping = mapping();
+		int offset = offset(slot);
+		for (;;) {
+			long bits = (long) LONGS.getVolatile(mapping, offset);
+			double result = Calculator.calculate(Double.longBitsToDouble(bits), value, operator);
+			if (LONGS.compareAndSet(mapping, offset, bits, Double.doubleToRawLongBits(result))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Atomically performs the factorial or exponentiation calculation on the value
+	 * of a calculator, same as {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param slot   is the slot of the calculator.
+	 * @param action is used to determine which calculation is going to be
+	 *               conducted.
+	 * @throws NumberNotInAreaException       when the operation is set on
+	 *                                        factorial but the value is not in
+	 *                                        range [0, 10].
+	 * @throws NotSupportedOperationException when an action isn't '!' or a
+	 *                                        numerical charter in range [0, 9].
+	 * @throws IndexOutOfBoundsException      when the slot doesn't exist.
+	 * @throws IllegalStateException          when the file has been closed.
+	 */
+	public void calculateAdvanced(int slot, char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		ByteBuffer mapping = mapping();
+		int offset = offset(slot);
+		for (;;) {
+			long bits = (long) LONGS.getVolatile(mapping, offset);
+			double result = CalculatorAdvanced.calculateAdvanced(Double.longBitsToDouble(bits), action);
+			if (LONGS.compareAndSet(mapping, offset, bits, Double.doubleToRawLongBits(result))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Checks if the value of a calculator is Armstrong or Perfect number, same as
+	 * {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 *
+	 * @param slot  is the slot of the calculator.
+	 * @param value is parameter used to distinguish between Armstrong or Perfect
+	 *              number check.
+	 * @return true if the value of the calculator has the requested property,
+	 *         otherwise false.
+	 * @throws NumberNotInAreaException       when a floor value of the value is
+	 *                                        smaller than 1
+	 * @throws NotSupportedOperationException when an unknown parameter
+	 *                                        {@code value} is used
+	 * @throws IndexOutOfBoundsException      when the slot doesn't exist.
+	 * @throws IllegalStateException          when the file has been closed.
+	 */
+	public boolean hasCharacteristic(int slot, char value)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		return CalculatorAdvanced.hasCharacteristic(getCurrentValue(slot), value);
+	}
+
+	/**
+	 * Method atomically replaces the value of a calculator with the result of a
+	 * function of it. The function may be called more than once when other
+	 * threads or processes update the same calculator at the same time, so it
+	 * has to be free of side effects.
+	 *
+	 * @param slot   is the slot of the calculator.
+	 * @param update computes the new value from the current one. If it throws,
+	 *               the value is left unchanged.
+	 * @return new value of the calculator.
+	 * @throws IndexOutOfBoundsException when the slot doesn't exist.
+	 * @throws IllegalStateException     when the file has been closed.
+	 */
+	public double update(int slot, DoubleUnaryOperator update) {
+		ByteBuffer mapping = mapping();
+		int offset = offset(slot);
+		for (;;) {
+			long bits = (long) LONGS.getVolatile(mapping, offset);
+			double result = update.applyAsDouble(Double.longBitsToDouble(bits));
+			if (LONGS.compareAndSet(mapping, offset, bits, Double.doubleToRawLongBits(result))) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * Method writes the values to the storage device. It isn't needed for other
+	 * processes to see the values, only for the values to survive a crash of the
+	 * operating system.
+	 *
+	 * @throws IllegalStateException when the file has been closed.
+	 */
+	public void force() {
+		((MappedByteBuffer) mapping()).force();
+	}
+
+	/**
+	 * Closes the file for this object. Other objects and processes that have
+	 * opened the same file aren't affected.
+	 */
+	@Override
+	public synchronized void close() {
+		mapping = null;
+	}
+
+	@Override
+	public String toString() {
+		return "SharedCalculatorFile[" + path + ", slots=" + slots + "]";
+	}
+
+	/**
+	 * Runs a process that keeps adding 1 to a calculator in a file for a given
+	 * time, and prints the number of additions and the value of the calculator
+	 * after them. Many processes can be run on the same file at the same time to
+	 * measure the throughput across processes. Arguments are the path of the
+	 * file, and optionally the number of seconds to run, the slot of the
+	 * calculator and the number of slots of the file, with defaults 10, 0 and
+	 * 64.
+	 *
+	 * @param args file, seconds, slot and slots.
+	 * @throws Exception when the file can't be opened.
+	 */
+	public static void main(String[] args) throws Exception {
+		Path path = Paths.get(args[0]);
+		double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 10.0d;
+		int slot = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+		int slots = args.length > 3 ? Integer.parseInt(args[3]) : 64;
+
+		try (SharedCalculatorFile file = open(path, slots)) {
+			long start = System.nanoTime();
+			long deadline = start + (long) (seconds * 1.0e9d);
+			long operations = 0;
+			while (System.nanoTime() < deadline) {
+				for (int i = 0; i < 1_000; i++) {
+					file.calculate(slot, 1.0d, '+');
+				}
+				operations += 1_000;
+			}
+			double elapsed = (System.nanoTime() - start) / 1.0e9d;
+			System.out.printf("%d additions, %.0f additions/s, value %.1f%n", operations,
+					operations / Math.max(elapsed, 1.0e-9d), file.getCurrentValue(slot));
+		}
+	}
+
+	/**
+	 * Helper method that takes the mapping of an open file.
+	 *
+	 * @return mapping of the whole file.
+	 * @throws IllegalStateException when the file has been closed.
+	 */
+	private ByteBuffer mapping() {
+		ByteBuffer mapping = this.mapping;
+		if (mapping == null) {
+			throw new IllegalStateException("Shared calculator file " + path + " has been closed.");
+		}
+		return mapping;
+	}
+
+	/**
+	 * Helper method that takes the offset of the value of a slot.
+	 *
+	 * @param slot is the slot of the calculator.
+	 * @return offset of the value in the file.
+	 * @throws IndexOutOfBoundsException when the slot doesn't exist.
+	 */
+	private int offset(int slot) {
+		if (slot < 0 || slot >= slots) {
+			throw new IndexOutOfBoundsException("Slot " + slot + " isn't in range [0, " + slots + ").");
+		}
+		return HEADER_SIZE + slot * SLOT_SIZE;
+	}
+
+	/**
+	 * Helper method that creates the file anew. The header is marked as being
+	 * initialized first and as ready last, and both are forced to the file, so a
+	 * crash at any point leaves a file that will be initialized again.
+	 *
+	 * @param channel is the channel of the file, locked exclusively.
+	 * @param slots   is the number of slots.
+	 * @param size    is the size of the file.
+	 * @throws IOException when the file can't be written.
+	 */
+	private static void initialize(FileChannel channel, int slots, long size) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+		header.putInt(0, MAGIC).putInt(4, LAYOUT_VERSION).putInt(8, STATE_INITIALIZING).putInt(12, slots)
+				.putInt(16, SLOT_SIZE);
+		channel.write(header, 0L);
+		channel.force(false);
+
+		// Truncating drops the values of an earlier attempt, and growing fills the
+		// slots with zeros.
+		channel.truncate(HEADER_SIZE);
+		channel.write(ByteBuffer.allocate(1), size - 1);
+		channel.force(false);
+
+		header.clear();
+		channel.write(header.putInt(8, STATE_READY), 0L);
+		channel.force(false);
+	}
+
+	/**
+	 * Helper method that checks that a file has the magic number and the layout
+	 * version of this class.
+	 *
+	 * @param path   is the path of the file.
+	 * @param header is the header of the file.
+	 * @throws IOException when the file isn't a file of this layout version.
+	 */
+	private static void checkLayout(Path path, ByteBuffer header) throws IOException {
+		if (header.getInt(0) != MAGIC) {
+			throw new IOException("File " + path + " isn't a shared calculator file.");
+		}
+		if (header.getInt(4) != LAYOUT_VERSION || header.getInt(16) != SLOT_SIZE) {
+			throw new IOException("File " + path + " has layout version " + header.getInt(4) + ", not "
+					+ LAYOUT_VERSION + ".");
+		}
+	}
+
+	/**
+	 * Helper method that checks the number of slots and the size of a ready file.
+	 *
+	 * @param path   is the path of the file.
+	 * @param header is the header of the file.
+	 * @param slots  is the expected number of slots.
+	 * @param size   is the size of the file.
+	 * @throws IOException              when the file is shorter than its slots.
+	 * @throws IllegalArgumentException when the number of slots doesn't match.
+	 */
+	private static void check(Path path, ByteBuffer header, int slots, long size) throws IOException {
+		if (header.getInt(12) != slots) {
+			throw new IllegalArgumentException("File " + path + " has " + header.getInt(12) + " slots, not " + slots
+					+ ".");
+		}
+		if (size < HEADER_SIZE + (long) slots * SLOT_SIZE) {
+			throw new IOException("File " + path + " is shorter than its " + slots + " slots.");
+		}
+	}
+}
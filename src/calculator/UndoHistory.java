@@ -0,0 +1,264 @@
+package calculator;
+
+/**
+ * Class used to keep the last values of a calculator, so that its operations
+ * can be undone and redone. Values are kept in a {@code double} ring of a
+ * fixed depth: recording a value, undoing and redoing are all a few array
+ * accesses that never allocate, and once the ring is full every new value
+ * pushes out the oldest one. Recording a value after an undo drops the values
+ * that could have been redone, the same way a text editor does.
+ * <p>
+ * Checkpoints mark values to come back to in a single step, no matter how
+ * many operations have been made since. They are kept in a small ring of their
+ * own, and a checkpoint is dropped together with its value.
+ * <p>
+ * The history isn't thread-safe, the same as the calculators that use it.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class UndoHistory {
+	/**
+	 * Number of checkpoints kept when none is given.
+	 */
+	public static final int DEFAULT_CHECKPOINTS = 16;
+
+	/**
+	 * Values indexed by their sequence modulo the length.
+	 */
+	private final double[] values;
+
+	/**
+	 * Sequences of the checkpoints, in ascending order from
+	 * {@link #firstCheckpoint}, in a ring.
+	 */
+	private final long[] checkpoints;
+
+	/**
+	 * Sequence of the oldest value that can be restored.
+	 */
+	private long oldest;
+
+	/**
+	 * Sequence of the current value.
+	 */
+	private long current;
+
+	/**
+	 * Sequence of the newest value that can be redone.
+	 */
+	private long newest;
+
+	/**
+	 * Index of the oldest checkpoint in {@link #checkpoints}.
+	 */
+	private int firstCheckpoint;
+
+	/**
+	 * Number of checkpoints.
+	 */
+	private int checkpointCount;
+
+	/**
+	 * Creates a history with {@value #DEFAULT_CHECKPOINTS} checkpoints.
+	 *
+	 * @param depth        is the number of operations that can be undone.
+	 * @param currentValue is the value the history starts from.
+	 * @throws IllegalArgumentException when the depth isn't positive.
+	 */
+	public UndoHistory(int depth, double currentValue) {
+		this(depth, DEFAULT_CHECKPOINTS, currentValue);
+	}
+
+	/**
+	 * Creates a history.
+	 *
+	 * @param depth        is the number of operations that can be undone.
+	 * @param checkpoints  is the number of checkpoints kept.
+	 * @param currentValue is the value the history starts from.
+	 * @throws IllegalArgumentException when a number isn't positive, or the
+	 *                                  depth is {@link Integer#MAX_VALUE}.
+	 */
+	public UndoHistory(int depth, int checkpoints, double currentValue) {
+		if (depth <= 0 || depth == Integer.MAX_VALUE || checkpoints <= 0) {
+			throw new IllegalArgumentException(
+					"History of depth " + depth + " with " + checkpoints + " checkpoints isn't valid.");
+		}
+
+		values = new double[depth + 1];
+		this.checkpoints = new long[checkpoints];
+		values[0] = currentValue;
+	}
+
+	/**
+	 * Getter for the number of operations that can be undone when the history is
+	 * full.
+	 *
+	 * @return depth of the history.
+	 */
+	public int getDepth() {
+		return values.length - 1;
+	}
+
+	/**
+	 * Getter for the number of operations that can be undone now.
+	 *
+	 * @return number of operations.
+	 */
+	public int undoSteps() {
+		return (int) (current - oldest);
+	}
+
+	/**
+	 * Getter for the number of operations that can be redone now.
+	 *
+	 * @return number of operations.
+	 */
+	public int redoSteps() {
+		return (int) (newest - current);
+	}
+
+	/**
+	 * Getter for the current value.
+	 *
+	 * @return value the history is at.
+	 */
+	public double getCurrentValue() {
+		return values[index(current)];
+	}
+
+	/**
+	 * Method records a new value after an operation, dropping the values that
+	 * could have been redone, and the oldest value if the history is full.
+	 *
+	 * @param value is the new value.
+	 */
+	public void record(double value) {
+		current++;
+		newest = current;
+		values[index(current)] = value;
+		if (current - oldest == values.length) {
+			oldest++;
+		}
+		// Checkpoints after the previous value were on values that are gone now.
+		while (checkpointCount > 0 && lastCheckpoint() >= current) {
+			checkpointCount--;
+		}
+	}
+
+	/**
+	 * Method goes back to the previous value.
+	 *
+	 * @return previous value.
+	 * @throws IllegalStateException when there's nothing to undo.
+	 */
+	public double undo() {
+		if (current == oldest) {
+			throw new IllegalStateException("There's nothing to undo.");
+		}
+		return values[index(--current)];
+	}
+
+	/**
+	 * Method goes forward to the value that has been undone last.
+	 *
+	 * @return undone value.
+	 * @throws IllegalStateException when there's nothing to redo.
+	 */
+	public double redo() {
+		if (current == newest) {
+			throw new IllegalStateException("There's nothing to redo.");
+		}
+		return values[index(++current)];
+	}
+
+	/**
+	 * Method marks the current value as a checkpoint. If all of the checkpoints
+	 * are taken, the oldest one is dropped.
+	 */
+	public void checkpoint() {
+		while (checkpointCount > 0 && lastCheckpoint() >= current) {
+			// A checkpoint after an undo replaces the ones that could be redone.
+			checkpointCount--;
+		}
+		if (checkpointCount == checkpoints.length) {
+			firstCheckpoint = (firstCheckpoint + 1) % checkpoints.length;
+			checkpointCount--;
+		}
+		checkpoints[(firstCheckpoint + checkpointCount) % checkpoints.length] = current;
+		checkpointCount++;
+	}
+
+	/**
+	 * Method checks if there's a checkpoint before the current value that can
+	 * still be restored.
+	 *
+	 * @return true if {@link #undoToCheckpoint()} can be used.
+	 */
+	public boolean hasCheckpoint() {
+		return previousCheckpoint() >= 0;
+	}
+
+	/**
+	 * Method goes back to the latest checkpoint before the current value. The
+	 * values in between can be redone.
+	 *
+	 * @return value of the checkpoint.
+	 * @throws IllegalStateException when there's no such checkpoint.
+	 */
+	public double undoToCheckpoint() {
+		long checkpoint = previousCheckpoint();
+		if (checkpoint < 0) {
+			throw new IllegalStateException("There's no checkpoint to go back to.");
+		}
+		current = checkpoint;
+		return values[index(current)];
+	}
+
+	/**
+	 * Method drops every value other than the given one, and every checkpoint.
+	 *
+	 * @param currentValue is the value the history starts from again.
+	 */
+	public void clear(double currentValue) {
+		oldest = current = newest = 0L;
+		values[0] = currentValue;
+		checkpointCount = 0;
+	}
+
+	/**
+	 * Helper method that finds the latest checkpoint before the current value
+	 * whose value hasn't been dropped.
+	 *
+	 * @return sequence of the checkpoint, or -1 if there isn't any.
+	 */
+	private long previousCheckpoint() {
+		for (int i = checkpointCount - 1; i >= 0; i--) {
+			long checkpoint = checkpoints[(firstCheckpoint + i) % checkpoints.length];
+			if (checkpoint < current) {
+				return checkpoint >= oldest ? checkpoint : -1L;
+			}
+		}
+		return -1L;
+	}
+
+	/**
+	 * Helper method that takes the sequence of the latest checkpoint.
+	 *
+	 * @return sequence of the checkpoint.
+	 */
+	private long lastCheckpoint() {
+		return checkpoints[(firstCheckpoint + checkpointCount - 1) % checkpoints.length];
+	}
+
+	/**
+	 * Helper method that takes the index of a value from its sequence.
+	 *
+	 * @param sequence is the sequence of the value.
+	 * @return index in {@link #values}.
+	 */
+	private int index(long sequence) {
+		return (int) (sequence % values.length);
+	}
+}
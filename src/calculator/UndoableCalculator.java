@@ -0,0 +1,183 @@
+package calculator;
+
+import java.math.BigInteger;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to undo and redo the operations of a {@link CalculatorAdvanced}.
+ * It behaves exactly like {@link CalculatorAdvanced} and keeps every value it
+ * takes in an {@link UndoHistory}: each operation that succeeds, each
+ * operation of a batch and each value set with
+ * {@link #setCurrentValue(double)} is one step. Operations that fail don't
+ * change the value, so they aren't steps.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class UndoableCalculator extends CalculatorAdvanced {
+	/**
+	 * History of the values.
+	 */
+	private final UndoHistory history;
+
+	/**
+	 * Set while an operation of {@link CalculatorAdvanced} changes the value, so
+	 * that the change isn't recorded as a set value.
+	 */
+	private boolean inOperation;
+
+	/**
+	 * Creates a calculator whose history holds {@value UndoHistory#DEFAULT_CHECKPOINTS}
+	 * checkpoints.
+	 *
+	 * @param depth is the number of operations that can be undone.
+	 * @throws IllegalArgumentException when the depth isn't positive.
+	 */
+	public UndoableCalculator(int depth) {
+		this(depth, UndoHistory.DEFAULT_CHECKPOINTS);
+	}
+
+	/**
+	 * Creates a calculator.
+	 *
+	 * @param depth       is the number of operations that can be undone.
+	 * @param checkpoints is the number of checkpoints kept.
+	 * @throws IllegalArgumentException when a number isn't positive.
+	 */
+	public UndoableCalculator(int depth, int checkpoints) {
+		history = new UndoHistory(depth, checkpoints, getCurrentValue());
+	}
+
+	/**
+	 * Getter for the history of this calculator.
+	 *
+	 * @return history of the values.
+	 */
+	public UndoHistory getHistory() {
+		return history;
+	}
+
+	/**
+	 * Method undoes the last operation.
+	 *
+	 * @return false if there's nothing to undo.
+	 */
+	public boolean undo() {
+		if (history.undoSteps() == 0) {
+			return false;
+		}
+		super.setCurrentValue(history.undo());
+		return true;
+	}
+
+	/**
+	 * Method redoes the operation undone last.
+	 *
+	 * @return false if there's nothing to redo.
+	 */
+	public boolean redo() {
+		if (history.redoSteps() == 0) {
+			return false;
+		}
+		super.setCurrentValue(history.redo());
+		return true;
+	}
+
+	/**
+	 * Method marks the current value as a checkpoint.
+	 */
+	public void checkpoint() {
+		history.checkpoint();
+	}
+
+	/**
+	 * Method undoes every operation made since the latest checkpoint before the
+	 * current value. The undone operations can be redone one by one.
+	 *
+	 * @return false if there's no checkpoint to go back to.
+	 */
+	public boolean undoToCheckpoint() {
+		if (!history.hasCheckpoint()) {
+			return false;
+		}
+		super.setCurrentValue(history.undoToCheckpoint());
+		return true;
+	}
+
+	@Override
+	public void setCurrentValue(double currentValue) {
+		super.setCurrentValue(currentValue);
+		if (!inOperation) {
+			history.record(currentValue);
+		}
+	}
+
+	@Override
+	public void calculate(Double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		super.calculate(value, operator);
+		history.record(getCurrentValue());
+	}
+
+	@Override
+	public int tryCalculate(double value, char operator, CalculationResult result) {
+		int status = super.tryCalculate(value, operator, result);
+		if (status == CalculationResult.OK) {
+			history.record(getCurrentValue());
+		}
+		return status;
+	}
+
+	/**
+	 * Batch operations go through
+	 * {@link #tryCalculate(double, char, CalculationResult)}, so that every
+	 * operation is recorded in the history on its own.
+	 */
+	@Override
+	protected boolean isBatchStepwise() {
+		return true;
+	}
+
+	@Override
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		inOperation = true;
+		try {
+			super.calculateAdvanced(action);
+		} finally {
+			inOperation = false;
+		}
+		history.record(getCurrentValue());
+	}
+
+	@Override
+	public BigInteger calculateAdvancedExact(char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		BigInteger result;
+		inOperation = true;
+		try {
+			result = super.calculateAdvancedExact(action);
+		} finally {
+			inOperation = false;
+		}
+		history.record(getCurrentValue());
+		return result;
+	}
+
+	@Override
+	public int tryCalculateAdvanced(char action, CalculationResult result) {
+		int status;
+		inOperation = true;
+		try {
+			status = super.tryCalculateAdvanced(action, result);
+		} finally {
+			inOperation = false;
+		}
+		if (status == CalculationResult.OK) {
+			history.record(getCurrentValue());
+		}
+		return status;
+	}
+}
@@ -0,0 +1,396 @@
+package calculator.async;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+
+/**
+ * Class used to share many {@link CalculatorAdvanced} objects between threads
+ * without locking them. Calculators are numbered and split into shards, and
+ * every shard is owned by a single consumer thread, the only thread that ever
+ * touches its calculators. Other threads submit operations through a
+ * lock-free {@link RingBuffer} of the shard and get a
+ * {@link CompletableFuture} of the result back.
+ * <p>
+ * A shard applies the operations in the order they've been submitted in, so
+ * the operations a thread submits to a calculator are applied in its order,
+ * and operations that fail complete their future exceptionally with the same
+ * exception {@link CalculatorAdvanced} would throw. The consumer takes every
+ * operation that has been published since it last looked, so a burst of
+ * submissions costs a single wake-up. How it waits for operations is chosen
+ * with a {@link WaitStrategy}.
+ * <p>
+ * Futures are completed on the consumer thread, so dependent actions that
+ * aren't asynchronous run on it as well and delay the other calculators of the
+ * shard; anything heavier than a few operations should use the
+ * {@code *Async} methods of {@link CompletableFuture}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class AsyncCalculator implements Closeable {
+	/**
+	 * Number of entries in the ring of a shard when none is given.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 12;
+
+	/**
+	 * Operation that returns the value of a calculator.
+	 */
+	private static final byte GET = 0;
+
+	/**
+	 * Operation that sets the value of a calculator.
+	 */
+	private static final byte SET = 1;
+
+	/**
+	 * Operation that performs one of the four arithmetic operations.
+	 */
+	private static final byte CALCULATE = 2;
+
+	/**
+	 * Operation that performs the factorial or exponentiation calculation.
+	 */
+	private static final byte CALCULATE_ADVANCED = 3;
+
+	/**
+	 * Operation that checks if the value is Armstrong or Perfect number.
+	 */
+	private static final byte HAS_CHARACTERISTIC = 4;
+
+	/**
+	 * Shards of the calculators.
+	 */
+	private final Shard[] shards;
+
+	/**
+	 * Number of calculators.
+	 */
+	private final int calculators;
+
+	/**
+	 * Creates calculators split into a shard per available processor, with the
+	 * default ring size and blocking consumers.
+	 *
+	 * @param calculators is the number of calculators.
+	 */
+	public AsyncCalculator(int calculators) {
+		this(calculators, Runtime.getRuntime().availableProcessors(), DEFAULT_BUFFER_SIZE, WaitStrategy.BLOCKING);
+	}
+
+	/**
+	 * Creates calculators and starts the consumer threads of their shards.
+	 * Calculator {@code i} belongs to shard {@code i % shards}.
+	 *
+	 * @param calculators is the number of calculators.
+	 * @param shards      is the number of shards, each with a consumer thread.
+	 * @param bufferSize  is the number of entries in the ring of a shard, a power
+	 *                    of two.
+	 * @param strategy    is the way consumers wait for operations.
+	 * @throws IllegalArgumentException when a number isn't valid.
+	 */
+	public AsyncCalculator(int calculators, int shards, int bufferSize, WaitStrategy strategy) {
+		if (calculators <= 0 || shards <= 0 || shards > calculators) {
+			throw new IllegalArgumentException(calculators + " calculators in " + shards + " shards aren't valid.");
+		}
+
+		this.calculators = calculators;
+		this.shards = new Shard[shards];
+		for (int i = 0; i < shards; i++) {
+			this.shards[i] = new Shard((calculators - i + shards - 1) / shards, bufferSize, strategy);
+		}
+		for (int i = 0; i < shards; i++) {
+			this.shards[i].thread = new Thread(this.shards[i], "async-calculator-" + i);
+			this.shards[i].thread.setDaemon(true);
+			this.shards[i].thread.start();
+		}
+	}
+
+	/**
+	 * Getter for the number of calculators.
+	 *
+	 * @return number of calculators.
+	 */
+	public int getCalculators() {
+		return calculators;
+	}
+
+	/**
+	 * Method submits a read of the value of a calculator, ordered after the
+	 * operations submitted before it.
+	 *
+	 * @param calculator is the number of the calculator.
+	 * @return future of the value.
+	 * @throws IllegalStateException when the calculators have been closed.
+	 */
+	public CompletableFuture<Double> getCurrentValue(int calculator) {
+		CompletableFuture<Double> future = new CompletableFuture<>();
+		submit(calculator, GET, (char) 0, 0.0d, future, null);
+		return future;
+	}
+
+	/**
+	 * Method submits a new value of a calculator.
+	 *
+	 * @param calculator   is the number of the calculator.
+	 * @param currentValue is the new value.
+	 * @return future of the new value, completed once it's set.
+	 * @throws IllegalStateException when the calculators have been closed.
+	 */
+	public CompletableFuture<Double> setCurrentValue(int calculator, double currentValue) {
+		CompletableFuture<Double> future = new CompletableFuture<>();
+		submit(calculator, SET, (char) 0, currentValue, future, null);
+		return future;
+	}
+
+	/**
+	 * Method submits one of the four arithmetic operations, same as
+	 * {@link CalculatorAdvanced#calculate(Double, char)}.
+	 *
+	 * @param calculator is the number of the calculator.
+	 * @param value      is a number used as a second operand.
+	 * @param operator   denotes operation being performed.
+	 * @return future of the value after the operation, completed exceptionally
+	 *         with {@link calculator.exception.NotSupportedOperationException} or
+	 *         {@link calculator.exception.DivisionByZeroException} when the
+	 *         operation fails.
+	 * @throws IllegalStateException when the calculators have been closed.
+	 */
+	public CompletableFuture<Double> calculate(int calculator, double value, char operator) {
+		CompletableFuture<Double> future = new CompletableFuture<>();
+		submit(calculator, CALCULATE, operator, value, future, null);
+		return future;
+	}
+
+	/**
+	 * Method submits the factorial or exponentiation calculation, same as
+	 * {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 *
+	 * @param calculator is the number of the calculator.
+	 * @param action     is used to determine which calculation is going to be
+	 *                   conducted.
+	 * @return future of the value after the calculation, completed exceptionally
+	 *         with {@link calculator.exception.NumberNotInAreaException} or
+	 *         {@link calculator.exception.NotSupportedOperationException} when
+	 *         the calculation fails.
+	 * @throws IllegalStateException when the calculators have been closed.
+	 */
+	public CompletableFuture<Double> calculateAdvanced(int calculator, char action) {
+		CompletableFuture<Double> future = new CompletableFuture<>();
+		submit(calculator, CALCULATE_ADVANCED, action, 0.0d, future, null);
+		return future;
+	}
+
+	/**
+	 * Method submits a check if the value is Armstrong or Perfect number, same as
+	 * {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 *
+	 * @param calculator is the number of the calculator.
+	 * @param value      is parameter used to distinguish between Armstrong or
+	 *                   Perfect number check.
+	 * @return future of the result of the check, completed exceptionally with
+	 *         {@link calculator.exception.NumberNotInAreaException} or
+	 *         {@link calculator.exception.NotSupportedOperationException} when
+	 *         the check fails.
+	 * @throws IllegalStateException when the calculators have been closed.
+	 */
+	public CompletableFuture<Boolean> hasCharacteristic(int calculator, char value) {
+		CompletableFuture<Boolean> future = new CompletableFuture<>();
+		submit(calculator, HAS_CHARACTERISTIC, value, 0.0d, null, future);
+		return future;
+	}
+
+	/**
+	 * Method stops accepting operations, waits for the consumers to apply every
+	 * operation submitted before and stops them.
+	 */
+	@Override
+	public void close() {
+		for (Shard shard : shards) {
+			shard.ring.close();
+			LockSupport.unpark(shard.thread);
+		}
+		boolean interrupted = false;
+		for (Shard shard : shards) {
+			while (shard.thread.isAlive()) {
+				try {
+					shard.thread.join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Helper method that puts an operation into the ring of the calculator's
+	 * shard.
+	 *
+	 * @param calculator    is the number of the calculator.
+	 * @param kind          is the kind of the operation.
+	 * @param symbol        is the operator, action or parameter.
+	 * @param operand       is the operand.
+	 * @param valueFuture   receives the value, or {@code null}.
+	 * @param booleanFuture receives the result of a check, or {@code null}.
+	 */
+	private void submit(int calculator, byte kind, char symbol, double operand, CompletableFuture<Double> valueFuture,
+			CompletableFuture<Boolean> booleanFuture) {
+		if (calculator < 0 || calculator >= calculators) {
+			throw new IndexOutOfBoundsException("Calculator " + calculator + " doesn't exist.");
+		}
+
+		Shard shard = shards[calculator % shards.length];
+		RingBuffer<Entry> ring = shard.ring;
+		long sequence = ring.claim();
+		Entry entry = ring.get(sequence);
+		entry.calculator = calculator / shards.length;
+		entry.kind = kind;
+		entry.symbol = symbol;
+		entry.operand = operand;
+		entry.valueFuture = valueFuture;
+		entry.booleanFuture = booleanFuture;
+		ring.publish(sequence);
+
+		if (shard.parked) {
+			LockSupport.unpark(shard.thread);
+		}
+	}
+
+	/**
+	 * Operation waiting in a ring.
+	 */
+	private static final class Entry {
+		int calculator;
+		byte kind;
+		char symbol;
+		double operand;
+		CompletableFuture<Double> valueFuture;
+		CompletableFuture<Boolean> booleanFuture;
+	}
+
+	/**
+	 * Calculators owned by a single consumer thread, along with their ring.
+	 */
+	private static final class Shard implements Runnable {
+		final RingBuffer<Entry> ring;
+		final CalculatorAdvanced[] calculators;
+		final WaitStrategy strategy;
+		final CalculationResult result = new CalculationResult();
+
+		/**
+		 * Consumer thread of the shard.
+		 */
+		Thread thread;
+
+		/**
+		 * Set while the consumer is parked, so that producers know they have to
+		 * wake it up.
+		 */
+		volatile boolean parked;
+
+		Shard(int calculators, int bufferSize, WaitStrategy strategy) {
+			this.ring = new RingBuffer<>(bufferSize, Entry::new);
+			this.calculators = new CalculatorAdvanced[calculators];
+			for (int i = 0; i < calculators; i++) {
+				this.calculators[i] = new CalculatorAdvanced();
+			}
+			this.strategy = strategy;
+		}
+
+		@Override
+		public void run() {
+			long next = 0;
+			int idle = 0;
+			for (;;) {
+				long last = ring.available(next);
+				if (last >= next) {
+					for (long sequence = next; sequence <= last; sequence++) {
+						apply(ring.get(sequence));
+					}
+					ring.release(last);
+					next = last + 1;
+					idle = 0;
+				} else if (ring.isDrained()) {
+					return;
+				} else {
+					idle = await(next, idle);
+				}
+			}
+		}
+
+		/**
+		 * Helper method that waits for the entry of a sequence to be published,
+		 * in the way chosen by the strategy of the shard.
+		 *
+		 * @param next is the sequence the consumer waits for.
+		 * @param idle is the number of checks since the last entry.
+		 * @return number of checks including this one.
+		 */
+		private int await(long next, int idle) {
+			if (strategy == WaitStrategy.BUSY_SPIN || idle < WaitStrategy.SPINS) {
+				Thread.onSpinWait();
+			} else if (strategy == WaitStrategy.YIELDING) {
+				Thread.yield();
+			} else {
+				parked = true;
+				// Producers check the flag after publishing, so a last look is
+				// needed to catch an entry published just before it was set.
+				if (ring.available(next) < next && !ring.isDrained()) {
+					LockSupport.park(this);
+				}
+				parked = false;
+			}
+			return idle + 1;
+		}
+
+		/**
+		 * Helper method that applies an operation and completes its future.
+		 *
+		 * @param entry is the operation.
+		 */
+		private void apply(Entry entry) {
+			CalculatorAdvanced calculator = calculators[entry.calculator];
+			int status;
+			switch (entry.kind) {
+			case GET:
+				status = CalculationResult.OK;
+				break;
+			case SET:
+				calculator.setCurrentValue(entry.operand);
+				status = CalculationResult.OK;
+				break;
+			case CALCULATE:
+				status = calculator.tryCalculate(entry.operand, entry.symbol, result);
+				break;
+			case CALCULATE_ADVANCED:
+				status = calculator.tryCalculateAdvanced(entry.symbol, result);
+				break;
+			default:
+				status = calculator.tryHasCharacteristic(entry.symbol, result);
+				break;
+			}
+
+			CompletableFuture<Double> valueFuture = entry.valueFuture;
+			CompletableFuture<Boolean> booleanFuture = entry.booleanFuture;
+			// Futures are dropped before completing them, so that the ring doesn't
+			// keep them reachable.
+			entry.valueFuture = null;
+			entry.booleanFuture = null;
+			if (status != CalculationResult.OK) {
+				(valueFuture != null ? valueFuture : booleanFuture).completeExceptionally(result.toException());
+			} else if (valueFuture != null) {
+				valueFuture.complete(calculator.getCurrentValue());
+			} else {
+				booleanFuture.complete(result.hasCharacteristic());
+			}
+		}
+	}
+}
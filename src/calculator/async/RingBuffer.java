@@ -0,0 +1,205 @@
+package calculator.async;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Class used to hand entries from many producer threads to a single consumer
+ * thread without locks, in the style of the LMAX Disruptor. Entries are
+ * created once, up front, and reused: a producer claims the next sequence
+ * number with a compare-and-swap, fills the entry of that sequence and
+ * publishes it, and the consumer takes every published entry in the order of
+ * the sequences.
+ * <p>
+ * Every slot has an availability flag holding the round of the ring its entry
+ * has been published in, so producers can publish out of order without
+ * waiting for each other, and the consumer can tell a published entry from
+ * one left over from the previous round. A producer that gets a whole ring
+ * ahead of the consumer waits for it to catch up.
+ *
+ * @param <E> type of the entries.
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+final class RingBuffer<E> {
+	/**
+	 * Distance between two sequences in {@link #sequences}, so that each sits on
+	 * its own cache line.
+	 */
+	private static final int STRIDE = 8;
+
+	/**
+	 * Index of the next sequence to claim in {@link #sequences}. Its sign bit is
+	 * set once the ring is closed.
+	 */
+	private static final int CURSOR = STRIDE;
+
+	/**
+	 * Index of the last sequence taken by the consumer in {@link #sequences}.
+	 */
+	private static final int CONSUMED = 2 * STRIDE;
+
+	/**
+	 * Sign bit of the cursor, set once the ring is closed.
+	 */
+	private static final long CLOSED = Long.MIN_VALUE;
+
+	/**
+	 * Preallocated entries.
+	 */
+	private final Object[] entries;
+
+	/**
+	 * Round in which the entry of every slot has been published.
+	 */
+	private final AtomicIntegerArray available;
+
+	/**
+	 * Cursor and consumer sequence, padded from each other.
+	 */
+	private final AtomicLongArray sequences = new AtomicLongArray(3 * STRIDE);
+
+	/**
+	 * Mask that takes the slot from a sequence.
+	 */
+	private final int mask;
+
+	/**
+	 * Shift that takes the round from a sequence.
+	 */
+	private final int shift;
+
+	/**
+	 * Creates a ring.
+	 *
+	 * @param capacity is the number of entries, a power of two.
+	 * @param factory  creates the entries.
+	 * @throws IllegalArgumentException when the capacity isn't a positive power
+	 *                                  of two.
+	 */
+	RingBuffer(int capacity, Supplier<E> factory) {
+		if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("Capacity of the ring (" + capacity + ") isn't a power of two.");
+		}
+
+		entries = new Object[capacity];
+		available = new AtomicIntegerArray(capacity);
+		for (int i = 0; i < capacity; i++) {
+			entries[i] = factory.get();
+			available.set(i, -1);
+		}
+		mask = capacity - 1;
+		shift = Integer.numberOfTrailingZeros(capacity);
+		sequences.set(CONSUMED, -1L);
+	}
+
+	/**
+	 * Method claims the next sequence, waiting until its slot is free.
+	 *
+	 * @return claimed sequence.
+	 * @throws IllegalStateException when the ring has been closed.
+	 */
+	long claim() {
+		long sequence;
+		do {
+			sequence = sequences.get(CURSOR);
+			if (sequence < 0) {
+				throw new IllegalStateException("Ring buffer has been closed.");
+			}
+		} while (!sequences.compareAndSet(CURSOR, sequence, sequence + 1));
+
+		long wrapPoint = sequence - entries.length;
+		for (int spins = 0; wrapPoint >= sequences.get(CONSUMED); spins++) {
+			if (spins < WaitStrategy.SPINS) {
+				Thread.onSpinWait();
+			} else {
+				LockSupport.parkNanos(1_000L);
+			}
+		}
+		return sequence;
+	}
+
+	/**
+	 * Getter for the entry of a sequence.
+	 *
+	 * @param sequence is a claimed sequence.
+	 * @return entry of the sequence.
+	 */
+	@SuppressWarnings("unchecked")
+	E get(long sequence) {
+		return (E) entries[(int) sequence & mask];
+	}
+
+	/**
+	 * Method hands the entry of a claimed sequence to the consumer. Everything
+	 * written to the entry before is visible to the consumer.
+	 *
+	 * @param sequence is a claimed sequence.
+	 */
+	void publish(long sequence) {
+		// Full volatile write, so that a following check if the consumer is
+		// parked can't be reordered before it.
+		available.set((int) sequence & mask, (int) (sequence >>> shift));
+	}
+
+	/**
+	 * Method finds the last published sequence of a run that starts at a given
+	 * sequence.
+	 *
+	 * @param from is the first sequence the consumer hasn't taken.
+	 * @return last sequence of the published run, or {@code from - 1} if the
+	 *         entry of {@code from} hasn't been published yet.
+	 */
+	long available(long from) {
+		long limit = Math.min(from + entries.length, sequences.get(CURSOR) & ~CLOSED);
+		long sequence = from;
+		while (sequence < limit && available.get((int) sequence & mask) == (int) (sequence >>> shift)) {
+			sequence++;
+		}
+		return sequence - 1;
+	}
+
+	/**
+	 * Method frees the slots of every sequence up to a given one, after the
+	 * consumer is done with their entries.
+	 *
+	 * @param sequence is the last sequence taken by the consumer.
+	 */
+	void release(long sequence) {
+		sequences.lazySet(CONSUMED, sequence);
+	}
+
+	/**
+	 * Method closes the ring, so that no more sequences can be claimed.
+	 * Sequences claimed before are still published and taken.
+	 */
+	void close() {
+		long cursor;
+		do {
+			cursor = sequences.get(CURSOR);
+		} while (cursor >= 0 && !sequences.compareAndSet(CURSOR, cursor, cursor | CLOSED));
+	}
+
+	/**
+	 * Method checks if the ring has been closed and every claimed sequence has
+	 * been taken by the consumer.
+	 *
+	 * @return true if the consumer is done for good.
+	 */
+	boolean isDrained() {
+		long cursor = sequences.get(CURSOR);
+		return cursor < 0 && (cursor & ~CLOSED) == sequences.get(CONSUMED) + 1;
+	}
+
+	/**
+	 * Getter for the number of entries.
+	 *
+	 * @return capacity of the ring.
+	 */
+	int capacity() {
+		return entries.length;
+	}
+}
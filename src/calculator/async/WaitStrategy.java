@@ -0,0 +1,37 @@
+package calculator.async;
+
+/**
+ * Strategies used by the consumer thread of an {@link AsyncCalculator} shard to
+ * wait for new operations. They trade the CPU time burnt while there's nothing
+ * to do for the latency of the first operation that arrives after a pause.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public enum WaitStrategy {
+	/**
+	 * Consumer spins without ever giving up its core. It has the lowest latency,
+	 * but keeps a core fully busy, so it fits only when every consumer has a
+	 * core of its own.
+	 */
+	BUSY_SPIN,
+	/**
+	 * Consumer spins for a while and then yields its core to other threads
+	 * between checks. Latency stays low while the core can be shared, but the
+	 * consumer still shows up as busy.
+	 */
+	YIELDING,
+	/**
+	 * Consumer spins for a while and then parks until a producer wakes it up.
+	 * Producers wake it up only when it's parked, so a burst of operations costs
+	 * a single wake-up. It uses no CPU while idle, at the price of the wake-up
+	 * latency of the first operation after a pause.
+	 */
+	BLOCKING;
+
+	/**
+	 * Number of checks a consumer spins for before it yields or parks.
+	 */
+	static final int SPINS = 100;
+}
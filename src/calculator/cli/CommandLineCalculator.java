@@ -0,0 +1,179 @@
+package calculator.cli;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+import calculator.CalculatorAdvanced;
+import calculator.io.OperationFileProcessor;
+
+/**
+ * Class used to run a {@link CalculatorAdvanced} from the command line, either
+ * as a batch or interactively. Usage:
+ *
+ * <pre>
+ * calculator [--values] [operation ...]
+ * calculator --interactive
+ * </pre>
+ *
+ * Operations are written the same way as for {@link OperationFileProcessor},
+ * such as {@code "+ 3.5"}, {@code /2} or {@code !}. Given as arguments, every
+ * argument is one operation; without arguments, operations are read from the
+ * standard input, one per line, unless the standard input is a terminal, in
+ * which case the calculator runs interactively. A batch starts from
+ * {@code 0.0} and prints the final value. Failed operations are reported on the
+ * standard error as their line number followed by the message of the
+ * exception, and don't stop the batch. With {@code --values} the value after
+ * every successful operation is printed as well, in order with the errors, on
+ * the standard output.
+ * <p>
+ * Interactively, the value is printed after every operation. Besides the
+ * operations of a batch, {@code = expression} sets the value to an
+ * {@link calculator.Expression} in which {@code x} stands for the current value,
+ * {@code ? A} and {@code ? P} check if the value is an Armstrong or a Perfect
+ * number, and {@code quit} ends the session.
+ * <p>
+ * The exit status is 0 if every operation has succeeded, 1 if any has failed
+ * and 2 if the arguments aren't valid.
+ * <p>
+ * The calculator is meant to be started many times for little work, so it
+ * does as little as it can before the first result: a batch loads only the
+ * classes of the calculator and of the processor, and the classes of
+ * expressions and of the interactive session are loaded only when they're
+ * used. Start-up is shortened further with the class data archive created by
+ * the {@code bin/calculator} launcher.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class CommandLineCalculator {
+	/**
+	 * Exit status when every operation has succeeded.
+	 */
+	public static final int EXIT_OK = 0;
+
+	/**
+	 * Exit status when an operation has failed.
+	 */
+	public static final int EXIT_FAILED = 1;
+
+	/**
+	 * Exit status when the arguments aren't valid.
+	 */
+	public static final int EXIT_USAGE = 2;
+
+	private static final String USAGE = "Usage: calculator [--values] [operation ...]\n"
+			+ "       calculator --interactive\n"
+			+ "Operations are an operator and an operand, such as '+ 3.5' or '/2', or an action, such as '!'\n"
+			+ "or '3'. Without operations, they are read from the standard input, one per line.";
+
+	private final CalculatorAdvanced calculator = new CalculatorAdvanced();
+	private final PrintStream out;
+	private final PrintStream err;
+
+	/**
+	 * Creates a calculator that prints to the given streams.
+	 *
+	 * @param out receives the values.
+	 * @param err receives the errors.
+	 */
+	CommandLineCalculator(PrintStream out, PrintStream err) {
+		this.out = out;
+		this.err = err;
+	}
+
+	/**
+	 * Runs the calculator with the standard streams and exits with its status.
+	 *
+	 * @param args options and operations.
+	 * @throws IOException when a stream can't be read or written.
+	 */
+	public static void main(String[] args) throws IOException {
+		int status = run(args, System.in, System.out, System.err);
+		System.out.flush();
+		if (status != EXIT_OK) {
+			System.exit(status);
+		}
+	}
+
+	/**
+	 * Method runs the calculator.
+	 *
+	 * @param args are the options and operations.
+	 * @param in   is the input operations are read from. It's treated as a
+	 *             terminal only if it's {@link System#in} and the process has a
+	 *             console.
+	 * @param out  receives the values.
+	 * @param err  receives the errors.
+	 * @return exit status.
+	 * @throws IOException when a stream can't be read or written.
+	 */
+	static int run(String[] args, InputStream in, PrintStream out, PrintStream err) throws IOException {
+		boolean values = false;
+		boolean interactive = false;
+		int first = 0;
+		for (; first < args.length && args[first].startsWith("--"); first++) {
+			String option = args[first];
+			if (option.equals("--")) {
+				first++;
+				break;
+			} else if (option.equals("--values")) {
+				values = true;
+			} else if (option.equals("--interactive")) {
+				interactive = true;
+			} else if (option.equals("--help")) {
+				out.println(USAGE);
+				return EXIT_OK;
+			} else {
+				err.println("Unknown option " + option + ".");
+				err.println(USAGE);
+				return EXIT_USAGE;
+			}
+		}
+
+		CommandLineCalculator calculator = new CommandLineCalculator(out, err);
+		if (first < args.length) {
+			if (interactive) {
+				err.println(USAGE);
+				return EXIT_USAGE;
+			}
+			StringBuilder operations = new StringBuilder();
+			for (int i = first; i < args.length; i++) {
+				operations.append(args[i]).append('\n');
+			}
+			return calculator.batch(Channels.newChannel(new ByteArrayInputStream(
+					operations.toString().getBytes(StandardCharsets.UTF_8))), values);
+		}
+		// Console is loaded only when there's no other way to tell the mode.
+		if (interactive || in == System.in && System.console() != null) {
+			return new InteractiveSession(new CalculatorAdvanced(), out).run(in);
+		}
+		return calculator.batch(Channels.newChannel(in), values);
+	}
+
+	/**
+	 * Method applies a batch of operations and prints the final value.
+	 *
+	 * @param in     is the channel operations are read from.
+	 * @param values denotes if the value after every operation is printed.
+	 * @return exit status.
+	 * @throws IOException when the operations can't be read or the results
+	 *                     written.
+	 */
+	int batch(ReadableByteChannel in, boolean values) throws IOException {
+		OperationFileProcessor processor = new OperationFileProcessor(calculator, values);
+		PrintStream results = values ? out : err;
+		processor.process(in, Channels.newChannel(results));
+		results.flush();
+		if (!values) {
+			out.println(calculator.getCurrentValue());
+		}
+		out.flush();
+		return processor.getErrors() == 0 ? EXIT_OK : EXIT_FAILED;
+	}
+}
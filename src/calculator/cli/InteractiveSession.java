@@ -0,0 +1,141 @@
+package calculator.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+import calculator.Expression;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to run an interactive session of the {@link CommandLineCalculator}.
+ * It reads one line at a time and prints the value after every operation, or
+ * the message of the exception the operation would throw. Besides the
+ * operations of a batch, such as {@code + 3.5} or {@code !}, a line can be
+ * {@code = expression}, which sets the value to an {@link Expression} in which
+ * {@code x} stands for the current value, {@code ? A} or {@code ? P}, which
+ * checks if the value is an Armstrong or a Perfect number, {@code help}, or
+ * {@code quit}, which ends the session.
+ * <p>
+ * It's kept apart from {@link CommandLineCalculator} so that a batch doesn't
+ * load any of its classes.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+final class InteractiveSession {
+	private static final String HELP = "  + 3.5   operator followed by its operand: + - * /\n"
+			+ "  !       factorial, or a digit 0-9 for a power\n"
+			+ "  = expr  set the value to an expression, x is the current value\n"
+			+ "  ? A     check if the value is an Armstrong (A) or a Perfect (P) number\n"
+			+ "  quit    end the session";
+
+	private final CalculatorAdvanced calculator;
+	private final CalculationResult result = new CalculationResult();
+	private final PrintStream out;
+
+	/**
+	 * Creates a session.
+	 *
+	 * @param calculator is the calculator the operations are applied to.
+	 * @param out        receives the values and errors.
+	 */
+	InteractiveSession(CalculatorAdvanced calculator, PrintStream out) {
+		this.calculator = calculator;
+		this.out = out;
+	}
+
+	/**
+	 * Method runs the session until the input ends or {@code quit} is
+	 * entered.
+	 *
+	 * @param in is the input lines are read from.
+	 * @return exit status, {@link CommandLineCalculator#EXIT_OK} even if some of
+	 *         the operations have failed.
+	 * @throws IOException when the input can't be read.
+	 */
+	int run(InputStream in) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		out.println("Calculator, value " + calculator.getCurrentValue() + ". Type help for the operations.");
+		for (;;) {
+			out.print("> ");
+			out.flush();
+			String line = reader.readLine();
+			if (line == null) {
+				out.println();
+				break;
+			}
+			line = line.trim();
+			if (line.equals("quit") || line.equals("exit")) {
+				break;
+			}
+			if (!line.isEmpty()) {
+				out.println(execute(line));
+			}
+		}
+		out.flush();
+		return CommandLineCalculator.EXIT_OK;
+	}
+
+	/**
+	 * Method executes a single line of the session.
+	 *
+	 * @param line is the trimmed line, which isn't empty.
+	 * @return text to print: the new value, the result of a check or an error.
+	 */
+	String execute(String line) {
+		if (line.equals("help")) {
+			return HELP;
+		}
+
+		char symbol = line.charAt(0);
+		String rest = line.substring(1).trim();
+		if (symbol == '=') {
+			return evaluate(rest);
+		}
+		if (symbol == '?' && rest.length() == 1) {
+			return calculator.tryHasCharacteristic(rest.charAt(0), result) == CalculationResult.OK
+					? String.valueOf(result.hasCharacteristic())
+					: result.getMessage();
+		}
+
+		int status;
+		if (rest.isEmpty()) {
+			status = calculator.tryCalculateAdvanced(symbol, result);
+		} else {
+			double operand;
+			try {
+				operand = Double.parseDouble(rest);
+			} catch (NumberFormatException e) {
+				return "Operand '" + rest + "' isn't a number.";
+			}
+			status = calculator.tryCalculate(operand, symbol, result);
+		}
+		return status == CalculationResult.OK ? String.valueOf(calculator.getCurrentValue()) : result.getMessage();
+	}
+
+	/**
+	 * Helper method that sets the value to an expression. It's the only method
+	 * that uses {@link Expression}, so expressions are loaded only once one is
+	 * entered.
+	 *
+	 * @param text is the expression.
+	 * @return new value, or the message of the error.
+	 */
+	private String evaluate(String text) {
+		try {
+			calculator.evaluate(Expression.parse(text));
+			return String.valueOf(calculator.getCurrentValue());
+		} catch (DivisionByZeroException | NotSupportedOperationException | NumberNotInAreaException e) {
+			return e.getMessage();
+		}
+	}
+}
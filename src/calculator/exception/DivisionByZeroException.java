@@ -10,7 +10,30 @@ package calculator.exception;
  */
 @SuppressWarnings("serial")
 public class DivisionByZeroException extends Exception {
+	/**
+	 * Message carried by every instance of this exception.
+	 */
+	public static final String MESSAGE = "Division with zero isn't permitted.";
+
+	/**
+	 * Preallocated instance without a stack trace.
+	 */
+	private static final DivisionByZeroException LIGHTWEIGHT = new DivisionByZeroException(false);
+
 	public DivisionByZeroException() {
-		super("Division with zero isn't permitted.");
+		super(MESSAGE);
+	}
+
+	private DivisionByZeroException(boolean writableStackTrace) {
+		super(MESSAGE, null, false, writableStackTrace);
+	}
+
+	/**
+	 * Returns a shared, preallocated instance that doesn't carry a stack trace.
+	 * 
+	 * @return lightweight exception.
+	 */
+	public static DivisionByZeroException lightweight() {
+		return LIGHTWEIGHT;
 	}
-}
\ No newline at end of file
+}
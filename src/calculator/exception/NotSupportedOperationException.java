@@ -1,5 +1,9 @@
 package calculator.exception;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
+
 /**
  * Class used to denote {@link Exception} due to usage of an unknown
  * operation/parameter.
@@ -9,7 +13,69 @@ package calculator.exception;
  */
 @SuppressWarnings("serial")
 public class NotSupportedOperationException extends Exception {
+	/**
+	 * Supplier of the message for the lightweight instances, {@code null} once the
+	 * message has been built.
+	 */
+	private transient Supplier<String> lazyMessage;
+	/**
+	 * Message built from {@link #lazyMessage}. It's written once, while holding
+	 * the lock of the exception, and read without it.
+	 */
+	private volatile String message;
+
 	public NotSupportedOperationException(String errorMsg) {
 		super(errorMsg);
 	}
+
+	private NotSupportedOperationException(Supplier<String> lazyMessage) {
+		super(null, null, false, false);
+		this.lazyMessage = lazyMessage;
+	}
+
+	/**
+	 * Creates an instance that doesn't capture a stack trace and builds its message
+	 * only when it's requested.
+	 * 
+	 * @param lazyMessage supplies the error message.
+	 * @return lightweight exception.
+	 */
+	public static NotSupportedOperationException lightweight(Supplier<String> lazyMessage) {
+		return new NotSupportedOperationException(lazyMessage);
+	}
+
+	@Override
+	public String getMessage() {
+		String resolved = message;
+		if (resolved == null) {
+			resolved = resolveMessage();
+		}
+		return resolved != null ? resolved : super.getMessage();
+	}
+
+	/**
+	 * Helper method that builds the message of a lightweight instance, once,
+	 * even when it's requested by several threads at the same time.
+	 * 
+	 * @return built message, or {@code null} if the instance isn't lightweight.
+	 */
+	private synchronized String resolveMessage() {
+		if (message == null && lazyMessage != null) {
+			message = lazyMessage.get();
+			lazyMessage = null;
+		}
+		return message;
+	}
+
+	/**
+	 * Helper method that builds the message before the exception is serialized,
+	 * since the supplier itself isn't serialized.
+	 * 
+	 * @param out is the stream the exception is written to.
+	 * @throws IOException when the exception can't be written.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		resolveMessage();
+		out.defaultWriteObject();
+	}
 }
\ No newline at end of file
@@ -0,0 +1,509 @@
+package calculator.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+
+/**
+ * Class used to apply a stream of operations, one per line, to a calculator.
+ * A line holds an operator followed by its operand, such as {@code + 3.5} or
+ * {@code /2}, or a single action accepted by
+ * {@link CalculatorAdvanced#calculateAdvanced(char)}, such as {@code !}. Blank
+ * lines are skipped.
+ * <p>
+ * Input is read through a fixed buffer and parsed straight from bytes, so any
+ * amount of input is processed in constant memory. Operands with at most 18
+ * significant digits and a decimal exponent within [-22, 22], which covers
+ * nearly every operand written by hand or by a program, are converted
+ * without allocating anything; other operands are converted by
+ * {@link Double#parseDouble(String)}. Either way the operand has the same
+ * value as with {@link Double#parseDouble(String)}.
+ * <p>
+ * Every failed line is written to the output as its line number followed by
+ * the message of the exception the calculator would throw, such as
+ * {@code 7: Division with zero isn't permitted.}. If requested, the calculator
+ * value after every successful line is written as well, formatted the same way
+ * as by {@link Double#toString(double)}. Whole values below 10^7 in magnitude,
+ * which {@link Double#toString(double)} writes as their digits followed by
+ * {@code .0}, are formatted straight into the output buffer; any other value
+ * is formatted by {@link Double#toString(double)}, which allocates a string
+ * for every such line.
+ * <p>
+ * A processor keeps its buffers between calls, and isn't thread-safe.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class OperationFileProcessor {
+	/**
+	 * Size of the input and output buffers, which is also the length of the
+	 * longest line that can be processed.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Largest number of significant digits converted without
+	 * {@link Double#parseDouble(String)}, so that the digits fit in a
+	 * {@code long}.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * Largest integer up to which every integer is exactly representable as a
+	 * {@code double}.
+	 */
+	private static final long MAX_EXACT = 1L << 53;
+
+	/**
+	 * Magnitude below which whole values are written without
+	 * {@link Double#toString(double)}, which writes larger values in computerized
+	 * scientific notation.
+	 */
+	private static final double MAX_DIRECT_VALUE = 1e7;
+
+	/**
+	 * Powers of ten that are exactly representable as a {@code double}.
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * Calculator the operations are applied to.
+	 */
+	private final CalculatorAdvanced calculator;
+
+	/**
+	 * Outcome of the last operation.
+	 */
+	private final CalculationResult result = new CalculationResult();
+
+	/**
+	 * Denotes if the value after every successful line is written.
+	 */
+	private final boolean writeValues;
+
+	/**
+	 * Input buffer.
+	 */
+	private final byte[] input;
+
+	/**
+	 * Output buffer.
+	 */
+	private final ByteBuffer output;
+
+	/**
+	 * Digits of a line number or value being written.
+	 */
+	private final byte[] digits = new byte[20];
+
+	/**
+	 * Channel the output is written to during processing.
+	 */
+	private WritableByteChannel out;
+
+	/**
+	 * Set by {@link #parseOperand(int, int)} when the operand isn't a number.
+	 */
+	private boolean invalidOperand;
+
+	/**
+	 * Number of lines read in the last call of
+	 * {@link #process(ReadableByteChannel, WritableByteChannel)}.
+	 */
+	private long lines;
+
+	/**
+	 * Number of failed lines in the last call of
+	 * {@link #process(ReadableByteChannel, WritableByteChannel)}.
+	 */
+	private long errors;
+
+	/**
+	 * Creates a processor.
+	 *
+	 * @param calculator  is the calculator the operations are applied to.
+	 * @param writeValues denotes if the value after every successful line is
+	 *                    written to the output, in addition to the errors.
+	 */
+	public OperationFileProcessor(CalculatorAdvanced calculator, boolean writeValues) {
+		this(calculator, writeValues, BUFFER_SIZE);
+	}
+
+	/**
+	 * Creates a processor with buffers of the given size.
+	 *
+	 * @param calculator  is the calculator the operations are applied to.
+	 * @param writeValues denotes if the value after every successful line is
+	 *                    written to the output, in addition to the errors.
+	 * @param bufferSize  is the size of the buffers and the longest line.
+	 */
+	OperationFileProcessor(CalculatorAdvanced calculator, boolean writeValues, int bufferSize) {
+		this.calculator = calculator;
+		this.writeValues = writeValues;
+		this.input = new byte[bufferSize];
+		this.output = ByteBuffer.allocate(bufferSize);
+	}
+
+	/**
+	 * Method processes a file of operations and writes the results to another
+	 * file, which is created or replaced.
+	 *
+	 * @param input  is the file of operations.
+	 * @param output is the file that receives the results.
+	 * @return number of lines read.
+	 * @throws IOException when a file can't be read or written.
+	 */
+	public long process(Path input, Path output) throws IOException {
+		try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+				FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING)) {
+			return process(in, out);
+		}
+	}
+
+	/**
+	 * Method processes operations read from a channel until its end, and writes
+	 * the results to another channel. Channels aren't closed.
+	 *
+	 * @param in  is the channel operations are read from.
+	 * @param out is the channel that receives the results.
+	 * @return number of lines read.
+	 * @throws IOException when a channel can't be read or written.
+	 */
+	public long process(ReadableByteChannel in, WritableByteChannel out) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(input);
+		this.out = out;
+		output.clear();
+		lines = 0;
+		errors = 0;
+
+		// Unprocessed bytes are in [start, end), and [start, scan) has no line feed.
+		int start = 0;
+		int scan = 0;
+		int end = 0;
+		boolean overlong = false;
+		boolean eof = false;
+
+		try {
+			for (;;) {
+				while (scan < end && input[scan] != '\n') {
+					scan++;
+				}
+
+				if (scan < end) {
+					finishLine(start, scan, overlong);
+					overlong = false;
+					start = ++scan;
+					continue;
+				}
+				if (eof) {
+					if (start < end || overlong) {
+						finishLine(start, end, overlong);
+					}
+					break;
+				}
+
+				if (start > 0) {
+					System.arraycopy(input, start, input, 0, end - start);
+					end -= start;
+					start = 0;
+					scan = end;
+				}
+				if (end == input.length) {
+					// Line doesn't fit in the buffer, drop it up to the next line feed.
+					overlong = true;
+					start = scan = end = 0;
+				}
+
+				buffer.limit(input.length).position(end);
+				int read = in.read(buffer);
+				if (read < 0) {
+					eof = true;
+				} else {
+					end += read;
+				}
+			}
+
+			flush();
+		} finally {
+			this.out = null;
+		}
+		return lines;
+	}
+
+	/**
+	 * Getter for the number of lines read in the last call of
+	 * {@link #process(ReadableByteChannel, WritableByteChannel)}.
+	 *
+	 * @return number of lines.
+	 */
+	public long getLines() {
+		return lines;
+	}
+
+	/**
+	 * Getter for the number of failed lines in the last call of
+	 * {@link #process(ReadableByteChannel, WritableByteChannel)}.
+	 *
+	 * @return number of failed lines.
+	 */
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Helper method that counts a line and processes it.
+	 *
+	 * @param from     is the index of the first byte of the line.
+	 * @param to       is the index after the last byte of the line.
+	 * @param overlong denotes if the line has been longer than the buffer.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void finishLine(int from, int to, boolean overlong) throws IOException {
+		lines++;
+		if (overlong) {
+			writeError("Line is longer than " + input.length + " bytes.");
+		} else {
+			processLine(from, to);
+		}
+	}
+
+	/**
+	 * Helper method that applies a single line to the calculator.
+	 *
+	 * @param from is the index of the first byte of the line.
+	 * @param to   is the index after the last byte of the line.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void processLine(int from, int to) throws IOException {
+		while (from < to && isWhitespace(input[from])) {
+			from++;
+		}
+		while (to > from && isWhitespace(input[to - 1])) {
+			to--;
+		}
+		if (from == to) {
+			return;
+		}
+
+		char operator = (char) (input[from++] & 0xFF);
+		while (from < to && isWhitespace(input[from])) {
+			from++;
+		}
+
+		int status;
+		if (from == to) {
+			status = calculator.tryCalculateAdvanced(operator, result);
+		} else {
+			double operand = parseOperand(from, to);
+			if (invalidOperand) {
+				writeError("Operand '" + new String(input, from, to - from, StandardCharsets.ISO_8859_1)
+						+ "' isn't a number.");
+				return;
+			}
+			status = calculator.tryCalculate(operand, operator, result);
+		}
+
+		if (status != CalculationResult.OK) {
+			writeError(result.getMessage());
+		} else if (writeValues) {
+			writeValue(calculator.getCurrentValue());
+		}
+	}
+
+	/**
+	 * Helper method that converts an operand to a {@code double}. Simple decimal
+	 * numbers are converted by a single, correctly rounded multiplication or
+	 * division of their digits by a power of ten, both of which are exactly
+	 * representable; everything else is left to
+	 * {@link Double#parseDouble(String)}.
+	 *
+	 * @param from is the index of the first byte of the operand.
+	 * @param to   is the index after the last byte of the operand.
+	 * @return value of the operand; {@link #invalidOperand} is set if it isn't a
+	 *         number.
+	 */
+	private double parseOperand(int from, int to) {
+		invalidOperand = false;
+		int i = from;
+		boolean negative = false;
+		if (input[i] == '-' || input[i] == '+') {
+			negative = input[i] == '-';
+			i++;
+		}
+
+		long mantissa = 0;
+		int significant = 0;
+		int exponent = 0;
+		boolean anyDigit = false;
+
+		for (; i < to && isDigit(input[i]); i++) {
+			anyDigit = true;
+			if (mantissa != 0 || input[i] != '0') {
+				mantissa = mantissa * 10 + (input[i] - '0');
+				significant++;
+			}
+		}
+		if (i < to && input[i] == '.') {
+			for (i++; i < to && isDigit(input[i]); i++) {
+				anyDigit = true;
+				exponent--;
+				if (mantissa != 0 || input[i] != '0') {
+					mantissa = mantissa * 10 + (input[i] - '0');
+					significant++;
+				}
+			}
+		}
+		if (anyDigit && i < to && (input[i] == 'e' || input[i] == 'E')) {
+			i++;
+			boolean negativeExponent = false;
+			if (i < to && (input[i] == '-' || input[i] == '+')) {
+				negativeExponent = input[i] == '-';
+				i++;
+			}
+			int value = 0;
+			int start = i;
+			for (; i < to && isDigit(input[i]) && value < 10_000; i++) {
+				value = value * 10 + (input[i] - '0');
+			}
+			exponent += negativeExponent ? -value : value;
+			anyDigit = i > start;
+		}
+
+		if (anyDigit && i == to && significant <= MAX_DIGITS) {
+			if (mantissa == 0) {
+				return negative ? -0.0d : 0.0d;
+			}
+			if (mantissa <= MAX_EXACT && exponent >= -22 && exponent <= 22) {
+				double value = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent]
+						: mantissa / POWERS_OF_TEN[-exponent];
+				return negative ? -value : value;
+			}
+		}
+
+		try {
+			return Double.parseDouble(new String(input, from, to - from, StandardCharsets.ISO_8859_1));
+		} catch (NumberFormatException e) {
+			invalidOperand = true;
+			return Double.NaN;
+		}
+	}
+
+	/**
+	 * Helper method that writes an error for the current line.
+	 *
+	 * @param message is the error message.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void writeError(String message) throws IOException {
+		errors++;
+
+		writeDigits(lines);
+		write((byte) ':');
+		write((byte) ' ');
+		byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+		for (byte b : bytes) {
+			write(b);
+		}
+		write((byte) '\n');
+	}
+
+	/**
+	 * Helper method that writes a calculator value.
+	 *
+	 * @param value is the written value.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void writeValue(double value) throws IOException {
+		if (Math.abs(value) < MAX_DIRECT_VALUE && value == Math.rint(value)) {
+			if (value < 0.0d || Double.doubleToRawLongBits(value) == Long.MIN_VALUE) {
+				// Negative values and negative zero.
+				write((byte) '-');
+			}
+			writeDigits(Math.abs((long) value));
+			write((byte) '.');
+			write((byte) '0');
+		} else {
+			String text = Double.toString(value);
+			for (int i = 0; i < text.length(); i++) {
+				write((byte) text.charAt(i));
+			}
+		}
+		write((byte) '\n');
+	}
+
+	/**
+	 * Helper method that writes the decimal digits of a non-negative number.
+	 *
+	 * @param number is the written number.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void writeDigits(long number) throws IOException {
+		int length = 0;
+		do {
+			digits[length++] = (byte) ('0' + number % 10);
+			number /= 10;
+		} while (number != 0);
+		while (length > 0) {
+			write(digits[--length]);
+		}
+	}
+
+	/**
+	 * Helper method that writes a single byte, flushing the output buffer when
+	 * it's full.
+	 *
+	 * @param b is the written byte.
+	 * @throws IOException when the output can't be written.
+	 */
+	private void write(byte b) throws IOException {
+		if (!output.hasRemaining()) {
+			flush();
+		}
+		output.put(b);
+	}
+
+	/**
+	 * Helper method that writes the content of the output buffer to the output
+	 * channel.
+	 *
+	 * @throws IOException when the output can't be written.
+	 */
+	private void flush() throws IOException {
+		output.flip();
+		while (output.hasRemaining()) {
+			out.write(output);
+		}
+		output.clear();
+	}
+
+	/**
+	 * Helper method that checks if a byte is an ASCII digit.
+	 *
+	 * @param b is a checked byte.
+	 * @return true if the byte is a digit.
+	 */
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	/**
+	 * Helper method that checks if a byte is a space, a tab or a carriage return.
+	 *
+	 * @param b is a checked byte.
+	 * @return true if the byte is whitespace.
+	 */
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\r';
+	}
+}
@@ -0,0 +1,168 @@
+package calculator.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to keep the value of a {@link CalculatorAdvanced} in an
+ * {@link OperationJournal}. It behaves exactly like {@link CalculatorAdvanced},
+ * starts with the value recovered from the journal, and appends a record for
+ * every change of its value. A value set with {@link #setCurrentValue(double)}
+ * is recorded with the operator {@value #SET_OPERATOR}, and an advanced
+ * calculation with its action and the operand {@code 0.0}.
+ * <p>
+ * A change is applied only if its record has been appended. When the journal
+ * fails, the value is left unchanged and the failure is thrown; an
+ * {@link IOException} is wrapped in an {@link UncheckedIOException}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class JournaledCalculator extends CalculatorAdvanced {
+	/**
+	 * Operator of the records that set the value.
+	 */
+	public static final char SET_OPERATOR = '=';
+
+	/**
+	 * Journal that receives the changes.
+	 */
+	private final OperationJournal journal;
+
+	/**
+	 * Set while an operation of {@link CalculatorAdvanced} changes the value, so
+	 * that the change isn't recorded as a set value.
+	 */
+	private boolean inOperation;
+
+	/**
+	 * Creates a calculator with the value recovered from a journal.
+	 *
+	 * @param journal receives the changes of the value.
+	 */
+	public JournaledCalculator(OperationJournal journal) {
+		this.journal = journal;
+		super.setCurrentValue(journal.getValue());
+	}
+
+	/**
+	 * Getter for the journal of this calculator.
+	 *
+	 * @return journal that receives the changes of the value.
+	 */
+	public OperationJournal getJournal() {
+		return journal;
+	}
+
+	@Override
+	public void setCurrentValue(double currentValue) {
+		if (inOperation) {
+			super.setCurrentValue(currentValue);
+			return;
+		}
+
+		double previous = getCurrentValue();
+		super.setCurrentValue(currentValue);
+		record(SET_OPERATOR, currentValue, previous);
+	}
+
+	@Override
+	public void calculate(Double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		double previous = getCurrentValue();
+		super.calculate(value, operator);
+		record(operator, value, previous);
+	}
+
+	@Override
+	public int tryCalculate(double value, char operator, CalculationResult result) {
+		double previous = getCurrentValue();
+		int status = super.tryCalculate(value, operator, result);
+		if (status == CalculationResult.OK) {
+			record(operator, value, previous);
+		}
+		return status;
+	}
+
+	/**
+	 * Batch operations go through
+	 * {@link #tryCalculate(double, char, CalculationResult)}, so that every
+	 * operation is recorded on its own.
+	 */
+	@Override
+	protected boolean isBatchStepwise() {
+		return true;
+	}
+
+	@Override
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		double previous = getCurrentValue();
+		inOperation = true;
+		try {
+			super.calculateAdvanced(action);
+		} finally {
+			inOperation = false;
+		}
+		record(action, 0.0d, previous);
+	}
+
+	@Override
+	public BigInteger calculateAdvancedExact(char action)
+			throws NumberNotInAreaException, NotSupportedOperationException {
+		double previous = getCurrentValue();
+		BigInteger result;
+		inOperation = true;
+		try {
+			result = super.calculateAdvancedExact(action);
+		} finally {
+			inOperation = false;
+		}
+		record(action, 0.0d, previous);
+		return result;
+	}
+
+	@Override
+	public int tryCalculateAdvanced(char action, CalculationResult result) {
+		double previous = getCurrentValue();
+		int status;
+		inOperation = true;
+		try {
+			status = super.tryCalculateAdvanced(action, result);
+		} finally {
+			inOperation = false;
+		}
+		if (status == CalculationResult.OK) {
+			record(action, 0.0d, previous);
+		}
+		return status;
+	}
+
+	/**
+	 * Helper method that appends a record of the current value, and restores the
+	 * previous value if the record can't be appended.
+	 *
+	 * @param operator is the operator or action that has changed the value.
+	 * @param operand  is the operand of the operator.
+	 * @param previous is the value before the change.
+	 * @throws UncheckedIOException  when the record can't be written.
+	 * @throws IllegalStateException when the journal has been closed.
+	 */
+	private void record(char operator, double operand, double previous) {
+		try {
+			journal.append(operator, operand, getCurrentValue());
+		} catch (IOException e) {
+			super.setCurrentValue(previous);
+			throw new UncheckedIOException(e);
+		} catch (RuntimeException e) {
+			super.setCurrentValue(previous);
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,806 @@
+package calculator.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+/**
+ * Class used to durably record every change of a calculator value, so that the
+ * value can be recovered after the process restarts. Every change is appended
+ * as a record with the operator, the operand and the resulting value.
+ * <p>
+ * Records are kept in segment files of a fixed number of records, named after
+ * the sequence number of their first record, and are written through a memory
+ * mapping. A record takes {@value #RECORD_SIZE} bytes:
+ *
+ * <pre>
+ * offset  size  content
+ *      0     8  raw bits of the operand
+ *      8     8  raw bits of the resulting value
+ *     16     2  operator or action
+ *     18     2  reserved, zero
+ *     20     4  CRC-32C of bytes 0 to 19
+ * </pre>
+ *
+ * A snapshot stores the value after a given number of records. Snapshots are
+ * taken every given number of records and whenever {@link #snapshot()} is
+ * called, and every segment whose records are all covered by the latest
+ * snapshot is deleted.
+ * <p>
+ * When a journal is opened, it loads the latest snapshot and checks the records
+ * after it. The first record with a wrong checksum ends the journal: it's
+ * treated as a record torn by a crash, and it and anything written after it is
+ * erased, so that new records continue right after the last valid one. Pages of
+ * a mapping can reach the file in any order, so this includes valid records
+ * after a record that was never written. Since every record carries its
+ * resulting value, the recovered value is simply the value of the last valid
+ * record, and nothing has to be recalculated.
+ * <p>
+ * All methods are thread-safe.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class OperationJournal implements Closeable {
+	/**
+	 * Size of a record in bytes.
+	 */
+	public static final int RECORD_SIZE = 24;
+
+	/**
+	 * Number of records in a segment, unless told otherwise.
+	 */
+	public static final int DEFAULT_SEGMENT_RECORDS = 1 << 22;
+
+	/**
+	 * Largest number of records in a segment, limited by the size of a memory
+	 * mapping.
+	 */
+	public static final int MAX_SEGMENT_RECORDS = Integer.MAX_VALUE / RECORD_SIZE - 1;
+
+	/**
+	 * Number of records after which a snapshot is taken, unless told otherwise.
+	 */
+	public static final long DEFAULT_SNAPSHOT_INTERVAL = 1L << 24;
+
+	/**
+	 * First bytes of every segment and snapshot file.
+	 */
+	private static final int MAGIC = 0x434A_4E4C;
+
+	/**
+	 * Version of the file layout.
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Size of a segment header, which holds the magic number, the version, the
+	 * sequence number of the first record and the number of records. It's the
+	 * same as the size of a record, so records stay aligned.
+	 */
+	private static final int HEADER_SIZE = RECORD_SIZE;
+
+	/**
+	 * Size of a snapshot file, which holds the magic number, the version, the
+	 * number of covered records, raw bits of the value and a CRC-32C of all of
+	 * them.
+	 */
+	private static final int SNAPSHOT_SIZE = 28;
+
+	/**
+	 * Extension of segment files.
+	 */
+	private static final String SEGMENT_SUFFIX = ".journal";
+
+	/**
+	 * Extension of snapshot files.
+	 */
+	private static final String SNAPSHOT_SUFFIX = ".snapshot";
+
+	/**
+	 * Directory that holds the journal.
+	 */
+	private final Path directory;
+
+	/**
+	 * Decides when records are forced.
+	 */
+	private final SyncPolicy policy;
+
+	/**
+	 * Number of records in a segment.
+	 */
+	private final int segmentRecords;
+
+	/**
+	 * Number of records after which a snapshot is taken, or zero.
+	 */
+	private final long snapshotInterval;
+
+	/**
+	 * Checksum used for records and snapshots.
+	 */
+	private final CRC32C crc = new CRC32C();
+
+	/**
+	 * Record being appended, before it's copied to the segment.
+	 */
+	private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+
+	/**
+	 * Segment that receives new records, {@code null} until the first record
+	 * after opening or after a full segment.
+	 */
+	private MappedByteBuffer segment;
+
+	/**
+	 * Sequence number of the first record of {@link #segment}.
+	 */
+	private long segmentBase;
+
+	/**
+	 * Sequence number of the next record.
+	 */
+	private long sequence;
+
+	/**
+	 * Number of records covered by the latest snapshot.
+	 */
+	private long snapshotSequence;
+
+	/**
+	 * Value after the last record.
+	 */
+	private double value;
+
+	/**
+	 * Number of records that haven't been forced.
+	 */
+	private int pending;
+
+	/**
+	 * Time when the oldest record that hasn't been forced has been appended.
+	 */
+	private long pendingSince;
+
+	/**
+	 * Denotes if a forcing of the pending records by {@link Flusher} has been
+	 * scheduled.
+	 */
+	private boolean flushScheduled;
+
+	/**
+	 * Failure of the last forcing by {@link Flusher}, thrown by the next call that
+	 * writes to the journal.
+	 */
+	private IOException flushFailure;
+
+	/**
+	 * Number of records erased when the journal has been opened.
+	 */
+	private final long truncatedRecords;
+
+	/**
+	 * Denotes if the journal has been closed.
+	 */
+	private boolean closed;
+
+	private OperationJournal(Path directory, SyncPolicy policy, int segmentRecords, long snapshotInterval)
+			throws IOException {
+		this.directory = directory;
+		this.policy = policy;
+		this.segmentRecords = segmentRecords;
+		this.snapshotInterval = snapshotInterval;
+		Files.createDirectories(directory);
+		loadSnapshot();
+		truncatedRecords = recover();
+	}
+
+	/**
+	 * Method opens a journal, creating it if it doesn't exist, with the default
+	 * segment size and snapshot interval and a group commit of up to 1024
+	 * records or 10 milliseconds.
+	 *
+	 * @param directory is the directory that holds the journal.
+	 * @return opened journal.
+	 * @throws IOException when the journal can't be read or created.
+	 */
+	public static OperationJournal open(Path directory) throws IOException {
+		return open(directory, SyncPolicy.groupCommit(1024, 10, TimeUnit.MILLISECONDS),
+				DEFAULT_SEGMENT_RECORDS, DEFAULT_SNAPSHOT_INTERVAL);
+	}
+
+	/**
+	 * Method opens a journal, creating it if it doesn't exist.
+	 *
+	 * @param directory        is the directory that holds the journal.
+	 * @param policy           decides when records are forced.
+	 * @param segmentRecords   is the number of records in a new segment; existing
+	 *                         segments keep their size.
+	 * @param snapshotInterval is the number of records after which a snapshot is
+	 *                         taken, or zero if snapshots are taken only by
+	 *                         {@link #snapshot()}.
+	 * @return opened journal.
+	 * @throws IOException              when the journal can't be read or created.
+	 * @throws IllegalArgumentException when the segment size isn't in range [1,
+	 *                                  {@value #MAX_SEGMENT_RECORDS}] or the
+	 *                                  snapshot interval is negative.
+	 */
+	public static OperationJournal open(Path directory, SyncPolicy policy, int segmentRecords, long snapshotInterval)
+			throws IOException {
+		if (segmentRecords < 1 || segmentRecords > MAX_SEGMENT_RECORDS || snapshotInterval < 0) {
+			throw new IllegalArgumentException("Segment of " + segmentRecords + " records and snapshot interval of "
+					+ snapshotInterval + " records aren't valid.");
+		}
+		return new OperationJournal(directory, policy, segmentRecords, snapshotInterval);
+	}
+
+	/**
+	 * Getter for the value after the last record, which is the recovered value
+	 * right after the journal has been opened.
+	 *
+	 * @return value after the last record, or {@code 0.0} for an empty journal.
+	 */
+	public synchronized double getValue() {
+		return value;
+	}
+
+	/**
+	 * Getter for the number of records appended since the journal has been
+	 * created, including records deleted after a snapshot.
+	 *
+	 * @return sequence number of the next record.
+	 */
+	public synchronized long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Getter for the number of appended records that haven't been forced yet.
+	 *
+	 * @return number of pending records.
+	 */
+	synchronized int getPendingRecords() {
+		return pending;
+	}
+
+	/**
+	 * Getter for the number of torn or corrupt records that have been erased when
+	 * the journal has been opened.
+	 *
+	 * @return number of erased records.
+	 */
+	public long getTruncatedRecords() {
+		return truncatedRecords;
+	}
+
+	/**
+	 * Method appends a record of a change of the value.
+	 *
+	 * @param operator is the operator or action that has changed the value; it
+	 *                 can't be {@code '\0'}.
+	 * @param operand  is the operand of the operator, or any number for an action.
+	 * @param value    is the value after the change.
+	 * @throws IOException              when the record can't be written.
+	 * @throws IllegalArgumentException when the operator is {@code '\0'}.
+	 */
+	public synchronized void append(char operator, double operand, double value) throws IOException {
+		ensureOpen();
+		throwFlushFailure();
+		if (operator == '\0') {
+			throw new IllegalArgumentException("Operator can't be '\\0'.");
+		}
+		if (segment == null || sequence - segmentBase == segmentRecords(segment)) {
+			startSegment();
+		}
+
+		ByteBuffer record = this.record;
+		record.putLong(0, Double.doubleToRawLongBits(operand));
+		record.putLong(8, Double.doubleToRawLongBits(value));
+		record.putChar(16, operator);
+		record.putShort(18, (short) 0);
+		crc.reset();
+		crc.update(record.array(), 0, RECORD_SIZE - Integer.BYTES);
+		record.putInt(20, (int) crc.getValue());
+
+		segment.position(HEADER_SIZE + (int) (sequence - segmentBase) * RECORD_SIZE);
+		segment.put(record.array(), 0, RECORD_SIZE);
+
+		sequence++;
+		this.value = value;
+		if (pending++ == 0) {
+			pendingSince = System.nanoTime();
+		}
+		if (policy.shouldSync(pending, pendingSince)) {
+			sync();
+		} else if (!flushScheduled && policy.getIntervalNanos() > 0) {
+			scheduleFlush(policy.getIntervalNanos());
+		}
+		if (snapshotInterval > 0 && sequence - snapshotSequence >= snapshotInterval) {
+			snapshot();
+		}
+	}
+
+	/**
+	 * Method forces every appended record to the storage device.
+	 *
+	 * @throws IOException when the records can't be forced.
+	 */
+	public synchronized void sync() throws IOException {
+		ensureOpen();
+		throwFlushFailure();
+		if (segment != null && pending > 0) {
+			segment.force();
+		}
+		pending = 0;
+	}
+
+	/**
+	 * Method takes a snapshot of the value after the last record, and deletes
+	 * every segment that holds only records covered by it.
+	 *
+	 * @throws IOException when the snapshot can't be written.
+	 */
+	public synchronized void snapshot() throws IOException {
+		ensureOpen();
+		sync();
+		if (sequence == snapshotSequence) {
+			return;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(SNAPSHOT_SIZE);
+		buffer.putInt(MAGIC).putInt(VERSION).putLong(sequence).putLong(Double.doubleToRawLongBits(value));
+		crc.reset();
+		crc.update(buffer.array(), 0, SNAPSHOT_SIZE - Integer.BYTES);
+		buffer.putInt((int) crc.getValue()).flip();
+
+		Path file = directory.resolve(name(sequence, SNAPSHOT_SUFFIX));
+		Path temporary = directory.resolve(name(sequence, SNAPSHOT_SUFFIX + ".tmp"));
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		long previous = snapshotSequence;
+		snapshotSequence = sequence;
+		Files.deleteIfExists(directory.resolve(name(previous, SNAPSHOT_SUFFIX)));
+		for (Path path : list(SEGMENT_SUFFIX)) {
+			long base = sequenceOf(path);
+			if (base + readSegmentRecords(path) > snapshotSequence) {
+				continue;
+			}
+			if (segment != null && base == segmentBase) {
+				// Full segment is covered too, the next record starts a new one.
+				segment = null;
+			}
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * Method calls the visitor for every record that is still kept, which are the
+	 * records after the latest snapshot and possibly some before it, in the order
+	 * in which they've been appended.
+	 *
+	 * @param visitor receives the records.
+	 * @return number of visited records.
+	 * @throws IOException when a segment can't be read.
+	 */
+	public synchronized long replay(RecordVisitor visitor) throws IOException {
+		ensureOpen();
+		long visited = 0;
+		for (Path path : list(SEGMENT_SUFFIX)) {
+			long base = sequenceOf(path);
+			if (base >= sequence) {
+				break;
+			}
+			MappedByteBuffer mapped = base == segmentBase && segment != null ? segment : map(path, false);
+			int count = (int) Math.min(segmentRecords(mapped), sequence - base);
+			for (int i = 0; i < count; i++) {
+				int offset = HEADER_SIZE + i * RECORD_SIZE;
+				visitor.visit(base + i, mapped.getChar(offset + 16), Double.longBitsToDouble(mapped.getLong(offset)),
+						Double.longBitsToDouble(mapped.getLong(offset + 8)));
+				visited++;
+			}
+		}
+		return visited;
+	}
+
+	/**
+	 * Method forces every appended record and closes the journal.
+	 *
+	 * @throws IOException when the records can't be forced.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!closed) {
+			sync();
+			segment = null;
+			closed = true;
+		}
+	}
+
+	/**
+	 * Receiver of the records visited by {@link OperationJournal#replay}.
+	 */
+	@FunctionalInterface
+	public interface RecordVisitor {
+		/**
+		 * Method receives a single record.
+		 *
+		 * @param sequence is the sequence number of the record.
+		 * @param operator is the operator or action that has changed the value.
+		 * @param operand  is the operand of the operator.
+		 * @param value    is the value after the change.
+		 */
+		void visit(long sequence, char operator, double operand, double value);
+	}
+
+	/**
+	 * Helper method that schedules a forcing of the pending records by
+	 * {@link Flusher}.
+	 *
+	 * @param delayNanos is the time until the forcing, in nanoseconds.
+	 */
+	private void scheduleFlush(long delayNanos) {
+		flushScheduled = true;
+		Flusher.EXECUTOR.schedule(this::flushPending, delayNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Helper method run by {@link Flusher} that forces the pending records once
+	 * the oldest of them has waited for the interval of the sync policy, or
+	 * schedules itself again for the rest of the wait.
+	 */
+	private synchronized void flushPending() {
+		flushScheduled = false;
+		if (closed || pending == 0) {
+			return;
+		}
+		long remaining = policy.getIntervalNanos() - (System.nanoTime() - pendingSince);
+		if (remaining > 0) {
+			scheduleFlush(remaining);
+			return;
+		}
+		try {
+			sync();
+		} catch (IOException e) {
+			flushFailure = e;
+		}
+	}
+
+	/**
+	 * Helper method that throws the failure of the last forcing by
+	 * {@link Flusher}, if there is one.
+	 *
+	 * @throws IOException when the records couldn't be forced.
+	 */
+	private void throwFlushFailure() throws IOException {
+		IOException failure = flushFailure;
+		if (failure != null) {
+			flushFailure = null;
+			throw failure;
+		}
+	}
+
+	/**
+	 * Holder of the thread that forces the records of every journal whose group
+	 * hasn't been filled in time, created on first use.
+	 */
+	private static final class Flusher {
+		/**
+		 * Scheduler of the forcings, running on a single daemon thread.
+		 */
+		private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "operation-journal-flusher");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Helper method that loads the latest valid snapshot, and deletes every other
+	 * snapshot and unfinished snapshot file.
+	 *
+	 * @throws IOException when the directory can't be read.
+	 */
+	private void loadSnapshot() throws IOException {
+		for (Path path : list(SNAPSHOT_SUFFIX + ".tmp")) {
+			Files.delete(path);
+		}
+
+		List<Path> snapshots = list(SNAPSHOT_SUFFIX);
+		boolean loaded = false;
+		for (int i = snapshots.size() - 1; i >= 0; i--) {
+			Path path = snapshots.get(i);
+			if (!loaded) {
+				ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+				if (buffer.limit() == SNAPSHOT_SIZE && buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION
+						&& buffer.getInt(SNAPSHOT_SIZE - Integer.BYTES) == checksum(buffer.array(),
+								SNAPSHOT_SIZE - Integer.BYTES)) {
+					snapshotSequence = buffer.getLong(8);
+					value = Double.longBitsToDouble(buffer.getLong(16));
+					loaded = true;
+					continue;
+				}
+			}
+			Files.delete(path);
+		}
+		sequence = snapshotSequence;
+	}
+
+	/**
+	 * Helper method that checks the records after the latest snapshot, erases a
+	 * torn or corrupt tail and prepares the last segment for appending.
+	 *
+	 * @return number of erased records.
+	 * @throws IOException when a segment can't be read or written.
+	 */
+	private long recover() throws IOException {
+		long truncated = 0;
+		boolean ended = false;
+
+		for (Path path : list(SEGMENT_SUFFIX)) {
+			long base = sequenceOf(path);
+			if (!ended && base + readSegmentRecords(path) <= sequence) {
+				// Every record of the segment is covered by the snapshot.
+				Files.delete(path);
+				continue;
+			}
+
+			MappedByteBuffer mapped = ended ? null : map(path, true);
+			if (mapped == null || base > sequence || mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+					|| mapped.getLong(8) != base) {
+				// Segment after the end of the journal, or one whose creation hasn't finished.
+				ended = true;
+				truncated += countRecords(path);
+				Files.delete(path);
+				continue;
+			}
+
+			int capacity = segmentRecords(mapped);
+			int index = (int) (sequence - base);
+			ByteBuffer view = mapped.duplicate();
+			while (index < capacity && isValid(mapped, view, HEADER_SIZE + index * RECORD_SIZE)) {
+				value = Double.longBitsToDouble(mapped.getLong(HEADER_SIZE + index * RECORD_SIZE + 8));
+				index++;
+			}
+			sequence = base + index;
+			segment = mapped;
+			segmentBase = base;
+
+			if (index < capacity) {
+				// Erase every record after the end. Pages of a mapping can be written back
+				// in any order, so valid records can follow a record that never reached the
+				// file, and they would come back once new records fill the gap.
+				ended = true;
+				long erased = 0;
+				for (int i = index; i < capacity; i++) {
+					if (!isEmpty(mapped, HEADER_SIZE + i * RECORD_SIZE)) {
+						for (int j = 0; j < RECORD_SIZE; j += Long.BYTES) {
+							mapped.putLong(HEADER_SIZE + i * RECORD_SIZE + j, 0L);
+						}
+						erased++;
+					}
+				}
+				if (erased > 0) {
+					mapped.force();
+					truncated += erased;
+				}
+			}
+		}
+
+		if (segment != null && sequence - segmentBase == segmentRecords(segment)) {
+			segment = null;
+		}
+		return truncated;
+	}
+
+	/**
+	 * Helper method that creates a new segment starting at the next record.
+	 *
+	 * @throws IOException when the segment can't be created.
+	 */
+	private void startSegment() throws IOException {
+		if (segment != null) {
+			segment.force();
+			pending = 0;
+		}
+
+		Path path = directory.resolve(name(sequence, SEGMENT_SUFFIX));
+		long size = HEADER_SIZE + (long) segmentRecords * RECORD_SIZE;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+		segment.putInt(0, MAGIC);
+		segment.putInt(4, VERSION);
+		segment.putLong(8, sequence);
+		segment.putInt(16, segmentRecords);
+		segment.force();
+		segmentBase = sequence;
+	}
+
+	/**
+	 * Helper method that checks if a record has a valid checksum.
+	 *
+	 * @param mapped is the segment holding the record.
+	 * @param view   is a view of the segment whose position and limit can be
+	 *               changed.
+	 * @param offset is the offset of the record.
+	 * @return true if the record is valid.
+	 */
+	private boolean isValid(MappedByteBuffer mapped, ByteBuffer view, int offset) {
+		if (mapped.getChar(offset + 16) == '\0') {
+			return false;
+		}
+		view.limit(offset + RECORD_SIZE - Integer.BYTES).position(offset);
+		crc.reset();
+		crc.update(view);
+		return (int) crc.getValue() == mapped.getInt(offset + RECORD_SIZE - Integer.BYTES);
+	}
+
+	/**
+	 * Helper method that checks if a record has never been written.
+	 *
+	 * @param mapped is the segment holding the record.
+	 * @param offset is the offset of the record.
+	 * @return true if every byte of the record is zero.
+	 */
+	private static boolean isEmpty(MappedByteBuffer mapped, int offset) {
+		for (int j = 0; j < RECORD_SIZE; j += Long.BYTES) {
+			if (mapped.getLong(offset + j) != 0L) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Helper method that counts the records of a segment that is being deleted,
+	 * which are all of its records that have ever been written, including those
+	 * after a record that never reached the file.
+	 *
+	 * @param path is the segment file.
+	 * @return number of records that aren't empty.
+	 * @throws IOException when the segment can't be read.
+	 */
+	private static long countRecords(Path path) throws IOException {
+		if (Files.size(path) < HEADER_SIZE + RECORD_SIZE) {
+			return 0;
+		}
+		MappedByteBuffer mapped = map(path, false);
+		long count = 0;
+		for (int offset = HEADER_SIZE; offset + RECORD_SIZE <= mapped.capacity(); offset += RECORD_SIZE) {
+			if (!isEmpty(mapped, offset)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Helper method that maps a segment file.
+	 *
+	 * @param path     is the segment file.
+	 * @param writable denotes if the mapping can be written.
+	 * @return mapped file.
+	 * @throws IOException when the file can't be mapped.
+	 */
+	private static MappedByteBuffer map(Path path, boolean writable) throws IOException {
+		try (FileChannel channel = writable
+				? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+				: FileChannel.open(path, StandardOpenOption.READ)) {
+			return channel.map(writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY, 0,
+					Math.min(channel.size(), Integer.MAX_VALUE));
+		}
+	}
+
+	/**
+	 * Helper method that reads the number of records of a segment from its size.
+	 *
+	 * @param mapped is the mapped segment.
+	 * @return number of records.
+	 */
+	private static int segmentRecords(MappedByteBuffer mapped) {
+		return Math.max(0, (mapped.capacity() - HEADER_SIZE) / RECORD_SIZE);
+	}
+
+	/**
+	 * Helper method that reads the number of records of a segment file from its
+	 * size.
+	 *
+	 * @param path is the segment file.
+	 * @return number of records.
+	 * @throws IOException when the size can't be read.
+	 */
+	private static long readSegmentRecords(Path path) throws IOException {
+		return Math.max(0, (Files.size(path) - HEADER_SIZE) / RECORD_SIZE);
+	}
+
+	/**
+	 * Helper method that lists the files of the journal with the given extension,
+	 * in the order of their sequence numbers.
+	 *
+	 * @param suffix is the extension of the files.
+	 * @return sorted files.
+	 * @throws IOException when the directory can't be read.
+	 */
+	private List<Path> list(String suffix) throws IOException {
+		List<Path> files = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + suffix)) {
+			for (Path path : stream) {
+				if (path.getFileName().toString().length() == 20 + suffix.length()) {
+					files.add(path);
+				}
+			}
+		}
+		// Names have a fixed width, so they sort in the order of sequence numbers.
+		Collections.sort(files);
+		return files;
+	}
+
+	/**
+	 * Helper method that reads the sequence number from a file name.
+	 *
+	 * @param path is a file of the journal.
+	 * @return sequence number of the file.
+	 */
+	private static long sequenceOf(Path path) {
+		return Long.parseLong(path.getFileName().toString().substring(0, 20));
+	}
+
+	/**
+	 * Helper method that builds a file name from a sequence number.
+	 *
+	 * @param sequence is the sequence number.
+	 * @param suffix   is the extension of the file.
+	 * @return file name.
+	 */
+	private static String name(long sequence, String suffix) {
+		return String.format("%020d", sequence) + suffix;
+	}
+
+	/**
+	 * Helper method that calculates a CRC-32C of the first bytes of an array.
+	 *
+	 * @param bytes  is the array.
+	 * @param length is the number of bytes.
+	 * @return checksum.
+	 */
+	private int checksum(byte[] bytes, int length) {
+		crc.reset();
+		crc.update(bytes, 0, length);
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Helper method that checks that the journal hasn't been closed.
+	 *
+	 * @throws IllegalStateException when the journal has been closed.
+	 */
+	private void ensureOpen() {
+		if (closed) {
+			throw new IllegalStateException("Journal has been closed.");
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package calculator.journal;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class used to decide when records appended to an {@link OperationJournal} are
+ * forced to the storage device. Records that haven't been forced yet are in
+ * the page cache, so they survive a crash of the process, but not a crash of
+ * the operating system or a power loss.
+ * <p>
+ * A group commit forces many records at once, which costs a single write to
+ * the device for the whole group instead of one write per record, at the price
+ * of losing up to a group of records on a power loss.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class SyncPolicy {
+	/**
+	 * Policy that leaves forcing to the operating system.
+	 */
+	private static final SyncPolicy NONE = new SyncPolicy(0, 0L);
+
+	/**
+	 * Policy that forces every record.
+	 */
+	private static final SyncPolicy EVERY_RECORD = new SyncPolicy(1, 0L);
+
+	/**
+	 * Number of records after which they're forced, or zero if the number doesn't
+	 * matter.
+	 */
+	private final int records;
+
+	/**
+	 * Time in nanoseconds after which records are forced, or zero if the time
+	 * doesn't matter.
+	 */
+	private final long intervalNanos;
+
+	private SyncPolicy(int records, long intervalNanos) {
+		this.records = records;
+		this.intervalNanos = intervalNanos;
+	}
+
+	/**
+	 * Policy that never forces records, except when a segment is full, a snapshot
+	 * is taken or the journal is closed.
+	 *
+	 * @return sync policy.
+	 */
+	public static SyncPolicy none() {
+		return NONE;
+	}
+
+	/**
+	 * Policy that forces every record before the operation that appended it
+	 * returns.
+	 *
+	 * @return sync policy.
+	 */
+	public static SyncPolicy everyRecord() {
+		return EVERY_RECORD;
+	}
+
+	/**
+	 * Policy that forces records in groups, when either enough records have been
+	 * appended or enough time has passed since the oldest record that hasn't been
+	 * forced. Time is checked when a record is appended, and the journal also
+	 * forces the records from a background thread once the time has passed, so
+	 * that no record waits longer than the interval when no other record
+	 * follows it.
+	 *
+	 * @param records  is the largest number of records in a group.
+	 * @param interval is the longest time a record can wait to be forced.
+	 * @param unit     is the unit of the interval.
+	 * @return sync policy.
+	 * @throws IllegalArgumentException when the number of records isn't positive
+	 *                                  or the interval is negative.
+	 */
+	public static SyncPolicy groupCommit(int records, long interval, TimeUnit unit) {
+		if (records <= 0 || interval < 0) {
+			throw new IllegalArgumentException("Group of " + records + " records and interval of " + interval + " "
+					+ unit + " aren't valid.");
+		}
+		return new SyncPolicy(records, unit.toNanos(interval));
+	}
+
+	/**
+	 * Method checks if records have to be forced.
+	 *
+	 * @param pending is the number of records that haven't been forced.
+	 * @param since   is the time in nanoseconds when the oldest of them has been
+	 *                appended.
+	 * @return true if the records have to be forced.
+	 */
+	boolean shouldSync(int pending, long since) {
+		return (records > 0 && pending >= records) || (intervalNanos > 0 && System.nanoTime() - since >= intervalNanos);
+	}
+
+	/**
+	 * Getter for the longest time a record can wait to be forced.
+	 *
+	 * @return time in nanoseconds, or zero if the time doesn't matter.
+	 */
+	long getIntervalNanos() {
+		return intervalNanos;
+	}
+
+	@Override
+	public String toString() {
+		return records == 0 ? "none" : records == 1 ? "every record"
+				: "group of " + records + " records or " + intervalNanos + " ns";
+	}
+}
@@ -0,0 +1,541 @@
+package calculator.load;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import calculator.CalculatorAdvanced;
+import calculator.metrics.LogLinearHistogram;
+
+/**
+ * Class used to put sustained load on calculators and watch how they behave
+ * over time. A number of threads, each with a calculator of its own, run a
+ * {@link Workload} at a fixed total rate: every operation has a time it's
+ * scheduled for, and a thread that falls behind doesn't slow down the
+ * schedule, it runs the late operations as soon as it can.
+ * <p>
+ * Latency of an operation is measured from the time it was scheduled for, not
+ * from the time it started, so an operation that waits behind a slow one, or
+ * behind a garbage collection, is charged for the wait the same way a client
+ * sending at a fixed rate would be. Without this a single long stall would
+ * hide all of the operations that should have been sent during it. The time
+ * the operation itself takes is recorded as the service time. Operations a
+ * thread is still behind on once the run is over aren't run at all: they're
+ * counted as missed, and charged the time they've waited until then as their
+ * latency, so that a stall at the end of a run isn't hidden either.
+ * <p>
+ * Results are kept per interval, together with the collections the garbage
+ * collectors have made in it, and written as a {@link Report} that can be
+ * compared between builds.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class LoadHarness {
+	/**
+	 * Mix of operations used when none is given: mostly arithmetic, some
+	 * advanced actions and checks of characteristics, and some operations that
+	 * fail.
+	 */
+	public static final String DEFAULT_MIX = "30:= 6,30:+ 1.5,20:* 1.01,10:/ 3,5:? P 28,5:? A 153,3:2,5:!,2:/ 0,1:% 2,1:? X";
+
+	/**
+	 * Number of operations drawn from a mix.
+	 */
+	static final int MIX_LENGTH = 1 << 16;
+
+	/**
+	 * Time before an operation is due that a thread stops parking and starts
+	 * spinning, because parking may oversleep by this much.
+	 */
+	private static final long SPIN_NANOS = 50_000L;
+
+	private final Supplier<? extends CalculatorAdvanced> calculators;
+	private final Workload workload;
+	private final int threads;
+	private final double rate;
+
+	/**
+	 * Creates a load harness.
+	 *
+	 * @param calculators creates the calculator of every thread.
+	 * @param workload    is the workload every thread runs.
+	 * @param threads     is the number of threads.
+	 * @param rate        is the total number of operations per second.
+	 * @throws IllegalArgumentException when a number isn't positive.
+	 */
+	public LoadHarness(Supplier<? extends CalculatorAdvanced> calculators, Workload workload, int threads,
+			double rate) {
+		if (threads <= 0 || !(rate > 0.0d) || Double.isInfinite(rate)) {
+			throw new IllegalArgumentException(threads + " threads at " + rate + " operations/s aren't valid.");
+		}
+
+		this.calculators = calculators;
+		this.workload = workload;
+		this.threads = threads;
+		this.rate = rate;
+	}
+
+	/**
+	 * Method runs the workload for the given time and waits for every thread to
+	 * finish. Operations scheduled during the run, but not started within an
+	 * interval after it, aren't run and are reported as missed.
+	 *
+	 * @param duration is the time operations are scheduled for.
+	 * @param interval is the time results are kept for together.
+	 * @param unit     is the unit of the times.
+	 * @return report of the run.
+	 * @throws IllegalArgumentException when a time isn't positive.
+	 * @throws InterruptedException     when the thread is interrupted while
+	 *                                  waiting.
+	 */
+	public Report run(long duration, long interval, TimeUnit unit) throws InterruptedException {
+		long durationNanos = unit.toNanos(duration);
+		long intervalNanos = unit.toNanos(interval);
+		if (durationNanos <= 0 || intervalNanos <= 0) {
+			throw new IllegalArgumentException("Run of " + duration + " with interval " + interval + " isn't valid.");
+		}
+
+		int count = (int) ((durationNanos + intervalNanos - 1) / intervalNanos);
+		Interval[] intervals = new Interval[count];
+		for (int i = 0; i < count; i++) {
+			intervals[i] = new Interval(Math.min(intervalNanos, durationNanos - i * intervalNanos));
+		}
+
+		List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+		List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> workers = new ArrayList<>(threads);
+		long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10);
+		for (int t = 0; t < threads; t++) {
+			Worker worker = new Worker(t, calculators.get(), start, durationNanos, intervalNanos, intervals);
+			Thread thread = new Thread(() -> {
+				try {
+					worker.run();
+				} catch (RuntimeException | Error e) {
+					failures.add(e);
+				}
+			}, "load-" + t);
+			thread.setDaemon(true);
+			workers.add(thread);
+			thread.start();
+		}
+
+		long[] gc = collections(collectors);
+		for (int i = 0; i < count; i++) {
+			long end = start + Math.min(durationNanos, (i + 1) * intervalNanos);
+			for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+				TimeUnit.NANOSECONDS.sleep(end - now);
+			}
+			long[] current = collections(collectors);
+			intervals[i].gcCount = current[0] - gc[0];
+			intervals[i].gcMillis = current[1] - gc[1];
+			gc = current;
+		}
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (!failures.isEmpty()) {
+			IllegalStateException failure = new IllegalStateException("Load thread has failed.", failures.get(0));
+			failures.stream().skip(1).forEach(failure::addSuppressed);
+			throw failure;
+		}
+		return new Report(workload.size(), threads, rate, durationNanos, intervalNanos, elapsed, intervals);
+	}
+
+	/**
+	 * Runs the default mix, or a workload given on the command line, against a
+	 * {@link CalculatorAdvanced} per thread and writes the report. Arguments are
+	 * the path of the report, and optionally the total number of operations per
+	 * second, the number of threads, the number of seconds to run, and the
+	 * workload: either a mix of operations, such as {@code 90:+ 1,10:/ 0}, or
+	 * {@code @} followed by the path of a trace. Defaults are 100000 operations
+	 * per second, 4 threads, 60 seconds and {@link #DEFAULT_MIX}. Results are
+	 * kept per second.
+	 *
+	 * @param args report, rate, threads, seconds and workload.
+	 * @throws IOException          when the trace can't be read or the report
+	 *                              can't be written.
+	 * @throws InterruptedException when the thread is interrupted while waiting.
+	 */
+	public static void main(String[] args) throws IOException, InterruptedException {
+		Path report = Paths.get(args[0]);
+		double rate = args.length > 1 ? Double.parseDouble(args[1]) : 100_000.0d;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+		int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 60;
+		String source = args.length > 4 ? args[4] : DEFAULT_MIX;
+
+		Workload workload = source.startsWith("@") ? Workload.readTrace(Paths.get(source.substring(1)))
+				: Workload.mix(source, MIX_LENGTH, 42L);
+		Report result = new LoadHarness(CalculatorAdvanced::new, workload, threads, rate).run(seconds, 1L,
+				TimeUnit.SECONDS);
+		result.write(report, source);
+		System.out.println(result);
+	}
+
+	/**
+	 * Helper method that sums the collections made by all of the garbage
+	 * collectors so far.
+	 *
+	 * @param collectors are the garbage collectors.
+	 * @return number of collections and their time in milliseconds.
+	 */
+	private static long[] collections(List<GarbageCollectorMXBean> collectors) {
+		long[] total = new long[2];
+		for (GarbageCollectorMXBean collector : collectors) {
+			total[0] += Math.max(0L, collector.getCollectionCount());
+			total[1] += Math.max(0L, collector.getCollectionTime());
+		}
+		return total;
+	}
+
+	/**
+	 * Results of a single interval, merged from all of the threads.
+	 */
+	static final class Interval {
+		final long nanos;
+		final LogLinearHistogram latency = new LogLinearHistogram();
+		final LogLinearHistogram serviceTime = new LogLinearHistogram();
+		long operations;
+		long errors;
+		long missed;
+
+		/**
+		 * Written only by the thread that has started the run.
+		 */
+		long gcCount;
+		long gcMillis;
+
+		Interval(long nanos) {
+			this.nanos = nanos;
+		}
+
+		/**
+		 * Method adds the results of a thread to the interval.
+		 *
+		 * @param worker is the thread whose results are added.
+		 */
+		synchronized void add(Worker worker) {
+			latency.add(worker.latency);
+			serviceTime.add(worker.serviceTime);
+			operations += worker.operations;
+			errors += worker.errors;
+			missed += worker.missed;
+		}
+	}
+
+	/**
+	 * Thread running its share of the schedule. Thread {@code t} of {@code n}
+	 * runs operations {@code t}, {@code t + n}, {@code t + 2n} and so on of the
+	 * whole schedule, so the threads together keep the total rate.
+	 */
+	private final class Worker {
+		final int index;
+		final CalculatorAdvanced calculator;
+		final long start;
+		final long duration;
+		final long interval;
+		final Interval[] intervals;
+
+		/**
+		 * Results of the current interval, added to the interval when it's over.
+		 */
+		final LogLinearHistogram latency = new LogLinearHistogram();
+		final LogLinearHistogram serviceTime = new LogLinearHistogram();
+		long operations;
+		long errors;
+		long missed;
+
+		Worker(int index, CalculatorAdvanced calculator, long start, long duration, long interval,
+				Interval[] intervals) {
+			this.index = index;
+			this.calculator = calculator;
+			this.start = start;
+			this.duration = duration;
+			this.interval = interval;
+			this.intervals = intervals;
+		}
+
+		/**
+		 * Method runs the operations of the thread until the end of the schedule.
+		 * Once the deadline has passed, the rest of the operations are only
+		 * counted as missed.
+		 */
+		void run() {
+			double nanosPerOperation = 1.0e9d / rate;
+			long deadline = start + duration + interval;
+			long offset = (long) index * workload.size() / threads;
+			int current = 0;
+			boolean late = false;
+
+			for (long k = index;; k += threads) {
+				long scheduled = (long) (k * nanosPerOperation);
+				if (scheduled >= duration) {
+					break;
+				}
+				int slot = (int) (scheduled / interval);
+				if (slot != current) {
+					flush(current);
+					current = slot;
+				}
+
+				long intended = start + scheduled;
+				long now = late ? deadline : System.nanoTime();
+				if (now >= deadline) {
+					late = true;
+					latency.record(deadline - intended);
+					missed++;
+					continue;
+				}
+				while (now < intended) {
+					if (intended - now > SPIN_NANOS) {
+						LockSupport.parkNanos(intended - now - SPIN_NANOS);
+					} else {
+						Thread.onSpinWait();
+					}
+					now = System.nanoTime();
+				}
+
+				boolean ok = workload.run(offset + k / threads, calculator);
+				long done = System.nanoTime();
+				latency.record(done - intended);
+				serviceTime.record(done - now);
+				operations++;
+				if (!ok) {
+					errors++;
+				}
+			}
+			flush(current);
+		}
+
+		/**
+		 * Method adds the results kept so far to an interval and clears them.
+		 *
+		 * @param slot is the index of the interval.
+		 */
+		void flush(int slot) {
+			intervals[slot].add(this);
+			latency.reset();
+			serviceTime.reset();
+			operations = 0;
+			errors = 0;
+			missed = 0;
+		}
+	}
+
+	/**
+	 * Outcome of a run of the load harness.
+	 */
+	public static final class Report {
+		private final int workloadSize;
+		private final int threads;
+		private final double rate;
+		private final long duration;
+		private final long interval;
+		private final long elapsed;
+		private final Interval[] intervals;
+		private final LogLinearHistogram latency = new LogLinearHistogram();
+		private final LogLinearHistogram serviceTime = new LogLinearHistogram();
+		private long operations;
+		private long errors;
+		private long missed;
+		private long gcCount;
+		private long gcMillis;
+
+		Report(int workloadSize, int threads, double rate, long duration, long interval, long elapsed,
+				Interval[] intervals) {
+			this.workloadSize = workloadSize;
+			this.threads = threads;
+			this.rate = rate;
+			this.duration = duration;
+			this.interval = interval;
+			this.elapsed = elapsed;
+			this.intervals = intervals;
+			for (Interval result : intervals) {
+				latency.add(result.latency);
+				serviceTime.add(result.serviceTime);
+				operations += result.operations;
+				errors += result.errors;
+				missed += result.missed;
+				gcCount += result.gcCount;
+				gcMillis += result.gcMillis;
+			}
+		}
+
+		/**
+		 * Getter for the number of intervals of the run.
+		 *
+		 * @return number of intervals.
+		 */
+		public int getIntervals() {
+			return intervals.length;
+		}
+
+		/**
+		 * Getter for the number of run operations.
+		 *
+		 * @return number of operations.
+		 */
+		public long getOperations() {
+			return operations;
+		}
+
+		/**
+		 * Getter for the number of operations that have thrown an exception.
+		 *
+		 * @return number of failed operations.
+		 */
+		public long getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Getter for the number of scheduled operations that haven't been run,
+		 * because their thread was still behind on them an interval after the
+		 * end of the run.
+		 *
+		 * @return number of missed operations.
+		 */
+		public long getMissed() {
+			return missed;
+		}
+
+		/**
+		 * Getter for the number of run operations per second of the scheduled
+		 * time.
+		 *
+		 * @return throughput of the run.
+		 */
+		public double getThroughput() {
+			return operations * 1.0e9d / duration;
+		}
+
+		/**
+		 * Getter for the latencies of the operations, measured from the times they
+		 * were scheduled for. Missed operations are included, with the time from
+		 * when they were scheduled until an interval after the end of the run,
+		 * which is the least they would have taken.
+		 *
+		 * @return histogram of the latencies.
+		 */
+		public LogLinearHistogram getLatency() {
+			return latency;
+		}
+
+		/**
+		 * Getter for the times the run operations themselves have taken.
+		 *
+		 * @return histogram of the service times.
+		 */
+		public LogLinearHistogram getServiceTime() {
+			return serviceTime;
+		}
+
+		/**
+		 * Getter for the number of garbage collections made during the run.
+		 *
+		 * @return number of collections.
+		 */
+		public long getGcCount() {
+			return gcCount;
+		}
+
+		/**
+		 * Getter for the time the garbage collectors report for the collections
+		 * made during the run. For stop-the-world collectors this is the time the
+		 * threads were paused.
+		 *
+		 * @return time of the collections in milliseconds.
+		 */
+		public long getGcMillis() {
+			return gcMillis;
+		}
+
+		/**
+		 * Method writes the report as comma-separated values: a line for every
+		 * interval and a total line, preceded by comment lines, starting with
+		 * {@code #}, that describe the run. Latencies are in microseconds.
+		 *
+		 * @param path     is the path of the report.
+		 * @param workload is a description of the workload.
+		 * @throws IOException when the report can't be written.
+		 */
+		public void write(Path path, String workload) throws IOException {
+			try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+				write(new PrintWriter(writer), workload);
+			}
+		}
+
+		/**
+		 * Method writes the report as described in {@link #write(Path, String)}.
+		 *
+		 * @param out      receives the report.
+		 * @param workload is a description of the workload.
+		 */
+		public void write(PrintWriter out, String workload) {
+			out.printf(Locale.ROOT, "# java %s, %s, %d processors%n", System.getProperty("java.version"),
+					System.getProperty("java.vm.name"), Runtime.getRuntime().availableProcessors());
+			out.printf(Locale.ROOT, "# rate %.0f operations/s, %d threads, %.3f s, intervals of %.3f s, elapsed %.3f s%n",
+					rate, threads, duration / 1.0e9d, interval / 1.0e9d, elapsed / 1.0e9d);
+			out.printf(Locale.ROOT, "# workload of %d operations: %s%n", workloadSize, workload);
+			out.println("time_s,operations,errors,missed,throughput_ops_s,p50_us,p99_us,p999_us,max_us,service_p50_us,"
+					+ "service_p99_us,gc_count,gc_ms");
+			for (int i = 0; i < intervals.length; i++) {
+				Interval result = intervals[i];
+				line(out, String.format(Locale.ROOT, "%.3f", (i * interval + result.nanos) / 1.0e9d),
+						result.operations, result.errors, result.missed, result.operations * 1.0e9d / result.nanos,
+						result.latency, result.serviceTime, result.gcCount, result.gcMillis);
+			}
+			line(out, "total", operations, errors, missed, getThroughput(), latency, serviceTime, gcCount,
+					gcMillis);
+			out.flush();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT,
+					"%d operations (%d failed, %d missed), %.0f operations/s of %.0f, latency p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us, %d collections in %d ms",
+					operations, errors, missed, getThroughput(), rate, latency.percentile(50.0d) / 1.0e3d,
+					latency.percentile(99.0d) / 1.0e3d, latency.percentile(99.9d) / 1.0e3d, latency.max() / 1.0e3d,
+					gcCount, gcMillis);
+		}
+
+		/**
+		 * Helper method that writes a single line of the report.
+		 *
+		 * @param out         receives the line.
+		 * @param time        is the end of the interval in seconds, or a label.
+		 * @param operations  is the number of run operations.
+		 * @param errors      is the number of failed operations.
+		 * @param missed      is the number of missed operations.
+		 * @param throughput  is the number of operations per second.
+		 * @param latency     are the latencies of the operations.
+		 * @param serviceTime are the service times of the operations.
+		 * @param gcCount     is the number of garbage collections.
+		 * @param gcMillis    is the time of the garbage collections.
+		 */
+		private static void line(PrintWriter out, String time, long operations, long errors, long missed,
+				double throughput, LogLinearHistogram latency, LogLinearHistogram serviceTime, long gcCount,
+				long gcMillis) {
+			out.printf(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%d,%d%n", time, operations, errors,
+					missed, throughput, latency.percentile(50.0d) / 1.0e3d, latency.percentile(99.0d) / 1.0e3d,
+					latency.percentile(99.9d) / 1.0e3d, latency.max() / 1.0e3d, serviceTime.percentile(50.0d) / 1.0e3d,
+					serviceTime.percentile(99.0d) / 1.0e3d, gcCount, gcMillis);
+		}
+	}
+}
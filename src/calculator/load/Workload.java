@@ -0,0 +1,296 @@
+package calculator.load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to hold a sequence of operations to put on a calculator. An
+ * operation is written as a line in one of these forms:
+ * <ul>
+ * <li>an operator followed by its operand, such as {@code + 1.5} or
+ * {@code / 0}, passed to {@link CalculatorAdvanced#calculate(Double, char)};</li>
+ * <li>a single action, such as {@code !} or {@code 3}, passed to
+ * {@link CalculatorAdvanced#calculateAdvanced(char)};</li>
+ * <li>{@code =} followed by a value, such as {@code = 7}, which sets the
+ * current value;</li>
+ * <li>{@code ?} followed by a characteristic and optionally a value, such as
+ * {@code ? A 153}, which sets the value if one is given and then calls
+ * {@link CalculatorAdvanced#hasCharacteristic(char)}.</li>
+ * </ul>
+ * Blank lines and lines starting with {@code #} are skipped.
+ * <p>
+ * A workload is either read from a trace file with one operation per line, or
+ * drawn from a mix of operations with weights, such as
+ * {@code 40:+ 1.5,5:/ 0,10:? P 28}. A mix is drawn with a fixed seed, so the
+ * same mix gives the same workload on every build. Operations are kept in
+ * primitive arrays and a workload never changes, so any number of threads can
+ * run it at the same time, each on its own calculator.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class Workload {
+	/**
+	 * Kind of an operation passed to {@link CalculatorAdvanced#calculate(Double, char)}.
+	 */
+	static final byte CALCULATE = 0;
+
+	/**
+	 * Kind of an operation passed to {@link CalculatorAdvanced#calculateAdvanced(char)}.
+	 */
+	static final byte CALCULATE_ADVANCED = 1;
+
+	/**
+	 * Kind of an operation that sets the current value.
+	 */
+	static final byte SET = 2;
+
+	/**
+	 * Kind of an operation passed to {@link CalculatorAdvanced#hasCharacteristic(char)}.
+	 */
+	static final byte HAS_CHARACTERISTIC = 3;
+
+	/**
+	 * Kind of an operation passed to {@link CalculatorAdvanced#hasCharacteristic(char)}
+	 * after setting the current value.
+	 */
+	static final byte SET_HAS_CHARACTERISTIC = 4;
+
+	private final byte[] kinds;
+	private final char[] symbols;
+	private final double[] operands;
+
+	/**
+	 * Creates a workload from parsed operations.
+	 *
+	 * @param kinds    are the kinds of the operations.
+	 * @param symbols  are the operators, actions and characteristics.
+	 * @param operands are the operands and values.
+	 */
+	private Workload(byte[] kinds, char[] symbols, double[] operands) {
+		this.kinds = kinds;
+		this.symbols = symbols;
+		this.operands = operands;
+	}
+
+	/**
+	 * Method parses a workload with one operation per line.
+	 *
+	 * @param lines are the lines of the workload.
+	 * @return parsed workload.
+	 * @throws IllegalArgumentException when a line isn't a valid operation, or
+	 *                                  there are no operations.
+	 */
+	public static Workload of(List<String> lines) {
+		byte[] kinds = new byte[lines.size()];
+		char[] symbols = new char[lines.size()];
+		double[] operands = new double[lines.size()];
+
+		int size = 0;
+		for (int i = 0; i < lines.size(); i++) {
+			String line = lines.get(i).trim();
+			if (line.isEmpty() || line.charAt(0) == '#') {
+				continue;
+			}
+			try {
+				parse(line, size, kinds, symbols, operands);
+			} catch (IllegalArgumentException e) {
+				throw new IllegalArgumentException("Line " + (i + 1) + " (" + line + ") isn't a valid operation.", e);
+			}
+			size++;
+		}
+		if (size == 0) {
+			throw new IllegalArgumentException("Workload doesn't have any operations.");
+		}
+
+		return new Workload(Arrays.copyOf(kinds, size), Arrays.copyOf(symbols, size),
+				Arrays.copyOf(operands, size));
+	}
+
+	/**
+	 * Method reads a recorded trace with one operation per line.
+	 *
+	 * @param trace is the path of the trace.
+	 * @return parsed workload.
+	 * @throws IOException              when the trace can't be read.
+	 * @throws IllegalArgumentException when a line isn't a valid operation.
+	 */
+	public static Workload readTrace(Path trace) throws IOException {
+		return of(Files.readAllLines(trace, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Method draws a workload from a mix of operations. The mix is a list of
+	 * operations separated by commas, each preceded by its weight and a colon,
+	 * such as {@code 40:+ 1.5,5:/ 0,10:? P 28}. An operation with weight 5 is
+	 * drawn, on average, every fifth time one with weight 25 is.
+	 *
+	 * @param mix    is the mix of operations.
+	 * @param length is the number of operations to draw.
+	 * @param seed   is the seed the operations are drawn with.
+	 * @return drawn workload.
+	 * @throws IllegalArgumentException when the mix isn't valid, or the length
+	 *                                  isn't positive.
+	 */
+	public static Workload mix(String mix, int length, long seed) {
+		if (length <= 0) {
+			throw new IllegalArgumentException("Length of the workload (" + length + ") isn't valid.");
+		}
+
+		String[] entries = mix.split(",");
+		Workload choices = of(operations(entries));
+		long[] weights = new long[entries.length];
+		long total = 0;
+		for (int i = 0; i < entries.length; i++) {
+			total += weights[i] = weight(entries[i]);
+		}
+
+		SplittableRandom random = new SplittableRandom(seed);
+		byte[] kinds = new byte[length];
+		char[] symbols = new char[length];
+		double[] operands = new double[length];
+		for (int i = 0; i < length; i++) {
+			long pick = random.nextLong(total);
+			int choice = 0;
+			while (pick >= weights[choice]) {
+				pick -= weights[choice++];
+			}
+			kinds[i] = choices.kinds[choice];
+			symbols[i] = choices.symbols[choice];
+			operands[i] = choices.operands[choice];
+		}
+		return new Workload(kinds, symbols, operands);
+	}
+
+	/**
+	 * Getter for the number of operations.
+	 *
+	 * @return number of operations.
+	 */
+	public int size() {
+		return kinds.length;
+	}
+
+	/**
+	 * Method runs an operation on a calculator through its public methods, the
+	 * same way a program using the calculator would.
+	 *
+	 * @param index      is the index of the operation, taken modulo the size of
+	 *                   the workload.
+	 * @param calculator is the calculator.
+	 * @return false if the calculator has thrown an exception.
+	 */
+	public boolean run(long index, CalculatorAdvanced calculator) {
+		int i = (int) (index % kinds.length);
+		try {
+			switch (kinds[i]) {
+			case CALCULATE:
+				calculator.calculate(operands[i], symbols[i]);
+				break;
+			case CALCULATE_ADVANCED:
+				calculator.calculateAdvanced(symbols[i]);
+				break;
+			case SET:
+				calculator.setCurrentValue(operands[i]);
+				break;
+			case SET_HAS_CHARACTERISTIC:
+				calculator.setCurrentValue(operands[i]);
+				calculator.hasCharacteristic(symbols[i]);
+				break;
+			default:
+				calculator.hasCharacteristic(symbols[i]);
+				break;
+			}
+			return true;
+		} catch (DivisionByZeroException | NotSupportedOperationException | NumberNotInAreaException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Helper method that parses a single operation.
+	 *
+	 * @param line     is the trimmed operation, which isn't empty.
+	 * @param index    is the index to store the operation at.
+	 * @param kinds    receives the kind of the operation.
+	 * @param symbols  receives the symbol of the operation.
+	 * @param operands receives the operand of the operation.
+	 * @throws IllegalArgumentException when the operation isn't valid.
+	 */
+	private static void parse(String line, int index, byte[] kinds, char[] symbols, double[] operands) {
+		char symbol = line.charAt(0);
+		String rest = line.substring(1).trim();
+
+		if (symbol == '?') {
+			if (rest.isEmpty()) {
+				throw new IllegalArgumentException("Characteristic is missing.");
+			}
+			symbols[index] = rest.charAt(0);
+			rest = rest.substring(1).trim();
+			kinds[index] = rest.isEmpty() ? HAS_CHARACTERISTIC : SET_HAS_CHARACTERISTIC;
+			operands[index] = rest.isEmpty() ? 0.0d : Double.parseDouble(rest);
+		} else if (symbol == '=') {
+			kinds[index] = SET;
+			operands[index] = Double.parseDouble(rest);
+		} else if (rest.isEmpty()) {
+			kinds[index] = CALCULATE_ADVANCED;
+			symbols[index] = symbol;
+		} else {
+			kinds[index] = CALCULATE;
+			symbols[index] = symbol;
+			operands[index] = Double.parseDouble(rest);
+		}
+	}
+
+	/**
+	 * Helper method that takes the operations out of the entries of a mix.
+	 *
+	 * @param entries are the entries of the mix.
+	 * @return operations of the entries, in order.
+	 * @throws IllegalArgumentException when an entry doesn't have a weight and
+	 *                                  an operation.
+	 */
+	private static List<String> operations(String[] entries) {
+		String[] operations = new String[entries.length];
+		for (int i = 0; i < entries.length; i++) {
+			int colon = entries[i].indexOf(':');
+			String operation = colon < 0 ? "" : entries[i].substring(colon + 1).trim();
+			if (operation.isEmpty() || operation.charAt(0) == '#') {
+				throw new IllegalArgumentException("Entry " + entries[i] + " of the mix isn't valid.");
+			}
+			operations[i] = operation;
+		}
+		return List.of(operations);
+	}
+
+	/**
+	 * Helper method that takes the weight of an entry of a mix.
+	 *
+	 * @param entry is the entry, which has a colon.
+	 * @return weight of the entry.
+	 * @throws IllegalArgumentException when the weight isn't a positive number.
+	 */
+	private static long weight(String entry) {
+		long weight;
+		try {
+			weight = Long.parseLong(entry.substring(0, entry.indexOf(':')).trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Weight of entry " + entry + " of the mix isn't a number.", e);
+		}
+		if (weight <= 0) {
+			throw new IllegalArgumentException("Weight of entry " + entry + " of the mix isn't positive.");
+		}
+		return weight;
+	}
+}
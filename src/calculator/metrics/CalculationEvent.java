@@ -0,0 +1,37 @@
+package calculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every arithmetic, exponentiation or
+ * factorial operation of an {@link InstrumentedCalculator}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@Name("calculator.Calculation")
+@Label("Calculation")
+@Category("Calculator")
+@Description("Arithmetic, exponentiation or factorial operation")
+class CalculationEvent extends Event {
+	@Label("Operation")
+	@Description("Operator or action of the operation")
+	char operation;
+
+	@Label("Operand")
+	@Description("Second operand of an arithmetic operation")
+	double operand;
+
+	@Label("Value")
+	@Description("Value of the calculator after the operation")
+	double value;
+
+	@Label("Error")
+	@Description("Name of the exception thrown by the operation")
+	String error;
+}
@@ -0,0 +1,250 @@
+package calculator.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to collect metrics of one or more {@link InstrumentedCalculator}
+ * objects: number of operations per operator, number of errors per exception
+ * type and latency histograms of the advanced operations. All counters are
+ * striped, so a single instance can be shared between threads.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class CalculatorMetrics {
+	/**
+	 * Number of slots used for operators; every operator outside of the ASCII
+	 * range shares the last slot.
+	 */
+	private static final int OPERATOR_SLOTS = 129;
+
+	/**
+	 * Number of slots used for the sizes of checked numbers, one per bit length
+	 * of a {@code long}.
+	 */
+	private static final int SIZE_SLOTS = 64;
+
+	/**
+	 * Number of successful operations per operator or action.
+	 */
+	private final LongAdder[] operations = new LongAdder[OPERATOR_SLOTS];
+
+	/**
+	 * Number of thrown {@link DivisionByZeroException} exceptions.
+	 */
+	private final LongAdder divisionByZeroErrors = new LongAdder();
+
+	/**
+	 * Number of thrown {@link NotSupportedOperationException} exceptions.
+	 */
+	private final LongAdder notSupportedOperationErrors = new LongAdder();
+
+	/**
+	 * Number of thrown {@link NumberNotInAreaException} exceptions.
+	 */
+	private final LongAdder numberNotInAreaErrors = new LongAdder();
+
+	/**
+	 * Latencies of the advanced operations per action, created on first use.
+	 */
+	private final AtomicReferenceArray<LatencyHistogram> advancedLatencies = new AtomicReferenceArray<>(
+			OPERATOR_SLOTS);
+
+	/**
+	 * Latencies of the Armstrong number checks per bit length of the checked
+	 * number, created on first use.
+	 */
+	private final AtomicReferenceArray<LatencyHistogram> armstrongLatencies = new AtomicReferenceArray<>(SIZE_SLOTS);
+
+	/**
+	 * Latencies of the Perfect number checks per bit length of the checked
+	 * number, created on first use.
+	 */
+	private final AtomicReferenceArray<LatencyHistogram> perfectLatencies = new AtomicReferenceArray<>(SIZE_SLOTS);
+
+	public CalculatorMetrics() {
+		for (int i = 0; i < OPERATOR_SLOTS; i++) {
+			operations[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a successful operation.
+	 *
+	 * @param operator is the operator or action of the operation.
+	 */
+	void recordOperation(char operator) {
+		operations[slot(operator)].increment();
+	}
+
+	/**
+	 * Records a thrown exception.
+	 *
+	 * @param error is the thrown exception.
+	 */
+	void recordError(Exception error) {
+		if (error instanceof DivisionByZeroException) {
+			divisionByZeroErrors.increment();
+		} else if (error instanceof NotSupportedOperationException) {
+			notSupportedOperationErrors.increment();
+		} else if (error instanceof NumberNotInAreaException) {
+			numberNotInAreaErrors.increment();
+		}
+	}
+
+	/**
+	 * Records latency of an advanced operation.
+	 *
+	 * @param action is the action of the operation.
+	 * @param nanos  is the latency in nanoseconds.
+	 */
+	void recordAdvancedLatency(char action, long nanos) {
+		histogram(advancedLatencies, slot(action)).record(nanos);
+	}
+
+	/**
+	 * Records latency of a characteristic check. Only the Armstrong and Perfect
+	 * number checks are recorded; checks of the characteristics of an
+	 * {@link calculator.ActionRegistry} are counted, but not timed.
+	 *
+	 * @param characteristic is the parameter of the check.
+	 * @param number         is the checked number.
+	 * @param nanos          is the latency in nanoseconds.
+	 */
+	void recordCharacteristicLatency(char characteristic, long number, long nanos) {
+		if (characteristic != 'A' && characteristic != 'P') {
+			return;
+		}
+		AtomicReferenceArray<LatencyHistogram> latencies = characteristic == 'A' ? armstrongLatencies
+				: perfectLatencies;
+		histogram(latencies, bitLength(number)).record(nanos);
+	}
+
+	/**
+	 * Getter for the number of successful operations with an operator or action.
+	 *
+	 * @param operator is an operator of {@code calculate} or an action of
+	 *                 {@code calculateAdvanced}.
+	 * @return number of successful operations.
+	 */
+	public long operationCount(char operator) {
+		return operations[slot(operator)].sum();
+	}
+
+	/**
+	 * Getter for the number of thrown exceptions of a given type.
+	 *
+	 * @param type is one of the calculator exception types.
+	 * @return number of thrown exceptions.
+	 */
+	public long errorCount(Class<? extends Exception> type) {
+		if (type == DivisionByZeroException.class) {
+			return divisionByZeroErrors.sum();
+		} else if (type == NotSupportedOperationException.class) {
+			return notSupportedOperationErrors.sum();
+		} else if (type == NumberNotInAreaException.class) {
+			return numberNotInAreaErrors.sum();
+		}
+		return 0L;
+	}
+
+	/**
+	 * Getter for the latency histogram of an advanced operation.
+	 *
+	 * @param action is the action of {@code calculateAdvanced}.
+	 * @return latency histogram of the action.
+	 */
+	public LatencyHistogram advancedLatency(char action) {
+		return histogram(advancedLatencies, slot(action));
+	}
+
+	/**
+	 * Getter for the latency histogram of a characteristic check for numbers of
+	 * a given size.
+	 *
+	 * @param characteristic is the parameter of {@code hasCharacteristic}, 'A' or
+	 *                       'P'.
+	 * @param bitLength      is the number of bits of the checked numbers, in range
+	 *                       [1, 63].
+	 * @return latency histogram of the check.
+	 */
+	public LatencyHistogram characteristicLatency(char characteristic, int bitLength) {
+		if (bitLength < 1 || bitLength >= SIZE_SLOTS) {
+			throw new IllegalArgumentException("Bit length " + bitLength + " is not in a range [1, 63].");
+		}
+		return histogram(characteristic == 'A' ? armstrongLatencies : perfectLatencies, bitLength);
+	}
+
+	/**
+	 * Clears all of the collected metrics.
+	 */
+	public void reset() {
+		for (LongAdder counter : operations) {
+			counter.reset();
+		}
+		divisionByZeroErrors.reset();
+		notSupportedOperationErrors.reset();
+		numberNotInAreaErrors.reset();
+		reset(advancedLatencies);
+		reset(armstrongLatencies);
+		reset(perfectLatencies);
+	}
+
+	/**
+	 * Helper method that maps an operator to its slot.
+	 *
+	 * @param operator is an operator or action.
+	 * @return slot of the operator.
+	 */
+	private static int slot(char operator) {
+		return operator < OPERATOR_SLOTS - 1 ? operator : OPERATOR_SLOTS - 1;
+	}
+
+	/**
+	 * Helper method that computes the number of bits needed for a positive
+	 * number.
+	 *
+	 * @param number is a positive number.
+	 * @return bit length of the number.
+	 */
+	private static int bitLength(long number) {
+		return Math.max(1, Long.SIZE - Long.numberOfLeadingZeros(number));
+	}
+
+	/**
+	 * Helper method that returns a histogram from an array, creating it if it
+	 * doesn't exist yet.
+	 *
+	 * @param histograms is an array of histograms.
+	 * @param index      is an index of the histogram.
+	 * @return histogram at the given index.
+	 */
+	private static LatencyHistogram histogram(AtomicReferenceArray<LatencyHistogram> histograms, int index) {
+		LatencyHistogram histogram = histograms.get(index);
+		if (histogram == null) {
+			histograms.compareAndSet(index, null, new LatencyHistogram());
+			histogram = histograms.get(index);
+		}
+		return histogram;
+	}
+
+	/**
+	 * Helper method that clears every existing histogram in an array.
+	 *
+	 * @param histograms is an array of histograms.
+	 */
+	private static void reset(AtomicReferenceArray<LatencyHistogram> histograms) {
+		for (int i = 0; i < histograms.length(); i++) {
+			LatencyHistogram histogram = histograms.get(i);
+			if (histogram != null) {
+				histogram.reset();
+			}
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package calculator.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event emitted for every Armstrong or Perfect number check of
+ * an {@link InstrumentedCalculator}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+@Name("calculator.Characteristic")
+@Label("Characteristic Check")
+@Category("Calculator")
+@Description("Armstrong or Perfect number check")
+class CharacteristicEvent extends Event {
+	@Label("Characteristic")
+	@Description("Parameter of the check")
+	char characteristic;
+
+	@Label("Number")
+	@Description("Integer part of the checked value")
+	long number;
+
+	@Label("Result")
+	boolean result;
+
+	@Label("Error")
+	@Description("Name of the exception thrown by the check")
+	String error;
+}
@@ -0,0 +1,146 @@
+package calculator.metrics;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Class used to collect metrics and Flight Recorder events of the
+ * {@link CalculatorAdvanced} operations. It behaves exactly like
+ * {@link CalculatorAdvanced} and additionally records every call of
+ * {@link #calculate(Double, char)}, {@link #calculateAdvanced(char)} and
+ * {@link #hasCharacteristic(char)} into its {@link CalculatorMetrics}.
+ * <p>
+ * Instrumentation is opt-in: plain {@link CalculatorAdvanced} objects don't pay
+ * for it at all. It can also be switched off for every instrumented calculator
+ * with the system property {@value #DISABLED_PROPERTY}, in which case the
+ * methods only delegate to {@link CalculatorAdvanced}. Events are committed
+ * only while a recording with the {@code calculator.*} events enabled is
+ * running.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class InstrumentedCalculator extends CalculatorAdvanced {
+	/**
+	 * System property that disables the instrumentation when set to
+	 * {@code true}.
+	 */
+	public static final String DISABLED_PROPERTY = "calculator.metrics.disabled";
+
+	/**
+	 * Read once, so that the JIT compiler removes the instrumentation entirely
+	 * when it's disabled.
+	 */
+	private static final boolean ENABLED = !Boolean.getBoolean(DISABLED_PROPERTY);
+
+	/**
+	 * Metrics that receive the recorded operations.
+	 */
+	private final CalculatorMetrics metrics;
+
+	/**
+	 * Creates an instrumented calculator.
+	 *
+	 * @param metrics receive the recorded operations; can be shared between
+	 *                calculators.
+	 */
+	public InstrumentedCalculator(CalculatorMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Getter for the metrics of this calculator.
+	 *
+	 * @return metrics that receive the recorded operations.
+	 */
+	public CalculatorMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override
+	public void calculate(Double value, char operator) throws NotSupportedOperationException, DivisionByZeroException {
+		if (!ENABLED) {
+			super.calculate(value, operator);
+			return;
+		}
+
+		CalculationEvent event = new CalculationEvent();
+		event.begin();
+		try {
+			super.calculate(value, operator);
+			metrics.recordOperation(operator);
+		} catch (NotSupportedOperationException | DivisionByZeroException e) {
+			metrics.recordError(e);
+			event.error = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.operation = operator;
+				event.operand = value;
+				event.value = getCurrentValue();
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public void calculateAdvanced(char action) throws NumberNotInAreaException, NotSupportedOperationException {
+		if (!ENABLED) {
+			super.calculateAdvanced(action);
+			return;
+		}
+
+		CalculationEvent event = new CalculationEvent();
+		event.begin();
+		long start = System.nanoTime();
+		try {
+			super.calculateAdvanced(action);
+			metrics.recordOperation(action);
+		} catch (NumberNotInAreaException | NotSupportedOperationException e) {
+			metrics.recordError(e);
+			event.error = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			metrics.recordAdvancedLatency(action, System.nanoTime() - start);
+			event.end();
+			if (event.shouldCommit()) {
+				event.operation = action;
+				event.value = getCurrentValue();
+				event.commit();
+			}
+		}
+	}
+
+	@Override
+	public Boolean hasCharacteristic(char value) throws NumberNotInAreaException, NotSupportedOperationException {
+		if (!ENABLED) {
+			return super.hasCharacteristic(value);
+		}
+
+		CharacteristicEvent event = new CharacteristicEvent();
+		event.begin();
+		long start = System.nanoTime();
+		try {
+			Boolean result = super.hasCharacteristic(value);
+			metrics.recordCharacteristicLatency(value, (long) getCurrentValue(), System.nanoTime() - start);
+			metrics.recordOperation(value);
+			event.result = result;
+			return result;
+		} catch (NumberNotInAreaException | NotSupportedOperationException e) {
+			metrics.recordError(e);
+			event.error = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.end();
+			if (event.shouldCommit()) {
+				event.characteristic = value;
+				event.number = (long) getCurrentValue();
+				event.commit();
+			}
+		}
+	}
+}
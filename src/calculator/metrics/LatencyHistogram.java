@@ -0,0 +1,137 @@
+package calculator.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Class used to record latencies in buckets whose bounds grow in powers of two,
+ * so that a latency is recorded with a single striped increment and without
+ * allocation. Bucket {@code i} holds latencies in range [2^(i-1), 2^i)
+ * nanoseconds, and bucket 0 holds latencies of 0 nanoseconds.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class LatencyHistogram {
+	/**
+	 * Number of buckets, enough for every non-negative {@code long}.
+	 */
+	public static final int BUCKETS = 64;
+
+	/**
+	 * Counters of the recorded latencies, one per bucket.
+	 */
+	private final LongAdder[] buckets = new LongAdder[BUCKETS];
+
+	/**
+	 * Sum of all recorded latencies.
+	 */
+	private final LongAdder total = new LongAdder();
+
+	public LatencyHistogram() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records a single latency.
+	 *
+	 * @param nanos is the latency in nanoseconds; negative values are recorded as
+	 *              0.
+	 */
+	public void record(long nanos) {
+		long latency = Math.max(0L, nanos);
+		buckets[BUCKETS - Long.numberOfLeadingZeros(latency)].increment();
+		total.add(latency);
+	}
+
+	/**
+	 * Getter for the number of recorded latencies.
+	 *
+	 * @return number of recorded latencies.
+	 */
+	public long count() {
+		long count = 0;
+		for (LongAdder bucket : buckets) {
+			count += bucket.sum();
+		}
+		return count;
+	}
+
+	/**
+	 * Getter for the mean of the recorded latencies.
+	 *
+	 * @return mean latency in nanoseconds, or 0 if nothing has been recorded.
+	 */
+	public double mean() {
+		long count = count();
+		return count == 0 ? 0.0d : (double) total.sum() / count;
+	}
+
+	/**
+	 * Method estimates a percentile of the recorded latencies by the upper bound
+	 * of the bucket it falls in.
+	 *
+	 * @param percentile is a value in range [0, 100].
+	 * @return upper bound of the latency in nanoseconds, or 0 if nothing has been
+	 *         recorded.
+	 */
+	public long percentile(double percentile) {
+		if (percentile < 0.0d || percentile > 100.0d) {
+			throw new IllegalArgumentException("Percentile " + percentile + " is not in a range [0, 100].");
+		}
+
+		long[] counts = snapshot();
+		long count = 0;
+		for (long bucket : counts) {
+			count += bucket;
+		}
+		if (count == 0) {
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0d));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return upperBound(i);
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Getter for the content of every bucket.
+	 *
+	 * @return number of latencies recorded in every bucket.
+	 */
+	public long[] snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = buckets[i].sum();
+		}
+		return counts;
+	}
+
+	/**
+	 * Method computes the largest latency that falls in a bucket.
+	 *
+	 * @param bucket is an index of the bucket.
+	 * @return upper bound of the bucket in nanoseconds, inclusive.
+	 */
+	public static long upperBound(int bucket) {
+		return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+	}
+
+	/**
+	 * Clears all of the recorded latencies.
+	 */
+	public void reset() {
+		for (LongAdder bucket : buckets) {
+			bucket.reset();
+		}
+		total.reset();
+	}
+}
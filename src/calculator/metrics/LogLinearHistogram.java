@@ -0,0 +1,165 @@
+package calculator.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Class used to record latencies precisely enough to compare percentiles of
+ * two runs. Every power of two is split into {@value #SUB_BUCKETS} buckets of
+ * equal width, so a percentile is off by at most about 3% of its value, while
+ * the whole range of {@code long} fits in less than two thousand counters.
+ * Values below {@value #SUB_BUCKETS} nanoseconds are counted exactly.
+ * <p>
+ * Recording a value is a few shifts and an increment, and never allocates. A
+ * histogram isn't thread-safe: every thread records into one of its own, and
+ * histograms are merged with {@link #add(LogLinearHistogram)}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class LogLinearHistogram {
+	/**
+	 * Number of bits of a value kept after its leading one bit.
+	 */
+	private static final int SUB_BITS = 5;
+
+	/**
+	 * Number of buckets every power of two is split into.
+	 */
+	public static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/**
+	 * Number of buckets, enough for every non-negative {@code long}.
+	 */
+	static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+	/**
+	 * Number of values recorded in every bucket.
+	 */
+	private final long[] counts = new long[BUCKETS];
+
+	private long count;
+	private long total;
+	private long max;
+
+	/**
+	 * Records a single value.
+	 *
+	 * @param nanos is the value in nanoseconds; negative values are recorded as
+	 *              0.
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0L, nanos);
+		counts[bucket(value)]++;
+		count++;
+		total += value;
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Method adds every value recorded in another histogram to this one.
+	 *
+	 * @param other is the other histogram.
+	 */
+	public void add(LogLinearHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		total += other.total;
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Getter for the number of recorded values.
+	 *
+	 * @return number of values.
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Getter for the mean of the recorded values.
+	 *
+	 * @return mean in nanoseconds, or 0 if nothing has been recorded.
+	 */
+	public double mean() {
+		return count == 0 ? 0.0d : (double) total / count;
+	}
+
+	/**
+	 * Getter for the largest recorded value, which is exact.
+	 *
+	 * @return largest value in nanoseconds, or 0 if nothing has been recorded.
+	 */
+	public long max() {
+		return max;
+	}
+
+	/**
+	 * Method estimates a percentile of the recorded values by the upper bound of
+	 * the bucket it falls in, but never above the largest value.
+	 *
+	 * @param percentile is a value in range [0, 100].
+	 * @return percentile in nanoseconds, or 0 if nothing has been recorded.
+	 * @throws IllegalArgumentException when the percentile isn't in range.
+	 */
+	public long percentile(double percentile) {
+		if (percentile < 0.0d || percentile > 100.0d) {
+			throw new IllegalArgumentException("Percentile " + percentile + " is not in a range [0, 100].");
+		}
+		if (count == 0) {
+			return 0L;
+		}
+
+		long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0d));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(upperBound(i), max);
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Clears all of the recorded values.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0L);
+		count = 0;
+		total = 0;
+		max = 0;
+	}
+
+	/**
+	 * Method finds the bucket of a value.
+	 *
+	 * @param value is a non-negative value.
+	 * @return index of the bucket.
+	 */
+	static int bucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+		return ((shift + 1) << SUB_BITS) + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * Method computes the largest value that falls in a bucket.
+	 *
+	 * @param bucket is an index of the bucket.
+	 * @return upper bound of the bucket, inclusive.
+	 */
+	static long upperBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = (bucket >>> SUB_BITS) - 1;
+		long lower = (long) (SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) << shift;
+		return lower + (1L << shift) - 1;
+	}
+}
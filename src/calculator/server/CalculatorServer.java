@@ -0,0 +1,611 @@
+package calculator.server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleUnaryOperator;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+import calculator.CalculatorStore;
+
+/**
+ * Class used to serve the sessions of a {@link CalculatorStore} over TCP on the
+ * loopback interface, using the binary {@link Protocol}. Any connection can
+ * use any session, and every request has the same semantics as the matching
+ * operation of {@link CalculatorAdvanced}.
+ * <p>
+ * Connections don't get a thread of their own. They're spread over a few event
+ * loops, each a thread with a {@link Selector} that reads whatever requests a
+ * connection has sent, answers them and writes the responses back, so tens of
+ * thousands of connections cost only their buffers. Clients can pipeline
+ * requests, and consecutive requests for the same session that arrive
+ * together are applied as a batch: the session is looked up, locked and
+ * stored only once for the whole batch, with the operations running on a
+ * reused calculator of the event loop through their exception-free variants.
+ * A connection whose responses can't be written stops being read until they
+ * are, so a slow client can't make the server buffer without bounds.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class CalculatorServer implements Closeable {
+	/**
+	 * Number of requests the input buffer of a connection holds. The output
+	 * buffer holds the responses to all of them.
+	 */
+	static final int BUFFERED_REQUESTS = 256;
+
+	/**
+	 * Largest number of connections waiting to be accepted.
+	 */
+	private static final int BACKLOG = 4096;
+
+	/**
+	 * Pause after a failed accept, doubled after every failure in a row.
+	 */
+	private static final long MIN_ACCEPT_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+	/**
+	 * Longest pause after a failed accept.
+	 */
+	private static final long MAX_ACCEPT_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+	/**
+	 * Store that holds the sessions.
+	 */
+	private final CalculatorStore store;
+
+	/**
+	 * Event loops that serve the connections.
+	 */
+	private final EventLoop[] loops;
+
+	/**
+	 * Port requested by the caller, {@code 0} for any free port.
+	 */
+	private final int requestedPort;
+
+	/**
+	 * Number of accepted connections.
+	 */
+	private final AtomicLong connections = new AtomicLong();
+
+	/**
+	 * Number of connections that are open.
+	 */
+	private final AtomicInteger openConnections = new AtomicInteger();
+
+	/**
+	 * Number of answered requests.
+	 */
+	private final LongAdder requests = new LongAdder();
+
+	/**
+	 * Number of updates of a session, each applying a batch of requests.
+	 */
+	private final LongAdder updates = new LongAdder();
+
+	/**
+	 * Channel that accepts the connections, or {@code null} before the server is
+	 * started.
+	 */
+	private ServerSocketChannel serverChannel;
+
+	/**
+	 * Thread that accepts the connections.
+	 */
+	private Thread acceptor;
+
+	/**
+	 * Set to false when the server is closed.
+	 */
+	private volatile boolean running;
+
+	/**
+	 * Creates a server with an event loop per available processor.
+	 *
+	 * @param store holds the sessions.
+	 * @param port  is the port to listen on, or {@code 0} for any free port.
+	 */
+	public CalculatorServer(CalculatorStore store, int port) {
+		this(store, port, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a server.
+	 *
+	 * @param store holds the sessions.
+	 * @param port  is the port to listen on, or {@code 0} for any free port.
+	 * @param loops is the number of event loops.
+	 * @throws IllegalArgumentException when the port or the number of event
+	 *                                  loops isn't valid.
+	 */
+	public CalculatorServer(CalculatorStore store, int port, int loops) {
+		if (port < 0 || port > 0xFFFF || loops <= 0) {
+			throw new IllegalArgumentException("Port " + port + " and " + loops + " event loops aren't valid.");
+		}
+
+		this.store = store;
+		this.requestedPort = port;
+		this.loops = new EventLoop[loops];
+	}
+
+	/**
+	 * Method binds the server to its port on the loopback interface and starts
+	 * its threads.
+	 *
+	 * @throws IOException           when the port can't be bound.
+	 * @throws IllegalStateException when the server has already been started.
+	 */
+	public synchronized void start() throws IOException {
+		if (serverChannel != null) {
+			throw new IllegalStateException("Server has already been started.");
+		}
+
+		serverChannel = ServerSocketChannel.open();
+		try {
+			serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), requestedPort), BACKLOG);
+			for (int i = 0; i < loops.length; i++) {
+				loops[i] = new EventLoop(Selector.open());
+			}
+		} catch (IOException e) {
+			serverChannel.close();
+			for (EventLoop loop : loops) {
+				if (loop != null) {
+					loop.selector.close();
+				}
+			}
+			throw e;
+		}
+
+		running = true;
+		for (int i = 0; i < loops.length; i++) {
+			loops[i].thread = new Thread(loops[i], "calculator-server-" + i);
+			loops[i].thread.start();
+		}
+		acceptor = new Thread(this::accept, "calculator-server-acceptor");
+		acceptor.start();
+	}
+
+	/**
+	 * Getter for the port the server listens on.
+	 *
+	 * @return local port of the server.
+	 * @throws IllegalStateException when the server hasn't been started.
+	 */
+	public int getPort() {
+		if (serverChannel == null) {
+			throw new IllegalStateException("Server hasn't been started.");
+		}
+		return serverChannel.socket().getLocalPort();
+	}
+
+	/**
+	 * Getter for the number of accepted connections.
+	 *
+	 * @return number of connections since the server has been started.
+	 */
+	public long getConnections() {
+		return connections.get();
+	}
+
+	/**
+	 * Getter for the number of open connections.
+	 *
+	 * @return number of connections that haven't been closed.
+	 */
+	public int getOpenConnections() {
+		return openConnections.get();
+	}
+
+	/**
+	 * Getter for the number of answered requests.
+	 *
+	 * @return number of requests.
+	 */
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	/**
+	 * Getter for the number of session updates. Every update applies a batch of
+	 * consecutive requests for one session, so the ratio of requests to updates
+	 * is the average size of a batch.
+	 *
+	 * @return number of updates.
+	 */
+	public long getUpdates() {
+		return updates.sum();
+	}
+
+	/**
+	 * Method stops accepting connections, closes every open connection and waits
+	 * for the threads of the server to finish.
+	 *
+	 * @throws IOException when the listening channel can't be closed.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!running) {
+			return;
+		}
+
+		running = false;
+		serverChannel.close();
+		try {
+			// Loops stop only after the last accepted connection is handed over.
+			acceptor.join();
+			for (EventLoop loop : loops) {
+				loop.selector.wakeup();
+				loop.thread.join();
+				// Loop could have stopped before the acceptor has handed it one.
+				loop.closeAdded();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Helper method that accepts connections and hands them to the event loops
+	 * in turn, until the server is closed. A failed accept, such as when the
+	 * process runs out of file descriptors, is retried after a pause that grows
+	 * while the failures last, so that the acceptor doesn't keep a core busy.
+	 */
+	private void accept() {
+		int next = 0;
+		long backoff = MIN_ACCEPT_BACKOFF_NANOS;
+		while (running) {
+			SocketChannel channel;
+			try {
+				channel = serverChannel.accept();
+			} catch (AsynchronousCloseException e) {
+				return;
+			} catch (IOException e) {
+				LockSupport.parkNanos(backoff);
+				backoff = Math.min(backoff * 2, MAX_ACCEPT_BACKOFF_NANOS);
+				continue;
+			}
+			backoff = MIN_ACCEPT_BACKOFF_NANOS;
+
+			try {
+				channel.configureBlocking(false);
+				channel.socket().setTcpNoDelay(true);
+			} catch (IOException e) {
+				// Failure of a single connection doesn't stop the server.
+				try {
+					channel.close();
+				} catch (IOException f) {
+					// Connection is gone either way.
+				}
+				continue;
+			}
+			connections.incrementAndGet();
+			openConnections.incrementAndGet();
+			loops[next].add(channel);
+			next = (next + 1) % loops.length;
+		}
+	}
+
+	/**
+	 * Starts a server with a new store, listening on the port given as the first
+	 * argument, or on any free port. The number of event loops can be given as
+	 * the second argument. The server runs until the process is stopped.
+	 *
+	 * @param args port and number of event loops.
+	 * @throws IOException when the port can't be bound.
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+		int loops = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+		CalculatorServer server = new CalculatorServer(new CalculatorStore(), port, loops);
+		server.start();
+		System.out.println("Calculator server is listening on port " + server.getPort() + ".");
+	}
+
+	/**
+	 * Buffers of a connection. The input buffer is kept in write mode between
+	 * reads, and so is the output buffer between writes.
+	 */
+	private static final class Connection {
+		final SocketChannel channel;
+		final ByteBuffer in = ByteBuffer.allocateDirect(BUFFERED_REQUESTS * Protocol.REQUEST_SIZE);
+		final ByteBuffer out = ByteBuffer.allocateDirect(BUFFERED_REQUESTS * Protocol.RESPONSE_SIZE);
+
+		Connection(SocketChannel channel) {
+			this.channel = channel;
+		}
+	}
+
+	/**
+	 * Event loop that serves its share of the connections. It's also the update
+	 * function of the batches it applies, so a batch doesn't allocate.
+	 */
+	private final class EventLoop implements Runnable, DoubleUnaryOperator {
+		/**
+		 * Selector of the connections of this loop.
+		 */
+		final Selector selector;
+
+		/**
+		 * Connections accepted but not registered with the selector yet.
+		 */
+		final Queue<SocketChannel> added = new ConcurrentLinkedQueue<>();
+
+		/**
+		 * Thread that runs the loop.
+		 */
+		Thread thread;
+
+		/**
+		 * Calculator that applies the requests of a batch.
+		 */
+		private final CalculatorAdvanced calculator = new CalculatorAdvanced();
+
+		/**
+		 * Outcome of a request of a batch.
+		 */
+		private final CalculationResult result = new CalculationResult();
+
+		/**
+		 * Input buffer of the current batch, positioned at its first request.
+		 */
+		private ByteBuffer batchIn;
+
+		/**
+		 * Output buffer that receives the responses to the current batch.
+		 */
+		private ByteBuffer batchOut;
+
+		/**
+		 * Position right after the last request of the current batch.
+		 */
+		private int batchEnd;
+
+		EventLoop(Selector selector) {
+			this.selector = selector;
+		}
+
+		/**
+		 * Method hands a connection to this loop.
+		 *
+		 * @param channel is the accepted connection.
+		 */
+		void add(SocketChannel channel) {
+			added.add(channel);
+			selector.wakeup();
+		}
+
+		@Override
+		public void run() {
+			try {
+				while (running) {
+					selector.select();
+					register();
+
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						serve(key);
+					}
+				}
+			} catch (IOException | ClosedSelectorException e) {
+				// Loop stops along with the server.
+			} finally {
+				shutdown();
+			}
+		}
+
+		/**
+		 * Helper method that registers the connections handed to this loop.
+		 */
+		private void register() {
+			SocketChannel channel;
+			while ((channel = added.poll()) != null) {
+				try {
+					channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+				} catch (IOException e) {
+					close(channel);
+				}
+			}
+		}
+
+		/**
+		 * Helper method that reads the requests of a connection that is ready,
+		 * answers all of the complete ones and writes the responses.
+		 *
+		 * @param key is the selection key of the connection.
+		 */
+		private void serve(SelectionKey key) {
+			Connection connection = (Connection) key.attachment();
+			try {
+				if (key.isReadable() && connection.channel.read(connection.in) < 0) {
+					close(key);
+					return;
+				}
+
+				for (;;) {
+					connection.in.flip();
+					process(connection.in, connection.out);
+					connection.in.compact();
+
+					connection.out.flip();
+					connection.channel.write(connection.out);
+					connection.out.compact();
+
+					if (connection.out.position() > 0) {
+						// Responses are waiting, so no more requests are read.
+						key.interestOps(SelectionKey.OP_WRITE);
+						return;
+					}
+					if (connection.in.position() < Protocol.REQUEST_SIZE) {
+						key.interestOps(SelectionKey.OP_READ);
+						return;
+					}
+				}
+			} catch (IOException e) {
+				close(key);
+			}
+		}
+
+		/**
+		 * Helper method that answers the complete requests of the input buffer,
+		 * as long as the output buffer has room for the responses. Consecutive
+		 * requests for the same session are applied as a batch.
+		 *
+		 * @param in  holds the requests, in read mode.
+		 * @param out receives the responses, in write mode.
+		 * @throws IOException when a request of an unknown kind is found.
+		 */
+		private void process(ByteBuffer in, ByteBuffer out) throws IOException {
+			while (in.remaining() >= Protocol.REQUEST_SIZE && out.remaining() >= Protocol.RESPONSE_SIZE) {
+				int start = in.position();
+				byte kind = in.get(start);
+				if (!Protocol.isKnown(kind)) {
+					throw new IOException("Request of unknown kind " + kind + ".");
+				}
+
+				long session = in.getLong(start + 3);
+				int room = out.remaining() / Protocol.RESPONSE_SIZE;
+				int end = start + Protocol.REQUEST_SIZE;
+				int count = 1;
+				while (count < room && end + Protocol.REQUEST_SIZE <= in.limit() && in.getLong(end + 3) == session
+						&& Protocol.isKnown(in.get(end))) {
+					end += Protocol.REQUEST_SIZE;
+					count++;
+				}
+
+				if (count == 1 && kind == Protocol.GET) {
+					out.put((byte) CalculationResult.OK).putDouble(store.getCurrentValue(session));
+				} else {
+					batchIn = in;
+					batchOut = out;
+					batchEnd = end;
+					store.update(session, this);
+					updates.increment();
+				}
+				in.position(end);
+				requests.add(count);
+			}
+		}
+
+		/**
+		 * Method applies the requests of the current batch to the value of their
+		 * session and writes a response for each of them.
+		 *
+		 * @param currentValue is the value of the session.
+		 * @return new value of the session.
+		 */
+		@Override
+		public double applyAsDouble(double currentValue) {
+			calculator.setCurrentValue(currentValue);
+			for (int position = batchIn.position(); position < batchEnd; position += Protocol.REQUEST_SIZE) {
+				byte kind = batchIn.get(position);
+				char symbol = batchIn.getChar(position + 1);
+				double operand = batchIn.getDouble(position + 11);
+
+				int status;
+				double value;
+				switch (kind) {
+				case Protocol.GET:
+					status = CalculationResult.OK;
+					value = calculator.getCurrentValue();
+					break;
+				case Protocol.SET:
+					calculator.setCurrentValue(operand);
+					status = CalculationResult.OK;
+					value = operand;
+					break;
+				case Protocol.CALCULATE:
+					status = calculator.tryCalculate(operand, symbol, result);
+					value = calculator.getCurrentValue();
+					break;
+				case Protocol.CALCULATE_ADVANCED:
+					status = calculator.tryCalculateAdvanced(symbol, result);
+					value = calculator.getCurrentValue();
+					break;
+				default:
+					status = calculator.tryHasCharacteristic(symbol, result);
+					value = status != CalculationResult.OK ? calculator.getCurrentValue()
+							: result.hasCharacteristic() ? 1.0d : 0.0d;
+					break;
+				}
+				batchOut.put((byte) status).putDouble(value);
+			}
+			return calculator.getCurrentValue();
+		}
+
+		/**
+		 * Helper method that closes every connection of this loop and its
+		 * selector.
+		 */
+		private void shutdown() {
+			try {
+				for (SelectionKey key : selector.keys()) {
+					close(key);
+				}
+				selector.close();
+			} catch (IOException | ClosedSelectorException e) {
+				// Nothing more can be done while stopping.
+			}
+			closeAdded();
+		}
+
+		/**
+		 * Method closes the connections handed to this loop but not registered.
+		 */
+		void closeAdded() {
+			SocketChannel channel;
+			while ((channel = added.poll()) != null) {
+				close(channel);
+			}
+		}
+
+		/**
+		 * Helper method that closes a registered connection.
+		 *
+		 * @param key is the selection key of the connection.
+		 */
+		private void close(SelectionKey key) {
+			key.cancel();
+			close((SocketChannel) key.channel());
+		}
+
+		/**
+		 * Helper method that closes a connection.
+		 *
+		 * @param channel is the connection.
+		 */
+		private void close(SocketChannel channel) {
+			if (!channel.isOpen()) {
+				return;
+			}
+			try {
+				channel.close();
+			} catch (IOException e) {
+				// Connection is gone either way.
+			}
+			openConnections.decrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package calculator.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import calculator.CalculationResult;
+import calculator.metrics.LogLinearHistogram;
+
+/**
+ * Class used to put load on a {@link CalculatorServer}. It opens many
+ * connections, each working on a session of its own, and keeps a fixed number
+ * of requests in flight on every connection: a new request is sent as soon as
+ * a response arrives. Latency of a request is the time from writing it to
+ * reading its response, so it includes the time the request waits behind the
+ * ones pipelined before it.
+ * <p>
+ * Every connection sends the same mix of requests in turn: it sets the value of
+ * its session, checks if it's a Perfect number, multiplies it and takes its
+ * power of one, so none of the requests fail. All of the connections are
+ * served by a single thread with a {@link Selector}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public class LoadGenerator {
+	/**
+	 * Address of the server.
+	 */
+	private final InetSocketAddress address;
+
+	/**
+	 * Number of connections.
+	 */
+	private final int connections;
+
+	/**
+	 * Number of requests in flight on every connection.
+	 */
+	private final int pipeline;
+
+	/**
+	 * Creates a load generator.
+	 *
+	 * @param address     is the address of the server.
+	 * @param connections is the number of connections.
+	 * @param pipeline    is the number of requests in flight on every
+	 *                    connection.
+	 * @throws IllegalArgumentException when a number isn't positive.
+	 */
+	public LoadGenerator(InetSocketAddress address, int connections, int pipeline) {
+		if (connections <= 0 || pipeline <= 0) {
+			throw new IllegalArgumentException(
+					connections + " connections with " + pipeline + " requests in flight aren't valid.");
+		}
+
+		this.address = address;
+		this.connections = connections;
+		this.pipeline = pipeline;
+	}
+
+	/**
+	 * Method opens the connections, sends requests for the given time, waits for
+	 * the responses to the requests in flight and closes the connections.
+	 *
+	 * @param duration is the time requests are sent for.
+	 * @param unit     is the unit of the duration.
+	 * @return report of the run.
+	 * @throws IOException when a connection can't be opened, or the server
+	 *                     closes it.
+	 */
+	public Report run(long duration, TimeUnit unit) throws IOException {
+		LogLinearHistogram latency = new LogLinearHistogram();
+		List<Client> clients = new ArrayList<>(connections);
+
+		try (Selector selector = Selector.open()) {
+			try {
+				for (int i = 0; i < connections; i++) {
+					SocketChannel channel = SocketChannel.open(address);
+					clients.add(new Client(channel, i));
+					channel.configureBlocking(false);
+					channel.socket().setTcpNoDelay(true);
+					channel.register(selector, SelectionKey.OP_READ, clients.get(i));
+				}
+
+				long start = System.nanoTime();
+				long deadline = start + unit.toNanos(duration);
+				for (Client client : clients) {
+					client.send(selector, pipeline);
+				}
+
+				int busy = clients.size();
+				while (busy > 0) {
+					long now = System.nanoTime();
+					boolean sending = now < deadline;
+					selector.select(sending ? Math.max(1L, TimeUnit.NANOSECONDS.toMillis(deadline - now)) : 1000L);
+
+					Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+					while (keys.hasNext()) {
+						SelectionKey key = keys.next();
+						keys.remove();
+						Client client = (Client) key.attachment();
+						if (key.isWritable()) {
+							client.flush(key);
+						}
+						if (key.isReadable()) {
+							int received = client.receive(latency);
+							if (sending && System.nanoTime() < deadline) {
+								client.send(selector, received);
+							} else if (client.inFlight == 0) {
+								key.cancel();
+								busy--;
+							}
+						}
+					}
+					if (!sending && System.nanoTime() - deadline > TimeUnit.SECONDS.toNanos(10)) {
+						throw new IOException(busy + " connections haven't answered in time.");
+					}
+				}
+
+				long elapsed = System.nanoTime() - start;
+				long served = 0;
+				long errors = 0;
+				for (Client client : clients) {
+					served += client.responses > 0 ? 1 : 0;
+					errors += client.errors;
+				}
+				return new Report(connections, served, latency.count(), errors, elapsed, latency);
+			} finally {
+				for (Client client : clients) {
+					client.channel.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Runs a load generator against a server on the loopback interface and prints
+	 * its report. Arguments are the port of the server, and optionally the number
+	 * of connections, the number of requests in flight on every connection and
+	 * the number of seconds to run, with defaults 10000, 16 and 10.
+	 *
+	 * @param args port, connections, requests in flight and seconds.
+	 * @throws IOException when the server can't be reached.
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = Integer.parseInt(args[0]);
+		int connections = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+		int pipeline = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+		int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+		System.out.println(new LoadGenerator(address, connections, pipeline).run(seconds, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * State of a single connection.
+	 */
+	private final class Client {
+		final SocketChannel channel;
+		final long session;
+		final ByteBuffer out = ByteBuffer.allocateDirect(pipeline * Protocol.REQUEST_SIZE);
+		final ByteBuffer in = ByteBuffer.allocateDirect(pipeline * Protocol.RESPONSE_SIZE);
+
+		/**
+		 * Times the requests in flight have been written, in a ring in the order
+		 * of the requests.
+		 */
+		final long[] sentAt = new long[pipeline];
+
+		/**
+		 * Index of the oldest request in flight in {@link #sentAt}.
+		 */
+		int oldest;
+
+		int inFlight;
+		long sent;
+		long responses;
+		long errors;
+
+		Client(SocketChannel channel, long session) {
+			this.channel = channel;
+			this.session = session;
+		}
+
+		/**
+		 * Method sends the next requests of the mix.
+		 *
+		 * @param selector is the selector of the connection.
+		 * @param count    is the number of requests to send.
+		 * @throws IOException when the requests can't be written.
+		 */
+		void send(Selector selector, int count) throws IOException {
+			long now = System.nanoTime();
+			for (int i = 0; i < count; i++) {
+				switch ((int) (sent++ & 3)) {
+				case 0:
+					Protocol.putRequest(out, Protocol.SET, '=', session, 6.0d + (session & 0xFF));
+					break;
+				case 1:
+					Protocol.putRequest(out, Protocol.HAS_CHARACTERISTIC, 'P', session, 0.0d);
+					break;
+				case 2:
+					Protocol.putRequest(out, Protocol.CALCULATE, '*', session, 2.0d);
+					break;
+				default:
+					Protocol.putRequest(out, Protocol.CALCULATE_ADVANCED, '1', session, 0.0d);
+					break;
+				}
+				sentAt[(oldest + inFlight) % pipeline] = now;
+				inFlight++;
+			}
+			flush(channel.keyFor(selector));
+		}
+
+		/**
+		 * Method writes as many requests as the connection takes, and waits for it
+		 * to take the rest.
+		 *
+		 * @param key is the selection key of the connection.
+		 * @throws IOException when the requests can't be written.
+		 */
+		void flush(SelectionKey key) throws IOException {
+			out.flip();
+			channel.write(out);
+			out.compact();
+			key.interestOps(out.position() > 0 ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+		}
+
+		/**
+		 * Method reads the responses that have arrived and records their latency.
+		 *
+		 * @param latency receives the latency of every response.
+		 * @return number of responses read.
+		 * @throws IOException when the server has closed the connection.
+		 */
+		int receive(LogLinearHistogram latency) throws IOException {
+			if (channel.read(in) < 0) {
+				throw new IOException("Server has closed connection of session " + session + ".");
+			}
+
+			in.flip();
+			long now = System.nanoTime();
+			int received = 0;
+			while (in.remaining() >= Protocol.RESPONSE_SIZE) {
+				if (in.get() != CalculationResult.OK) {
+					errors++;
+				}
+				in.getDouble();
+				latency.record(now - sentAt[oldest]);
+				oldest = (oldest + 1) % pipeline;
+				inFlight--;
+				received++;
+			}
+			in.compact();
+			responses += received;
+			return received;
+		}
+	}
+
+	/**
+	 * Outcome of a run of the load generator.
+	 */
+	public static final class Report {
+		private final int connections;
+		private final long servedConnections;
+		private final long requests;
+		private final long errors;
+		private final long nanos;
+		private final LogLinearHistogram latency;
+
+		Report(int connections, long servedConnections, long requests, long errors, long nanos,
+				LogLinearHistogram latency) {
+			this.connections = connections;
+			this.servedConnections = servedConnections;
+			this.requests = requests;
+			this.errors = errors;
+			this.nanos = nanos;
+			this.latency = latency;
+		}
+
+		/**
+		 * Getter for the number of opened connections.
+		 *
+		 * @return number of connections.
+		 */
+		public int getConnections() {
+			return connections;
+		}
+
+		/**
+		 * Getter for the number of connections that got at least one response.
+		 *
+		 * @return number of served connections.
+		 */
+		public long getServedConnections() {
+			return servedConnections;
+		}
+
+		/**
+		 * Getter for the number of answered requests.
+		 *
+		 * @return number of requests.
+		 */
+		public long getRequests() {
+			return requests;
+		}
+
+		/**
+		 * Getter for the number of requests answered with a status other than
+		 * {@link CalculationResult#OK}.
+		 *
+		 * @return number of failed requests.
+		 */
+		public long getErrors() {
+			return errors;
+		}
+
+		/**
+		 * Getter for the number of answered requests per second.
+		 *
+		 * @return throughput of the run.
+		 */
+		public double getThroughput() {
+			return requests * 1.0e9d / nanos;
+		}
+
+		/**
+		 * Getter for the latencies of the answered requests.
+		 *
+		 * @return histogram of the latencies.
+		 */
+		public LogLinearHistogram getLatency() {
+			return latency;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+					"%d of %d connections served, %d requests (%d failed), %.0f requests/s, latency p50 %.3f ms, p99 %.3f ms, p99.9 %.3f ms",
+					servedConnections, connections, requests, errors, getThroughput(), latency.percentile(50.0d) / 1.0e6d,
+					latency.percentile(99.0d) / 1.0e6d, latency.percentile(99.9d) / 1.0e6d);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+package calculator.server;
+
+import java.nio.ByteBuffer;
+
+import calculator.CalculationResult;
+
+/**
+ * Class used to describe the binary protocol of the {@link CalculatorServer}.
+ * Every message has a fixed size and every number is big-endian, so that a
+ * message can be read straight out of a {@link ByteBuffer} without any
+ * parsing.
+ * <p>
+ * A request takes {@value #REQUEST_SIZE} bytes: the kind of the request, the
+ * operator, action or parameter as a {@code char}, the id of the session as a
+ * {@code long} and the operand as a {@code double}. Fields a request doesn't
+ * use are ignored. A response takes {@value #RESPONSE_SIZE} bytes: the status
+ * code, one of the codes of {@link CalculationResult}, followed by a
+ * {@code double}. That's the value of the session after the request, or
+ * {@code 1.0} and {@code 0.0} for the result of a successful characteristic
+ * check.
+ * <p>
+ * Clients can send any number of requests without waiting for responses, and
+ * responses come back in the same order as the requests. A request of an
+ * unknown kind closes the connection.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ */
+public final class Protocol {
+	/**
+	 * Size of a request in bytes.
+	 */
+	public static final int REQUEST_SIZE = 19;
+
+	/**
+	 * Size of a response in bytes.
+	 */
+	public static final int RESPONSE_SIZE = 9;
+
+	/**
+	 * Request that returns the value of a session.
+	 */
+	public static final byte GET = 'G';
+
+	/**
+	 * Request that sets the value of a session to the operand.
+	 */
+	public static final byte SET = 'S';
+
+	/**
+	 * Request that performs one of the four arithmetic operations, same as
+	 * {@link calculator.Calculator#calculate(Double, char)}.
+	 */
+	public static final byte CALCULATE = 'C';
+
+	/**
+	 * Request that performs the factorial or exponentiation calculation, same as
+	 * {@link calculator.CalculatorAdvanced#calculateAdvanced(char)}.
+	 */
+	public static final byte CALCULATE_ADVANCED = 'X';
+
+	/**
+	 * Request that checks if the value is Armstrong or Perfect number, same as
+	 * {@link calculator.CalculatorAdvanced#hasCharacteristic(char)}.
+	 */
+	public static final byte HAS_CHARACTERISTIC = 'H';
+
+	private Protocol() {
+	}
+
+	/**
+	 * Method writes a request into a buffer.
+	 *
+	 * @param buffer  receives the request at its position.
+	 * @param kind    is the kind of the request.
+	 * @param symbol  is the operator, action or parameter.
+	 * @param session is the id of the session.
+	 * @param operand is the operand.
+	 */
+	public static void putRequest(ByteBuffer buffer, byte kind, char symbol, long session, double operand) {
+		buffer.put(kind).putChar(symbol).putLong(session).putDouble(operand);
+	}
+
+	/**
+	 * Method checks if a byte is a kind of request.
+	 *
+	 * @param kind is the byte to check.
+	 * @return true if the byte is one of the kinds of request.
+	 */
+	static boolean isKnown(byte kind) {
+		return kind == GET || kind == SET || kind == CALCULATE || kind == CALCULATE_ADVANCED
+				|| kind == HAS_CHARACTERISTIC;
+	}
+}
@@ -0,0 +1,172 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link ActionRegistry} class and
+ * its use by the {@link CalculatorAdvanced} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ActionRegistry class test")
+class ActionRegistryTest {
+
+	/**
+	 * Square root action, defined only for non-negative values.
+	 */
+	private static final Action SQUARE_ROOT = currentValue -> {
+		if (currentValue < 0.0d) {
+			throw new NumberNotInAreaException("Square root of " + currentValue + " isn't real.");
+		}
+		return Math.sqrt(currentValue);
+	};
+
+	/**
+	 * Characteristic of even numbers, defined only for whole numbers.
+	 */
+	private static final Characteristic EVEN = currentValue -> {
+		if (currentValue != Math.rint(currentValue)) {
+			throw new NotSupportedOperationException("Parameter 'E' is defined only for whole numbers.");
+		}
+		return ((long) currentValue & 1L) == 0L;
+	};
+
+	private ActionRegistry registry;
+	private CalculatorAdvanced calculator;
+
+	@BeforeEach
+	public void setUp() {
+		registry = new ActionRegistry();
+		registry.registerAction('r', SQUARE_ROOT);
+		registry.registerCharacteristic('E', EVEN);
+		calculator = new CalculatorAdvanced();
+		calculator.setActionRegistry(registry);
+	}
+
+	/**
+	 * Tests registered actions and characteristics through the throwing methods.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testThrowingMethods() throws Exception {
+		calculator.setCurrentValue(16.0d);
+		calculator.calculateAdvanced('r');
+		assertThat(calculator.getCurrentValue(), is(4.0d));
+		calculator.calculateAdvanced('2');
+		assertThat(calculator.getCurrentValue(), is(16.0d));
+		assertThat(calculator.hasCharacteristic('E'), is(true));
+		assertThat(calculator.hasCharacteristic('P'), is(false));
+
+		// Registered characteristics decide on their own which values they accept.
+		calculator.setCurrentValue(-4.0d);
+		assertThat(calculator.hasCharacteristic('E'), is(true));
+		assertThrows(NumberNotInAreaException.class, () -> calculator.hasCharacteristic('A'));
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('r'));
+		assertThat(calculator.getCurrentValue(), is(-4.0d));
+
+		calculator.setCurrentValue(2.5d);
+		assertThrows(NotSupportedOperationException.class, () -> calculator.hasCharacteristic('E'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculateAdvanced('q'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.hasCharacteristic('Q'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculateAdvancedExact('r'));
+	}
+
+	/**
+	 * Tests registered actions and characteristics through the exception-free
+	 * methods.
+	 */
+	@Test
+	public void testTryMethods() {
+		CalculationResult result = new CalculationResult();
+		calculator.setCurrentValue(9.0d);
+		assertThat(calculator.tryCalculateAdvanced('r', result), is(CalculationResult.OK));
+		assertThat(result.getValue(), is(3.0d));
+		assertThat(calculator.tryHasCharacteristic('E', result), is(CalculationResult.OK));
+		assertThat(result.hasCharacteristic(), is(false));
+
+		calculator.setCurrentValue(-1.0d);
+		assertThat(calculator.tryCalculateAdvanced('r', result), is(CalculationResult.REGISTERED_NOT_IN_AREA));
+		assertThat(result.getMessage(), is("Number '-1.00' can't be used with 'r' because it's not in its range."));
+		assertThat(result.toException() instanceof NumberNotInAreaException, is(true));
+		assertThat(calculator.getCurrentValue(), is(-1.0d));
+		assertThat(calculator.tryHasCharacteristic('E', result), is(CalculationResult.OK));
+		assertThat(result.hasCharacteristic(), is(false));
+
+		calculator.setCurrentValue(0.5d);
+		assertThat(calculator.tryHasCharacteristic('E', result), is(CalculationResult.UNKNOWN_PARAMETER));
+		assertThat(calculator.tryHasCharacteristic('Q', result), is(CalculationResult.CHARACTERISTIC_NOT_IN_AREA));
+		assertThat(calculator.tryCalculateAdvanced('q', result), is(CalculationResult.UNKNOWN_ACTION));
+	}
+
+	/**
+	 * Tests replacing and removing entries, which calculators see right away.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReplaceAndUnregister() throws Exception {
+		Action cubeRoot = Math::cbrt;
+		assertThat(registry.registerAction('r', cubeRoot), is(SQUARE_ROOT));
+		calculator.setCurrentValue(-27.0d);
+		calculator.calculateAdvanced('r');
+		assertThat(calculator.getCurrentValue(), is(-3.0d));
+
+		assertThat(registry.unregisterAction('r'), is(cubeRoot));
+		assertThat(registry.unregisterAction('r'), is(nullValue()));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculateAdvanced('r'));
+		assertThat(registry.actionSymbols(), is(new char[0]));
+
+		registry.registerCharacteristic('O', currentValue -> !EVEN.test(currentValue));
+		assertThat(calculator.hasCharacteristic('O'), is(true));
+		assertThat(registry.unregisterCharacteristic('E'), is(EVEN));
+		assertThat(registry.getCharacteristic('E'), is(nullValue()));
+		assertThat(registry.characteristicSymbols(), is(new char[] { 'O' }));
+
+		calculator.setActionRegistry(null);
+		calculator.setCurrentValue(3.0d);
+		assertThrows(NotSupportedOperationException.class, () -> calculator.hasCharacteristic('O'));
+	}
+
+	/**
+	 * Tests that built-in and non-ASCII actions can't be registered.
+	 *
+	 * @param symbol is the character of the action.
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { '0', '5', '9', '!', '√' })
+	public void testRegisterActionRejected(char symbol) {
+		assertThrows(IllegalArgumentException.class, () -> registry.registerAction(symbol, SQUARE_ROOT));
+		assertThat(registry.getAction(symbol), is(nullValue()));
+	}
+
+	/**
+	 * Tests that built-in and non-ASCII characteristics, and null entries, can't
+	 * be registered.
+	 *
+	 * @param symbol is the character of the characteristic.
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { 'A', 'P', 'Ω' })
+	public void testRegisterCharacteristicRejected(char symbol) {
+		assertThrows(IllegalArgumentException.class, () -> registry.registerCharacteristic(symbol, EVEN));
+		assertThat(registry.getCharacteristic(symbol), is(nullValue()));
+		assertThrows(IllegalArgumentException.class, () -> registry.registerAction('s', null));
+		assertThrows(IllegalArgumentException.class, () -> registry.registerCharacteristic('S', null));
+	}
+}
@@ -0,0 +1,265 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Testing class used to test the code in the {@link AdaptiveCalculator} class
+ * by comparing its decimal value with the one calculated in {@link BigDecimal}
+ * only.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("AdaptiveCalculator class test")
+class AdaptiveCalculatorTest {
+
+	private AdaptiveCalculator calculator;
+
+	@BeforeEach
+	public void setUp() {
+		calculator = new AdaptiveCalculator();
+	}
+
+	/**
+	 * Tests that decimal fractions stay in double while they are right to the
+	 * precision of the calculator.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDecimalFractionsStayInDouble() throws Exception {
+		calculator.setCurrentValue(0.1d);
+		calculator.calculate(0.2d, '+');
+
+		assertThat(calculator.getCurrentValue(), is(0.1d + 0.2d));
+		assertThat(calculator.getExactValue().compareTo(new BigDecimal("0.3")), is(0));
+		assertThat(calculator.isEscalated(), is(false));
+		assertThat(calculator.getDoubleOperations(), is(1L));
+		assertThat(calculator.getBigDecimalOperations(), is(0L));
+	}
+
+	/**
+	 * Tests that an inexact division stays in double while the double holds the
+	 * precision of the calculator.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInexactDivisionInDouble() throws Exception {
+		calculator.setCurrentValue(1.0d);
+		calculator.calculate(3.0d, '/');
+		assertThat(calculator.isEscalated(), is(false));
+		assertThat(calculator.getExactValue(), is(new BigDecimal("0.333333333333")));
+		calculator.calculate(3.0d, '*');
+		assertThat(calculator.getExactValue().compareTo(BigDecimal.ONE), is(0));
+	}
+
+	/**
+	 * Tests that an inexact division switches to BigDecimal and stays there when
+	 * a double can't hold the precision of the calculator.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInexactDivisionEscalates() throws Exception {
+		calculator = new AdaptiveCalculator(MathContext.DECIMAL64);
+		calculator.setCurrentValue(1.0d);
+		calculator.calculate(4.0d, '/');
+		assertThat(calculator.isEscalated(), is(false));
+
+		calculator.calculate(3.0d, '/');
+		assertThat(calculator.isEscalated(), is(true));
+		assertThat(calculator.getExactValue(), is(new BigDecimal("0.08333333333333333")));
+		calculator.calculate(12.0d, '*');
+		assertThat(calculator.getExactValue(), is(new BigDecimal("1.000000000000000")));
+		assertThat(calculator.getCurrentValue(), is(1.0d));
+
+		assertThat(calculator.getDoubleOperations(), is(1L));
+		assertThat(calculator.getBigDecimalOperations(), is(2L));
+		assertThat(calculator.getEscalations(), is(1L));
+
+		calculator.setCurrentValue(2.0d);
+		assertThat(calculator.isEscalated(), is(false));
+	}
+
+	/**
+	 * Tests that a precision a double can't hold switches to BigDecimal on the
+	 * first inexact operand.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testHighPrecisionEscalates() throws Exception {
+		calculator = new AdaptiveCalculator(MathContext.DECIMAL128);
+		calculator.setCurrentValue(3.0d);
+		calculator.calculate(4.0d, '*');
+		assertThat(calculator.isEscalated(), is(false));
+
+		calculator.calculate(0.1d, '+');
+		assertThat(calculator.isEscalated(), is(true));
+		assertThat(calculator.getExactValue(), is(new BigDecimal("12.1")));
+	}
+
+	/**
+	 * Tests that a result out of range of double is kept in BigDecimal.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testOverflowEscalates() throws Exception {
+		calculator.setCurrentValue(1.0e200d);
+		calculator.calculate(1.0e200d, '*');
+
+		assertThat(calculator.isEscalated(), is(true));
+		assertThat(calculator.getCurrentValue(), is(Double.POSITIVE_INFINITY));
+		assertThat(calculator.getExactValue().compareTo(new BigDecimal("1e400")), is(0));
+		calculator.calculate(1.0e300d, '/');
+		assertThat(calculator.getCurrentValue(), is(1.0e100d));
+	}
+
+	/**
+	 * Tests that long runs of operations on money amounts end with the value
+	 * calculated in BigDecimal with a much larger precision, rounded to the
+	 * precision of the calculator.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSameAsBigDecimal() throws Exception {
+		MathContext mathContext = new MathContext(40);
+		Random random = new Random(42);
+		char[] operators = { '+', '-', '*', '/' };
+
+		for (int run = 0; run < 200; run++) {
+			calculator.setCurrentValue(100.0d);
+			BigDecimal expected = new BigDecimal("100");
+			for (int i = 0; i < 50; i++) {
+				char operator = operators[random.nextInt(operators.length)];
+				// Amounts in cents, and small whole factors.
+				double value = operator == '+' || operator == '-' ? random.nextInt(100_000) / 100.0d
+						: 1 + random.nextInt(9);
+				calculator.calculate(value, operator);
+				BigDecimal operand = BigDecimal.valueOf(value);
+				switch (operator) {
+				case '+':
+					expected = expected.add(operand, mathContext);
+					break;
+				case '-':
+					expected = expected.subtract(operand, mathContext);
+					break;
+				case '*':
+					expected = expected.multiply(operand, mathContext);
+					break;
+				default:
+					expected = expected.divide(operand, mathContext);
+					break;
+				}
+			}
+			// Both values are rounded, so they may still be on the two sides of a
+			// rounding boundary.
+			expected = expected.round(calculator.getMathContext());
+			BigDecimal difference = calculator.getExactValue().subtract(expected).abs();
+			assertThat(expected + " != " + calculator.getExactValue(), difference.compareTo(expected.ulp()) <= 0,
+					is(true));
+		}
+		assertThat(calculator.getDoubleOperations() + calculator.getBigDecimalOperations(), is(200L * 50L));
+		assertThat(calculator.getDoubleOperations() > 0, is(true));
+	}
+
+	/**
+	 * Tests that many additions of cents end up exact, whichever path they took.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testAccumulatedRounding() throws Exception {
+		calculator.setCurrentValue(0.0d);
+		for (int i = 0; i < 100_000; i++) {
+			calculator.calculate(0.01d, '+');
+		}
+		assertThat(calculator.getExactValue().compareTo(new BigDecimal("1000")), is(0));
+		assertThat(calculator.getDoubleOperations() > 0, is(true));
+	}
+
+	/**
+	 * Tests errors, which leave the value as it was.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testErrors() throws Exception {
+		CalculationResult result = new CalculationResult();
+		calculator = new AdaptiveCalculator(MathContext.DECIMAL64);
+		calculator.setCurrentValue(1.0d);
+		calculator.calculate(3.0d, '/');
+
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0d, '/'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(1.0d, '%'));
+		assertThat(calculator.tryCalculate(0.0d, '/', result), is(CalculationResult.DIVISION_BY_ZERO));
+		assertThat(calculator.tryCalculate(1.0d, '%', result), is(CalculationResult.UNKNOWN_OPERATOR));
+		assertThat(calculator.isEscalated(), is(true));
+		assertThat(calculator.getExactValue(), is(new BigDecimal("0.3333333333333333")));
+		assertThrows(IllegalArgumentException.class, () -> new AdaptiveCalculator(MathContext.UNLIMITED));
+	}
+
+	/**
+	 * Tests that operations without a decimal form go back to double.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDoubleOnlyOperations() throws Exception {
+		OperatorRegistry registry = new OperatorRegistry();
+		registry.register('%', (currentValue, value) -> currentValue % value);
+		calculator = new AdaptiveCalculator(MathContext.DECIMAL64);
+		calculator.setOperatorRegistry(registry);
+
+		calculator.setCurrentValue(10.0d);
+		calculator.calculate(3.0d, '/');
+		assertThat(calculator.isEscalated(), is(true));
+		calculator.calculate(2.0d, '%');
+		assertThat(calculator.isEscalated(), is(false));
+		assertThat(calculator.getCurrentValue(), is(1.333333333333333d));
+
+		calculator.setCurrentValue(10.0d);
+		calculator.calculate(3.0d, '/');
+		calculator.calculateAdvanced('2');
+		assertThat(calculator.isEscalated(), is(false));
+		assertThat(calculator.getCurrentValue(), is(9.0d));
+	}
+
+	/**
+	 * Tests the batch methods and setting a decimal value.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBatchAndExactValue() throws Exception {
+		calculator.setExactValue(new BigDecimal("2.5"));
+		assertThat(calculator.isEscalated(), is(false));
+		assertThat(calculator.calculate(new double[] { 3.0d, 0.0d }, new char[] { '*', '/' }), is(1));
+		assertThat(calculator.getCurrentValue(), is(7.5d));
+
+		calculator.setExactValue(new BigDecimal("1.00000000000000000001"));
+		assertThat(calculator.getExactValue().compareTo(BigDecimal.ONE), is(0));
+		calculator.setExactValue(new BigDecimal("1e400"));
+		assertThat(calculator.isEscalated(), is(true));
+		assertThat(calculator.calculate(new double[] { 1.0e200d, 1.0e200d }, '/'), is(Calculator.BATCH_OK));
+		assertThat(calculator.getCurrentValue(), is(1.0d));
+	}
+}
@@ -0,0 +1,144 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Testing class used to test the code in the {@link ArrayCalculator} class by
+ * comparing it with the {@link Calculator} class, element by element.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ArrayCalculator class test")
+class ArrayCalculatorTest {
+
+	/**
+	 * Number of elements used in tests, chosen so that the loops have a remainder
+	 * after any vector width.
+	 */
+	private static final int SIZE = 1_003;
+
+	/**
+	 * Helper method that generates values of very different magnitudes, including
+	 * zeros, infinities and NaN.
+	 *
+	 * @param seed is the seed of the generator.
+	 * @return generated values.
+	 */
+	private static double[] values(long seed) {
+		Random random = new Random(seed);
+		double[] values = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = (random.nextDouble() - 0.5) * Math.pow(10.0, random.nextInt(40) - 20);
+		}
+		values[1] = 0.0;
+		values[2] = -0.0;
+		values[3] = Double.POSITIVE_INFINITY;
+		values[4] = Double.NaN;
+		values[5] = Double.MIN_VALUE;
+		return values;
+	}
+
+	/**
+	 * Helper method that asserts that two arrays hold exactly the same bits.
+	 *
+	 * @param actual   is the checked array.
+	 * @param expected is the expected array.
+	 */
+	private static void assertSameBits(double[] actual, double[] expected) {
+		for (int i = 0; i < expected.length; i++) {
+			assertThat(Double.doubleToRawLongBits(actual[i]), is(Double.doubleToRawLongBits(expected[i])));
+		}
+	}
+
+	/**
+	 * Tests that every element gets bit-for-bit the same result as with the
+	 * {@link Calculator} class when all elements share an operand.
+	 *
+	 * @param operator denotes operation being performed.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { '+', '-', '*', '/' })
+	public void testSharedOperand(char operator) throws Exception {
+		double[] values = values(1);
+		double[] expected = new double[SIZE];
+		Calculator calculator = new Calculator();
+		for (int i = 0; i < SIZE; i++) {
+			calculator.setCurrentValue(values[i]);
+			calculator.calculate(-3.7e-5, operator);
+			expected[i] = calculator.getCurrentValue();
+		}
+
+		ArrayCalculator.calculate(values, -3.7e-5, operator);
+		assertSameBits(values, expected);
+	}
+
+	/**
+	 * Tests that every element gets bit-for-bit the same result as with the
+	 * {@link Calculator} class when every element has its own operand, and that
+	 * only the elements divided by zero are left unchanged.
+	 *
+	 * @param operator denotes operation being performed.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { '+', '-', '*', '/' })
+	public void testOwnOperands(char operator) throws Exception {
+		double[] values = values(1);
+		double[] operands = values(2);
+		operands[10] = 0.0;
+		operands[SIZE - 1] = -0.0;
+		double[] expected = new double[SIZE];
+		Calculator calculator = new Calculator();
+		int zeros = 0;
+		for (int i = 0; i < SIZE; i++) {
+			calculator.setCurrentValue(values[i]);
+			try {
+				calculator.calculate(operands[i], operator);
+			} catch (DivisionByZeroException e) {
+				zeros++;
+			}
+			expected[i] = calculator.getCurrentValue();
+		}
+
+		boolean[] failed = new boolean[SIZE];
+		assertThat(ArrayCalculator.calculate(values, operands, operator, failed), is(zeros));
+		assertSameBits(values, expected);
+		for (int i = 0; i < SIZE; i++) {
+			assertThat(failed[i], is(operator == '/' && operands[i] == 0.0));
+		}
+	}
+
+	/**
+	 * Tests all of the invalid cases for the {@link ArrayCalculator} class.
+	 */
+	@Test
+	public void testInvalidCases() {
+		double[] values = { 1.0, 2.0 };
+
+		assertThrows(DivisionByZeroException.class, () -> ArrayCalculator.calculate(values, 0.0, '/'));
+		assertThrows(NotSupportedOperationException.class, () -> ArrayCalculator.calculate(values, 1.0, '^'));
+		assertThrows(NotSupportedOperationException.class,
+				() -> ArrayCalculator.calculate(values, new double[2], '%', null));
+		assertThrows(IllegalArgumentException.class,
+				() -> ArrayCalculator.calculate(values, new double[3], '+', null));
+		assertThrows(IllegalArgumentException.class,
+				() -> ArrayCalculator.calculate(values, new double[2], '+', new boolean[1]));
+		assertThat(values, is(new double[] { 1.0, 2.0 }));
+	}
+}
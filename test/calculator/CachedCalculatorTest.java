@@ -0,0 +1,121 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link CachedCalculator} class by
+ * comparing it with a plain {@link CalculatorAdvanced} object.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("CachedCalculator class test")
+class CachedCalculatorTest {
+
+	/**
+	 * Actions and parameters of the advanced operations, including invalid ones.
+	 */
+	private static final char[] ACTIONS = { '0', '1', '2', '3', '5', '9', '!', 'A', 'P', 'x' };
+
+	/**
+	 * Tests that cached results, statuses and exception messages are the same as
+	 * the ones of a plain calculator, for values that repeat and for values out
+	 * of range of the operations.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSameAsCalculatorAdvanced() throws Exception {
+		CachedCalculator cached = new CachedCalculator(new ResultCache(64));
+		CalculatorAdvanced plain = new CalculatorAdvanced();
+		CalculationResult cachedResult = new CalculationResult();
+		CalculationResult plainResult = new CalculationResult();
+		double[] values = { -3.5, -0.5, 0.0, 0.7, 1.0, 6.0, 10.0, 10.5, 153.9, 496.0, 9_926_315.0, 1.0e17, Double.NaN };
+		Random random = new Random(42);
+
+		for (int i = 0; i < 2_000; i++) {
+			double value = values[random.nextInt(values.length)];
+			char action = ACTIONS[random.nextInt(ACTIONS.length)];
+
+			cached.setCurrentValue(value);
+			plain.setCurrentValue(value);
+			assertThat(cached.tryHasCharacteristic(action, cachedResult),
+					is(plain.tryHasCharacteristic(action, plainResult)));
+			assertThat(cachedResult.hasCharacteristic(), is(plainResult.hasCharacteristic()));
+			assertThat(cachedResult.getMessage(), is(plainResult.getMessage()));
+			assertThat(message(() -> cached.hasCharacteristic(action)),
+					is(message(() -> plain.hasCharacteristic(action))));
+
+			assertThat(message(() -> {
+				cached.calculateAdvanced(action);
+				return cached.getCurrentValue();
+			}), is(message(() -> {
+				plain.calculateAdvanced(action);
+				return plain.getCurrentValue();
+			})));
+			assertThat(cached.getCurrentValue(), is(plain.getCurrentValue()));
+
+			cached.setCurrentValue(value);
+			plain.setCurrentValue(value);
+			assertThat(cached.tryCalculateAdvanced(action, cachedResult),
+					is(plain.tryCalculateAdvanced(action, plainResult)));
+			assertThat(cachedResult.getMessage(), is(plainResult.getMessage()));
+			assertThat(cached.getCurrentValue(), is(plain.getCurrentValue()));
+		}
+
+		assertThat(cached.getCache().getHits() > cached.getCache().getMisses(), is(true));
+	}
+
+	/**
+	 * Tests that the exceptions of a plain calculator are thrown, and that only
+	 * the operations that succeed are looked up in the cache.
+	 */
+	@Test
+	public void testInvalidCasesBypassCache() {
+		ResultCache cache = new ResultCache(16);
+		CachedCalculator calculator = new CachedCalculator(cache);
+
+		calculator.setCurrentValue(10.5);
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculateAdvanced('x'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.hasCharacteristic('x'));
+		calculator.setCurrentValue(0.9);
+		assertThrows(NumberNotInAreaException.class, () -> calculator.hasCharacteristic('A'));
+		assertThat(calculator.getCurrentValue(), is(0.9));
+		assertThat(cache.getHits() + cache.getMisses(), is(0L));
+		assertThat(cache.size(), is(0));
+	}
+
+	/**
+	 * Helper method that runs an operation and describes its outcome.
+	 *
+	 * @param operation is the operation to run.
+	 * @return result of the operation, or class and message of its exception.
+	 */
+	private static String message(Operation operation) {
+		try {
+			return String.valueOf(operation.run());
+		} catch (Exception e) {
+			return e.getClass().getName() + ": " + e.getMessage();
+		}
+	}
+
+	/**
+	 * Operation of a calculator that can throw.
+	 */
+	private interface Operation {
+		Object run() throws Exception;
+	}
+}
@@ -2,10 +2,19 @@ package calculator;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import calculator.exception.NotSupportedOperationException;
 import calculator.exception.NumberNotInAreaException;
@@ -65,7 +75,9 @@ class CalculatorAdvancedTest {
 				Arguments.of(-1.0, '4', 1.0), Arguments.of(-5.5659852, '4', 625.0),
 
 				Arguments.of(0.0, '!', 1.0), Arguments.of(1.0, '!', 1.0), Arguments.of(5.0, '!', 120.0),
-				Arguments.of(5.9659, '!', 120.0), Arguments.of(10.0, '!', 3_628_800.0));
+				Arguments.of(5.9659, '!', 120.0), Arguments.of(10.0, '!', 3_628_800.0),
+
+				Arguments.of(100_000.0, '9', 1.0e45), Arguments.of(-3_000_000_000.0, '3', -2.7e28));
 	}
 
 	/**
@@ -103,7 +115,11 @@ class CalculatorAdvancedTest {
 				Arguments.of(370.59659, 'A', true), Arguments.of(10.0, 'A', false), Arguments.of(1.5, 'A', true),
 
 				Arguments.of(6.0, 'P', true), Arguments.of(28.0, 'P', true), Arguments.of(30.0, 'P', false),
-				Arguments.of(8_128.0156, 'P', true), Arguments.of(1.0, 'P', false));
+				Arguments.of(8_128.0156, 'P', true), Arguments.of(1.0, 'P', false),
+
+				Arguments.of(2_147_483_647.0, 'A', false), Arguments.of(4_679_307_774.0, 'A', true),
+				Arguments.of(2_147_483_647.0, 'P', false), Arguments.of(33_550_336.0, 'P', true),
+				Arguments.of(8_589_869_056.0, 'P', true));
 	}
 
 	/**
@@ -167,4 +183,253 @@ class CalculatorAdvancedTest {
 		Exception e = assertThrows(NumberNotInAreaException.class, () -> calculator.hasCharacteristic(parameter));
 		assertThat(e.getMessage(), containsString("can't be smaller than 1"));
 	}
-}
+
+	/**
+	 * Tests that the exception-free
+	 * {@link CalculatorAdvanced#tryCalculateAdvanced(char, CalculationResult)
+	 * tryCalculateAdvanced(char, CalculationResult)} method matches the
+	 * {@link CalculatorAdvanced#calculateAdvanced(char) calculateAdvanced(char)}
+	 * method, parameterized to take parameters from
+	 * {@link #calculateAdvancedParameters()} method.
+	 * 
+	 * @param currentValue is a value that will be stored as a calculators current
+	 *                     value.
+	 * @param action       is a value used to distinguish between factorial and
+	 *                     exponentiation calculation.
+	 * @param result       is the expected result for the calculation.
+	 */
+	@ParameterizedTest
+	@MethodSource("calculateAdvancedParameters")
+	public void testTryCalculateAdvanced(double currentValue, char action, double result) {
+		CalculationResult calculationResult = new CalculationResult();
+		calculator.setCurrentValue(currentValue);
+		assertThat(calculator.tryCalculateAdvanced(action, calculationResult), is(CalculationResult.OK));
+		assertThat(calculator.getCurrentValue(), is(result));
+	}
+
+	/**
+	 * Tests that the exception-free
+	 * {@link CalculatorAdvanced#tryHasCharacteristic(char, CalculationResult)
+	 * tryHasCharacteristic(char, CalculationResult)} method matches the
+	 * {@link CalculatorAdvanced#hasCharacteristic(char) hasCharacteristic(char)}
+	 * method, parameterized to take parameters from
+	 * {@link #hasCharacteristicParameters()} method.
+	 * 
+	 * @param currentValue is a value that will be stored as a calculators current
+	 *                     value.
+	 * @param parameter    is a value used to distinguish between Armstrong or
+	 *                     Perfect number check.
+	 * @param result       is the expected result for the calculation.
+	 */
+	@ParameterizedTest
+	@MethodSource("hasCharacteristicParameters")
+	public void testTryHasCharacteristic(double currentValue, char parameter, Boolean result) {
+		CalculationResult calculationResult = new CalculationResult();
+		calculator.setCurrentValue(currentValue);
+		assertThat(calculator.tryHasCharacteristic(parameter, calculationResult), is(CalculationResult.OK));
+		assertThat(calculationResult.hasCharacteristic(), is(result));
+	}
+
+	/**
+	 * Tests that the failures reported by the exception-free methods carry the
+	 * same messages as the exceptions thrown by the regular methods.
+	 */
+	@Test
+	public void testTryInvalidCases() {
+		CalculationResult result = new CalculationResult();
+
+		calculator.setCurrentValue(10.00016);
+		Exception expected = assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+		assertThat(calculator.tryCalculateAdvanced('!', result), is(CalculationResult.FACTORIAL_NOT_IN_AREA));
+		assertThat(result.getMessage(), is(expected.getMessage()));
+		assertThat(result.toException().getMessage(), is(expected.getMessage()));
+
+		assertThat(calculator.tryCalculateAdvanced('A', result), is(CalculationResult.UNKNOWN_ACTION));
+		assertThat(result.toException(), is(instanceOf(NotSupportedOperationException.class)));
+
+		calculator.setCurrentValue(0.265296526);
+		assertThat(calculator.tryHasCharacteristic('P', result), is(CalculationResult.CHARACTERISTIC_NOT_IN_AREA));
+		assertThat(result.getMessage(), containsString("can't be smaller than 1"));
+
+		calculator.setCurrentValue(26.55);
+		assertThat(calculator.tryHasCharacteristic('|', result), is(CalculationResult.UNKNOWN_PARAMETER));
+	}
+
+	/**
+	 * Tests that a lightweight exception has its message when it's read by many
+	 * threads at once, and when it's serialized before the message is read.
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testLightweightMessages() throws Exception {
+		CalculationResult result = new CalculationResult();
+		calculator.setCurrentValue(11.0);
+		calculator.tryCalculateAdvanced('!', result);
+		String expected = result.getMessage();
+
+		for (int round = 0; round < 100; round++) {
+			Exception exception = result.toException();
+			List<Thread> threads = new ArrayList<>();
+			List<String> messages = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Thread thread = new Thread(() -> {
+					String message = exception.getMessage();
+					synchronized (messages) {
+						messages.add(message);
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+			assertThat(messages.size(), is(4));
+			for (String message : messages) {
+				assertThat(message, is(expected));
+			}
+		}
+
+		calculator.tryCalculateAdvanced('A', result);
+		for (Exception exception : new Exception[] { result.toException(),
+				NumberNotInAreaException.lightweight(() -> expected) }) {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(exception);
+			}
+			try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				assertThat(((Exception) in.readObject()).getMessage(), is(exception.getMessage()));
+			}
+		}
+	}
+
+	/**
+	 * Tests the {@link CalculatorAdvanced#isPerfectNumber(long)
+	 * isPerfectNumber(long)} method against the sum of divisors found by trial
+	 * division up to the square root of every number.
+	 */
+	@Test
+	public void testIsPerfectNumber() {
+		for (long number = 1; number <= 100_000; number++) {
+			long sum = number == 1 ? 0 : 1;
+			for (long i = 2; i * i <= number; i++) {
+				if (number % i == 0) {
+					sum += i;
+					if (i != number / i) {
+						sum += number / i;
+					}
+				}
+			}
+			assertThat(CalculatorAdvanced.isPerfectNumber(number), is(sum == number));
+		}
+		assertThat(CalculatorAdvanced.isPerfectNumber(2_305_843_008_139_952_128L), is(true));
+		assertThat(CalculatorAdvanced.isPerfectNumber(Long.MAX_VALUE), is(false));
+	}
+
+	/**
+	 * Tests the {@link CalculatorAdvanced#isArmstrongNumber(long)
+	 * isArmstrongNumber(long)} method on numbers beyond the {@code int} range.
+	 */
+	@Test
+	public void testIsArmstrongNumber() {
+		assertThat(CalculatorAdvanced.isArmstrongNumber(0L), is(false));
+		assertThat(CalculatorAdvanced.isArmstrongNumber(9_926_315L), is(true));
+		assertThat(CalculatorAdvanced.isArmstrongNumber(4_679_307_774L), is(true));
+		assertThat(CalculatorAdvanced.isArmstrongNumber(4_679_307_775L), is(false));
+		assertThat(CalculatorAdvanced.isArmstrongNumber(4_929_273_885_928_088_826L), is(true));
+		assertThat(CalculatorAdvanced.isArmstrongNumber(Long.MAX_VALUE), is(false));
+	}
+
+	/**
+	 * Tests that the
+	 * {@link CalculatorAdvanced#countCharacteristic(long, long, char)
+	 * countCharacteristic(long, long, char)} and
+	 * {@link CalculatorAdvanced#streamCharacteristic(long, long, char)
+	 * streamCharacteristic(long, long, char)} methods find the same numbers as
+	 * the {@link CalculatorAdvanced#hasCharacteristic(char)
+	 * hasCharacteristic(char)} method.
+	 * 
+	 * @param parameter is a value used to distinguish between Armstrong or Perfect
+	 *                  number check.
+	 * @throws NotSupportedOperationException
+	 * @throws NumberNotInAreaException
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { 'A', 'P' })
+	public void testCharacteristicRange(char parameter) throws NotSupportedOperationException, NumberNotInAreaException {
+		long from = -10;
+		long to = 100_000;
+		List<Long> expected = new ArrayList<>();
+		for (long number = 1; number <= to; number++) {
+			calculator.setCurrentValue(number);
+			if (calculator.hasCharacteristic(parameter)) {
+				expected.add(number);
+			}
+		}
+
+		assertThat(CalculatorAdvanced.countCharacteristic(from, to, parameter), is((long) expected.size()));
+		assertThat(CalculatorAdvanced.streamCharacteristic(from, to, parameter).boxed().collect(Collectors.toList()),
+				is(expected));
+		assertThat(CalculatorAdvanced.countCharacteristic(to, from, parameter), is(0L));
+	}
+
+	/**
+	 * Tests the range methods on numbers beyond the {@code int} range and with an
+	 * invalid parameter.
+	 * 
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	public void testCharacteristicRangeInvalidCases() throws NotSupportedOperationException {
+		assertThat(CalculatorAdvanced.countCharacteristic(1, Long.MAX_VALUE, 'P'), is(8L));
+		assertThat(CalculatorAdvanced.streamCharacteristic(4_000_000_000L, 5_000_000_000L, 'A').toArray(),
+				is(new long[] { 4_679_307_774L }));
+		assertThrows(NotSupportedOperationException.class, () -> CalculatorAdvanced.countCharacteristic(1, 10, '|'));
+	}
+
+	/**
+	 * Tests the {@link CalculatorAdvanced#calculateAdvancedExact(char)
+	 * calculateAdvancedExact(char)} method with results that don't fit in
+	 * {@code double} exactly, including factorials of values above 10.
+	 * 
+	 * @throws NotSupportedOperationException
+	 * @throws NumberNotInAreaException
+	 */
+	@Test
+	public void testCalculateAdvancedExact() throws NotSupportedOperationException, NumberNotInAreaException {
+		calculator.setCurrentValue(123_456_789.5);
+		BigInteger expected = BigInteger.valueOf(123_456_789L).pow(5);
+		assertThat(calculator.calculateAdvancedExact('5'), is(expected));
+		assertThat(calculator.getCurrentValue(), is(expected.doubleValue()));
+
+		calculator.setCurrentValue(10.0);
+		assertThat(calculator.calculateAdvancedExact('!'), is(BigInteger.valueOf(3_628_800L)));
+
+		calculator.setCurrentValue(11.0);
+		assertThat(calculator.calculateAdvancedExact('!'), is(BigInteger.valueOf(39_916_800L)));
+
+		BigInteger factorial = BigInteger.ONE;
+		for (int i = 2; i <= 200; i++) {
+			factorial = factorial.multiply(BigInteger.valueOf(i));
+		}
+		calculator.setCurrentValue(200.7);
+		assertThat(calculator.calculateAdvancedExact('!'), is(factorial));
+		assertThat(calculator.getCurrentValue(), is(Double.POSITIVE_INFINITY));
+
+		calculator.setCurrentValue(-1.0);
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvancedExact('!'));
+		calculator.setCurrentValue(ExactArithmetic.MAX_FACTORIAL + 1.0);
+		Exception e = assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvancedExact('!'));
+		assertThat(e.getMessage(), is(CalculationResult.message(CalculationResult.EXACT_FACTORIAL_NOT_IN_AREA, '!',
+				ExactArithmetic.MAX_FACTORIAL + 1.0)));
+		calculator.setCurrentValue(1e9);
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvancedExact('!'));
+		calculator.setCurrentValue(11.0);
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculateAdvancedExact('A'));
+		assertThat(calculator.getCurrentValue(), is(11.0));
+
+		// The rounded variant keeps its range.
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link CalculatorStore} class by
+ * comparing every session with its own {@link CalculatorAdvanced} object.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("CalculatorStore class test")
+class CalculatorStoreTest {
+
+	/**
+	 * Number of threads used in concurrent tests.
+	 */
+	private static final int THREADS = 8;
+
+	/**
+	 * Tests that sessions behave like separate calculators, including sessions
+	 * that have never been used and the session with id 0.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSessionsAreIndependent() throws Exception {
+		CalculatorStore store = new CalculatorStore();
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+
+		store.calculate(0L, 3.0, '+');
+		store.calculate(-7L, 5.0, '-');
+		store.calculate(0L, 1.5, '*');
+		store.calculateAdvanced(0L, '2');
+		expected.calculate(3.0, '+');
+		expected.calculate(1.5, '*');
+		expected.calculateAdvanced('2');
+
+		assertThat(store.getCurrentValue(0L), is(expected.getCurrentValue()));
+		assertThat(store.getCurrentValue(-7L), is(-5.0));
+		assertThat(store.getCurrentValue(42L), is(0.0));
+		assertThat(store.hasCharacteristic(0L, 'A'), is(expected.hasCharacteristic('A')));
+		assertThat(store.size(), is(2L));
+
+		assertThat(store.remove(0L), is(true));
+		assertThat(store.remove(0L), is(false));
+		assertThat(store.getCurrentValue(0L), is(0.0));
+		assertThat(store.size(), is(1L));
+	}
+
+	/**
+	 * Tests that the store keeps the right values while it grows and while
+	 * sessions are removed, by comparing it with a map of calculators.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testGrowAndRemove() throws Exception {
+		CalculatorStore store = new CalculatorStore();
+		Map<Long, CalculatorAdvanced> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 200_000; i++) {
+			// Narrow range of ids, so that sessions are often reused and removed.
+			long session = random.nextInt(50_000) - 1_000;
+			double value = random.nextInt(100) + 1;
+			if (random.nextInt(10) == 0) {
+				assertThat(store.remove(session), is(expected.remove(session) != null));
+				continue;
+			}
+			store.calculate(session, value, '+');
+			expected.computeIfAbsent(session, id -> new CalculatorAdvanced()).calculate(value, '+');
+		}
+
+		assertThat(store.size(), is((long) expected.size()));
+		for (long session = -1_000; session < 49_000; session++) {
+			CalculatorAdvanced calculator = expected.get(session);
+			assertThat(store.getCurrentValue(session), is(calculator != null ? calculator.getCurrentValue() : 0.0));
+		}
+		assertThat(store.memoryUsage() / store.size(), is(lessThan(48L)));
+	}
+
+	/**
+	 * Tests that an update applies many operations to a session at once, and
+	 * leaves the session unchanged when it throws.
+	 */
+	@Test
+	public void testUpdate() {
+		CalculatorStore store = new CalculatorStore();
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		CalculationResult result = new CalculationResult();
+
+		assertThat(store.update(3L, value -> {
+			calculator.setCurrentValue(value);
+			calculator.tryCalculate(5.0, '+', result);
+			calculator.tryCalculateAdvanced('2', result);
+			return calculator.getCurrentValue();
+		}), is(25.0));
+		assertThrows(IllegalStateException.class, () -> store.update(3L, value -> {
+			throw new IllegalStateException();
+		}));
+		assertThat(store.getCurrentValue(3L), is(25.0));
+		assertThat(store.size(), is(1L));
+	}
+
+	/**
+	 * Tests all of the invalid cases, which have to leave the session unchanged
+	 * and must not store a session that isn't stored yet.
+	 */
+	@Test
+	public void testInvalidCases() {
+		CalculatorStore store = new CalculatorStore();
+		store.setCurrentValue(1L, 11.0);
+
+		assertThrows(DivisionByZeroException.class, () -> store.calculate(1L, 0.0, '/'));
+		assertThrows(NotSupportedOperationException.class, () -> store.calculate(1L, 1.0, '^'));
+		assertThrows(NumberNotInAreaException.class, () -> store.calculateAdvanced(1L, '!'));
+		assertThrows(NotSupportedOperationException.class, () -> store.calculateAdvanced(2L, 'x'));
+		assertThrows(NumberNotInAreaException.class, () -> store.hasCharacteristic(2L, 'P'));
+		assertThrows(IllegalArgumentException.class, () -> new CalculatorStore(-1));
+		assertThat(store.getCurrentValue(1L), is(11.0));
+		assertThat(store.size(), is(1L));
+	}
+
+	/**
+	 * Tests that no operation is lost when many threads work on shared and on
+	 * their own sessions while the store grows.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentSessions() throws InterruptedException {
+		CalculatorStore store = new CalculatorStore();
+		List<Thread> threads = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			long offset = (t + 1) * 1_000_000L;
+			Thread thread = new Thread(() -> {
+				try {
+					for (int i = 0; i < 20_000; i++) {
+						store.calculate(i % 100, 1.0, '+');
+						store.calculate(offset + i, i, '+');
+					}
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.isEmpty(), is(true));
+		assertThat(store.size(), is(100L + THREADS * 20_000L));
+		for (long session = 0; session < 100; session++) {
+			assertThat(store.getCurrentValue(session), is(THREADS * 200.0));
+		}
+		for (int t = 0; t < THREADS; t++) {
+			for (int i = 0; i < 20_000; i++) {
+				assertThat(store.getCurrentValue((t + 1) * 1_000_000L + i), is((double) i));
+			}
+		}
+	}
+}
@@ -149,4 +149,117 @@ class CalculatorTest {
 		Exception e = assertThrows(DivisionByZeroException.class, () -> calculator.calculate(value, operator));
 		assertThat(e, is(instanceOf(DivisionByZeroException.class)));
 	}
+
+	/**
+	 * Tests the batch {@link Calculator#calculate(double[], char[])
+	 * calculate(double[], char[])} method against the stepwise
+	 * {@link Calculator#calculate(Double, char) calculate(Double, char)} method.
+	 * 
+	 * @throws DivisionByZeroException
+	 * @throws NotSupportedOperationException
+	 */
+	@Test
+	public void testBatchCalculate() throws DivisionByZeroException, NotSupportedOperationException {
+		double[] values = { 3.0, 1.07, 5.0, 2.0, -0.5 };
+		char[] operators = { '+', '*', '-', '/', '+' };
+
+		Calculator stepwise = new Calculator();
+		for (int i = 0; i < values.length; i++) {
+			stepwise.calculate(values[i], operators[i]);
+		}
+
+		assertThat(calculator.calculate(values, operators), is(Calculator.BATCH_OK));
+		assertThat(calculator.getCurrentValue(), is(stepwise.getCurrentValue()));
+	}
+
+	/**
+	 * Tests that the batch {@link Calculator#calculate(double[], char[])
+	 * calculate(double[], char[])} method reports the index of the first failing
+	 * element and keeps the value computed before it.
+	 */
+	@Test
+	public void testBatchCalculateInvalidCases() {
+		calculator.setCurrentValue(10.0);
+		assertThat(calculator.calculate(new double[] { 2.0, 0.0, 1.0 }, new char[] { '*', '/', '+' }), is(1));
+		assertThat(calculator.getCurrentValue(), is(20.0));
+
+		assertThat(calculator.calculate(new double[] { 1.0, 1.0 }, new char[] { '+', '^' }), is(1));
+		assertThat(calculator.getCurrentValue(), is(21.0));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> calculator.calculate(new double[] { 1.0 }, new char[] { '+', '+' }));
+	}
+
+	/**
+	 * Tests the batch {@link Calculator#calculate(double[], char)
+	 * calculate(double[], char)} method with a single operator.
+	 */
+	@Test
+	public void testBatchCalculateSingleOperator() {
+		calculator.setCurrentValue(100.0);
+		assertThat(calculator.calculate(new double[] { 2.0, 5.0 }, '/'), is(Calculator.BATCH_OK));
+		assertThat(calculator.getCurrentValue(), is(closeTo(10.0, DELTA)));
+
+		assertThat(calculator.calculate(new double[] { 2.0, -0.0, 5.0 }, '/'), is(1));
+		assertThat(calculator.getCurrentValue(), is(closeTo(5.0, DELTA)));
+
+		assertThat(calculator.calculate(new double[] { 2.0 }, '%'), is(0));
+		assertThat(calculator.getCurrentValue(), is(closeTo(5.0, DELTA)));
+	}
+
+	/**
+	 * Tests that the batch methods of a subclass that asks for it go through
+	 * {@link Calculator#tryCalculate(double, char, CalculationResult)
+	 * tryCalculate(double, char, CalculationResult)} for every element, and stop
+	 * at the same element as the fast path.
+	 */
+	@Test
+	public void testBatchCalculateStepwise() {
+		int[] steps = new int[1];
+		Calculator stepwise = new Calculator() {
+			@Override
+			public int tryCalculate(double value, char operator, CalculationResult result) {
+				steps[0]++;
+				return super.tryCalculate(value, operator, result);
+			}
+
+			@Override
+			protected boolean isBatchStepwise() {
+				return true;
+			}
+		};
+
+		assertThat(stepwise.calculate(new double[] { 3.0, 2.0, 1.0 }, new char[] { '+', '*', '-' }),
+				is(Calculator.BATCH_OK));
+		assertThat(stepwise.getCurrentValue(), is(5.0));
+		assertThat(stepwise.calculate(new double[] { 5.0, 0.0, 1.0 }, '/'), is(1));
+		assertThat(stepwise.getCurrentValue(), is(1.0));
+		assertThat(steps[0], is(5));
+		assertThrows(IllegalArgumentException.class,
+				() -> stepwise.calculate(new double[] { 1.0 }, new char[] { '+', '+' }));
+	}
+
+	/**
+	 * Tests the exception-free {@link Calculator#tryCalculate(double, char,
+	 * CalculationResult) tryCalculate(double, char, CalculationResult)} method.
+	 */
+	@Test
+	public void testTryCalculate() {
+		CalculationResult result = new CalculationResult();
+		calculator.setCurrentValue(6.0);
+
+		assertThat(calculator.tryCalculate(2.0, '*', result), is(CalculationResult.OK));
+		assertThat(calculator.getCurrentValue(), is(12.0));
+		assertThat(result.getMessage(), is(nullValue()));
+
+		assertThat(calculator.tryCalculate(0.0, '/', result), is(CalculationResult.DIVISION_BY_ZERO));
+		assertThat(calculator.getCurrentValue(), is(12.0));
+		assertThat(result.toException(), is(instanceOf(DivisionByZeroException.class)));
+
+		assertThat(calculator.tryCalculate(1.0, '^', result), is(CalculationResult.UNKNOWN_OPERATOR));
+		Exception e = result.toException();
+		assertThat(e, is(instanceOf(NotSupportedOperationException.class)));
+		assertThat(e.getMessage(), containsString("Operator"));
+		assertThat(e.getStackTrace().length, is(0));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link CompiledSequence} class by
+ * comparing it with stepwise calls on the {@link CalculatorAdvanced} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("CompiledSequence class test")
+class CompiledSequenceTest {
+
+	/**
+	 * Operators of the sequence used in tests.
+	 */
+	private static final char[] OPERATORS = { '+', '*', '-', '/', '2', '-', '/', '*' };
+
+	/**
+	 * Operands of the sequence used in tests.
+	 */
+	private static final double[] OPERANDS = { 3.0, 1.07, 5.0, 2.0, 0.0, 100.0, 7.0, -1.0 };
+
+	/**
+	 * Same sequence as {@link #OPERATORS} and {@link #OPERANDS}, written as text.
+	 */
+	private static final String SEQUENCE = "+3 *1.07 -5 /2 2 -100 /7 *-1";
+
+	/**
+	 * Helper method that evaluates the test sequence step by step.
+	 *
+	 * @param value is the starting value.
+	 * @return value after all of the steps.
+	 * @throws Exception
+	 */
+	private static double stepwise(double value) throws Exception {
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(value);
+		for (int i = 0; i < OPERATORS.length; i++) {
+			if (OPERATORS[i] == '2') {
+				calculator.calculateAdvanced(OPERATORS[i]);
+			} else {
+				calculator.calculate(OPERANDS[i], OPERATORS[i]);
+			}
+		}
+		return calculator.getCurrentValue();
+	}
+
+	/**
+	 * Tests that a sequence compiled without fusion gives bit-for-bit the same
+	 * results as stepwise calls.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCompileWithoutFusion() throws Exception {
+		CompiledSequence parsed = CompiledSequence.compile(SEQUENCE, false);
+		CompiledSequence compiled = CompiledSequence.compile(OPERATORS, OPERANDS, false);
+		Random random = new Random(42);
+
+		assertThat(compiled.size(), is(OPERATORS.length));
+		for (int i = 0; i < 10_000; i++) {
+			double value = (random.nextDouble() - 0.5) * 1.0e6;
+			long expected = Double.doubleToRawLongBits(stepwise(value));
+			assertThat(Double.doubleToRawLongBits(compiled.evaluate(value)), is(expected));
+			assertThat(Double.doubleToRawLongBits(parsed.applyAsDouble(value)), is(expected));
+		}
+	}
+
+	/**
+	 * Tests that fusion merges consecutive arithmetic steps and stays within
+	 * rounding error of stepwise calls.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCompileWithFusion() throws Exception {
+		CompiledSequence compiled = CompiledSequence.compile(SEQUENCE, true);
+		Random random = new Random(42);
+
+		assertThat(compiled.size(), is(3));
+		for (int i = 0; i < 10_000; i++) {
+			double value = (random.nextDouble() - 0.5) * 1.0e6;
+			double expected = stepwise(value);
+			assertThat(compiled.evaluate(value), is(closeTo(expected, Math.abs(expected) * 1.0e-14)));
+		}
+	}
+
+	/**
+	 * Tests that a compiled sequence can be used as an operator in streams.
+	 *
+	 * @param fuse denotes if consecutive arithmetic steps are fused.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testApplyInStream(boolean fuse) throws Exception {
+		CompiledSequence compiled = CompiledSequence.compile("*2 +1", fuse);
+		assertThat(DoubleStream.of(0.0, 1.0, 2.5).map(compiled).toArray(), is(new double[] { 1.0, 3.0, 6.0 }));
+		assertThat(CompiledSequence.compile("", fuse).applyAsDouble(-0.0), is(-0.0));
+		assertThat(CompiledSequence.compile("*-1", fuse).applyAsDouble(0.0), is(-0.0));
+	}
+
+	/**
+	 * Tests that evaluating a whole array gives bit-for-bit the same results as
+	 * evaluating every element on its own, and that elements failing a factorial
+	 * step keep their value from before that step.
+	 *
+	 * @param fuse denotes if consecutive arithmetic steps are fused.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testEvaluateArray(boolean fuse) throws Exception {
+		CompiledSequence compiled = CompiledSequence.compile(SEQUENCE, fuse);
+		Random random = new Random(42);
+		double[] values = new double[1_001];
+		double[] expected = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = (random.nextDouble() - 0.5) * 1.0e6;
+			expected[i] = compiled.evaluate(values[i]);
+		}
+
+		assertThat(compiled.evaluate(values, null), is(0));
+		for (int i = 0; i < values.length; i++) {
+			assertThat(Double.doubleToRawLongBits(values[i]), is(Double.doubleToRawLongBits(expected[i])));
+		}
+
+		CompiledSequence factorial = CompiledSequence.compile("+1 ! *2", fuse);
+		double[] starting = { 2.0, 11.0, -3.0, 0.5 };
+		boolean[] failed = new boolean[starting.length];
+		assertThat(factorial.evaluate(starting, failed), is(2));
+		assertThat(starting, is(new double[] { 12.0, 12.0, -2.0, 2.0 }));
+		assertThat(failed, is(new boolean[] { false, true, true, false }));
+	}
+
+	/**
+	 * Tests all of the invalid cases for the {@link CompiledSequence} class.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInvalidCases() throws Exception {
+		assertThrows(DivisionByZeroException.class, () -> CompiledSequence.compile("+1 /0", true));
+		assertThrows(NotSupportedOperationException.class, () -> CompiledSequence.compile("+1 ^2", false));
+		assertThrows(NotSupportedOperationException.class, () -> CompiledSequence.compile("A", false));
+		assertThrows(NumberFormatException.class, () -> CompiledSequence.compile("+1 *", false));
+
+		CompiledSequence factorial = CompiledSequence.compile("+10 !", false);
+		assertThat(factorial.evaluate(-5.0), is(120.0));
+		assertThrows(NumberNotInAreaException.class, () -> factorial.evaluate(1.0));
+		assertThrows(IllegalArgumentException.class, () -> factorial.applyAsDouble(1.0));
+	}
+}
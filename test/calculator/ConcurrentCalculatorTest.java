@@ -0,0 +1,170 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link ConcurrentCalculator}
+ * class, both with and without striped cells.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ConcurrentCalculator class test")
+class ConcurrentCalculatorTest {
+
+	/**
+	 * Number of threads used in concurrent tests.
+	 */
+	private static final int THREADS = 8;
+
+	/**
+	 * Number of operations performed by every thread in concurrent tests.
+	 */
+	private static final int OPERATIONS = 100_000;
+
+	/**
+	 * Tests that a single thread gets the same results as with the
+	 * {@link CalculatorAdvanced} class.
+	 *
+	 * @param striped denotes if the calculator uses striped cells.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testSequentialOperations(boolean striped) throws Exception {
+		ConcurrentCalculator calculator = new ConcurrentCalculator(striped);
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+
+		calculator.calculate(3.0, '+');
+		expected.calculate(3.0, '+');
+		calculator.calculate(1.5, '*');
+		expected.calculate(1.5, '*');
+		calculator.calculate(0.5, '-');
+		expected.calculate(0.5, '-');
+		calculator.calculateAdvanced('2');
+		expected.calculateAdvanced('2');
+		calculator.calculate(4.0, '/');
+		expected.calculate(4.0, '/');
+
+		assertThat(calculator.getCurrentValue(), is(expected.getCurrentValue()));
+		assertThat(calculator.hasCharacteristic('A'), is(expected.hasCharacteristic('A')));
+	}
+
+	/**
+	 * Tests that invalid operations throw the same exceptions as in the
+	 * {@link CalculatorAdvanced} class and leave the value unchanged.
+	 *
+	 * @param striped denotes if the calculator uses striped cells.
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testInvalidCases(boolean striped) {
+		ConcurrentCalculator calculator = new ConcurrentCalculator(striped);
+		calculator.setCurrentValue(11.0);
+
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(1.0, '^'));
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.hasCharacteristic('|'));
+		assertThat(calculator.getCurrentValue(), is(11.0));
+	}
+
+	/**
+	 * Tests that no addition or subtraction is lost when many threads share the
+	 * same calculator.
+	 *
+	 * @param striped denotes if the calculator uses striped cells.
+	 * @throws InterruptedException
+	 */
+	@ParameterizedTest
+	@ValueSource(booleans = { false, true })
+	public void testConcurrentAddition(boolean striped) throws InterruptedException {
+		ConcurrentCalculator calculator = new ConcurrentCalculator(striped);
+
+		runConcurrently(() -> {
+			for (int i = 0; i < OPERATIONS; i++) {
+				calculator.calculate(3.0, '+');
+				calculator.calculate(1.0, '-');
+			}
+		});
+
+		assertThat(calculator.getCurrentValue(), is(2.0 * THREADS * OPERATIONS));
+	}
+
+	/**
+	 * Tests that no multiplication is lost when it's mixed with additions from
+	 * other threads.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentMixedOperations() throws InterruptedException {
+		ConcurrentCalculator calculator = new ConcurrentCalculator(true);
+		calculator.setCurrentValue(1.0);
+
+		runConcurrently(() -> {
+			for (int i = 0; i < OPERATIONS; i++) {
+				calculator.calculate(1.0, '*');
+				calculator.calculate(1.0, '+');
+				calculator.calculate(1.0, '-');
+			}
+		});
+
+		assertThat(calculator.getCurrentValue(), is(1.0));
+	}
+
+	/**
+	 * Action performed by every thread in concurrent tests.
+	 */
+	@FunctionalInterface
+	private interface Action {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Helper method that runs an action on {@link #THREADS} threads and waits for
+	 * all of them to finish.
+	 *
+	 * @param action is the action performed by every thread.
+	 * @throws InterruptedException
+	 */
+	private static void runConcurrently(Action action) throws InterruptedException {
+		List<Thread> threads = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		for (int i = 0; i < THREADS; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					action.run();
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.isEmpty(), is(true));
+	}
+}
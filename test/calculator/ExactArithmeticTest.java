@@ -0,0 +1,127 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Testing class used to test the code in the {@link ExactArithmetic} class by
+ * comparing its results with the ones calculated by {@link BigInteger}.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ExactArithmetic class test")
+class ExactArithmeticTest {
+
+	/**
+	 * Method generates a stream of arguments (argument objects) for testing
+	 * {@link ExactArithmetic#power(long, int) power(long, int)} method with a
+	 * method {@link #testPower(long, int)}.
+	 *
+	 * @return {@link Stream} of {@link Arguments} objects.
+	 */
+	private static Stream<Arguments> powerParameters() {
+		return Stream.of(Arguments.of(0L, 0), Arguments.of(0L, 9), Arguments.of(-1L, 3), Arguments.of(-5L, 4),
+				Arguments.of(100_000L, 9), Arguments.of(3_037_000_499L, 2), Arguments.of(3_037_000_500L, 2),
+				Arguments.of(-2L, 63), Arguments.of(2L, 63), Arguments.of(Long.MIN_VALUE, 1),
+				Arguments.of(Long.MAX_VALUE, 9), Arguments.of(-7L, 45));
+	}
+
+	/**
+	 * Tests the {@link ExactArithmetic#power(long, int) power(long, int)},
+	 * {@link ExactArithmetic#powerAsDouble(long, int) powerAsDouble(long, int)}
+	 * and {@link ExactArithmetic#powerExact(long, int) powerExact(long, int)}
+	 * methods, parameterized to take parameters from {@link #powerParameters()}
+	 * method.
+	 *
+	 * @param base     is a number whose power is calculated.
+	 * @param exponent is the exponent of the power.
+	 */
+	@ParameterizedTest
+	@MethodSource("powerParameters")
+	public void testPower(long base, int exponent) {
+		BigInteger expected = BigInteger.valueOf(base).pow(exponent);
+
+		assertThat(ExactArithmetic.power(base, exponent), is(expected));
+		assertThat(ExactArithmetic.powerAsDouble(base, exponent), is(expected.doubleValue()));
+		if (expected.bitLength() < Long.SIZE) {
+			assertThat(ExactArithmetic.powerExact(base, exponent), is(expected.longValue()));
+		} else {
+			assertThrows(ArithmeticException.class, () -> ExactArithmetic.powerExact(base, exponent));
+		}
+	}
+
+	/**
+	 * Tests the {@link ExactArithmetic#factorial(int) factorial(int)} and
+	 * {@link ExactArithmetic#factorialExact(int) factorialExact(int)} methods.
+	 */
+	@Test
+	public void testFactorial() {
+		BigInteger expected = BigInteger.ONE;
+		for (int number = 0; number <= 300; number++) {
+			if (number > 0) {
+				expected = expected.multiply(BigInteger.valueOf(number));
+			}
+
+			assertThat(ExactArithmetic.factorial(number), is(expected));
+			if (number <= 20) {
+				assertThat(ExactArithmetic.factorialExact(number), is(expected.longValue()));
+			}
+		}
+		// Second call is served from the cache.
+		assertThat(ExactArithmetic.factorial(300), is(expected));
+	}
+
+	/**
+	 * Tests all of the invalid cases for the {@link ExactArithmetic} class.
+	 */
+	@Test
+	public void testInvalidCases() {
+		assertThrows(ArithmeticException.class, () -> ExactArithmetic.factorialExact(21));
+		assertThrows(ArithmeticException.class, () -> ExactArithmetic.factorialExact(-1));
+		assertThrows(ArithmeticException.class, () -> ExactArithmetic.factorial(-1));
+		assertThrows(ArithmeticException.class, () -> ExactArithmetic.factorial(ExactArithmetic.MAX_FACTORIAL + 1));
+		assertThrows(ArithmeticException.class, () -> ExactArithmetic.power(2L, -1));
+	}
+
+	/**
+	 * Tests that the cache of large factorials evicts the least recently used
+	 * ones once their bits exceed its limit, and never keeps a factorial larger
+	 * than the limit. Numbers above {@link ExactArithmetic#MAX_FACTORIAL} are
+	 * used, so that the cached numbers are never looked up.
+	 */
+	@Test
+	public void testFactorialCacheBits() {
+		int first = ExactArithmetic.MAX_FACTORIAL + 1;
+		BigInteger quarter = BigInteger.ONE.shiftLeft((int) (ExactArithmetic.FACTORIAL_CACHE_BITS / 4) - 1);
+		for (int i = 0; i < 4; i++) {
+			ExactArithmetic.FactorialCache.put(first + i, quarter);
+		}
+		assertThat(ExactArithmetic.FactorialCache.bits() <= ExactArithmetic.FACTORIAL_CACHE_BITS, is(true));
+		assertThat(ExactArithmetic.FactorialCache.get(first), is(quarter));
+
+		// First one has just been used, so the second one is evicted.
+		ExactArithmetic.FactorialCache.put(first + 4, quarter);
+		assertThat(ExactArithmetic.FactorialCache.get(first + 1), is(nullValue()));
+		assertThat(ExactArithmetic.FactorialCache.get(first), is(quarter));
+		assertThat(ExactArithmetic.FactorialCache.bits() <= ExactArithmetic.FACTORIAL_CACHE_BITS, is(true));
+
+		ExactArithmetic.FactorialCache.put(first + 5,
+				BigInteger.ONE.shiftLeft((int) ExactArithmetic.FACTORIAL_CACHE_BITS));
+		assertThat(ExactArithmetic.FactorialCache.get(first + 5), is(nullValue()));
+		assertThat(ExactArithmetic.factorial(ExactArithmetic.MAX_FACTORIAL).bitLength(), is(1_516_705));
+	}
+}
@@ -0,0 +1,133 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Testing class used to test the code in the {@link ExpressionCache} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ExpressionCache class test")
+class ExpressionCacheTest {
+
+	/**
+	 * Number of threads that use a cache at the same time.
+	 */
+	private static final int THREADS = 4;
+
+	/**
+	 * Tests that an expression is parsed once and then taken from the cache.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testHit() throws Exception {
+		ExpressionCache cache = new ExpressionCache(16);
+		Expression first = cache.get("(12.5 + 3) * 4 / 2 - 7!");
+		Expression second = cache.get(new String("(12.5 + 3) * 4 / 2 - 7!"));
+
+		assertThat(second, is(sameInstance(first)));
+		assertThat(cache.getHits(), is(1L));
+		assertThat(cache.getMisses(), is(1L));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.getHitRate(), is(0.5d));
+	}
+
+	/**
+	 * Tests that malformed expressions aren't stored and fail every time.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testErrorsNotCached() throws Exception {
+		ExpressionCache cache = new ExpressionCache(16);
+		assertThrows(NotSupportedOperationException.class, () -> cache.get("1 +"));
+		assertThrows(NotSupportedOperationException.class, () -> cache.get("1 +"));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getMisses(), is(2L));
+	}
+
+	/**
+	 * Tests that the cache never holds more than its capacity, and that the most
+	 * recently used of two colliding expressions is kept.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCapacity() throws Exception {
+		ExpressionCache cache = new ExpressionCache(2);
+		assertThat(cache.capacity(), is(2));
+
+		Expression a = cache.get("1 + x");
+		cache.get("2 + x");
+		cache.get("1 + x");
+		cache.get("3 + x");
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictions(), is(1L));
+		assertThat(cache.get("1 + x"), is(sameInstance(a)));
+
+		for (int i = 0; i < 1_000; i++) {
+			cache.get(i + " * x");
+		}
+		assertThat(cache.size(), is(2));
+		assertThat(cache.getEvictions(), is(1_000L + 1L));
+
+		cache.clear();
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getHits(), is(0L));
+		assertThrows(IllegalArgumentException.class, () -> new ExpressionCache(0));
+	}
+
+	/**
+	 * Tests that threads sharing a cache always get a right expression.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConcurrentUse() throws Exception {
+		ExpressionCache cache = new ExpressionCache(64);
+		List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			final int seed = t;
+			Thread thread = new Thread(() -> {
+				try {
+					for (int i = 0; i < 50_000; i++) {
+						int n = (i * 31 + seed) % 200;
+						double value = cache.get("x * " + n + " + 1").evaluate(2.0d);
+						if (value != 2.0d * n + 1.0d) {
+							failures.add(new AssertionError("Wrong value " + value + " for " + n));
+							return;
+						}
+					}
+				} catch (Exception e) {
+					failures.add(e);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.toString(), failures.isEmpty(), is(true));
+		assertThat(cache.getHits() + cache.getMisses(), is(THREADS * 50_000L));
+	}
+}
@@ -0,0 +1,198 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link Expression} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("Expression class test")
+class ExpressionTest {
+
+	/**
+	 * Tests precedence, associativity and parentheses.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPrecedence() throws Exception {
+		assertThat(evaluate("(12.5 + 3) * 4 / 2 - 7!"), is(31.0d - 5040.0d));
+		assertThat(evaluate("1 + 2 * 3"), is(7.0d));
+		assertThat(evaluate("(1 + 2) * 3"), is(9.0d));
+		assertThat(evaluate("10 - 4 - 3"), is(3.0d));
+		assertThat(evaluate("64 / 4 / 2"), is(8.0d));
+		assertThat(evaluate("2 ^ 3 ^ 2"), is(512.0d));
+		assertThat(evaluate("-2 ^ 2"), is(-4.0d));
+		assertThat(evaluate("3! ^ 2"), is(36.0d));
+		assertThat(evaluate("2 * -3"), is(-6.0d));
+		assertThat(evaluate("--3 + +.5"), is(3.5d));
+		assertThat(evaluate("3!!"), is(720.0d));
+		assertThat(evaluate("2.9 ^ 2"), is(4.0d));
+	}
+
+	/**
+	 * Tests that results are the same as the ones of a calculator driven step by
+	 * step.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testSameAsCalculator() throws Exception {
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(12.5d);
+		calculator.calculate(3.0d, '+');
+		calculator.calculate(1.07d, '*');
+		calculator.calculate(3.0d, '/');
+		calculator.calculateAdvanced('2');
+
+		assertThat(evaluate("((12.5 + 3) * 1.07 / 3) ^ 2"), is(calculator.getCurrentValue()));
+	}
+
+	/**
+	 * Tests the value of the calculator in an expression.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testVariable() throws Exception {
+		Expression expression = Expression.parse("x * x - 2 * x + 1");
+		assertThat(expression.isConstant(), is(false));
+		assertThat(expression.evaluate(3.0d), is(4.0d));
+		assertThat(expression.evaluate(-1.0d), is(4.0d));
+
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(4.0d);
+		calculator.evaluate(Expression.parse("(x + 1)!"));
+		assertThat(calculator.getCurrentValue(), is(120.0d));
+	}
+
+	/**
+	 * Tests that parts without the variable are calculated when parsing.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testConstantFolding() throws Exception {
+		Expression constant = Expression.parse("(12.5 + 3) * 4 / 2 - 7!");
+		assertThat(constant.isConstant(), is(true));
+		assertThat(constant.size(), is(1));
+
+		Expression partial = Expression.parse("x * (2 + 3) - 4!");
+		assertThat(partial.size(), is(5));
+		assertThat(partial.evaluate(2.0d), is(-14.0d));
+	}
+
+	/**
+	 * Tests that evaluation errors are thrown as the exceptions of the
+	 * calculator, also for parts that would be calculated when parsing, and that
+	 * they leave the calculator unchanged.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEvaluationErrors() throws Exception {
+		assertThrows(DivisionByZeroException.class, () -> evaluate("1 / (2 - 2)"));
+		assertThrows(DivisionByZeroException.class, () -> Expression.parse("1 / x").evaluate(0.0d));
+		assertThrows(NumberNotInAreaException.class, () -> evaluate("11!"));
+		assertThrows(NumberNotInAreaException.class, () -> evaluate("(0 - 1)!"));
+		assertThrows(NotSupportedOperationException.class, () -> evaluate("2 ^ 10"));
+		assertThrows(NotSupportedOperationException.class, () -> evaluate("2 ^ 0.5"));
+		assertThrows(NotSupportedOperationException.class, () -> evaluate("2 ^ -1"));
+
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		calculator.setCurrentValue(5.0d);
+		assertThrows(DivisionByZeroException.class, () -> calculator.evaluate(Expression.parse("x / (x - 5)")));
+		assertThat(calculator.getCurrentValue(), is(5.0d));
+	}
+
+	/**
+	 * Tests that malformed expressions are refused when parsed.
+	 *
+	 * @param text is a malformed expression.
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "", "  ", "1 +", "(1 + 2", "1 + 2)", "* 2", "1 % 2", "2 y", "1..2", ".", "()", "1 2",
+			"!3" })
+	public void testSyntaxErrors(String text) {
+		assertThrows(NotSupportedOperationException.class, () -> Expression.parse(text));
+	}
+
+	/**
+	 * Tests that syntax errors point at their position, and that long
+	 * expressions are quoted only around it.
+	 */
+	@Test
+	public void testSyntaxErrorMessages() {
+		assertThat(assertThrows(NotSupportedOperationException.class, () -> Expression.parse("1 2")).getMessage(),
+				is("Expression \"1 2\" isn't valid: missing operator at position 2."));
+		assertThat(assertThrows(NotSupportedOperationException.class, () -> Expression.parse("x (1)")).getMessage(),
+				is("Expression \"x (1)\" isn't valid: missing operator at position 2."));
+		assertThat(assertThrows(NotSupportedOperationException.class, () -> Expression.parse("1 % 2")).getMessage(),
+				is("Operator '%' isn't defined."));
+
+		String text = "1 + ".repeat(1_000) + "+ 2 * (3";
+		String message = assertThrows(NotSupportedOperationException.class, () -> Expression.parse(text))
+				.getMessage();
+		assertThat(message, is("Expression \"..." + text.substring(text.length() - Expression.MAX_QUOTED)
+				+ "\" isn't valid: missing ')' at position " + text.length() + "."));
+
+		String sum = "(1" + " + 2".repeat(1_000) + ")";
+		String rest = ")" + " * 3".repeat(1_000);
+		message = assertThrows(NotSupportedOperationException.class, () -> Expression.parse(sum + rest))
+				.getMessage();
+		assertThat(message, is("Expression \"..." + sum.substring(sum.length() - Expression.MAX_QUOTED / 2)
+				+ rest.substring(0, Expression.MAX_QUOTED / 2) + "...\" isn't valid: unmatched ')' at position "
+				+ sum.length() + "."));
+	}
+
+	/**
+	 * Tests that deep nesting is refused instead of overflowing the stack, and
+	 * that long chains are fine.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testNesting() throws Exception {
+		StringBuilder deep = new StringBuilder();
+		for (int i = 0; i < 100_000; i++) {
+			deep.append('(');
+		}
+		assertThrows(NotSupportedOperationException.class, () -> Expression.parse(deep.toString()));
+
+		StringBuilder allowed = new StringBuilder();
+		StringBuilder chain = new StringBuilder("x");
+		for (int i = 0; i < Expression.MAX_NESTING; i++) {
+			allowed.append('(');
+		}
+		allowed.append('x');
+		for (int i = 0; i < Expression.MAX_NESTING; i++) {
+			allowed.append(')');
+			chain.append(" + x");
+		}
+		assertThat(Expression.parse(allowed.toString()).evaluate(2.0d), is(2.0d));
+		assertThat(Expression.parse(chain.toString()).evaluate(2.0d), is(2.0d * (Expression.MAX_NESTING + 1)));
+	}
+
+	/**
+	 * Helper method that parses and evaluates an expression without the
+	 * variable.
+	 */
+	private static double evaluate(String text) throws Exception {
+		return Expression.parse(text).evaluate(0.0d);
+	}
+}
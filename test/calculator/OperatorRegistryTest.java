@@ -0,0 +1,221 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Testing class used to test the code in the {@link OperatorRegistry} class and
+ * its use by the {@link Calculator} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("OperatorRegistry class test")
+class OperatorRegistryTest {
+
+	/**
+	 * Number of threads that calculate while an operator is replaced.
+	 */
+	private static final int THREADS = 4;
+
+	/**
+	 * Remainder operator that refuses a zero divisor.
+	 */
+	private static final Operator MODULO = (currentValue, value) -> {
+		if (value == 0.0d) {
+			throw new DivisionByZeroException();
+		}
+		return currentValue % value;
+	};
+
+	/**
+	 * Greatest common divisor operator, defined only for whole numbers.
+	 */
+	private static final Operator GCD = (currentValue, value) -> {
+		if (currentValue != Math.rint(currentValue) || value != Math.rint(value)) {
+			throw new NotSupportedOperationException("Operator 'g' is defined only for whole numbers.");
+		}
+		long a = Math.abs((long) currentValue);
+		long b = Math.abs((long) value);
+		while (b != 0) {
+			long t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	};
+
+	private OperatorRegistry registry;
+	private Calculator calculator;
+
+	@BeforeEach
+	public void setUp() {
+		registry = new OperatorRegistry();
+		registry.register('%', MODULO);
+		registry.register('g', GCD);
+		calculator = new Calculator();
+		calculator.setOperatorRegistry(registry);
+	}
+
+	/**
+	 * Tests registered operators through the throwing method.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCalculate() throws Exception {
+		calculator.setCurrentValue(17.0d);
+		calculator.calculate(5.0d, '%');
+		assertThat(calculator.getCurrentValue(), is(2.0d));
+
+		calculator.setCurrentValue(84.0d);
+		calculator.calculate(36.0d, 'g');
+		assertThat(calculator.getCurrentValue(), is(12.0d));
+
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0d, '%'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(0.5d, 'g'));
+		assertThat(calculator.getCurrentValue(), is(12.0d));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(1.0d, '^'));
+	}
+
+	/**
+	 * Tests registered operators through the status code method.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testTryCalculate() throws Exception {
+		CalculationResult result = new CalculationResult();
+		calculator.setCurrentValue(17.0d);
+
+		assertThat(calculator.tryCalculate(5.0d, '%', result), is(CalculationResult.OK));
+		assertThat(result.getValue(), is(2.0d));
+		assertThat(calculator.tryCalculate(0.0d, '%', result), is(CalculationResult.DIVISION_BY_ZERO));
+		assertThat(calculator.tryCalculate(0.5d, 'g', result), is(CalculationResult.UNKNOWN_OPERATOR));
+		assertThat(calculator.tryCalculate(1.0d, '^', result), is(CalculationResult.UNKNOWN_OPERATOR));
+		assertThat(calculator.getCurrentValue(), is(2.0d));
+	}
+
+	/**
+	 * Tests registered operators mixed with the built-in ones in batches.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBatch() throws Exception {
+		calculator.setCurrentValue(10.0d);
+		assertThat(calculator.calculate(new double[] { 7.0d, 5.0d, 3.0d }, new char[] { '+', '%', '*' }),
+				is(Calculator.BATCH_OK));
+		assertThat(calculator.getCurrentValue(), is(6.0d));
+
+		assertThat(calculator.calculate(new double[] { 4.0d, 0.0d, 1.0d }, new char[] { '*', '%', '+' }), is(1));
+		assertThat(calculator.getCurrentValue(), is(24.0d));
+
+		calculator.setCurrentValue(1000.0d);
+		assertThat(calculator.calculate(new double[] { 600.0d, 150.0d, 0.5d }, 'g'), is(2));
+		assertThat(calculator.getCurrentValue(), is(50.0d));
+
+		assertThat(calculator.calculate(new double[] { 1.0d }, '^'), is(0));
+		assertThat(calculator.calculate(new double[0], '^'), is(Calculator.BATCH_OK));
+	}
+
+	/**
+	 * Tests replacing and removing an operator, which calculators see right
+	 * away.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReplaceAndUnregister() throws Exception {
+		assertThat(registry.register('%', Math::IEEEremainder), is(MODULO));
+		calculator.setCurrentValue(17.0d);
+		calculator.calculate(5.0d, '%');
+		assertThat(calculator.getCurrentValue(), is(2.0d));
+		calculator.setCurrentValue(18.0d);
+		calculator.calculate(5.0d, '%');
+		assertThat(calculator.getCurrentValue(), is(-2.0d));
+
+		assertThat(registry.unregister('g'), is(GCD));
+		assertThat(registry.unregister('g'), is(nullValue()));
+		assertThat(registry.get('g'), is(nullValue()));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(3.0d, 'g'));
+		assertThat(registry.symbols(), is(new char[] { '%' }));
+	}
+
+	/**
+	 * Tests that built-in and non-ASCII operators can't be registered.
+	 *
+	 * @param symbol is the character of the operator.
+	 */
+	@ParameterizedTest
+	@ValueSource(chars = { '+', '-', '*', '/', '÷', '−' })
+	public void testRegisterRejected(char symbol) {
+		assertThrows(IllegalArgumentException.class, () -> registry.register(symbol, MODULO));
+		assertThat(registry.get(symbol), is(nullValue()));
+	}
+
+	/**
+	 * Tests that a null operator can't be registered.
+	 */
+	@Test
+	public void testRegisterNull() {
+		assertThrows(IllegalArgumentException.class, () -> registry.register('^', null));
+	}
+
+	/**
+	 * Tests that calculators using a registry from many threads always see one of
+	 * the registered versions of an operator while it's replaced.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testReplaceWhileCalculating() throws Exception {
+		Operator first = (currentValue, value) -> 1.0d;
+		Operator second = (currentValue, value) -> 2.0d;
+		registry.register('^', first);
+		List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			Thread thread = new Thread(() -> {
+				Calculator own = new Calculator();
+				own.setOperatorRegistry(registry);
+				CalculationResult result = new CalculationResult();
+				for (int i = 0; i < 100_000; i++) {
+					if (own.tryCalculate(0.0d, '^', result) != CalculationResult.OK
+							|| (result.getValue() != 1.0d && result.getValue() != 2.0d)) {
+						failures.add(new AssertionError("Unexpected result " + result.getMessage()));
+						return;
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (int i = 0; i < 10_000; i++) {
+			registry.register('^', (i & 1) == 0 ? second : first);
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.toString(), failures.isEmpty(), is(true));
+	}
+}
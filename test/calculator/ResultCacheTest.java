@@ -0,0 +1,127 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testing class used to test the code in the {@link ResultCache} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("ResultCache class test")
+class ResultCacheTest {
+
+	/**
+	 * Number of threads used in concurrent tests.
+	 */
+	private static final int THREADS = 8;
+
+	/**
+	 * Tests the hit, miss and eviction counters, and that the cache never holds
+	 * more entries than its capacity.
+	 */
+	@Test
+	public void testCountersAndCapacity() {
+		ResultCache cache = new ResultCache(100);
+		assertThat(cache.capacity(), is(128));
+
+		assertThat(cache.hasCharacteristic(153L, 'A'), is(true));
+		assertThat(cache.hasCharacteristic(153L, 'A'), is(true));
+		assertThat(cache.hasCharacteristic(153L, 'P'), is(false));
+		assertThat(cache.calculateAdvanced(4L, '!'), is(24.0));
+		assertThat(cache.calculateAdvanced(4L, '!'), is(24.0));
+		assertThat(cache.getHits(), is(2L));
+		assertThat(cache.getMisses(), is(3L));
+		assertThat(cache.getHitRate(), is(0.4));
+		assertThat(cache.getEvictions(), is(0L));
+
+		for (long number = 1; number <= 1_000; number++) {
+			assertThat(cache.calculateAdvanced(number, '2'), is((double) number * number));
+		}
+		assertThat(cache.size(), is(128));
+		assertThat(cache.getEvictions(), is(1_003L - 128));
+
+		cache.clear();
+		assertThat(cache.size(), is(0));
+		assertThat(cache.getHits() + cache.getMisses() + cache.getEvictions(), is(0L));
+		assertThrows(IllegalArgumentException.class, () -> new ResultCache(0));
+	}
+
+	/**
+	 * Tests that entries that have been read since they were stored survive the
+	 * eviction of entries that have been seen only once.
+	 */
+	@Test
+	public void testReferencedEntriesSurviveScan() {
+		ResultCache cache = new ResultCache(ResultCache.WAYS);
+
+		for (long number = 1; number <= 4; number++) {
+			cache.calculateAdvanced(number, '3');
+			cache.calculateAdvanced(number, '3');
+		}
+		for (long number = 5; number <= 8; number++) {
+			cache.calculateAdvanced(number, '3');
+		}
+		for (long number = 1_000; number < 1_004; number++) {
+			cache.calculateAdvanced(number, '3');
+		}
+		assertThat(cache.getEvictions(), is(4L));
+
+		long hits = cache.getHits();
+		for (long number = 1; number <= 4; number++) {
+			assertThat(cache.calculateAdvanced(number, '3'), is((double) number * number * number));
+		}
+		assertThat(cache.getHits(), is(hits + 4));
+	}
+
+	/**
+	 * Tests that threads sharing a small cache always get the right results
+	 * while entries are evicted.
+	 *
+	 * @throws InterruptedException
+	 */
+	@Test
+	public void testConcurrentLookups() throws InterruptedException {
+		ResultCache cache = new ResultCache(64);
+		List<Thread> threads = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			int seed = t;
+			Thread thread = new Thread(() -> {
+				try {
+					for (int i = 0; i < 50_000; i++) {
+						long number = 1 + (i * 31 + seed) % 500;
+						if (cache.calculateAdvanced(number, '2') != (double) number * number
+								|| cache.hasCharacteristic(number, 'A') != CalculatorAdvanced.isArmstrongNumber(number)) {
+							throw new AssertionError("Wrong result for " + number + ".");
+						}
+					}
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.isEmpty(), is(true));
+		assertThat(cache.getHits() + cache.getMisses(), is(THREADS * 100_000L));
+		assertThat(cache.size(), is(64));
+	}
+}
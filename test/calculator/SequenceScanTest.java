@@ -0,0 +1,142 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+
+/**
+ * Testing class used to test the code in the {@link SequenceScan} class by
+ * comparing it with stepwise calls on the {@link Calculator} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("SequenceScan class test")
+class SequenceScanTest {
+
+	/**
+	 * Number of steps used in tests, enough for many blocks.
+	 */
+	private static final int SIZE = 200_003;
+
+	/**
+	 * Operators used in random sequences.
+	 */
+	private static final char[] OPERATORS = { '+', '-', '*', '/' };
+
+	/**
+	 * Helper method that generates a random sequence whose values stay in range.
+	 *
+	 * @param random      is the source of randomness.
+	 * @param operators   receive the operators.
+	 * @param operands    receive the operands.
+	 * @param integerOnly denotes if only addition and subtraction of integers are
+	 *                    used, whose results are exact.
+	 */
+	private static void generate(Random random, char[] operators, double[] operands, boolean integerOnly) {
+		for (int i = 0; i < operators.length; i++) {
+			operators[i] = OPERATORS[random.nextInt(integerOnly ? 2 : 4)];
+			operands[i] = integerOnly ? random.nextInt(1000)
+					: operators[i] == '*' || operators[i] == '/' ? 1.0 + random.nextDouble() / 1000
+							: random.nextDouble() * 100;
+		}
+	}
+
+	/**
+	 * Tests that strict evaluation gives bit-for-bit the same values as stepwise
+	 * calls, and that parallel evaluation stays within rounding error of them.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testEvaluate() throws Exception {
+		char[] operators = new char[SIZE];
+		double[] operands = new double[SIZE];
+		generate(new Random(42), operators, operands, false);
+		SequenceScan scan = SequenceScan.of(operators, operands);
+
+		Calculator calculator = new Calculator();
+		calculator.setCurrentValue(10.0);
+		double[] expected = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			calculator.calculate(operands[i], operators[i]);
+			expected[i] = calculator.getCurrentValue();
+		}
+
+		double[] strict = scan.evaluateStrict(10.0);
+		assertThat(SequenceScan.compare(expected, strict).getFirstIndex(), is(-1));
+
+		double[] parallel = scan.evaluate(10.0);
+		assertThat(SequenceScan.compare(expected, parallel).getFirstIndex(), is(greaterThanOrEqualTo(4096)));
+		for (int i = 0; i < SIZE; i++) {
+			// Values cross zero, so the error is measured against the operands.
+			assertThat(Math.abs(parallel[i] - expected[i]), is(lessThan(1.0e-9)));
+		}
+	}
+
+	/**
+	 * Tests that parallel evaluation is exact when every intermediate value is
+	 * exactly representable.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testExactSequence() throws Exception {
+		char[] operators = new char[SIZE];
+		double[] operands = new double[SIZE];
+		generate(new Random(7), operators, operands, true);
+		SequenceScan scan = SequenceScan.of(operators, operands);
+
+		SequenceScan.Divergence divergence = SequenceScan.compare(scan.evaluateStrict(-3.0), scan.evaluate(-3.0));
+		assertThat(divergence.getCount(), is(0L));
+		assertThat(divergence.toString(), is("no divergence"));
+	}
+
+	/**
+	 * Tests that divergence is reported at the right place.
+	 */
+	@Test
+	public void testCompare() {
+		double[] expected = { 1.0, 2.0, 3.0, 4.0, Double.NaN };
+		double[] actual = { 1.0, 2.0, Math.nextUp(3.0), 4.0 + 4 * Math.ulp(4.0), Double.NaN };
+		SequenceScan.Divergence divergence = SequenceScan.compare(expected, actual);
+
+		assertThat(divergence.getFirstIndex(), is(2));
+		assertThat(divergence.getCount(), is(2L));
+		assertThat(divergence.getMaxUlps(), is(4.0));
+		assertThat(divergence.getMaxIndex(), is(3));
+		actual[0] = Double.POSITIVE_INFINITY;
+		assertThat(SequenceScan.compare(expected, actual).getMaxUlps(), is(Double.POSITIVE_INFINITY));
+	}
+
+	/**
+	 * Tests all of the invalid cases for the {@link SequenceScan} class.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInvalidCases() throws Exception {
+		assertThrows(DivisionByZeroException.class,
+				() -> SequenceScan.of(new char[] { '+', '/' }, new double[] { 1.0, 0.0 }));
+		assertThrows(NotSupportedOperationException.class,
+				() -> SequenceScan.of(new char[] { '+', '!' }, new double[] { 1.0, 1.0 }));
+		assertThrows(IllegalArgumentException.class, () -> SequenceScan.of(new char[] { '+' }, new double[2]));
+
+		SequenceScan scan = SequenceScan.of(new char[] { '+' }, new double[] { 1.0 });
+		assertThrows(IllegalArgumentException.class, () -> scan.evaluate(0.0, new double[2]));
+		assertThrows(IllegalArgumentException.class, () -> SequenceScan.compare(new double[1], new double[2]));
+		assertThat(scan.evaluate(0.5), is(new double[] { 1.5 }));
+	}
+}
@@ -0,0 +1,275 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link SharedCalculatorFile}
+ * class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("SharedCalculatorFile class test")
+class SharedCalculatorFileTest {
+
+	/**
+	 * Number of threads used in concurrent tests.
+	 */
+	private static final int THREADS = 8;
+
+	/**
+	 * Number of operations performed by every thread in concurrent tests.
+	 */
+	private static final int OPERATIONS = 100_000;
+
+	/**
+	 * Tests that operations get the same results as with the
+	 * {@link CalculatorAdvanced} class, that invalid operations leave the value
+	 * unchanged, and that the values are seen through another mapping of the
+	 * same file.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testOperations(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("calculators");
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 4);
+				SharedCalculatorFile other = SharedCalculatorFile.open(path, 4)) {
+			assertThat(file.isRecovered(), is(false));
+			assertThat(file.getCurrentValue(3), is(0.0d));
+
+			file.calculate(1, 3.0d, '+');
+			expected.calculate(3.0d, '+');
+			other.calculate(1, 1.5d, '*');
+			expected.calculate(1.5d, '*');
+			file.calculateAdvanced(1, '2');
+			expected.calculateAdvanced('2');
+			other.calculate(1, 4.0d, '/');
+			expected.calculate(4.0d, '/');
+			assertThat(other.getCurrentValue(1), is(expected.getCurrentValue()));
+			assertThat(file.hasCharacteristic(1, 'A'), is(expected.hasCharacteristic('A')));
+			assertThat(file.getCurrentValue(0), is(0.0d));
+
+			other.setCurrentValue(2, 11.0d);
+			assertThrows(DivisionByZeroException.class, () -> file.calculate(2, 0.0d, '/'));
+			assertThrows(NotSupportedOperationException.class, () -> file.calculate(2, 1.0d, '^'));
+			assertThrows(NumberNotInAreaException.class, () -> file.calculateAdvanced(2, '!'));
+			assertThrows(NotSupportedOperationException.class, () -> file.hasCharacteristic(2, '|'));
+			assertThat(file.update(2, value -> value * 2.0d), is(22.0d));
+			assertThat(other.getCurrentValue(2), is(22.0d));
+			assertThrows(IndexOutOfBoundsException.class, () -> file.getCurrentValue(4));
+		}
+
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 4)) {
+			assertThat(file.getCurrentValue(1), is(expected.getCurrentValue()));
+		}
+	}
+
+	/**
+	 * Tests that no operation is lost when many threads update the same
+	 * calculator, each through a mapping of its own.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testConcurrentUpdates(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("calculators");
+		List<Thread> threads = new ArrayList<>();
+		List<Throwable> failures = new ArrayList<>();
+
+		for (int i = 0; i < THREADS; i++) {
+			Thread thread = new Thread(() -> {
+				try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 1)) {
+					for (int j = 0; j < OPERATIONS; j++) {
+						file.calculate(0, 3.0d, '+');
+						file.calculate(0, 1.0d, '-');
+					}
+				} catch (Throwable e) {
+					synchronized (failures) {
+						failures.add(e);
+					}
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failures.isEmpty(), is(true));
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 1)) {
+			assertThat(file.getCurrentValue(0), is(2.0d * THREADS * OPERATIONS));
+		}
+	}
+
+	/**
+	 * Tests that no addition is lost when separate processes add to the same
+	 * calculator at the same time.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testConcurrentProcesses(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("calculators");
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		List<Process> processes = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+					SharedCalculatorFile.class.getName(), path.toString(), "0.5", "3").redirectErrorStream(true)
+							.start());
+		}
+
+		long additions = 0;
+		for (Process process : processes) {
+			try (BufferedReader reader = new BufferedReader(
+					new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+				String line = reader.readLine();
+				assertThat(process.waitFor(), is(0));
+				additions += Long.parseLong(line.substring(0, line.indexOf(' ')));
+			}
+		}
+
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 64)) {
+			assertThat(file.getCurrentValue(3), is((double) additions));
+		}
+	}
+
+	/**
+	 * Tests that a file left unfinished by a crashed process is initialized
+	 * again.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRecovery(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("calculators");
+		writeHeader(path, SharedCalculatorFile.MAGIC, SharedCalculatorFile.LAYOUT_VERSION,
+				SharedCalculatorFile.STATE_INITIALIZING, 2);
+
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 2)) {
+			assertThat(file.isRecovered(), is(true));
+			assertThat(file.getCurrentValue(0), is(0.0d));
+			assertThat(file.getCurrentValue(1), is(0.0d));
+			file.setCurrentValue(1, 5.0d);
+		}
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 2)) {
+			assertThat(file.isRecovered(), is(false));
+			assertThat(file.getCurrentValue(1), is(5.0d));
+		}
+	}
+
+	/**
+	 * Tests that files of another layout, or with another number of slots, are
+	 * rejected, and that a closed file can't be used.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testInvalidFiles(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("calculators");
+		writeHeader(path, SharedCalculatorFile.MAGIC, SharedCalculatorFile.LAYOUT_VERSION + 1,
+				SharedCalculatorFile.STATE_READY, 2);
+		assertThrows(IOException.class, () -> SharedCalculatorFile.open(path, 2));
+		writeHeader(path, 0x12345678, SharedCalculatorFile.LAYOUT_VERSION, SharedCalculatorFile.STATE_READY, 2);
+		assertThrows(IOException.class, () -> SharedCalculatorFile.open(path, 2));
+		writeHeader(path, SharedCalculatorFile.MAGIC, SharedCalculatorFile.LAYOUT_VERSION,
+				SharedCalculatorFile.STATE_READY, 2);
+		assertThrows(IllegalArgumentException.class, () -> SharedCalculatorFile.open(path, 3));
+		assertThrows(IllegalArgumentException.class, () -> SharedCalculatorFile.open(path, 0));
+
+		SharedCalculatorFile file = SharedCalculatorFile.open(path, 2);
+		file.close();
+		assertThrows(IllegalStateException.class, () -> file.getCurrentValue(0));
+	}
+
+	/**
+	 * Tests that files of another kind are rejected and left unchanged, whatever
+	 * their length.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testForeignFiles(@TempDir Path directory) throws Exception {
+		Path path = directory.resolve("notes.txt");
+		byte[] text = "Shopping list: milk, eggs, bread, coffee, apples, rice, beans, cheese, butter, honey.\n"
+				.getBytes(StandardCharsets.UTF_8);
+		Files.write(path, text);
+		assertThrows(IOException.class, () -> SharedCalculatorFile.open(path, 4));
+		assertThat(Files.readAllBytes(path), is(text));
+
+		byte[] shortText = "milk\n".getBytes(StandardCharsets.UTF_8);
+		Files.write(path, shortText);
+		assertThrows(IOException.class, () -> SharedCalculatorFile.open(path, 4));
+		assertThat(Files.readAllBytes(path), is(shortText));
+
+		writeHeader(path, SharedCalculatorFile.MAGIC, SharedCalculatorFile.LAYOUT_VERSION, 7, 2);
+		assertThrows(IOException.class, () -> SharedCalculatorFile.open(path, 2));
+
+		Files.write(path, new byte[0]);
+		try (SharedCalculatorFile file = SharedCalculatorFile.open(path, 4)) {
+			assertThat(file.isRecovered(), is(false));
+			assertThat(file.getCurrentValue(3), is(0.0d));
+		}
+	}
+
+	/**
+	 * Helper method that writes a file with a header and two slots with garbage
+	 * values.
+	 *
+	 * @param path    is the path of the file.
+	 * @param magic   is the magic number.
+	 * @param version is the layout version.
+	 * @param state   is the state of the file.
+	 * @param slots   is the number of slots.
+	 * @throws IOException
+	 */
+	private static void writeHeader(Path path, int magic, int version, int state, int slots) throws IOException {
+		ByteBuffer buffer = ByteBuffer
+				.allocate(SharedCalculatorFile.HEADER_SIZE + slots * SharedCalculatorFile.SLOT_SIZE)
+				.order(ByteOrder.nativeOrder());
+		buffer.putInt(0, magic).putInt(4, version).putInt(8, state).putInt(12, slots).putInt(16,
+				SharedCalculatorFile.SLOT_SIZE);
+		for (int i = 0; i < slots; i++) {
+			buffer.putDouble(SharedCalculatorFile.HEADER_SIZE + i * SharedCalculatorFile.SLOT_SIZE, 42.0d);
+		}
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			channel.write(buffer);
+		}
+	}
+}
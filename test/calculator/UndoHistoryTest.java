@@ -0,0 +1,156 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testing class used to test the code in the {@link UndoHistory} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("UndoHistory class test")
+class UndoHistoryTest {
+
+	/**
+	 * Tests undoing and redoing within the depth of the history.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUndoRedo() throws Exception {
+		UndoHistory history = new UndoHistory(8, 0.0d);
+		for (int i = 1; i <= 5; i++) {
+			history.record(i);
+		}
+
+		assertThat(history.undoSteps(), is(5));
+		assertThat(history.undo(), is(4.0d));
+		assertThat(history.undo(), is(3.0d));
+		assertThat(history.redoSteps(), is(2));
+		assertThat(history.redo(), is(4.0d));
+		assertThat(history.getCurrentValue(), is(4.0d));
+
+		for (int i = 0; i < 4; i++) {
+			history.undo();
+		}
+		assertThat(history.getCurrentValue(), is(0.0d));
+		assertThrows(IllegalStateException.class, history::undo);
+	}
+
+	/**
+	 * Tests that a value recorded after an undo drops the values that could have
+	 * been redone.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testRecordDropsRedo() throws Exception {
+		UndoHistory history = new UndoHistory(8, 0.0d);
+		history.record(1.0d);
+		history.record(2.0d);
+		history.undo();
+		history.record(5.0d);
+
+		assertThat(history.redoSteps(), is(0));
+		assertThrows(IllegalStateException.class, history::redo);
+		assertThat(history.undo(), is(1.0d));
+		assertThat(history.redo(), is(5.0d));
+	}
+
+	/**
+	 * Tests that a full history drops its oldest values, also after the ring has
+	 * wrapped many times.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDepth() throws Exception {
+		UndoHistory history = new UndoHistory(3, 0.0d);
+		for (int i = 1; i <= 1_000; i++) {
+			history.record(i);
+		}
+
+		assertThat(history.getDepth(), is(3));
+		assertThat(history.undoSteps(), is(3));
+		assertThat(history.undo(), is(999.0d));
+		assertThat(history.undo(), is(998.0d));
+		assertThat(history.undo(), is(997.0d));
+		assertThrows(IllegalStateException.class, history::undo);
+		assertThat(history.redoSteps(), is(3));
+	}
+
+	/**
+	 * Tests going back to checkpoints, and checkpoints that are dropped with
+	 * their values.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCheckpoints() throws Exception {
+		UndoHistory history = new UndoHistory(100, 2, 0.0d);
+		assertThat(history.hasCheckpoint(), is(false));
+
+		history.checkpoint();
+		for (int i = 1; i <= 10; i++) {
+			history.record(i);
+		}
+		history.checkpoint();
+		for (int i = 11; i <= 20; i++) {
+			history.record(i);
+		}
+
+		assertThat(history.undoToCheckpoint(), is(10.0d));
+		assertThat(history.undoToCheckpoint(), is(0.0d));
+		assertThat(history.hasCheckpoint(), is(false));
+		assertThrows(IllegalStateException.class, history::undoToCheckpoint);
+		assertThat(history.redoSteps(), is(20));
+
+		// Values after the checkpoint of 0 are gone, and so is the checkpoint of 10.
+		history.redo();
+		history.record(-1.0d);
+		assertThat(history.undoToCheckpoint(), is(0.0d));
+
+		// A third checkpoint drops the oldest one.
+		history.clear(0.0d);
+		for (int i = 1; i <= 3; i++) {
+			history.checkpoint();
+			history.record(i);
+		}
+		assertThat(history.undoToCheckpoint(), is(2.0d));
+		assertThat(history.undoToCheckpoint(), is(1.0d));
+		assertThat(history.hasCheckpoint(), is(false));
+	}
+
+	/**
+	 * Tests that a checkpoint on a value pushed out of the history can't be
+	 * used.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCheckpointOutOfDepth() throws Exception {
+		UndoHistory history = new UndoHistory(4, 0.0d);
+		history.checkpoint();
+		for (int i = 1; i <= 5; i++) {
+			history.record(i);
+		}
+		assertThat(history.hasCheckpoint(), is(false));
+	}
+
+	/**
+	 * Tests that invalid sizes are refused.
+	 */
+	@Test
+	public void testInvalidSizes() {
+		assertThrows(IllegalArgumentException.class, () -> new UndoHistory(0, 0.0d));
+		assertThrows(IllegalArgumentException.class, () -> new UndoHistory(Integer.MAX_VALUE, 0.0d));
+		assertThrows(IllegalArgumentException.class, () -> new UndoHistory(1, 0, 0.0d));
+	}
+}
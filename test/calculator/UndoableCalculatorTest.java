@@ -0,0 +1,136 @@
+package calculator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link UndoableCalculator} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("UndoableCalculator class test")
+class UndoableCalculatorTest {
+
+	private UndoableCalculator calculator;
+
+	@BeforeEach
+	public void setUp() {
+		calculator = new UndoableCalculator(16);
+	}
+
+	/**
+	 * Tests undoing and redoing every kind of operation.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUndoRedo() throws Exception {
+		calculator.setCurrentValue(2.0d);
+		calculator.calculate(3.0d, '+');
+		calculator.tryCalculate(4.0d, '*', new CalculationResult());
+		calculator.setCurrentValue(3.0d);
+		calculator.calculateAdvanced('!');
+		assertThat(calculator.calculateAdvancedExact('2'), is(BigInteger.valueOf(36L)));
+		calculator.tryCalculateAdvanced('0', new CalculationResult());
+
+		double[] expected = { 0.0d, 2.0d, 5.0d, 20.0d, 3.0d, 6.0d, 36.0d, 1.0d };
+		for (int i = expected.length - 2; i >= 0; i--) {
+			assertThat(calculator.undo(), is(true));
+			assertThat(calculator.getCurrentValue(), is(expected[i]));
+		}
+		assertThat(calculator.undo(), is(false));
+		for (int i = 1; i < expected.length; i++) {
+			assertThat(calculator.redo(), is(true));
+			assertThat(calculator.getCurrentValue(), is(expected[i]));
+		}
+		assertThat(calculator.redo(), is(false));
+	}
+
+	/**
+	 * Tests that failed operations aren't steps.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testFailuresNotRecorded() throws Exception {
+		CalculationResult result = new CalculationResult();
+		calculator.setCurrentValue(20.0d);
+
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0d, '/'));
+		assertThat(calculator.tryCalculate(0.0d, '/', result), is(CalculationResult.DIVISION_BY_ZERO));
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+		assertThat(calculator.tryCalculateAdvanced('x', result), is(CalculationResult.UNKNOWN_ACTION));
+
+		assertThat(calculator.getHistory().undoSteps(), is(1));
+	}
+
+	/**
+	 * Tests that every operation of a batch is a step, up to the one that fails.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testBatch() throws Exception {
+		calculator.setCurrentValue(1.0d);
+		assertThat(calculator.calculate(new double[] { 1.0d, 2.0d, 0.0d, 1.0d }, new char[] { '+', '*', '/', '-' }),
+				is(2));
+		assertThat(calculator.calculate(new double[] { 1.0d, 1.0d }, '+'), is(Calculator.BATCH_OK));
+
+		assertThat(calculator.getCurrentValue(), is(6.0d));
+		assertThat(calculator.getHistory().undoSteps(), is(5));
+		calculator.undo();
+		calculator.undo();
+		assertThat(calculator.getCurrentValue(), is(4.0d));
+	}
+
+	/**
+	 * Tests going back to a checkpoint and redoing from it.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCheckpoint() throws Exception {
+		assertThat(calculator.undoToCheckpoint(), is(false));
+		calculator.setCurrentValue(10.0d);
+		calculator.checkpoint();
+		for (int i = 0; i < 10; i++) {
+			calculator.calculate(1.0d, '+');
+		}
+
+		assertThat(calculator.undoToCheckpoint(), is(true));
+		assertThat(calculator.getCurrentValue(), is(10.0d));
+		assertThat(calculator.redo(), is(true));
+		assertThat(calculator.getCurrentValue(), is(11.0d));
+	}
+
+	/**
+	 * Tests that the depth limits the steps that can be undone.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testDepth() throws Exception {
+		calculator = new UndoableCalculator(2);
+		for (int i = 0; i < 5; i++) {
+			calculator.calculate(1.0d, '+');
+		}
+
+		assertThat(calculator.undo(), is(true));
+		assertThat(calculator.undo(), is(true));
+		assertThat(calculator.undo(), is(false));
+		assertThat(calculator.getCurrentValue(), is(3.0d));
+	}
+}
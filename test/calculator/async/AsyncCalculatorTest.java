@@ -0,0 +1,165 @@
+package calculator.async;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link AsyncCalculator} class with
+ * every {@link WaitStrategy}, by comparing the results with plain
+ * {@link CalculatorAdvanced} objects.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("AsyncCalculator class test")
+class AsyncCalculatorTest {
+
+	/**
+	 * Number of threads used in concurrent tests.
+	 */
+	private static final int THREADS = 4;
+
+	/**
+	 * Tests that operations are applied in the order they've been submitted in,
+	 * and that their futures get the same results and exceptions as a plain
+	 * calculator.
+	 *
+	 * @param strategy is the wait strategy of the consumers.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@EnumSource(WaitStrategy.class)
+	public void testOperationsInOrder(WaitStrategy strategy) throws Exception {
+		try (AsyncCalculator async = new AsyncCalculator(4, 2, 8, strategy)) {
+			CalculatorAdvanced expected = new CalculatorAdvanced();
+			List<CompletableFuture<Double>> futures = new ArrayList<>();
+			List<Double> values = new ArrayList<>();
+
+			for (int i = 1; i <= 100; i++) {
+				char operator = "+-*/".charAt(i % 4);
+				futures.add(async.calculate(3, i, operator));
+				expected.calculate((double) i, operator);
+				values.add(expected.getCurrentValue());
+			}
+			for (int i = 0; i < futures.size(); i++) {
+				assertThat(futures.get(i).get(), is(values.get(i)));
+			}
+
+			async.setCurrentValue(1, 153.0);
+			assertThat(async.hasCharacteristic(1, 'A').get(), is(true));
+			assertThat(async.calculateAdvanced(1, '2').get(), is(23_409.0));
+			assertThat(cause(async.calculate(1, 0.0, '/')), instanceOf(DivisionByZeroException.class));
+			assertThat(cause(async.calculate(1, 1.0, '%')), instanceOf(NotSupportedOperationException.class));
+			assertThat(cause(async.calculateAdvanced(1, '!')), instanceOf(NumberNotInAreaException.class));
+			assertThat(cause(async.hasCharacteristic(0, 'P')), instanceOf(NumberNotInAreaException.class));
+			assertThat(async.getCurrentValue(1).get(), is(23_409.0));
+			assertThat(async.getCurrentValue(2).get(), is(0.0));
+		}
+	}
+
+	/**
+	 * Tests that no operation is lost when many threads submit to the same
+	 * calculators through small rings, and that every thread sees its own
+	 * operations applied in order.
+	 *
+	 * @param strategy is the wait strategy of the consumers.
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@EnumSource(WaitStrategy.class)
+	public void testConcurrentProducers(WaitStrategy strategy) throws Exception {
+		try (AsyncCalculator async = new AsyncCalculator(THREADS + 2, 2, 16, strategy)) {
+			List<Thread> threads = new ArrayList<>();
+			List<Throwable> failures = new ArrayList<>();
+
+			for (int t = 0; t < THREADS; t++) {
+				int own = t;
+				Thread thread = new Thread(() -> {
+					try {
+						CompletableFuture<Double> last = null;
+						for (int i = 0; i < 20_000; i++) {
+							async.calculate(THREADS + i % 2, 1.0, '+');
+							CompletableFuture<Double> future = async.calculate(own, 1.0, '+');
+							if (last != null && future.get() != last.get() + 1.0) {
+								throw new AssertionError("Operations applied out of order.");
+							}
+							last = future;
+						}
+					} catch (Throwable e) {
+						synchronized (failures) {
+							failures.add(e);
+						}
+					}
+				});
+				threads.add(thread);
+				thread.start();
+			}
+			for (Thread thread : threads) {
+				thread.join();
+			}
+
+			assertThat(failures.isEmpty(), is(true));
+			assertThat(async.getCurrentValue(THREADS).get() + async.getCurrentValue(THREADS + 1).get(),
+					is(THREADS * 20_000.0));
+			for (int t = 0; t < THREADS; t++) {
+				assertThat(async.getCurrentValue(t).get(), is(20_000.0));
+			}
+		}
+	}
+
+	/**
+	 * Tests that operations submitted before closing are applied, and that no
+	 * operation is accepted after, along with the invalid arguments.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testCloseAndInvalidArguments() throws Exception {
+		AsyncCalculator async = new AsyncCalculator(2, 1, 1 << 10, WaitStrategy.BLOCKING);
+		List<CompletableFuture<Double>> futures = new ArrayList<>();
+		for (int i = 0; i < 1_000; i++) {
+			futures.add(async.calculate(0, 1.0, '+'));
+		}
+		async.close();
+
+		for (CompletableFuture<Double> future : futures) {
+			assertThat(future.isDone(), is(true));
+		}
+		assertThat(futures.get(999).get(), is(1_000.0));
+		assertThrows(IllegalStateException.class, () -> async.calculate(0, 1.0, '+'));
+		try (AsyncCalculator other = new AsyncCalculator(2)) {
+			assertThrows(IndexOutOfBoundsException.class, () -> other.calculate(2, 1.0, '+'));
+		}
+		assertThrows(IllegalArgumentException.class, () -> new AsyncCalculator(2, 3, 8, WaitStrategy.YIELDING));
+		assertThrows(IllegalArgumentException.class, () -> new AsyncCalculator(2, 1, 6, WaitStrategy.YIELDING));
+	}
+
+	/**
+	 * Helper method that waits for a future that is expected to fail.
+	 *
+	 * @param future is the future.
+	 * @return exception the future has failed with.
+	 */
+	private static Throwable cause(CompletableFuture<?> future) {
+		return assertThrows(ExecutionException.class, future::get).getCause();
+	}
+}
@@ -0,0 +1,122 @@
+package calculator.cli;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testing class used to test the code in the {@link CommandLineCalculator}
+ * and {@link InteractiveSession} classes.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("CommandLineCalculator class test")
+class CommandLineCalculatorTest {
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+	/**
+	 * Tests a batch given as arguments, with a failed operation that doesn't
+	 * stop it.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testArguments() throws Exception {
+		int status = run("", "+ 3", "*2", "/ 0", "!");
+
+		assertThat(status, is(CommandLineCalculator.EXIT_FAILED));
+		assertThat(text(out), is("720.0\n"));
+		assertThat(text(err), is("3: Division with zero isn't permitted.\n"));
+	}
+
+	/**
+	 * Tests a batch read from the input, printing the value after every
+	 * operation.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInputWithValues() throws Exception {
+		int status = run("+ 5\n\n2\n- 1\n", "--values");
+
+		assertThat(status, is(CommandLineCalculator.EXIT_OK));
+		assertThat(text(out), is("5.0\n25.0\n24.0\n"));
+		assertThat(text(err), is(""));
+	}
+
+	/**
+	 * Tests that {@code --} ends the options, and that unknown options are
+	 * rejected.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testOptions() throws Exception {
+		assertThat(run("", "--", "--3"), is(CommandLineCalculator.EXIT_OK));
+		assertThat(text(out), is("3.0\n"));
+
+		assertThat(run("", "--value"), is(CommandLineCalculator.EXIT_USAGE));
+		assertThat(run("", "--interactive", "+ 1"), is(CommandLineCalculator.EXIT_USAGE));
+		assertThat(run("", "--help"), is(CommandLineCalculator.EXIT_OK));
+	}
+
+	/**
+	 * Tests an interactive session with every kind of line.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInteractive() throws Exception {
+		int status = run("+ 5\n= x * 30 + 3\n? A\n? P\n/ 0\n* a\n!\n= (1\n\nquit\n+ 1\n", "--interactive");
+
+		assertThat(status, is(CommandLineCalculator.EXIT_OK));
+		String[] lines = text(out).split("\n");
+		assertThat(lines.length, is(10));
+		assertThat(lines[1], is("> 5.0"));
+		assertThat(lines[2], is("> 153.0"));
+		assertThat(lines[3], is("> true"));
+		assertThat(lines[4], is("> false"));
+		assertThat(lines[5], is("> Division with zero isn't permitted."));
+		assertThat(lines[6], is("> Operand 'a' isn't a number."));
+		assertThat(lines[7].startsWith("> Number '153.00'"), is(true));
+		assertThat(lines[8], is("> Expression \"(1\" isn't valid: missing ')' at position 2."));
+		// The empty line only prompts again, and nothing after quit is run.
+		assertThat(lines[9].trim(), is("> >"));
+	}
+
+	/**
+	 * Helper method that runs the calculator.
+	 *
+	 * @param input is the standard input.
+	 * @param args  are the arguments.
+	 * @return exit status.
+	 * @throws Exception
+	 */
+	private int run(String input, String... args) throws Exception {
+		out.reset();
+		err.reset();
+		return CommandLineCalculator.run(args, new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)),
+				new PrintStream(out, true, "UTF-8"), new PrintStream(err, true, "UTF-8"));
+	}
+
+	/**
+	 * Helper method that takes the text written to a stream.
+	 *
+	 * @param stream is the stream.
+	 * @return written text.
+	 */
+	private static String text(ByteArrayOutputStream stream) {
+		return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+	}
+}
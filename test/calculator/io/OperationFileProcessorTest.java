@@ -0,0 +1,198 @@
+package calculator.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.CalculatorAdvanced;
+
+/**
+ * Testing class used to test the code in the {@link OperationFileProcessor}
+ * class by comparing it with reading the same lines as strings.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("OperationFileProcessor class test")
+class OperationFileProcessorTest {
+
+	/**
+	 * Lines covering every kind of operation, error and formatting handled by
+	 * the processor.
+	 */
+	private static final String LINES = "+ 3\n* 1.5\r\n\n  - 0.25  \n/2\n/ 0\n^ 4\n2\n!\n+ -1e3\n* 1.0e-2\n"
+			+ "+ 0.1234567890123456789\n- 12345678901234567890\n/ 1e-300\n+ abc\n+ 0x1p3\nA\n+ 1d\n- -.5";
+
+	/**
+	 * Helper method that applies lines to a calculator by reading them as
+	 * strings, in the same format as the processor.
+	 *
+	 * @param lines       are the processed lines.
+	 * @param calculator  is the calculator the operations are applied to.
+	 * @param writeValues denotes if the values are written.
+	 * @return expected output.
+	 * @throws IOException
+	 */
+	private static String expected(String lines, CalculatorAdvanced calculator, boolean writeValues)
+			throws IOException {
+		StringBuilder output = new StringBuilder();
+		BufferedReader reader = new BufferedReader(new StringReader(lines));
+		int number = 0;
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			number++;
+			line = line.trim();
+			if (line.isEmpty()) {
+				continue;
+			}
+			String operand = line.substring(1).trim();
+			try {
+				if (operand.isEmpty()) {
+					calculator.calculateAdvanced(line.charAt(0));
+				} else {
+					double value;
+					try {
+						value = Double.parseDouble(operand);
+					} catch (NumberFormatException e) {
+						output.append(number).append(": Operand '").append(operand).append("' isn't a number.\n");
+						continue;
+					}
+					calculator.calculate(value, line.charAt(0));
+				}
+				if (writeValues) {
+					output.append(calculator.getCurrentValue()).append('\n');
+				}
+			} catch (Exception e) {
+				output.append(number).append(": ").append(e.getMessage()).append('\n');
+			}
+		}
+		return output.toString();
+	}
+
+	/**
+	 * Helper method that applies lines to a calculator with a processor.
+	 *
+	 * @param processor is the tested processor.
+	 * @param lines     are the processed lines.
+	 * @return output of the processor.
+	 * @throws IOException
+	 */
+	private static String process(OperationFileProcessor processor, String lines) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] input = lines.getBytes(StandardCharsets.UTF_8);
+		processor.process(Channels.newChannel(new ByteArrayInputStream(input)), Channels.newChannel(output));
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Tests that the processor gives the same values and errors as reading the
+	 * lines as strings, with buffers both large and small enough to split lines.
+	 *
+	 * @param bufferSize is the size of the buffers.
+	 * @throws IOException
+	 */
+	@ParameterizedTest
+	@ValueSource(ints = { 32, 33, 64 * 1024 })
+	public void testSameAsReadingStrings(int bufferSize) throws IOException {
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		OperationFileProcessor processor = new OperationFileProcessor(calculator, true, bufferSize);
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+
+		assertThat(process(processor, LINES), is(expected(LINES, expected, true)));
+		assertThat(Double.doubleToRawLongBits(calculator.getCurrentValue()),
+				is(Double.doubleToRawLongBits(expected.getCurrentValue())));
+		assertThat(processor.getLines(), is(19L));
+		assertThat(processor.getErrors(), is(4L));
+	}
+
+	/**
+	 * Tests that operands are converted to exactly the same values as by
+	 * {@link Double#parseDouble(String)}, whichever way they're written.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testOperandsMatchParseDouble() throws IOException {
+		Random random = new Random(42);
+		StringBuilder lines = new StringBuilder();
+		for (int i = 0; i < 20_000; i++) {
+			double value = (random.nextDouble() - 0.5) * Math.pow(10.0, random.nextInt(60) - 30);
+			switch (i % 4) {
+			case 0:
+				lines.append("+ ").append(value);
+				break;
+			case 1:
+				lines.append("+ ").append(String.format("%.6f", value));
+				break;
+			case 2:
+				lines.append("+ ").append(random.nextInt(2_000_000) - 1_000_000);
+				break;
+			default:
+				lines.append("+ ").append(String.format("%.3e", value));
+				break;
+			}
+			// Every value is checked on its own, starting from zero.
+			lines.append("\n* 0\n");
+		}
+
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		OperationFileProcessor processor = new OperationFileProcessor(calculator, true);
+		String expected = expected(lines.toString(), new CalculatorAdvanced(), true);
+		assertThat(process(processor, lines.toString()), is(expected));
+		assertThat(processor.getErrors(), is(0L));
+	}
+
+	/**
+	 * Tests that values are written the same as by
+	 * {@link Double#toString(double)}, both whole values written straight into
+	 * the buffer and the rest.
+	 *
+	 * @throws IOException
+	 */
+	@Test
+	public void testValuesMatchToString() throws IOException {
+		String lines = "+ 0\n* -1\n+ 7\n- 14\n* 0\n+ 9999999\n+ 1\n- 20000000\n+ 10000001\n- 0.5\n* 0.002\n"
+				+ "+ 1e300\n* 1e300\n* -1\n";
+		OperationFileProcessor processor = new OperationFileProcessor(new CalculatorAdvanced(), true);
+		assertThat(process(processor, lines), is(expected(lines, new CalculatorAdvanced(), true)));
+	}
+
+	/**
+	 * Tests that lines longer than the buffer are reported and skipped, and that
+	 * files are processed in the same way as channels.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testOverlongLinesAndFiles(@TempDir Path directory) throws IOException {
+		String lines = "+ 1\n+ " + "1".repeat(100) + "\n+ 2\n+ " + "9".repeat(100);
+		Path input = directory.resolve("input.txt");
+		Path output = directory.resolve("output.txt");
+		Files.write(input, lines.getBytes(StandardCharsets.UTF_8));
+
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+		OperationFileProcessor processor = new OperationFileProcessor(calculator, false, 16);
+		assertThat(processor.process(input, output), is(4L));
+		assertThat(new String(Files.readAllBytes(output), StandardCharsets.UTF_8),
+				is("2: Line is longer than 16 bytes.\n4: Line is longer than 16 bytes.\n"));
+		assertThat(calculator.getCurrentValue(), is(3.0));
+	}
+}
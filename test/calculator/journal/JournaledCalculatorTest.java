@@ -0,0 +1,93 @@
+package calculator.journal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import calculator.CalculationResult;
+import calculator.Calculator;
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NumberNotInAreaException;
+
+/**
+ * Testing class used to test the code in the {@link JournaledCalculator} class
+ * by comparing it with the {@link CalculatorAdvanced} class and reopening its
+ * journal.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("JournaledCalculator class test")
+class JournaledCalculatorTest {
+
+	/**
+	 * Tests that every change of the value is recorded once, that failed
+	 * operations aren't recorded, and that the value is recovered.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testChangesAreRecorded(@TempDir Path directory) throws Exception {
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+		try (OperationJournal journal = OperationJournal.open(directory)) {
+			JournaledCalculator calculator = new JournaledCalculator(journal);
+			CalculationResult result = new CalculationResult();
+
+			calculator.setCurrentValue(2.0);
+			calculator.calculate(3.0, '+');
+			calculator.calculateAdvanced('2');
+			assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+			assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+			assertThat(calculator.tryCalculate(5.0, '-', result), is(CalculationResult.OK));
+			assertThat(calculator.calculate(new double[] { 2.0, 0.0 }, new char[] { '/', '/' }), is(1));
+			assertThat(calculator.calculate(new double[] { 1.0, 2.0 }, '*'), is(Calculator.BATCH_OK));
+
+			expected.setCurrentValue(2.0);
+			expected.calculate(3.0, '+');
+			expected.calculateAdvanced('2');
+			expected.tryCalculate(5.0, '-', result);
+			expected.calculate(new double[] { 2.0, 0.0 }, new char[] { '/', '/' });
+			expected.calculate(new double[] { 1.0, 2.0 }, '*');
+			assertThat(calculator.getCurrentValue(), is(expected.getCurrentValue()));
+
+			List<String> records = new ArrayList<>();
+			journal.replay((sequence, operator, operand, value) -> records.add(operator + " " + operand + " " + value));
+			assertThat(records, is(List.of("= 2.0 2.0", "+ 3.0 5.0", "2 0.0 25.0", "- 5.0 20.0", "/ 2.0 10.0",
+					"* 1.0 10.0", "* 2.0 20.0")));
+		}
+
+		try (OperationJournal journal = OperationJournal.open(directory)) {
+			assertThat(new JournaledCalculator(journal).getCurrentValue(), is(expected.getCurrentValue()));
+		}
+	}
+
+	/**
+	 * Tests that a change whose record can't be appended isn't applied.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testFailedRecordKeepsValue(@TempDir Path directory) throws IOException {
+		OperationJournal journal = OperationJournal.open(directory);
+		JournaledCalculator calculator = new JournaledCalculator(journal);
+		calculator.setCurrentValue(7.0);
+		journal.close();
+
+		assertThrows(IllegalStateException.class, () -> calculator.calculate(1.0, '+'));
+		assertThat(calculator.getCurrentValue(), is(7.0));
+	}
+}
@@ -0,0 +1,263 @@
+package calculator.journal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Testing class used to test the code in the {@link OperationJournal} class,
+ * including recovery from torn records and snapshots.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("OperationJournal class test")
+class OperationJournalTest {
+
+	/**
+	 * Number of records in a segment used in tests.
+	 */
+	private static final int SEGMENT_RECORDS = 10;
+
+	/**
+	 * Helper method that opens a journal with small segments and no automatic
+	 * snapshots.
+	 *
+	 * @param directory is the directory that holds the journal.
+	 * @return opened journal.
+	 * @throws IOException
+	 */
+	private static OperationJournal open(Path directory) throws IOException {
+		return OperationJournal.open(directory, SyncPolicy.none(), SEGMENT_RECORDS, 0);
+	}
+
+	/**
+	 * Helper method that lists the files of a journal with the given extension.
+	 *
+	 * @param directory is the directory that holds the journal.
+	 * @param suffix    is the extension of the files.
+	 * @return sorted file names.
+	 * @throws IOException
+	 */
+	private static List<String> files(Path directory, String suffix) throws IOException {
+		try (Stream<Path> stream = Files.list(directory)) {
+			return stream.map(path -> path.getFileName().toString()).filter(name -> name.endsWith(suffix)).sorted()
+					.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Tests that records spanning several segments are replayed in order, and
+	 * that the last value and sequence are recovered after reopening.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testAppendAndRecover(@TempDir Path directory) throws IOException {
+		try (OperationJournal journal = open(directory)) {
+			for (int i = 1; i <= 25; i++) {
+				journal.append('+', 1.0, i);
+			}
+			assertThat(journal.getSequence(), is(25L));
+		}
+		assertThat(files(directory, ".journal").size(), is(3));
+
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(25.0));
+			assertThat(journal.getSequence(), is(25L));
+			assertThat(journal.getTruncatedRecords(), is(0L));
+			journal.append('*', 2.0, 50.0);
+
+			List<Double> values = new ArrayList<>();
+			assertThat(journal.replay((sequence, operator, operand, value) -> {
+				assertThat(sequence, is((long) values.size()));
+				values.add(value);
+			}), is(26L));
+			assertThat(values.get(25), is(50.0));
+		}
+	}
+
+	/**
+	 * Tests that a torn record and everything after it is erased, and that new
+	 * records continue right after the last valid one.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testTruncateCorruptTail(@TempDir Path directory) throws IOException {
+		try (OperationJournal journal = open(directory)) {
+			for (int i = 1; i <= 15; i++) {
+				journal.append('+', 1.0, i);
+			}
+		}
+
+		// Damage the operand of the record with sequence number 12.
+		Path segment = directory.resolve(files(directory, ".journal").get(1));
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(OperationJournal.RECORD_SIZE * 3 + 3);
+			file.write(0x55);
+		}
+
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(12.0));
+			assertThat(journal.getSequence(), is(12L));
+			assertThat(journal.getTruncatedRecords(), is(3L));
+			journal.append('-', 2.0, 10.0);
+		}
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(10.0));
+			assertThat(journal.getSequence(), is(13L));
+			assertThat(journal.getTruncatedRecords(), is(0L));
+		}
+	}
+
+	/**
+	 * Tests that valid records after a record that never reached the file are
+	 * erased too, so that they don't come back once new records fill the gap,
+	 * and that later segments are counted in full.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testTruncateAfterHole(@TempDir Path directory) throws IOException {
+		try (OperationJournal journal = open(directory)) {
+			for (int i = 1; i <= 10; i++) {
+				journal.append('+', 1.0, i);
+			}
+		}
+
+		// Zero the record with sequence number 3.
+		Path segment = directory.resolve(files(directory, ".journal").get(0));
+		try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+			file.seek(OperationJournal.RECORD_SIZE * 4);
+			file.write(new byte[OperationJournal.RECORD_SIZE]);
+		}
+
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(3.0));
+			assertThat(journal.getSequence(), is(3L));
+			assertThat(journal.getTruncatedRecords(), is(6L));
+			journal.append('*', 100.0, 300.0);
+		}
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(300.0));
+			assertThat(journal.getSequence(), is(4L));
+			assertThat(journal.getTruncatedRecords(), is(0L));
+			for (int i = 5; i <= 25; i++) {
+				journal.append('+', 1.0, i);
+			}
+		}
+
+		// Zero the record with sequence number 12, in a full segment followed by
+		// another, and the record with sequence number 22 in the next one.
+		List<String> segments = files(directory, ".journal");
+		for (int i = 1; i <= 2; i++) {
+			try (RandomAccessFile file = new RandomAccessFile(directory.resolve(segments.get(i)).toFile(), "rw")) {
+				file.seek(OperationJournal.RECORD_SIZE * 3);
+				file.write(new byte[OperationJournal.RECORD_SIZE]);
+			}
+		}
+
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(12.0));
+			assertThat(journal.getSequence(), is(12L));
+			assertThat(journal.getTruncatedRecords(), is(11L));
+		}
+	}
+
+	/**
+	 * Tests that a group of records that isn't filled is forced once its
+	 * interval has passed, even when no other record is appended.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testGroupCommitInterval(@TempDir Path directory) throws Exception {
+		SyncPolicy policy = SyncPolicy.groupCommit(1024, 200, TimeUnit.MILLISECONDS);
+		try (OperationJournal journal = OperationJournal.open(directory, policy, SEGMENT_RECORDS, 0)) {
+			for (int round = 0; round < 2; round++) {
+				journal.append('+', 1.0, 1.0 + round);
+				journal.append('+', 1.0, 2.0 + round);
+				assertThat(journal.getPendingRecords(), is(2));
+
+				long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+				while (journal.getPendingRecords() > 0 && System.nanoTime() < deadline) {
+					Thread.sleep(5);
+				}
+				assertThat(journal.getPendingRecords(), is(0));
+			}
+		}
+	}
+
+	/**
+	 * Tests that snapshots delete covered segments and that recovery starts from
+	 * the latest snapshot.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testSnapshots(@TempDir Path directory) throws IOException {
+		SyncPolicy policy = SyncPolicy.groupCommit(4, 1, TimeUnit.SECONDS);
+		try (OperationJournal journal = OperationJournal.open(directory, policy, SEGMENT_RECORDS, 12)) {
+			for (int i = 1; i <= 30; i++) {
+				journal.append('+', 1.0, i);
+			}
+			assertThat(files(directory, ".snapshot"), is(List.of("00000000000000000024.snapshot")));
+			assertThat(files(directory, ".journal"), is(List.of("00000000000000000020.journal")));
+		}
+
+		try (OperationJournal journal = OperationJournal.open(directory, policy, SEGMENT_RECORDS, 12)) {
+			assertThat(journal.getValue(), is(30.0));
+			assertThat(journal.getSequence(), is(30L));
+			assertThat(journal.replay((sequence, operator, operand, value) -> {
+			}), is(10L));
+			journal.snapshot();
+			journal.append('+', 1.0, 31.0);
+		}
+		assertThat(files(directory, ".snapshot"), is(List.of("00000000000000000030.snapshot")));
+		assertThat(files(directory, ".journal"), is(List.of("00000000000000000030.journal")));
+
+		try (OperationJournal journal = open(directory)) {
+			assertThat(journal.getValue(), is(31.0));
+			assertThat(journal.getSequence(), is(31L));
+		}
+	}
+
+	/**
+	 * Tests all of the invalid cases for the {@link OperationJournal} class.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws IOException
+	 */
+	@Test
+	public void testInvalidCases(@TempDir Path directory) throws IOException {
+		assertThrows(IllegalArgumentException.class, () -> OperationJournal.open(directory, SyncPolicy.none(), 0, 0));
+		assertThrows(IllegalArgumentException.class, () -> SyncPolicy.groupCommit(0, 1, TimeUnit.SECONDS));
+
+		OperationJournal journal = open(directory);
+		assertThrows(IllegalArgumentException.class, () -> journal.append('\0', 1.0, 1.0));
+		journal.close();
+		assertThrows(IllegalStateException.class, () -> journal.append('+', 1.0, 1.0));
+	}
+}
@@ -0,0 +1,123 @@
+package calculator.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import calculator.CalculatorAdvanced;
+
+/**
+ * Testing class used to test the code in the {@link LoadHarness} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("LoadHarness class test")
+class LoadHarnessTest {
+
+	/**
+	 * Tests that a short run keeps the target rate, counts failed operations and
+	 * writes a line for every interval.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testRun(@TempDir Path directory) throws Exception {
+		Workload workload = Workload.mix("9:+ 1,1:/ 0", 1_000, 1L);
+		LoadHarness harness = new LoadHarness(CalculatorAdvanced::new, workload, 2, 20_000.0d);
+		LoadHarness.Report report = harness.run(600L, 200L, TimeUnit.MILLISECONDS);
+
+		assertThat(report.getOperations(), is(12_000L));
+		assertThat(report.getErrors() > 0 && report.getErrors() < report.getOperations() / 4, is(true));
+		assertThat(report.getMissed(), is(0L));
+		assertThat(report.getIntervals(), is(3));
+		assertThat(report.getLatency().count(), is(12_000L));
+		assertThat(report.getServiceTime().count(), is(12_000L));
+		assertThat(report.getLatency().percentile(50.0d) >= report.getServiceTime().percentile(50.0d), is(true));
+
+		Path path = directory.resolve("report.csv");
+		report.write(path, "test mix");
+		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8).stream()
+				.filter(line -> !line.startsWith("#")).collect(Collectors.toList());
+		assertThat(lines.size(), is(5));
+		assertThat(lines.get(0), startsWith("time_s,operations,errors,missed,"));
+		assertThat(lines.get(1), startsWith("0.200,4000,"));
+		assertThat(lines.get(3), startsWith("0.600,4000,"));
+		assertThat(lines.get(4), startsWith("total,12000," + report.getErrors() + ",0,"));
+	}
+
+	/**
+	 * Tests that operations a thread is still behind on when the run is over
+	 * are counted as missed, and charged the time they've waited as their
+	 * latency.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testMissedOperations(@TempDir Path directory) throws Exception {
+		Workload workload = Workload.mix("1:+ 1", 10, 1L);
+		LoadHarness harness = new LoadHarness(() -> new CalculatorAdvanced() {
+			private boolean stalled;
+
+			@Override
+			public void calculate(Double value, char operator) {
+				if (!stalled) {
+					stalled = true;
+					long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(400);
+					for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+						LockSupport.parkNanos(end - now);
+					}
+				}
+			}
+		}, workload, 1, 1_000.0d);
+		LoadHarness.Report report = harness.run(200L, 100L, TimeUnit.MILLISECONDS);
+
+		assertThat(report.getOperations() + report.getMissed(), is(200L));
+		assertThat(report.getMissed() > 0, is(true));
+		assertThat(report.getLatency().count(), is(200L));
+		assertThat(report.getServiceTime().count(), is(report.getOperations()));
+		assertThat(report.getLatency().percentile(50.0d) >= TimeUnit.MILLISECONDS.toNanos(90), is(true));
+		assertThat(report.toString(), containsString(" missed)"));
+
+		Path path = directory.resolve("report.csv");
+		report.write(path, "stalled mix");
+		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		assertThat(lines.get(lines.size() - 1),
+				startsWith("total," + report.getOperations() + ",0," + report.getMissed() + ","));
+	}
+
+	/**
+	 * Tests that invalid settings are rejected.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testInvalidSettings() throws Exception {
+		Workload workload = Workload.mix("1:+ 1", 10, 1L);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoadHarness(CalculatorAdvanced::new, workload, 0, 1_000.0d));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoadHarness(CalculatorAdvanced::new, workload, 1, 0.0d));
+		assertThrows(IllegalArgumentException.class,
+				() -> new LoadHarness(CalculatorAdvanced::new, workload, 1, 1_000.0d).run(0L, 1L, TimeUnit.SECONDS));
+	}
+}
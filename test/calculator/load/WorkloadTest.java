@@ -0,0 +1,94 @@
+package calculator.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import calculator.CalculatorAdvanced;
+
+/**
+ * Testing class used to test the code in the {@link Workload} class.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("Workload class test")
+class WorkloadTest {
+
+	/**
+	 * Tests that every kind of operation in a trace runs through the calculator,
+	 * and that failed operations are reported.
+	 *
+	 * @param directory is a temporary directory.
+	 * @throws Exception
+	 */
+	@Test
+	public void testReadTrace(@TempDir Path directory) throws Exception {
+		Path trace = directory.resolve("trace.txt");
+		Files.write(trace, List.of("# recorded trace", "= 5", "+ 1.5", "", "*2", "/ 0", "? A 153", "? P", "!"),
+				StandardCharsets.UTF_8);
+		Workload workload = Workload.readTrace(trace);
+		CalculatorAdvanced calculator = new CalculatorAdvanced();
+
+		assertThat(workload.size(), is(7));
+		assertThat(workload.run(0, calculator), is(true));
+		assertThat(workload.run(1, calculator), is(true));
+		assertThat(workload.run(2, calculator), is(true));
+		assertThat(calculator.getCurrentValue(), is(13.0d));
+		assertThat(workload.run(3, calculator), is(false));
+		assertThat(workload.run(4, calculator), is(true));
+		assertThat(calculator.getCurrentValue(), is(153.0d));
+		assertThat(workload.run(5, calculator), is(true));
+		assertThat(workload.run(6, calculator), is(false));
+		assertThat(workload.run(7, calculator), is(true));
+		assertThat(calculator.getCurrentValue(), is(5.0d));
+	}
+
+	/**
+	 * Tests that a mix is drawn the same way every time, in the ratio of its
+	 * weights.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testMix() throws Exception {
+		Workload first = Workload.mix("3:+ 1, 1:/ 0", 10_000, 7L);
+		Workload second = Workload.mix("3:+ 1, 1:/ 0", 10_000, 7L);
+		CalculatorAdvanced one = new CalculatorAdvanced();
+		CalculatorAdvanced other = new CalculatorAdvanced();
+
+		int errors = 0;
+		for (int i = 0; i < first.size(); i++) {
+			boolean ok = first.run(i, one);
+			assertThat(second.run(i, other), is(ok));
+			errors += ok ? 0 : 1;
+		}
+		assertThat(one.getCurrentValue(), is(other.getCurrentValue()));
+		assertThat(one.getCurrentValue(), is(10_000.0d - errors));
+		assertThat(Math.abs(errors - 2_500) < 250, is(true));
+	}
+
+	/**
+	 * Tests that invalid mixes and traces are rejected.
+	 *
+	 * @throws Exception
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = { "", "+ 1", "0:+ 1", "x:+ 1", "1:", "1:+ x", "1:# comment", "1:?", "1:= 5,2:" })
+	public void testInvalidMix(String mix) throws Exception {
+		assertThrows(IllegalArgumentException.class, () -> Workload.mix(mix, 10, 1L));
+	}
+}
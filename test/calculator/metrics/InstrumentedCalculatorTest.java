@@ -0,0 +1,207 @@
+package calculator.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.CalculatorAdvanced;
+import calculator.exception.DivisionByZeroException;
+import calculator.exception.NotSupportedOperationException;
+import calculator.exception.NumberNotInAreaException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Testing class used to test the code in the {@link InstrumentedCalculator},
+ * {@link CalculatorMetrics}, {@link LatencyHistogram} and
+ * {@link LogLinearHistogram} classes.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("InstrumentedCalculator class test")
+class InstrumentedCalculatorTest {
+
+	/**
+	 * Metrics shared by the calculator used in all test methods.
+	 */
+	private CalculatorMetrics metrics = new CalculatorMetrics();
+
+	/**
+	 * InstrumentedCalculator object that is used in all test methods.
+	 */
+	private InstrumentedCalculator calculator = new InstrumentedCalculator(metrics);
+
+	/**
+	 * Tests that the instrumented calculator gives the same results as the
+	 * {@link CalculatorAdvanced} class and counts the operations.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testOperationCounters() throws Exception {
+		CalculatorAdvanced expected = new CalculatorAdvanced();
+
+		calculator.calculate(5.0, '+');
+		expected.calculate(5.0, '+');
+		calculator.calculate(2.0, '*');
+		expected.calculate(2.0, '*');
+		calculator.calculate(3.0, '+');
+		expected.calculate(3.0, '+');
+		calculator.calculateAdvanced('2');
+		expected.calculateAdvanced('2');
+
+		assertThat(calculator.getCurrentValue(), is(expected.getCurrentValue()));
+		assertThat(calculator.hasCharacteristic('P'), is(expected.hasCharacteristic('P')));
+		assertThat(metrics.operationCount('+'), is(2L));
+		assertThat(metrics.operationCount('*'), is(1L));
+		assertThat(metrics.operationCount('/'), is(0L));
+		assertThat(metrics.operationCount('2'), is(1L));
+		assertThat(metrics.operationCount('P'), is(1L));
+		assertThat(metrics.advancedLatency('2').count(), is(1L));
+		assertThat(metrics.characteristicLatency('P', 8).count(), is(1L));
+	}
+
+	/**
+	 * Tests that the instrumented calculator counts the thrown exceptions by type.
+	 */
+	@Test
+	public void testErrorCounters() {
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+		assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+		assertThrows(NotSupportedOperationException.class, () -> calculator.calculate(1.0, '^'));
+		assertThrows(NumberNotInAreaException.class, () -> calculator.hasCharacteristic('A'));
+		calculator.setCurrentValue(11.0);
+		assertThrows(NumberNotInAreaException.class, () -> calculator.calculateAdvanced('!'));
+
+		assertThat(metrics.errorCount(DivisionByZeroException.class), is(2L));
+		assertThat(metrics.errorCount(NotSupportedOperationException.class), is(1L));
+		assertThat(metrics.errorCount(NumberNotInAreaException.class), is(2L));
+		assertThat(metrics.operationCount('/'), is(0L));
+		assertThat(metrics.advancedLatency('!').count(), is(1L));
+
+		metrics.reset();
+		assertThat(metrics.errorCount(DivisionByZeroException.class), is(0L));
+		assertThat(metrics.advancedLatency('!').count(), is(0L));
+	}
+
+	/**
+	 * Tests the percentiles of the {@link LatencyHistogram} class.
+	 */
+	@Test
+	public void testLatencyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertThat(histogram.percentile(99.0), is(0L));
+
+		for (int i = 0; i < 99; i++) {
+			histogram.record(100);
+		}
+		histogram.record(5_000);
+
+		assertThat(histogram.count(), is(100L));
+		assertThat(histogram.mean(), is(149.0));
+		assertThat(histogram.percentile(50.0), is(127L));
+		assertThat(histogram.percentile(99.0), is(127L));
+		assertThat(histogram.percentile(100.0), is(8_191L));
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101.0));
+	}
+
+	/**
+	 * Tests that the {@link LogLinearHistogram} class estimates percentiles
+	 * within the width of its buckets and keeps the largest value exactly.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testLogLinearHistogram() throws Exception {
+		LogLinearHistogram histogram = new LogLinearHistogram();
+		for (long i = 1; i <= 100_000; i++) {
+			histogram.record(i * 1_000L);
+		}
+
+		assertThat(histogram.count(), is(100_000L));
+		assertThat(histogram.max(), is(100_000_000L));
+		for (double percentile : new double[] { 50.0d, 99.0d, 99.9d }) {
+			double exact = percentile * 1_000_000.0d;
+			long estimate = histogram.percentile(percentile);
+			assertThat(estimate >= exact && estimate <= exact * (1.0d + 1.0d / LogLinearHistogram.SUB_BUCKETS),
+					is(true));
+		}
+		assertThat(histogram.percentile(100.0d), is(100_000_000L));
+
+		LogLinearHistogram other = new LogLinearHistogram();
+		other.record(5L);
+		other.record(Long.MAX_VALUE);
+		histogram.add(other);
+		assertThat(histogram.percentile(0.0d), is(5L));
+		assertThat(histogram.max(), is(Long.MAX_VALUE));
+		assertThat(histogram.percentile(100.0d), is(Long.MAX_VALUE));
+
+		histogram.reset();
+		assertThat(histogram.count(), is(0L));
+		assertThat(histogram.percentile(99.0d), is(0L));
+		assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101.0d));
+	}
+
+	/**
+	 * Tests that every value falls within the bounds of its bucket.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testLogLinearHistogramBuckets() throws Exception {
+		for (long value : new long[] { 0L, 1L, 31L, 32L, 33L, 63L, 64L, 1_000L, 123_456_789L, Long.MAX_VALUE }) {
+			int bucket = LogLinearHistogram.bucket(value);
+			assertThat(bucket < LogLinearHistogram.BUCKETS, is(true));
+			assertThat(value <= LogLinearHistogram.upperBound(bucket), is(true));
+			assertThat(bucket == 0 || value > LogLinearHistogram.upperBound(bucket - 1), is(true));
+		}
+	}
+
+	/**
+	 * Tests that the instrumented calculator emits Flight Recorder events while a
+	 * recording is running.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testFlightRecorderEvents() throws Exception {
+		Path file = Files.createTempFile("calculator", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("calculator.Calculation");
+			recording.enable("calculator.Characteristic");
+			recording.start();
+
+			calculator.calculate(28.0, '+');
+			calculator.hasCharacteristic('P');
+			assertThrows(DivisionByZeroException.class, () -> calculator.calculate(0.0, '/'));
+
+			recording.stop();
+			recording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			List<String> names = events.stream().map(event -> event.getEventType().getName())
+					.collect(Collectors.toList());
+			assertThat(events.size(), is(greaterThanOrEqualTo(3)));
+			assertThat(names, hasItem("calculator.Characteristic"));
+			assertThat(events.stream().map(event -> event.getEventType().getName().equals("calculator.Calculation")
+					? event.getString("error")
+					: null).collect(Collectors.toList()), hasItem("DivisionByZeroException"));
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,176 @@
+package calculator.server;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import calculator.CalculationResult;
+import calculator.CalculatorAdvanced;
+import calculator.CalculatorStore;
+
+/**
+ * Testing class used to test the code in the {@link CalculatorServer} and
+ * {@link LoadGenerator} classes by talking to a server on the loopback
+ * interface.
+ *
+ * @author Aleksa Majkic
+ * @version 1.0.1
+ * @since 2026-10-16
+ *
+ */
+@DisplayName("CalculatorServer class test")
+class CalculatorServerTest {
+
+	/**
+	 * Helper method that opens a blocking connection to a server.
+	 *
+	 * @param server is a started server.
+	 * @return open connection.
+	 * @throws IOException when the server can't be reached.
+	 */
+	private static SocketChannel connect(CalculatorServer server) throws IOException {
+		return SocketChannel.open(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+	}
+
+	/**
+	 * Tests that pipelined requests, sent in a single write, get the same
+	 * answers as the operations of a plain calculator, in order, and that
+	 * consecutive requests for the same session are applied as a batch.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testPipelinedRequests() throws Exception {
+		CalculatorStore store = new CalculatorStore();
+		try (CalculatorServer server = new CalculatorServer(store, 0, 2)) {
+			server.start();
+
+			ByteBuffer requests = ByteBuffer.allocate(11 * Protocol.REQUEST_SIZE);
+			Protocol.putRequest(requests, Protocol.SET, '=', 1L, 150.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE, '+', 1L, 3.5);
+			Protocol.putRequest(requests, Protocol.HAS_CHARACTERISTIC, 'A', 1L, 0.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE, '/', 1L, 0.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE_ADVANCED, '2', 1L, 0.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE_ADVANCED, '!', 1L, 0.0);
+			Protocol.putRequest(requests, Protocol.HAS_CHARACTERISTIC, 'x', 2L, 0.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE, '%', 2L, 1.0);
+			Protocol.putRequest(requests, Protocol.CALCULATE_ADVANCED, '3', 2L, 0.0);
+			Protocol.putRequest(requests, Protocol.GET, ' ', 1L, 0.0);
+			Protocol.putRequest(requests, Protocol.HAS_CHARACTERISTIC, 'P', 2L, 0.0);
+			requests.flip();
+
+			CalculatorAdvanced first = new CalculatorAdvanced();
+			CalculatorAdvanced second = new CalculatorAdvanced();
+			CalculationResult result = new CalculationResult();
+			first.setCurrentValue(150.0);
+			int[] statuses = { CalculationResult.OK, first.tryCalculate(3.5, '+', result),
+					first.tryHasCharacteristic('A', result), first.tryCalculate(0.0, '/', result),
+					first.tryCalculateAdvanced('2', result), first.tryCalculateAdvanced('!', result),
+					second.tryHasCharacteristic('x', result), second.tryCalculate(1.0, '%', result),
+					second.tryCalculateAdvanced('3', result), CalculationResult.OK,
+					second.tryHasCharacteristic('P', result) };
+			double[] values = { 150.0, 153.5, 1.0, 153.5, 23_409.0, 23_409.0, 0.0, 0.0, 0.0, 23_409.0, 0.0 };
+
+			try (SocketChannel channel = connect(server)) {
+				channel.write(requests);
+				ByteBuffer responses = ByteBuffer.allocate(11 * Protocol.RESPONSE_SIZE);
+				while (responses.hasRemaining()) {
+					channel.read(responses);
+				}
+				responses.flip();
+
+				for (int i = 0; i < statuses.length; i++) {
+					assertThat("Status of request " + i, (int) responses.get(), is(statuses[i]));
+					assertThat("Value of request " + i, responses.getDouble(), is(values[i]));
+				}
+			}
+
+			assertThat(store.getCurrentValue(1L), is(23_409.0));
+			assertThat(server.getRequests(), is(11L));
+			assertThat(server.getUpdates(), lessThan(11L));
+			assertThat(server.getConnections(), is(1L));
+		}
+	}
+
+	/**
+	 * Tests that a request of an unknown kind closes the connection, and that the
+	 * server keeps serving other connections.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testUnknownRequestClosesConnection() throws Exception {
+		try (CalculatorServer server = new CalculatorServer(new CalculatorStore(), 0, 1)) {
+			server.start();
+
+			try (SocketChannel channel = connect(server)) {
+				ByteBuffer request = ByteBuffer.allocate(Protocol.REQUEST_SIZE);
+				Protocol.putRequest(request, (byte) 'Z', '+', 1L, 1.0);
+				request.flip();
+				channel.write(request);
+				assertThat(channel.read(ByteBuffer.allocate(Protocol.RESPONSE_SIZE)), is(-1));
+			}
+
+			try (SocketChannel channel = connect(server)) {
+				ByteBuffer request = ByteBuffer.allocate(Protocol.REQUEST_SIZE);
+				Protocol.putRequest(request, Protocol.CALCULATE, '+', 1L, 1.0);
+				request.flip();
+				channel.write(request);
+				ByteBuffer response = ByteBuffer.allocate(Protocol.RESPONSE_SIZE);
+				while (response.hasRemaining()) {
+					channel.read(response);
+				}
+				assertThat(response.getDouble(1), is(1.0));
+			}
+		}
+	}
+
+	/**
+	 * Tests that the load generator gets every connection served without any
+	 * failed request, and that its count of requests matches the server's.
+	 *
+	 * @throws Exception
+	 */
+	@Test
+	public void testLoadGenerator() throws Exception {
+		try (CalculatorServer server = new CalculatorServer(new CalculatorStore(), 0, 2)) {
+			server.start();
+			InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+
+			LoadGenerator.Report report = new LoadGenerator(address, 50, 8).run(200, TimeUnit.MILLISECONDS);
+
+			assertThat(report.getConnections(), is(50));
+			assertThat(report.getServedConnections(), is(50L));
+			assertThat(report.getErrors(), is(0L));
+			assertThat(report.getRequests() > 0, is(true));
+			assertThat(report.getLatency().count(), is(report.getRequests()));
+			assertThat(server.getRequests(), is(report.getRequests()));
+		}
+	}
+
+	/**
+	 * Tests the invalid arguments of the server and the load generator.
+	 */
+	@Test
+	public void testInvalidArguments() {
+		CalculatorStore store = new CalculatorStore();
+		InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 1);
+
+		assertThrows(IllegalArgumentException.class, () -> new CalculatorServer(store, -1));
+		assertThrows(IllegalArgumentException.class, () -> new CalculatorServer(store, 0, 0));
+		assertThrows(IllegalStateException.class, () -> new CalculatorServer(store, 0).getPort());
+		assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(address, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(address, 1, 0));
+	}
+}